@@ -0,0 +1,266 @@
+package org.djunits.formatter;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.UnitRuntimeException;
+import org.djunits.unit.Units;
+import org.djunits.unit.si.SIUnit;
+
+/**
+ * CompiledFormat contains the settings of a {@link FormatContext} that are derived once per format rather than once per
+ * formatted value: the patterns for the fixed width number formats, the underflow threshold for the formats with a fallback,
+ * the bounds for the automatic SI prefixes, and per locale the resolved units and formatted unit strings. A compiled format
+ * is immutable, apart from its caches, which are thread-safe. It is created by {@link FormatContext#compiled()}, and discarded
+ * when a setting of the context changes.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+final class CompiledFormat
+{
+    /** The cached decimal format symbols per locale. */
+    private static final Map<Locale, DecimalFormatSymbols> DECIMAL_FORMAT_SYMBOLS = new ConcurrentHashMap<>();
+
+    /** The cached prefix of negative numbers of a DecimalFormat per locale. */
+    private static final Map<Locale, String> NEGATIVE_PREFIXES = new ConcurrentHashMap<>();
+
+    /** the locale of the format context, or null when the default locale at the time of formatting is used. */
+    private final Locale locale;
+
+    /** the pattern for fixed floating point formatting, e.g., "%,12.3f". */
+    final String fixedPattern;
+
+    /** the pattern for scientific formatting, e.g., "%12.3E". */
+    final String scientificPattern;
+
+    /** the pattern for the mantissa of engineering formatting, e.g., "%.3f". */
+    final String mantissaPattern;
+
+    /** values below this threshold are not formatted as fixed floating point for the formats with a fallback. */
+    final double underflow;
+
+    /** the lowest exponent for automatic SI prefixes (inclusive). */
+    final int autoSiMinExponent;
+
+    /** the number of exponents for automatic SI prefixes, from the lowest to the highest exponent (inclusive). */
+    final int autoSiExponents;
+
+    /** the caches for the units and unit strings, per locale. */
+    private final Map<Locale, UnitCache> unitCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Compile the settings of a format context.
+     * @param ctx the format context
+     * @param autoSiMinExponent the lowest exponent for automatic SI prefixes (inclusive)
+     * @param autoSiMaxExponent the highest exponent for automatic SI prefixes (inclusive)
+     */
+    CompiledFormat(final FormatContext ctx, final int autoSiMinExponent, final int autoSiMaxExponent)
+    {
+        this.locale = ctx.locale;
+        this.fixedPattern = (ctx.groupingSeparator ? "%," : "%") + ctx.width + "." + ctx.decimals + "f";
+        this.scientificPattern = "%" + ctx.width + "." + ctx.decimals + (ctx.upperE ? "E" : "e");
+        this.mantissaPattern = "%." + ctx.decimals + "f";
+        this.underflow = Math.pow(10, -ctx.decimals);
+        this.autoSiMinExponent = autoSiMinExponent;
+        this.autoSiExponents = Math.max(0, autoSiMaxExponent - autoSiMinExponent + 1);
+    }
+
+    /**
+     * Return the locale for the number and the unit: the locale of the format context, or the current default locale when the
+     * format context does not have a locale.
+     * @return the locale for the number and the unit
+     */
+    Locale locale()
+    {
+        return this.locale != null ? this.locale : Locale.getDefault();
+    }
+
+    /**
+     * Return the cached decimal format symbols of a locale.
+     * @param forLocale the locale
+     * @return the decimal format symbols of the locale
+     */
+    static DecimalFormatSymbols symbols(final Locale forLocale)
+    {
+        return DECIMAL_FORMAT_SYMBOLS.computeIfAbsent(forLocale, DecimalFormatSymbols::getInstance);
+    }
+
+    /**
+     * Return the cached prefix of negative numbers of a DecimalFormat for a locale. The prefix is not always just the minus
+     * sign; for some locales, such as ar-EG, it contains a bidirectional formatting mark before the minus sign.
+     * @param forLocale the locale
+     * @return the prefix of negative numbers of a DecimalFormat for the locale
+     */
+    static String negativePrefix(final Locale forLocale)
+    {
+        return NEGATIVE_PREFIXES.computeIfAbsent(forLocale,
+                (l) -> new DecimalFormat("#,##0.#", symbols(l)).getNegativePrefix());
+    }
+
+    /**
+     * Return the cache with units and unit strings for a locale. The cache is renewed when the version of the registry of
+     * {@link Units} has changed, e.g., because a unit has been unregistered or the localization cache has been cleared.
+     * @param forLocale the locale
+     * @return the cache with units and unit strings for the locale
+     */
+    UnitCache unitCache(final Locale forLocale)
+    {
+        long version = Units.registryVersion();
+        UnitCache cache = this.unitCaches.get(forLocale);
+        if (cache == null || cache.version != version)
+        {
+            cache = this.unitCaches.compute(forLocale,
+                    (l, c) -> c != null && c.version == version ? c : new UnitCache(l, version));
+        }
+        return cache;
+    }
+
+    /**
+     * UnitCache stores the units and unit strings of a compiled format for one locale and one version of the registry of
+     * {@link Units}. The units that cannot be resolved are not cached, so resolving them is tried again, and fails again, for
+     * every formatted value.
+     */
+    final class UnitCache
+    {
+        /** the locale. */
+        private final Locale locale;
+
+        /** the version of the registry of Units for which the units and unit strings have been cached. */
+        private final long version;
+
+        /** the resolved unit of the unit string of the format context, per unit class. */
+        private final Map<Class<?>, UnitInterface<?>> unitStringUnits = new ConcurrentHashMap<>();
+
+        /** the resolved display unit of the format context, per unit class. */
+        private final Map<Class<?>, UnitInterface<?>> displayUnits = new ConcurrentHashMap<>();
+
+        /** the formatted abbreviation per unit. */
+        private final Map<UnitInterface<?>, String> abbreviations = new ConcurrentHashMap<>();
+
+        /** the formatted SI unit per SI unit. */
+        private final Map<SIUnit, String> siUnitStrings = new ConcurrentHashMap<>();
+
+        /** the units with an automatic SI prefix per unit, indexed by the exponent minus the lowest exponent. */
+        private final Map<UnitInterface<?>, UnitInterface<?>[]> autoSiUnits = new ConcurrentHashMap<>();
+
+        /**
+         * Create the cache for a locale.
+         * @param locale the locale
+         * @param version the version of the registry of Units
+         */
+        UnitCache(final Locale locale, final long version)
+        {
+            this.locale = locale;
+            this.version = version;
+        }
+
+        /**
+         * Return the unit with the unit string of the format context for a unit class.
+         * @param unitClass the unit class
+         * @param unitString the unit string of the format context
+         * @return the resolved unit
+         * @throws UnitRuntimeException when the unit string cannot be resolved for the unit class
+         */
+        UnitInterface<?> unitStringUnit(final Class<?> unitClass, final String unitString)
+        {
+            return resolve(this.unitStringUnits, unitClass, unitString);
+        }
+
+        /**
+         * Return the display unit of the format context for a unit class.
+         * @param unitClass the unit class
+         * @param displayUnit the display unit of the format context
+         * @return the resolved unit
+         * @throws UnitRuntimeException when the display unit cannot be resolved for the unit class
+         */
+        UnitInterface<?> displayUnit(final Class<?> unitClass, final UnitInterface<?> displayUnit)
+        {
+            return resolve(this.displayUnits, unitClass, displayUnit.getId());
+        }
+
+        /**
+         * Resolve a unit for a unit class, and cache it.
+         * @param cache the cache to use
+         * @param unitClass the unit class
+         * @param abbreviation the abbreviation of the unit
+         * @return the resolved unit
+         * @throws UnitRuntimeException when the abbreviation cannot be resolved for the unit class
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private UnitInterface<?> resolve(final Map<Class<?>, UnitInterface<?>> cache, final Class<?> unitClass,
+                final String abbreviation)
+        {
+            UnitInterface<?> unit = cache.get(unitClass);
+            if (unit == null)
+            {
+                unit = (UnitInterface<?>) Units.resolve((Class) unitClass, abbreviation, this.locale);
+                cache.put(unitClass, unit);
+            }
+            return unit;
+        }
+
+        /**
+         * Return the localized textual or display abbreviation of a unit.
+         * @param unit the unit
+         * @param textual whether to return the textual abbreviation rather than the display abbreviation
+         * @return the localized abbreviation of the unit
+         */
+        String abbreviation(final UnitInterface<?> unit, final boolean textual)
+        {
+            String abbreviation = this.abbreviations.get(unit);
+            if (abbreviation == null)
+            {
+                abbreviation = textual ? unit.getTextualAbbreviation(this.locale) : unit.getDisplayAbbreviation(this.locale);
+                this.abbreviations.put(unit, abbreviation);
+            }
+            return abbreviation;
+        }
+
+        /**
+         * Return the formatted SI unit according to the SI settings of the format context.
+         * @param siUnit the SI unit
+         * @param ctx the format context
+         * @return the formatted SI unit
+         */
+        String siUnitString(final SIUnit siUnit, final FormatContext ctx)
+        {
+            String s = this.siUnitStrings.get(siUnit);
+            if (s == null)
+            {
+                s = siUnit.format(ctx.siDivisionSymbol, ctx.siDotSeparator, ctx.siPowerPrefix, ctx.siPowerPostfix);
+                this.siUnitStrings.put(siUnit, s);
+            }
+            return s;
+        }
+
+        /**
+         * Return the array with the units with an automatic SI prefix for a unit, indexed by the exponent minus the lowest
+         * exponent of the automatic SI prefixes. The entries of the array are filled when they are first resolved; a
+         * <code>null</code> entry has not been resolved yet.
+         * @param unit the unit on which the SI prefixed units are based
+         * @return the array with the units with an automatic SI prefix for the unit
+         */
+        UnitInterface<?>[] autoSiUnits(final UnitInterface<?> unit)
+        {
+            UnitInterface<?>[] units = this.autoSiUnits.get(unit);
+            if (units == null)
+            {
+                units = new UnitInterface<?>[CompiledFormat.this.autoSiExponents];
+                UnitInterface<?>[] previous = this.autoSiUnits.putIfAbsent(unit, units);
+                if (previous != null)
+                {
+                    return previous;
+                }
+            }
+            return units;
+        }
+    }
+
+}
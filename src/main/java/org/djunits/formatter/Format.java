@@ -1,6 +1,8 @@
 package org.djunits.formatter;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.djunits.formatter.FormatContext.FloatFormatMode;
 import org.djunits.quantity.def.ComparableAbsQuantity;
@@ -12,6 +14,7 @@ import org.djunits.vecmat.def.Matrix;
 import org.djunits.vecmat.def.Vector;
 import org.djunits.vecmat.table.AbsQuantityTable;
 import org.djunits.vecmat.table.QuantityTable;
+import org.djutils.exceptions.Throw;
 
 /**
  * Format is the abstract base class for the settings the format. It contains generic methods to influence the format of
@@ -27,22 +30,44 @@ import org.djunits.vecmat.table.QuantityTable;
  * @param <F> the {@link Format} type
  * @param <C> the {@link FormatContext} type
  */
-@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:hiddenfield"})
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:hiddenfield", "checkstyle:needbraces"})
 abstract class Format<F extends Format<F, C>, C extends FormatContext>
 {
     /** The format context. */
     protected final C ctx;
 
+    /** The atomically swapped defaults to which every change of the context is applied, or null. */
+    private final AtomicReference<C> defaults;
+
     /**
      * Construct a Format object with a given context. Note that the context can be an existing context that is being modified
-     * or a default context.
+     * or a frozen context.
      * @param ctx the format context to use
      */
     Format(final C ctx)
+    {
+        this(ctx, null);
+    }
+
+    /**
+     * Construct a Format object that changes the defaults. Every change of the context is also applied to the defaults, so
+     * formats that are created later, in any thread, start with the changed settings.
+     * @param ctx the format context to use, a modifiable copy of the current defaults
+     * @param defaults the defaults to publish the changes to, or null when the changes are not published
+     */
+    Format(final C ctx, final AtomicReference<C> defaults)
     {
         this.ctx = ctx;
+        this.defaults = defaults;
     }
 
+    /**
+     * Create a new format of the same type with the given context.
+     * @param ctx the format context to use
+     * @return a new format of the same type with the given context
+     */
+    abstract F create(C ctx);
+
     /**
      * Return the object for fluent design.
      * @return the object for fluent design
@@ -53,6 +78,66 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
         return (F) this;
     }
 
+    /**
+     * Apply a change of one or more settings to the context, and return the object for fluent design. The compiled settings
+     * are discarded, since they will be outdated. When this format changes the defaults, the same change is applied atomically
+     * to a copy of the current defaults, which then replaces the defaults. Only the changed settings are published, so changes
+     * of other settings by other threads, or a reset of the defaults, are not overwritten by the rest of this context.
+     * @param change the change to apply to a context
+     * @return the object for fluent design
+     * @throws IllegalStateException when the format is frozen
+     */
+    @SuppressWarnings("unchecked")
+    F change(final Consumer<C> change)
+    {
+        Throw.when(this.ctx.frozen, IllegalStateException.class,
+                "The format is frozen; use copy() to obtain a modifiable copy");
+        this.ctx.compiled = null;
+        change.accept(this.ctx);
+        if (this.defaults != null)
+        {
+            this.defaults.updateAndGet(current ->
+            {
+                C copy = (C) current.clone();
+                change.accept(copy);
+                return (C) copy.freeze();
+            });
+        }
+        return self();
+    }
+
+    /**
+     * Return an immutable copy of this format. The settings of the frozen format, such as the number patterns, are compiled
+     * once, and the units and unit strings that are derived from the settings are cached. A frozen format can therefore be
+     * stored in a constant and be shared between threads. Setters of a frozen format throw an IllegalStateException; use
+     * {@link #copy()} to obtain a modifiable copy. A frozen format returns itself.
+     * @return an immutable copy of this format
+     */
+    @SuppressWarnings("unchecked")
+    public F freeze()
+    {
+        return this.ctx.frozen ? self() : create((C) this.ctx.freeze());
+    }
+
+    /**
+     * Return a modifiable copy of this format, which does not change the defaults.
+     * @return a modifiable copy of this format
+     */
+    @SuppressWarnings("unchecked")
+    public F copy()
+    {
+        return create((C) this.ctx.clone());
+    }
+
+    /**
+     * Return whether this format is frozen and cannot be changed anymore.
+     * @return whether this format is frozen
+     */
+    public boolean isFrozen()
+    {
+        return this.ctx.frozen;
+    }
+
     // /////////////////////////////////////////////////////////////////////////////////////////////////////// //
     // ///////////////////////////////////// METHODS TO FORMAT THE VALUE ///////////////////////////////////// //
     // /////////////////////////////////////////////////////////////////////////////////////////////////////// //
@@ -63,8 +148,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setVariableLength()
     {
-        this.ctx.formatMode = FloatFormatMode.VARIABLE_LENGTH;
-        return self();
+        return change(c -> c.formatMode = FloatFormatMode.VARIABLE_LENGTH);
     }
 
     /**
@@ -73,8 +157,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setFixedFloat()
     {
-        this.ctx.formatMode = FloatFormatMode.FIXED_FLOAT;
-        return self();
+        return change(c -> c.formatMode = FloatFormatMode.FIXED_FLOAT);
     }
 
     /**
@@ -83,8 +166,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setScientific()
     {
-        this.ctx.formatMode = FloatFormatMode.SCIENTIFIC_ALWAYS;
-        return self();
+        return change(c -> c.formatMode = FloatFormatMode.SCIENTIFIC_ALWAYS);
     }
 
     /**
@@ -93,8 +175,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setFixedWithSciFallback()
     {
-        this.ctx.formatMode = FloatFormatMode.FIXED_WITH_SCI_FALLBACK;
-        return self();
+        return change(c -> c.formatMode = FloatFormatMode.FIXED_WITH_SCI_FALLBACK);
     }
 
     /**
@@ -104,8 +185,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setFixedWithEngFallback()
     {
-        this.ctx.formatMode = FloatFormatMode.FIXED_WITH_ENG_FALLBACK;
-        return self();
+        return change(c -> c.formatMode = FloatFormatMode.FIXED_WITH_ENG_FALLBACK);
     }
 
     /**
@@ -114,8 +194,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setEngineering()
     {
-        this.ctx.formatMode = FloatFormatMode.ENGINEERING_ALWAYS;
-        return self();
+        return change(c -> c.formatMode = FloatFormatMode.ENGINEERING_ALWAYS);
     }
 
     /**
@@ -125,8 +204,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setWidth(final int width)
     {
-        this.ctx.width = width;
-        return self();
+        return change(c -> c.width = width);
     }
 
     /**
@@ -136,8 +214,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setDecimals(final int decimals)
     {
-        this.ctx.decimals = decimals;
-        return self();
+        return change(c -> c.decimals = decimals);
     }
 
     /**
@@ -147,8 +224,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setUpperE(final boolean upper)
     {
-        this.ctx.upperE = upper;
-        return self();
+        return change(c -> c.upperE = upper);
     }
 
     /**
@@ -158,8 +234,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setGroupingSeparator(final boolean on)
     {
-        this.ctx.groupingSeparator = on;
-        return self();
+        return change(c -> c.groupingSeparator = on);
     }
 
     /**
@@ -169,8 +244,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setMaxSigDigits(final int digits)
     {
-        this.ctx.maxSigDigits = digits;
-        return self();
+        return change(c -> c.maxSigDigits = digits);
     }
 
     /**
@@ -181,8 +255,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setSciThreshold(final int threshold)
     {
-        this.ctx.sciThreshold = threshold;
-        return self();
+        return change(c -> c.sciThreshold = threshold);
     }
 
     /**
@@ -192,9 +265,11 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setFormatString(final String formatString)
     {
-        this.ctx.formatString = formatString;
-        this.ctx.formatMode = FloatFormatMode.FORMAT_STRING;
-        return self();
+        return change(c ->
+        {
+            c.formatString = formatString;
+            c.formatMode = FloatFormatMode.FORMAT_STRING;
+        });
     }
 
     // /////////////////////////////////////////////////////////////////////////////////////////////////////// //
@@ -208,8 +283,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setUnitPrefix(final String prefix)
     {
-        this.ctx.unitPrefix = prefix;
-        return self();
+        return change(c -> c.unitPrefix = prefix);
     }
 
     /**
@@ -219,8 +293,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setUnitPostfix(final String postfix)
     {
-        this.ctx.unitPostfix = postfix;
-        return self();
+        return change(c -> c.unitPostfix = postfix);
     }
 
     /**
@@ -230,8 +303,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setDisplayUnit(final UnitInterface<?> unit)
     {
-        this.ctx.displayUnit = unit;
-        return self();
+        return change(c -> c.displayUnit = unit);
     }
 
     /**
@@ -241,8 +313,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setDisplayUnit(final String unit)
     {
-        this.ctx.unitString = unit;
-        return self();
+        return change(c -> c.unitString = unit);
     }
 
     /**
@@ -251,8 +322,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setTextual()
     {
-        this.ctx.textual = true;
-        return self();
+        return change(c -> c.textual = true);
     }
 
     /**
@@ -261,8 +331,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setDisplay()
     {
-        this.ctx.textual = false;
-        return self();
+        return change(c -> c.textual = false);
     }
 
     /**
@@ -272,8 +341,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setTextual(final boolean on)
     {
-        this.ctx.textual = on;
-        return self();
+        return change(c -> c.textual = on);
     }
 
     /**
@@ -282,8 +350,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setSiUnits()
     {
-        this.ctx.siUnits = true;
-        return self();
+        return change(c -> c.siUnits = true);
     }
 
     /**
@@ -293,8 +360,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setDivider(final boolean on)
     {
-        this.ctx.siDivisionSymbol = on;
-        return self();
+        return change(c -> c.siDivisionSymbol = on);
     }
 
     /**
@@ -305,8 +371,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setPowerPrefix(final String symbol)
     {
-        this.ctx.siPowerPrefix = symbol;
-        return self();
+        return change(c -> c.siPowerPrefix = symbol);
     }
 
     /**
@@ -317,8 +382,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setPowerPostfix(final String symbol)
     {
-        this.ctx.siPowerPostfix = symbol;
-        return self();
+        return change(c -> c.siPowerPostfix = symbol);
     }
 
     /**
@@ -328,8 +392,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setDotSeparator(final String symbol)
     {
-        this.ctx.siDotSeparator = symbol;
-        return self();
+        return change(c -> c.siDotSeparator = symbol);
     }
 
     // /////////////////////////////////////////////////////////////////////////////////////////////////////// //
@@ -343,8 +406,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setLocale(final Locale locale)
     {
-        this.ctx.locale = locale;
-        return self();
+        return change(c -> c.locale = locale);
     }
 
     // /////////////////////////////////////////////////////////////////////////////////////////////////////// //
@@ -357,8 +419,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setPrintReference()
     {
-        this.ctx.printReference = true;
-        return self();
+        return change(c -> c.printReference = true);
     }
 
     /**
@@ -367,8 +428,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setNoReference()
     {
-        this.ctx.printReference = false;
-        return self();
+        return change(c -> c.printReference = false);
     }
 
     /**
@@ -378,8 +438,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setPrintReference(final boolean on)
     {
-        this.ctx.printReference = on;
-        return self();
+        return change(c -> c.printReference = on);
     }
 
     /**
@@ -389,8 +448,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setReferencePrefix(final String prefix)
     {
-        this.ctx.referencePrefix = prefix;
-        return self();
+        return change(c -> c.referencePrefix = prefix);
     }
 
     /**
@@ -400,8 +458,7 @@ abstract class Format<F extends Format<F, C>, C extends FormatContext>
      */
     public F setReferencePostfix(final String postfix)
     {
-        this.ctx.referencePostfix = postfix;
-        return self();
+        return change(c -> c.referencePostfix = postfix);
     }
 
 }
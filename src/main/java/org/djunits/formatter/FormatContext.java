@@ -15,7 +15,7 @@ import org.djunits.unit.UnitInterface;
  * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
  * @author Alexander Verbraeck
  */
-@SuppressWarnings("checkstyle:visibilitymodifier")
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:needbraces"})
 abstract class FormatContext implements Cloneable
 {
     // Number formatting, contains default values
@@ -92,6 +92,14 @@ abstract class FormatContext implements Cloneable
     /** Used locale for the entire output string (number and unit). */
     Locale locale = null;
 
+    // State of the context
+
+    /** Whether the context is frozen, i.e., it belongs to an immutable format and cannot be changed anymore. */
+    boolean frozen = false;
+
+    /** The compiled settings, created at first use and discarded when a setting changes. */
+    CompiledFormat compiled = null;
+
     /** The format mode. */
     public enum FloatFormatMode
     {
@@ -111,12 +119,58 @@ abstract class FormatContext implements Cloneable
         ENGINEERING_ALWAYS;
     }
 
+    /**
+     * Return the compiled settings of this context, and compile them when this has not been done yet. The compiled settings of
+     * a frozen context are created when the context is frozen, so they can be shared between threads.
+     * @return the compiled settings of this context
+     */
+    CompiledFormat compiled()
+    {
+        CompiledFormat c = this.compiled;
+        if (c == null)
+        {
+            c = compile();
+            this.compiled = c;
+        }
+        return c;
+    }
+
+    /**
+     * Compile the settings of this context.
+     * @return the compiled settings of this context
+     */
+    CompiledFormat compile()
+    {
+        return new CompiledFormat(this, 0, -1);
+    }
+
+    /**
+     * Return a frozen copy of this context, with its settings compiled. A frozen context is returned as is.
+     * @return a frozen copy of this context
+     */
+    FormatContext freeze()
+    {
+        if (this.frozen)
+            return this;
+        FormatContext copy = clone();
+        copy.compiled = copy.compile();
+        copy.frozen = true;
+        return copy;
+    }
+
+    /**
+     * Return a modifiable copy of this context. The copy is not frozen and is compiled again at first use.
+     * @return a modifiable copy of this context
+     */
     @Override
     protected FormatContext clone()
     {
         try
         {
-            return (FormatContext) super.clone();
+            FormatContext copy = (FormatContext) super.clone();
+            copy.frozen = false;
+            copy.compiled = null;
+            return copy;
         }
         catch (CloneNotSupportedException exception)
         {
@@ -1,21 +1,21 @@
 package org.djunits.formatter;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.io.IOException;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 
 import org.djunits.quantity.def.Reference;
 import org.djunits.unit.UnitInterface;
-import org.djunits.unit.Units;
 import org.djunits.value.Value;
+import org.djutils.exceptions.Throw;
 
 /**
  * Formatter of quantities, vectors, matrices and tables according to the format options that are stored in the
  * {@link FormatContext} or one of its extensions.
  * <p>
+ * The locale of the format context is passed explicitly to the number formatting and to the lookup of the units; the default
+ * locale of the JVM is never changed. Formatters can therefore be used from many threads at the same time.
+ * <p>
  * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
  * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
  * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
@@ -29,6 +29,15 @@ public abstract class Formatter<C extends FormatContext>
     /** the format context. */
     final C ctx;
 
+    /** the compiled settings of the format context. */
+    final CompiledFormat compiled;
+
+    /** the locale for the number and the unit; the locale of the format context, or the default locale when not set. */
+    final Locale locale;
+
+    /** the cached units and unit strings of the compiled settings for the locale. */
+    final CompiledFormat.UnitCache unitCache;
+
     /** the value (quantity, vector, matrix) with a display unit. */
     final Value<?> value;
 
@@ -41,6 +50,27 @@ public abstract class Formatter<C extends FormatContext>
     /** using SI value or valueInUnit for the calculated unit. */
     boolean useSi = false;
 
+    /** the decimal digit generator for variable length formatting, created at first use. */
+    private ShortestDecimal decimal = null;
+
+    /** the zero digit of the locale, set when the digit generator is created. */
+    private char zeroDigit;
+
+    /** the decimal separator of the locale, set when the digit generator is created. */
+    private char decimalSeparator;
+
+    /** the grouping separator of the locale, set when the digit generator is created. */
+    private char groupingSeparator;
+
+    /** the prefix of negative numbers of the locale, set when the digit generator is created. */
+    private String negativePrefix;
+
+    /** the formatter for the patterns, created at first use, that writes to the buffer. */
+    private java.util.Formatter numberFormatter = null;
+
+    /** the reusable buffer of the number formatter. */
+    private StringBuilder buffer = null;
+
     /**
      * @param value the value to format
      * @param ctx the format context
@@ -48,15 +78,29 @@ public abstract class Formatter<C extends FormatContext>
     Formatter(final Value<?> value, final C ctx)
     {
         this.ctx = ctx;
+        this.compiled = ctx.compiled();
+        this.locale = this.compiled.locale();
+        this.unitCache = this.compiled.unitCache(this.locale);
         this.value = value;
         this.unit = value.getDisplayUnit();
     }
 
+    /**
+     * Format the value(s) and unit and append them to a string builder.
+     * @param s the string builder to append the formatted value(s) and unit to
+     */
+    abstract void formatTo(StringBuilder s);
+
     /**
      * Format the value(s) and unit and return the String representation.
      * @return the formatted value and unit
      */
-    abstract String format();
+    String format()
+    {
+        StringBuilder s = new StringBuilder();
+        formatTo(s);
+        return s.toString();
+    }
 
     /**
      * Check if SI formatting needs to be applied.
@@ -68,8 +112,7 @@ public abstract class Formatter<C extends FormatContext>
             return false;
         this.unit = this.unit.siUnit();
         this.useSi = true;
-        this.unitStr = this.unit.siUnit().format(this.ctx.siDivisionSymbol, this.ctx.siDotSeparator, this.ctx.siPowerPrefix,
-                this.ctx.siPowerPostfix);
+        this.unitStr = this.unitCache.siUnitString(this.unit.siUnit(), this.ctx);
         return true;
     }
 
@@ -83,7 +126,7 @@ public abstract class Formatter<C extends FormatContext>
         {
             try
             {
-                this.unit = Units.resolve(this.unit.getClass(), this.ctx.unitString);
+                this.unit = this.unitCache.unitStringUnit(this.unit.getClass(), this.ctx.unitString);
                 this.useSi = false;
                 return true;
             }
@@ -105,7 +148,7 @@ public abstract class Formatter<C extends FormatContext>
         {
             try
             {
-                this.unit = Units.resolve(this.unit.getClass(), this.ctx.displayUnit.getId());
+                this.unit = this.unitCache.displayUnit(this.unit.getClass(), this.ctx.displayUnit);
                 this.useSi = false;
                 return true;
             }
@@ -129,215 +172,265 @@ public abstract class Formatter<C extends FormatContext>
         if (!formatted)
             checkDisplayUnit();
         if (this.unitStr == null)
-            this.unitStr = this.ctx.textual ? this.unit.getTextualAbbreviation() : this.unit.getDisplayAbbreviation();
+            this.unitStr = formatUnitAbbreviation();
     }
 
     /**
-     * Format the reference of an absolute value according to the context settings.
-     * @param ctx the format context with the settings for formatting a reference
-     * @param reference the reference to format
-     * @return the formatted reference, or an empty string when it is not displayed
+     * Return the textual or display abbreviation of the unit for the locale, according to the context settings.
+     * @return the localized abbreviation of the unit
      */
-    static String formatReference(final FormatContext ctx, final Reference<?, ?, ?> reference)
+    String formatUnitAbbreviation()
     {
-        if (!ctx.printReference)
-        {
-            return "";
-        }
-        return ctx.referencePrefix + reference.getId() + ctx.referencePostfix;
+        return this.unitCache.abbreviation(this.unit, this.ctx.textual);
     }
 
     /**
-     * Format a value according to the context settings.
-     * @param val the value to format
-     * @return the formatted value according to the context settings
+     * Append the reference of an absolute value according to the context settings.
+     * @param s the string builder to append the reference to
+     * @param ctx the format context with the settings for formatting a reference
+     * @param reference the reference to format
      */
-    String formatValue(final double val)
+    static void appendReference(final StringBuilder s, final FormatContext ctx, final Reference<?, ?, ?> reference)
     {
-        return switch (this.ctx.formatMode)
-        {
-            case VARIABLE_LENGTH -> formatVariableLength(val);
-            case FIXED_FLOAT -> formatFixedFloat(val);
-            case SCIENTIFIC_ALWAYS -> formatScientific(val);
-            case ENGINEERING_ALWAYS -> formatEngineering(val);
-            case FIXED_WITH_SCI_FALLBACK -> formatFixedSciFallback(val);
-            case FIXED_WITH_ENG_FALLBACK -> formatFixedEngFallback(val);
-            case FORMAT_STRING -> String.format(this.ctx.formatString, val);
-        };
+        if (ctx.printReference)
+            s.append(ctx.referencePrefix).append(reference.getId()).append(ctx.referencePostfix);
     }
 
     /**
-     * Format a value with variable length.
-     * @param val the value to format
-     * @return a formatted value with variable length
+     * Append the output of a formatter to a string builder, followed by the reference when the value is absolute.
+     * @param s the string builder to append the output to
+     * @param formatter the formatter for the value
+     * @param reference the reference of an absolute value, or null for a relative value
+     * @return the string builder, to allow chaining
+     * @throws NullPointerException when s is null
      */
-    String formatVariableLength(final double val)
+    static StringBuilder appendTo(final StringBuilder s, final Formatter<?> formatter, final Reference<?, ?, ?> reference)
     {
-        if (val == 0.0)
-            return "0";
-        if (Double.isNaN(val))
-            return "NaN";
-        if (Double.isInfinite(val))
-            return val > 0 ? "Inf" : "-Inf";
-
-        double abs = Math.abs(val);
-        int exponent = (int) Math.floor(Math.log10(abs));
-
-        // Step 1: round to significant digits
-        BigDecimal bd = BigDecimal.valueOf(val).round(new MathContext(this.ctx.maxSigDigits, RoundingMode.HALF_UP));
-
-        // Step 2: decide format
-        boolean useScientific = exponent >= this.ctx.maxSigDigits || exponent < this.ctx.sciThreshold;
-
-        // Step 3. Locate-dependent formatting that can use a grouping separator
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.getDefault());
-        DecimalFormat df = new DecimalFormat();
-        df.setDecimalFormatSymbols(symbols);
-        df.setGroupingUsed(this.ctx.groupingSeparator);
-        df.setMaximumFractionDigits(340); // unlimited, no re-rounding!
-        df.setMinimumFractionDigits(0);
-        df.setMinimumIntegerDigits(1);
-
-        // Step 4: format
-        BigDecimal mantissa = bd.movePointLeft(exponent).round(new MathContext(this.ctx.maxSigDigits, RoundingMode.HALF_UP))
-                .stripTrailingZeros();
-        String mantissaStr = df.format(mantissa);
-        if (!useScientific)
-            return df.format(bd);
-        String expStr = String.format("%+03d", exponent);
-        return mantissaStr + (this.ctx.upperE ? "E" : "e") + expStr;
+        Throw.whenNull(s, "stringBuilder");
+        formatter.formatTo(s);
+        if (reference != null)
+            appendReference(s, formatter.ctx, reference);
+        return s;
     }
 
     /**
-     * Format a value with a fixed floating point length and a given number of decimals.
-     * @param val the value to format
-     * @return a formatted value with a fixed floating point length and a given number of decimals
+     * Append the output of a formatter to an appendable, followed by the reference when the value is absolute. When the
+     * appendable is a StringBuilder, the formatter appends to it directly; otherwise, the output is built in a StringBuilder
+     * first and appended as one CharSequence.
+     * @param appendable the appendable to append the output to
+     * @param formatter the formatter for the value
+     * @param reference the reference of an absolute value, or null for a relative value
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     * @throws NullPointerException when appendable is null
      */
-    String formatFixedFloat(final double val)
+    static <A extends Appendable> A appendTo(final A appendable, final Formatter<?> formatter,
+            final Reference<?, ?, ?> reference) throws IOException
     {
-        String gs = this.ctx.groupingSeparator ? "%," : "%";
-        String fmt = gs + this.ctx.width + "." + this.ctx.decimals + "f";
-        return String.format(fmt, val);
+        Throw.whenNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder sb)
+            appendTo(sb, formatter, reference);
+        else
+            appendable.append(appendTo(new StringBuilder(), formatter, reference));
+        return appendable;
     }
 
     /**
-     * Format a value using scientific notation with a fixed length and a given number of decimals.
+     * Append a value according to the context settings.
+     * @param s the string builder to append the formatted value to
      * @param val the value to format
-     * @return a formatted value using scientific notation with a fixed length and a given number of decimals
      */
-    String formatScientific(final double val)
+    void appendValue(final StringBuilder s, final double val)
     {
-        String fmt = "%" + this.ctx.width + "." + this.ctx.decimals + (this.ctx.upperE ? "E" : "e");
-        return String.format(fmt, val);
+        switch (this.ctx.formatMode)
+        {
+            case VARIABLE_LENGTH -> appendVariableLength(s, val);
+            case FIXED_FLOAT -> appendFormatted(s, this.compiled.fixedPattern, val);
+            case SCIENTIFIC_ALWAYS -> appendFormatted(s, this.compiled.scientificPattern, val);
+            case ENGINEERING_ALWAYS -> appendEngineering(s, val);
+            case FIXED_WITH_SCI_FALLBACK -> appendFixedWithFallback(s, val, false);
+            case FIXED_WITH_ENG_FALLBACK -> appendFixedWithFallback(s, val, true);
+            case FORMAT_STRING -> appendFormatted(s, this.ctx.formatString, val);
+        }
     }
 
     /**
-     * Format a value using engineering notation with a fixed length and a given number of decimals.
+     * Append a value, formatted with a pattern for {@link java.util.Formatter} and the locale. The java.util.Formatter is
+     * created once per formatter, and writes to a reusable buffer, so no intermediate strings are created.
+     * @param s the string builder to append the formatted value to
+     * @param pattern the format pattern
      * @param val the value to format
-     * @return a formatted value using engineering notation with a fixed length and a given number of decimals
      */
-    String formatEngineering(final double val)
+    private void appendFormatted(final StringBuilder s, final String pattern, final double val)
     {
-        double abs = Math.abs(val);
-        int exp = (int) Math.floor(Math.log10(abs));
-        int engExp = exp - (exp % 3);
-        double mantissa = val / Math.pow(10, engExp);
-
-        // Mantissa formatted as fixed; no grouping separator (always < 1000)
-        String mantFmt = "%." + this.ctx.decimals + "f";
-        String mant = String.format(mantFmt, mantissa);
-        String result = mant + (this.ctx.upperE ? "E" : "e") + String.format("%+03d", engExp);
-        return pad(result, this.ctx.width);
+        if (this.numberFormatter == null)
+        {
+            this.buffer = new StringBuilder();
+            this.numberFormatter = new java.util.Formatter(this.buffer, this.locale);
+        }
+        this.buffer.setLength(0);
+        this.numberFormatter.format(pattern, val);
+        s.append(this.buffer);
     }
 
     /**
-     * Format a value using fixed length, but when it does not fit or when underflow would happen, fall back to scientific
-     * notation.
+     * Append a value with variable length.
+     * @param s the string builder to append the formatted value to
      * @param val the value to format
-     * @return a formatted value using fixed length, but when it does not fit, fall back to scientific notation.
      */
-    String formatFixedSciFallback(final double val)
+    void appendVariableLength(final StringBuilder s, final double val)
     {
-        String fixed = formatFixedFloat(val);
-
-        // 1. prevent overflow where string is longer than width
-        if (fixed.length() > this.ctx.width)
+        if (val == 0.0)
         {
-            return formatScientific(val);
+            s.append('0');
+            return;
         }
-
-        // 2. prevent underflow and formatting of, e.g., 0.000123 as "0.000"
-        if (val != 0.0 && Math.abs(val) < Math.pow(10, -this.ctx.decimals))
+        if (Double.isNaN(val))
+        {
+            s.append("NaN");
+            return;
+        }
+        if (Double.isInfinite(val))
         {
-            return formatScientific(val);
+            s.append(val > 0 ? "Inf" : "-Inf");
+            return;
         }
 
-        return fixed;
+        // Step 1: the decimal digits of BigDecimal.valueOf(val), rounded to significant digits
+        int exponent = (int) Math.floor(Math.log10(Math.abs(val)));
+        ShortestDecimal decimal = decimal();
+        decimal.setToStringDigits(val);
+        decimal.round(this.ctx.maxSigDigits);
+
+        // Step 2: decide format
+        boolean useScientific = exponent >= this.ctx.maxSigDigits || exponent < this.ctx.sciThreshold;
+
+        // Step 3: locale-dependent formatting that can use a grouping separator
+        if (val < 0.0)
+            s.append(this.negativePrefix);
+        if (!useScientific)
+        {
+            appendDigits(s, decimal, decimal.exponent + 1);
+            return;
+        }
+        appendDigits(s, decimal, decimal.exponent - exponent + 1);
+        s.append(this.ctx.upperE ? 'E' : 'e');
+        appendExponent(s, exponent);
     }
 
     /**
-     * Format a value using fixed length, but when it does not fit or when underflow would happen, fall back to engineering
-     * notation.
-     * @param val the value to format
-     * @return a formatted value using fixed length, but when it does not fit, fall back to engineering notation.
+     * Return the decimal digit generator for variable length formatting, which is created at first use for this formatter,
+     * together with the cached decimal format symbols of the locale.
+     * @return the decimal digit generator for variable length formatting
      */
-    String formatFixedEngFallback(final double val)
+    private ShortestDecimal decimal()
     {
-        String fixed = formatFixedFloat(val);
-
-        // 1. prevent overflow where string is longer than width
-        if (fixed.length() > this.ctx.width)
+        if (this.decimal == null)
         {
-            return formatEngineering(val);
+            DecimalFormatSymbols symbols = CompiledFormat.symbols(this.locale);
+            this.zeroDigit = symbols.getZeroDigit();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.negativePrefix = CompiledFormat.negativePrefix(this.locale);
+            this.decimal = new ShortestDecimal();
         }
+        return this.decimal;
+    }
 
-        // 2. prevent underflow and formatting of, e.g., 0.000123 as "0.000"
-        if (val != 0.0 && Math.abs(val) < Math.pow(10, -this.ctx.decimals))
+    /**
+     * Append the digits of a decimal in the same way as a DecimalFormat with the pattern "#,##0.#" and an unlimited number of
+     * fraction digits: at least one integer digit, the grouping separator every 3 integer digits when grouping is used, and no
+     * trailing zeros in the fraction.
+     * @param s the string builder to append the digits to
+     * @param decimal the digits
+     * @param point the number of digits before the decimal separator; can be zero or negative for a value below 1, or larger
+     *            than the number of digits for a value with trailing zeros before the decimal separator
+     */
+    private void appendDigits(final StringBuilder s, final ShortestDecimal decimal, final int point)
+    {
+        if (point <= 0)
         {
-            return formatEngineering(val);
+            s.append(this.zeroDigit).append(this.decimalSeparator);
+            for (int i = point; i < 0; i++)
+                s.append(this.zeroDigit);
+            for (int i = 0; i < decimal.length; i++)
+                s.append((char) (this.zeroDigit + decimal.digits[i]));
+            return;
+        }
+        for (int i = 0; i < point; i++)
+        {
+            if (this.ctx.groupingSeparator && i > 0 && (point - i) % 3 == 0)
+                s.append(this.groupingSeparator);
+            s.append(i < decimal.length ? (char) (this.zeroDigit + decimal.digits[i]) : this.zeroDigit);
+        }
+        if (decimal.length > point)
+        {
+            s.append(this.decimalSeparator);
+            for (int i = point; i < decimal.length; i++)
+                s.append((char) (this.zeroDigit + decimal.digits[i]));
         }
-
-        return fixed;
     }
 
     /**
-     * Pad a string with spaces.
-     * @param s the string to pad
-     * @param width the width
-     * @return a padded string
+     * Append an exponent with a sign and at least two digits, in the same way as the pattern "%+03d" with the locale.
+     * @param s the string builder to append the exponent to
+     * @param exponent the exponent
      */
-    static String pad(final String s, final int width)
+    private void appendExponent(final StringBuilder s, final int exponent)
     {
-        if (s.length() >= width)
-            return s;
-        return String.format("%" + width + "s", s);
+        decimal(); // make sure that the symbols of the locale are available
+        s.append(exponent < 0 ? '-' : '+');
+        long abs = Math.abs((long) exponent);
+        long divisor = 10;
+        while (divisor * 10 <= abs)
+            divisor *= 10;
+        for (; divisor > 0; divisor /= 10)
+            s.append((char) (this.zeroDigit + abs / divisor % 10));
     }
 
     /**
-     * Save the current locale, and change the locale.
-     * @param newLocale the new locale (can be null if the locale does not change)
-     * @return the old locale, or null when the locale was not changed
+     * Append a value using engineering notation with a fixed length and a given number of decimals.
+     * @param s the string builder to append the formatted value to
+     * @param val the value to format
      */
-    static Locale saveLocale(final Locale newLocale)
+    private void appendEngineering(final StringBuilder s, final double val)
     {
-        if (newLocale != null)
-        {
-            Locale oldLocale = Locale.getDefault();
-            Locale.setDefault(newLocale);
-            return oldLocale;
-        }
-        return null;
+        double abs = Math.abs(val);
+        int exp = (int) Math.floor(Math.log10(abs));
+        int engExp = exp - (exp % 3);
+        double mantissa = val / Math.pow(10, engExp);
+
+        // Mantissa formatted as fixed; no grouping separator (always < 1000)
+        int start = s.length();
+        appendFormatted(s, this.compiled.mantissaPattern, mantissa);
+        s.append(this.ctx.upperE ? 'E' : 'e');
+        appendExponent(s, engExp);
+        for (int i = s.length() - start; i < this.ctx.width; i++)
+            s.insert(start, ' ');
     }
 
     /**
-     * Restore the locale to the old locale.
-     * @param oldLocale the old locale (can be null if the locale was not changed earlier)
+     * Append a value using fixed length, but when it does not fit or when underflow would happen, fall back to scientific or
+     * engineering notation.
+     * @param s the string builder to append the formatted value to
+     * @param val the value to format
+     * @param engineering whether to fall back to engineering notation rather than scientific notation
      */
-    static void restoreLocale(final Locale oldLocale)
+    private void appendFixedWithFallback(final StringBuilder s, final double val, final boolean engineering)
     {
-        if (oldLocale != null)
+        int start = s.length();
+        appendFormatted(s, this.compiled.fixedPattern, val);
+
+        // 1. prevent overflow where string is longer than width
+        // 2. prevent underflow and formatting of, e.g., 0.000123 as "0.000"
+        if (s.length() - start > this.ctx.width || (val != 0.0 && Math.abs(val) < this.compiled.underflow))
         {
-            Locale.setDefault(oldLocale);
+            s.setLength(start);
+            if (engineering)
+                appendEngineering(s, val);
+            else
+                appendFormatted(s, this.compiled.scientificPattern, val);
         }
     }
 
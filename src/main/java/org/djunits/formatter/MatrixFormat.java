@@ -1,5 +1,7 @@
 package org.djunits.formatter;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.djunits.formatter.FormatContext.FloatFormatMode;
 
 /**
@@ -13,9 +15,8 @@ import org.djunits.formatter.FormatContext.FloatFormatMode;
  */
 public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
 {
-    /** The defaults (which can be changed). */
-    @SuppressWarnings("checkstyle:staticvariablename")
-    private static MatrixFormatContext DEFAULT = makeDefault();
+    /** The defaults, a frozen context that is replaced atomically when the defaults are changed or reset. */
+    private static final AtomicReference<MatrixFormatContext> DEFAULT = new AtomicReference<>(makeDefault().freeze());
 
     /**
      * Make the default format context for a matrix.
@@ -38,22 +39,50 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
         super(ctx);
     }
 
+    /**
+     * Construct a MatrixFormat object that changes the defaults.
+     * @param ctx the matrix format context to use, a modifiable copy of the current defaults
+     * @param defaults the defaults to publish the changes to
+     */
+    private MatrixFormat(final MatrixFormatContext ctx, final AtomicReference<MatrixFormatContext> defaults)
+    {
+        super(ctx, defaults);
+    }
+
+    @Override
+    MatrixFormat create(final MatrixFormatContext ctx)
+    {
+        return new MatrixFormat(ctx);
+    }
+
     /**
      * Return an instance of MatrixFormat, initialized with the default values.
      * @return an instance of MatrixFormat, initialized with the default values
      */
     public static MatrixFormat instance()
     {
-        return new MatrixFormat(DEFAULT.clone());
+        return new MatrixFormat(DEFAULT.get().clone());
+    }
+
+    /**
+     * Return the frozen MatrixFormat with the current default values. The format cannot be changed, but it can be shared
+     * between threads, and its settings are compiled only once. Use {@link #instance()} for a modifiable format.
+     * @return the frozen MatrixFormat with the current default values
+     */
+    public static MatrixFormat defaults()
+    {
+        return new MatrixFormat(DEFAULT.get());
     }
 
     /**
-     * Return an instance of MatrixFormat with the DEFAULT values, which can be changed for all subsequent calls.
+     * Return an instance of MatrixFormat with the DEFAULT values, which can be changed for all subsequent calls. Every change
+     * is applied atomically to the current defaults, and only changes the settings that are set, so changes of other settings
+     * by other threads are kept; formats that were created earlier keep their settings.
      * @return an instance of MatrixFormat with the DEFAULT values
      */
     public static MatrixFormat changeDefaults()
     {
-        return new MatrixFormat(DEFAULT);
+        return new MatrixFormat(DEFAULT.get().clone(), DEFAULT);
     }
 
     /**
@@ -61,7 +90,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public static void resetDefaults()
     {
-        DEFAULT = makeDefault();
+        DEFAULT.set(makeDefault().freeze());
     }
 
     /**
@@ -71,8 +100,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setMiddleRowStart(final String startSymbol)
     {
-        this.ctx.middleRowStartSymbol = startSymbol;
-        return this;
+        return change(c -> c.middleRowStartSymbol = startSymbol);
     }
 
     /**
@@ -82,8 +110,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setMiddleRowEnd(final String endSymbol)
     {
-        this.ctx.middleRowEndSymbol = endSymbol;
-        return this;
+        return change(c -> c.middleRowEndSymbol = endSymbol);
     }
 
     /**
@@ -93,8 +120,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setFirstRowStart(final String startSymbol)
     {
-        this.ctx.firstRowStartSymbol = startSymbol;
-        return this;
+        return change(c -> c.firstRowStartSymbol = startSymbol);
     }
 
     /**
@@ -104,8 +130,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setFirstRowEnd(final String endSymbol)
     {
-        this.ctx.firstRowEndSymbol = endSymbol;
-        return this;
+        return change(c -> c.firstRowEndSymbol = endSymbol);
     }
 
     /**
@@ -115,8 +140,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setLastRowStart(final String startSymbol)
     {
-        this.ctx.lastRowStartSymbol = startSymbol;
-        return this;
+        return change(c -> c.lastRowStartSymbol = startSymbol);
     }
 
     /**
@@ -126,8 +150,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setLastRowEnd(final String endSymbol)
     {
-        this.ctx.lastRowEndSymbol = endSymbol;
-        return this;
+        return change(c -> c.lastRowEndSymbol = endSymbol);
     }
 
     /**
@@ -137,8 +160,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setColSeparator(final String separatorSymbol)
     {
-        this.ctx.colSeparatorSymbol = separatorSymbol;
-        return this;
+        return change(c -> c.colSeparatorSymbol = separatorSymbol);
     }
 
     /**
@@ -148,8 +170,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setMatrixPrefix(final String matrixPrefix)
     {
-        this.ctx.matrixPrefix = matrixPrefix;
-        return this;
+        return change(c -> c.matrixPrefix = matrixPrefix);
     }
 
     /**
@@ -159,8 +180,7 @@ public class MatrixFormat extends Format<MatrixFormat, MatrixFormatContext>
      */
     public MatrixFormat setMatrixPostfix(final String matrixPostfix)
     {
-        this.ctx.matrixPostfix = matrixPostfix;
-        return this;
+        return change(c -> c.matrixPostfix = matrixPostfix);
     }
 
 }
@@ -42,6 +42,12 @@ class MatrixFormatContext extends FormatContext implements Cloneable
     /** Postfix string to use for a matrix. */
     String matrixPostfix = "";
 
+    @Override
+    MatrixFormatContext freeze()
+    {
+        return (MatrixFormatContext) super.freeze();
+    }
+
     @Override
     protected MatrixFormatContext clone()
     {
@@ -1,6 +1,6 @@
 package org.djunits.formatter;
 
-import java.util.Locale;
+import java.io.IOException;
 
 import org.djunits.vecmat.def.AbsMatrix;
 import org.djunits.vecmat.def.Matrix;
@@ -37,8 +37,7 @@ public class MatrixFormatter extends Formatter<MatrixFormatContext>
     }
 
     /**
-     * Format a matrix according to a number of MatrixFormat settings. Note that this method might not be thread-safe for
-     * setting the default Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format a matrix according to a number of MatrixFormat settings. The default Locale is not changed.
      * @param matrix the matrix to format
      * @param matrixFormat the format to apply to the matrix
      * @return a String with a formatted matrix, matching the MatrixFormat settings as closely as possible
@@ -46,21 +45,11 @@ public class MatrixFormatter extends Formatter<MatrixFormatContext>
     public static String format(final Matrix<?, ?, ?, ?, ?> matrix, final MatrixFormat matrixFormat)
     {
         MatrixFormatContext ctx = matrixFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new MatrixFormatter(matrix, ctx).format();
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return new MatrixFormatter(matrix, ctx).format();
     }
 
     /**
-     * Format an absolute matrix according to a number of MatrixFormat settings. Note that this method might not be thread-safe
-     * for setting the default Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format an absolute matrix according to a number of MatrixFormat settings. The default Locale is not changed.
      * @param absMatrix the absolute matrix to format
      * @param matrixFormat the format to apply to the matrix
      * @return a String with a formatted matrix, matching the MatrixFormat settings as closely as possible
@@ -68,29 +57,80 @@ public class MatrixFormatter extends Formatter<MatrixFormatContext>
     public static String format(final AbsMatrix<?, ?, ?, ?, ?> absMatrix, final MatrixFormat matrixFormat)
     {
         MatrixFormatContext ctx = matrixFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new MatrixFormatter(absMatrix.getRelativeVecMat(), ctx).format()
-                    + formatReference(ctx, absMatrix.getReference());
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return appendTo(new StringBuilder(), new MatrixFormatter(absMatrix.getRelativeVecMat(), ctx),
+                absMatrix.getReference()).toString();
+    }
+
+    /**
+     * Append a matrix to a string builder according to a number of MatrixFormat settings, without creating intermediate
+     * strings. The default Locale is not changed.
+     * @param s the string builder to append the formatted matrix to
+     * @param matrix the matrix to format
+     * @param matrixFormat the format to apply to the matrix
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final Matrix<?, ?, ?, ?, ?> matrix,
+            final MatrixFormat matrixFormat)
+    {
+        return appendTo(s, new MatrixFormatter(matrix, matrixFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute matrix to a string builder according to a number of MatrixFormat settings, without creating
+     * intermediate strings. The default Locale is not changed.
+     * @param s the string builder to append the formatted absolute matrix to
+     * @param absMatrix the absolute matrix to format
+     * @param matrixFormat the format to apply to the matrix
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final AbsMatrix<?, ?, ?, ?, ?> absMatrix,
+            final MatrixFormat matrixFormat)
+    {
+        return appendTo(s, new MatrixFormatter(absMatrix.getRelativeVecMat(), matrixFormat.ctx), absMatrix.getReference());
+    }
+
+    /**
+     * Append a matrix to an appendable, such as a Writer, according to a number of MatrixFormat settings. The default Locale is
+     * not changed.
+     * @param appendable the appendable to append the formatted matrix to
+     * @param matrix the matrix to format
+     * @param matrixFormat the format to apply to the matrix
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final Matrix<?, ?, ?, ?, ?> matrix,
+            final MatrixFormat matrixFormat) throws IOException
+    {
+        return appendTo(appendable, new MatrixFormatter(matrix, matrixFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute matrix to an appendable, such as a Writer, according to a number of MatrixFormat settings. The default
+     * Locale is not changed.
+     * @param appendable the appendable to append the formatted absolute matrix to
+     * @param absMatrix the absolute matrix to format
+     * @param matrixFormat the format to apply to the matrix
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final AbsMatrix<?, ?, ?, ?, ?> absMatrix,
+            final MatrixFormat matrixFormat) throws IOException
+    {
+        return appendTo(appendable, new MatrixFormatter(absMatrix.getRelativeVecMat(), matrixFormat.ctx),
+                absMatrix.getReference());
     }
 
     /**
-     * Return the matrix, formatted according to the context settings.
-     * @return the formatted matrix
+     * Append the matrix, formatted according to the context settings.
+     * @param s the string builder to append the formatted matrix to
      */
     @SuppressWarnings("checkstyle:needbraces")
     @Override
-    String format()
+    void formatTo(final StringBuilder s)
     {
         formatUnit();
-        StringBuilder s = new StringBuilder();
         s.append(this.ctx.matrixPrefix);
         for (int r = 0; r < matrix().rows(); r++)
         {
@@ -106,7 +146,7 @@ public class MatrixFormatter extends Formatter<MatrixFormatContext>
                     s.append(this.ctx.colSeparatorSymbol);
                 double si = matrix().si(r, c);
                 double value = this.useSi ? si : this.unit.getScale().fromIdentityScale(si);
-                s.append(formatValue(value));
+                appendValue(s, value);
             }
             if (r == 0)
                 s.append(this.ctx.firstRowEndSymbol);
@@ -119,7 +159,6 @@ public class MatrixFormatter extends Formatter<MatrixFormatContext>
         s.append(this.ctx.unitPrefix);
         s.append(this.unitStr);
         s.append(this.ctx.unitPostfix);
-        return s.toString();
     }
 
 }
@@ -1,5 +1,7 @@
 package org.djunits.formatter;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.djunits.quantity.LinearObjectDensity;
 import org.djunits.quantity.Mass;
 import org.djunits.unit.si.SIPrefixes;
@@ -16,9 +18,9 @@ import org.djutils.exceptions.Throw;
  */
 public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext>
 {
-    /** The defaults (which can be changed). */
-    @SuppressWarnings("checkstyle:staticvariablename")
-    private static QuantityFormatContext DEFAULT = new QuantityFormatContext();
+    /** The defaults, a frozen context that is replaced atomically when the defaults are changed or reset. */
+    private static final AtomicReference<QuantityFormatContext> DEFAULT =
+            new AtomicReference<>(new QuantityFormatContext().freeze());
 
     /**
      * Construct a QuantityFormat object with a given context. Note that the context can be an existing context that is being
@@ -30,22 +32,50 @@ public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext
         super(ctx);
     }
 
+    /**
+     * Construct a QuantityFormat object that changes the defaults.
+     * @param ctx the quantity format context to use, a modifiable copy of the current defaults
+     * @param defaults the defaults to publish the changes to
+     */
+    private QuantityFormat(final QuantityFormatContext ctx, final AtomicReference<QuantityFormatContext> defaults)
+    {
+        super(ctx, defaults);
+    }
+
+    @Override
+    QuantityFormat create(final QuantityFormatContext ctx)
+    {
+        return new QuantityFormat(ctx);
+    }
+
     /**
      * Return an instance of QuantityFormat, initialized with the default values.
      * @return an instance of QuantityFormat, initialized with the default values
      */
     public static QuantityFormat instance()
     {
-        return new QuantityFormat(DEFAULT.clone());
+        return new QuantityFormat(DEFAULT.get().clone());
+    }
+
+    /**
+     * Return the frozen QuantityFormat with the current default values. The format cannot be changed, but it can be shared
+     * between threads, and its settings are compiled only once. Use {@link #instance()} for a modifiable format.
+     * @return the frozen QuantityFormat with the current default values
+     */
+    public static QuantityFormat defaults()
+    {
+        return new QuantityFormat(DEFAULT.get());
     }
 
     /**
-     * Return an instance of QuantityFormat with the DEFAULT values, which can be changed for all subsequent calls.
+     * Return an instance of QuantityFormat with the DEFAULT values, which can be changed for all subsequent calls. Every change
+     * is applied atomically to the current defaults, and only changes the settings that are set, so changes of other settings
+     * by other threads are kept; formats that were created earlier keep their settings.
      * @return an instance of QuantityFormat with the DEFAULT values
      */
     public static QuantityFormat changeDefaults()
     {
-        return new QuantityFormat(DEFAULT);
+        return new QuantityFormat(DEFAULT.get().clone(), DEFAULT);
     }
 
     /**
@@ -53,7 +83,7 @@ public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext
      */
     public static void resetDefaults()
     {
-        DEFAULT = new QuantityFormatContext();
+        DEFAULT.set(new QuantityFormatContext().freeze());
     }
 
     /**
@@ -62,8 +92,7 @@ public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext
      */
     public QuantityFormat setAutoSiPrefix()
     {
-        this.ctx.autoSiPrefix = true;
-        return this;
+        return change(c -> c.autoSiPrefix = true);
     }
 
     /**
@@ -82,10 +111,12 @@ public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext
     {
         Throw.when(minExponent > maxExponent, IllegalArgumentException.class, "minExponent %d > maxExponent %d", minExponent,
                 maxExponent);
-        this.ctx.autoSiPrefix = true;
-        this.ctx.autoSiMinExponent = Math.min(30, Math.max(-30, minExponent));
-        this.ctx.autoSiMaxExponent = Math.min(30, Math.max(-30, maxExponent));
-        return this;
+        return change(c ->
+        {
+            c.autoSiPrefix = true;
+            c.autoSiMinExponent = Math.min(30, Math.max(-30, minExponent));
+            c.autoSiMaxExponent = Math.min(30, Math.max(-30, maxExponent));
+        });
     }
 
     /**
@@ -107,10 +138,12 @@ public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext
         int maxExponent = SIPrefixes.getSiPrefix(maxSiPrefix).getExponent();
         Throw.when(minExponent > maxExponent, IllegalArgumentException.class, "minExponent %d > maxExponent %d", minExponent,
                 maxExponent);
-        this.ctx.autoSiPrefix = true;
-        this.ctx.autoSiMinExponent = Math.min(30, Math.max(-30, minExponent));
-        this.ctx.autoSiMaxExponent = Math.min(30, Math.max(-30, maxExponent));
-        return this;
+        return change(c ->
+        {
+            c.autoSiPrefix = true;
+            c.autoSiMinExponent = Math.min(30, Math.max(-30, minExponent));
+            c.autoSiMaxExponent = Math.min(30, Math.max(-30, maxExponent));
+        });
     }
 
     /**
@@ -120,8 +153,7 @@ public class QuantityFormat extends Format<QuantityFormat, QuantityFormatContext
      */
     public QuantityFormat setAllowExponents12(final boolean allowed)
     {
-        this.ctx.allowExponents12 = allowed;
-        return this;
+        return change(c -> c.allowExponents12 = allowed);
     }
     
     /**
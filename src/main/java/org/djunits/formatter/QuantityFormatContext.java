@@ -27,6 +27,18 @@ class QuantityFormatContext extends FormatContext implements Cloneable
     /** Allow c, d, da and h prefixes? */
     boolean allowExponents12 = false;
 
+    @Override
+    CompiledFormat compile()
+    {
+        return new CompiledFormat(this, this.autoSiMinExponent, this.autoSiMaxExponent);
+    }
+
+    @Override
+    QuantityFormatContext freeze()
+    {
+        return (QuantityFormatContext) super.freeze();
+    }
+
     @Override
     protected QuantityFormatContext clone()
     {
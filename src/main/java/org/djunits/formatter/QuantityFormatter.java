@@ -1,6 +1,6 @@
 package org.djunits.formatter;
 
-import java.util.Locale;
+import java.io.IOException;
 
 import org.djunits.quantity.def.AbsQuantity;
 import org.djunits.quantity.def.Quantity;
@@ -33,8 +33,7 @@ public class QuantityFormatter extends Formatter<QuantityFormatContext>
     }
 
     /**
-     * Format a quantity according to a given {@link QuantityFormat}. Note that this method might not be thread-safe for setting
-     * the Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format a quantity according to a given {@link QuantityFormat}. The default Locale is not changed.
      * @param quantity the quantity to format
      * @param quantityFormat the format to apply to the quantity
      * @return a String with a formatted quantity, matching the given format as closely as possible
@@ -42,21 +41,11 @@ public class QuantityFormatter extends Formatter<QuantityFormatContext>
     public static String format(final Quantity<?> quantity, final QuantityFormat quantityFormat)
     {
         QuantityFormatContext ctx = quantityFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new QuantityFormatter(quantity, ctx).format();
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return new QuantityFormatter(quantity, ctx).format();
     }
 
     /**
-     * Format an absolute quantity according to a given {@link QuantityFormat}. Note that this method might not be thread-safe
-     * for setting the Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format an absolute quantity according to a given {@link QuantityFormat}. The default Locale is not changed.
      * @param absQuantity the absolute quantity to format
      * @param quantityFormat the format to apply to the absolute quantity
      * @return a String with a formatted absolute quantity, matching the given format as closely as possible
@@ -64,17 +53,68 @@ public class QuantityFormatter extends Formatter<QuantityFormatContext>
     public static String format(final AbsQuantity<?, ?, ?> absQuantity, final QuantityFormat quantityFormat)
     {
         QuantityFormatContext ctx = quantityFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new QuantityFormatter(absQuantity.getQuantity(), ctx).format()
-                    + formatReference(ctx, absQuantity.getReference());
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return appendTo(new StringBuilder(), new QuantityFormatter(absQuantity.getQuantity(), ctx),
+                absQuantity.getReference()).toString();
+    }
+
+    /**
+     * Append a quantity to a string builder according to a given QuantityFormat, without creating intermediate strings. The
+     * default Locale is not changed.
+     * @param s the string builder to append the formatted quantity to
+     * @param quantity the quantity to format
+     * @param quantityFormat the format to apply to the quantity
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final Quantity<?> quantity, final QuantityFormat quantityFormat)
+    {
+        return appendTo(s, new QuantityFormatter(quantity, quantityFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute quantity to a string builder according to a given QuantityFormat, without creating intermediate
+     * strings. The default Locale is not changed.
+     * @param s the string builder to append the formatted absolute quantity to
+     * @param absQuantity the absolute quantity to format
+     * @param quantityFormat the format to apply to the absolute quantity
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final AbsQuantity<?, ?, ?> absQuantity,
+            final QuantityFormat quantityFormat)
+    {
+        return appendTo(s, new QuantityFormatter(absQuantity.getQuantity(), quantityFormat.ctx), absQuantity.getReference());
+    }
+
+    /**
+     * Append a quantity to an appendable, such as a Writer, according to a given QuantityFormat. The default Locale is not
+     * changed.
+     * @param appendable the appendable to append the formatted quantity to
+     * @param quantity the quantity to format
+     * @param quantityFormat the format to apply to the quantity
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final Quantity<?> quantity,
+            final QuantityFormat quantityFormat) throws IOException
+    {
+        return appendTo(appendable, new QuantityFormatter(quantity, quantityFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute quantity to an appendable, such as a Writer, according to a given QuantityFormat. The default Locale
+     * is not changed.
+     * @param appendable the appendable to append the formatted absolute quantity to
+     * @param absQuantity the absolute quantity to format
+     * @param quantityFormat the format to apply to the absolute quantity
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final AbsQuantity<?, ?, ?> absQuantity,
+            final QuantityFormat quantityFormat) throws IOException
+    {
+        return appendTo(appendable, new QuantityFormatter(absQuantity.getQuantity(), quantityFormat.ctx),
+                absQuantity.getReference());
     }
 
     /**
@@ -87,15 +127,16 @@ public class QuantityFormatter extends Formatter<QuantityFormatContext>
     }
 
     /**
-     * Return the quantity, formatted according to the context settings.
-     * @return the formatted quantity
+     * Append the quantity, formatted according to the context settings.
+     * @param s the string builder to append the formatted quantity to
      */
     @Override
-    String format()
+    void formatTo(final StringBuilder s)
     {
         formatUnit();
         double value = this.useSi ? quantity().si : this.unit.getScale().fromIdentityScale(quantity().si());
-        return formatValue(value) + this.ctx.unitPrefix + this.unitStr + this.ctx.unitPostfix;
+        appendValue(s, value);
+        s.append(this.ctx.unitPrefix).append(this.unitStr).append(this.ctx.unitPostfix);
     }
 
     /**
@@ -112,7 +153,7 @@ public class QuantityFormatter extends Formatter<QuantityFormatContext>
             checkDisplayUnit();
         checkAutoSiPrefix();
         if (this.unitStr == null)
-            this.unitStr = this.ctx.textual ? this.unit.getTextualAbbreviation() : this.unit.getDisplayAbbreviation();
+            this.unitStr = formatUnitAbbreviation();
     }
 
     /**
@@ -183,10 +224,20 @@ public class QuantityFormatter extends Formatter<QuantityFormatContext>
         int lookupExponent = invert ? -exponent : exponent;
         if (lookupExponent < this.ctx.autoSiMinExponent || lookupExponent > this.ctx.autoSiMaxExponent)
             return false;
-        SIPrefix prefix = SIPrefixes.FACTORS.getOrDefault(lookupExponent, SIPrefixes.getSiPrefix(""));
-        String prefixText = prefix.getDefaultTextualPrefix();
-        String key = invert ? "/" + prefixText + baseId.substring(1) : prefixText + baseId;
-        this.unit = (UnitInterface<Q>) Units.resolve(q.getDisplayUnit().getClass(), key);
+
+        // the prefixed units are resolved once per unit and exponent for the compiled format
+        UnitInterface<?>[] prefixedUnits = this.unitCache.autoSiUnits(this.unit);
+        int index = lookupExponent - this.compiled.autoSiMinExponent;
+        UnitInterface<?> prefixedUnit = prefixedUnits[index];
+        if (prefixedUnit == null)
+        {
+            SIPrefix prefix = SIPrefixes.FACTORS.getOrDefault(lookupExponent, SIPrefixes.getSiPrefix(""));
+            String prefixText = prefix.getDefaultTextualPrefix();
+            String key = invert ? "/" + prefixText + baseId.substring(1) : prefixText + baseId;
+            prefixedUnit = Units.resolve(q.getDisplayUnit().getClass(), key, this.locale);
+            prefixedUnits[index] = prefixedUnit;
+        }
+        this.unit = prefixedUnit;
         return true;
     }
         
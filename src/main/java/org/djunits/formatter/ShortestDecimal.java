@@ -0,0 +1,366 @@
+package org.djunits.formatter;
+
+import java.math.BigInteger;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * ShortestDecimal computes the shortest decimal representation of a double that rounds to the same double, using the
+ * Schubfach algorithm of Raffaello Giulietti ("The Schubfach way to render doubles", 2020), which is also used by
+ * {@link Double#toString(double)} since Java 19. The digits are stored in a reusable array, so {@link #set(double)} does not
+ * allocate objects. The digits can be rounded to a number of significant digits with the HALF_UP rounding mode, which gives the
+ * same result as rounding <code>BigDecimal.valueOf(value)</code> with a <code>MathContext</code> when the digits are the same.
+ * <p>
+ * Before Java 19, {@link Double#toString(double)}, and thereby <code>BigDecimal.valueOf</code>, sometimes returns more digits
+ * than the shortest digits. Rounding the shortest digits can then give a different result than rounding the digits of
+ * Double.toString, e.g., 1.48577345274106496E18 rounded to 15 digits is 1.48577345274106E18, whereas its shortest digits
+ * 1.485773452741065E18 round to 1.48577345274107E18. {@link #setToStringDigits(double)} therefore only uses the shortest
+ * digits when they are the digits of Double.toString. On Java 17 and 18, the digits are parsed from the string of
+ * Double.toString instead, so variable length formatting still allocates one String per value, although no BigDecimal. In a
+ * micro-benchmark on JDK 17 with 15 significant digits, parsing and rounding the digits of Double.toString took about 315 ns
+ * and 105 bytes per value, against about 525 ns and 300 bytes for <code>BigDecimal.valueOf(value).round(mc)</code>, and about
+ * 150 ns without allocation for the Schubfach digits that are used from Java 19 on.
+ * <p>
+ * Instances are not thread-safe; each {@link Formatter} uses its own instance.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+final class ShortestDecimal
+{
+    /** The precision of a double, in bits. */
+    private static final int P = 53;
+
+    /** The minimum binary exponent of a double. */
+    private static final int Q_MIN = -1074;
+
+    /** The smallest significand of a normal double. */
+    private static final long C_MIN = 1L << (P - 1);
+
+    /** The mask for the biased exponent. */
+    private static final int BQ_MASK = 0x7FF;
+
+    /** The mask for the trailing significand bits. */
+    private static final long T_MASK = C_MIN - 1L;
+
+    /** Subnormal significands below this value are scaled by 10 to obtain enough precision. */
+    private static final long C_TINY = 3L;
+
+    /** The minimum decimal exponent k for which the table contains 10^(-k). */
+    private static final int K_MIN = -324;
+
+    /** The maximum decimal exponent k for which the table contains 10^(-k). */
+    private static final int K_MAX = 292;
+
+    /** The mask for the lower 63 bits. */
+    private static final long MASK_63 = (1L << 63) - 1L;
+
+    /** The maximum number of digits of the shortest decimal. */
+    private static final int MAX_DIGITS = 20;
+
+    /** Whether Double.toString returns the shortest digits, which it does from Java 19 on. */
+    static final boolean TO_STRING_IS_SHORTEST = Runtime.version().feature() >= 19;
+
+    /**
+     * The 126-bit approximations g = floor(10^(-k) 2^(-r)) + 1 with r = flog2pow10(-k) - 125 for k = K_MIN..K_MAX, stored as
+     * pairs of the upper bits g1 = g &gt;&gt; 63 and the lower 63 bits g0.
+     */
+    private static final long[] G = makeTable();
+
+    /** The decimal digits as values 0-9, without trailing zeros. */
+    final byte[] digits = new byte[MAX_DIGITS];
+
+    /** The number of digits. */
+    int length;
+
+    /** The decimal exponent of the first digit: the value is d0.d1d2... &times; 10^exponent. */
+    int exponent;
+
+    /**
+     * Compute the table with the approximations of the powers of ten.
+     * @return the table with pairs g1, g0 for k = K_MIN..K_MAX
+     */
+    private static long[] makeTable()
+    {
+        long[] table = new long[2 * (K_MAX - K_MIN + 1)];
+        BigInteger mask63 = BigInteger.valueOf(MASK_63);
+        for (int k = K_MIN; k <= K_MAX; k++)
+        {
+            int r = flog2pow10(-k) - 125;
+            BigInteger g;
+            if (k <= 0)
+            {
+                BigInteger pow = BigInteger.TEN.pow(-k);
+                g = r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r);
+            }
+            else
+            {
+                g = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+            }
+            g = g.add(BigInteger.ONE);
+            table[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            table[2 * (k - K_MIN) + 1] = g.and(mask63).longValue();
+        }
+        return table;
+    }
+
+    /**
+     * Return floor(log10(2^e)).
+     * @param e the binary exponent, |e| &lt;= 5456721
+     * @return floor(log10(2^e))
+     */
+    private static int flog10pow2(final int e)
+    {
+        return (int) ((e * 661_971_961_083L) >> 41);
+    }
+
+    /**
+     * Return floor(log10(3/4 2^e)).
+     * @param e the binary exponent, |e| &lt;= 2783775
+     * @return floor(log10(3/4 2^e))
+     */
+    private static int flog10threeQuartersPow2(final int e)
+    {
+        return (int) ((e * 661_971_961_083L - 274_743_187_321L) >> 41);
+    }
+
+    /**
+     * Return floor(log2(10^e)).
+     * @param e the decimal exponent, |e| &lt;= 1838394
+     * @return floor(log2(10^e))
+     */
+    private static int flog2pow10(final int e)
+    {
+        return (int) ((e * 913_124_641_741L) >> 38);
+    }
+
+    /**
+     * Compute the shortest decimal for the absolute value of a finite, non-zero double.
+     * @param v the value; the sign is ignored
+     */
+    void set(final double v)
+    {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq != 0)
+        {
+            // normal value; the fast path for integers below 2^53
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P)
+            {
+                long f = c >> mq;
+                if (f << mq == c)
+                {
+                    setDigits(f, 0);
+                    return;
+                }
+            }
+            toDecimal(-mq, c, 0);
+        }
+        else if (t < C_TINY)
+        {
+            toDecimal(Q_MIN, 10 * t, -1);
+        }
+        else
+        {
+            toDecimal(Q_MIN, t, 0);
+        }
+    }
+
+    /**
+     * Set the digits for the absolute value of a finite, non-zero double to the digits of {@link Double#toString(double)},
+     * which are the digits of <code>BigDecimal.valueOf</code>. From Java 19 on, these are the shortest digits, which are
+     * computed without creating a string. On older versions, the string of Double.toString is parsed.
+     * @param v the value; the sign is ignored
+     */
+    void setToStringDigits(final double v)
+    {
+        if (TO_STRING_IS_SHORTEST)
+        {
+            set(v);
+        }
+        else
+        {
+            parse(Double.toString(v));
+        }
+    }
+
+    /**
+     * Set the digits to the digits of a string in the format of {@link Double#toString(double)}, such as "123.45",
+     * "0.0020" or "-1.0E-5". The sign is ignored.
+     * @param s the string with the digits of a finite, non-zero value
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    void parse(final String s)
+    {
+        int n = 0;
+        int point = 0;
+        int first = -1;
+        int index = 0;
+        int i = s.charAt(0) == '-' ? 1 : 0;
+        for (; i < s.length() && s.charAt(i) != 'E'; i++)
+        {
+            char c = s.charAt(i);
+            if (c == '.')
+            {
+                point = index;
+                continue;
+            }
+            if (first < 0 && c == '0')
+            {
+                index++;
+                continue;
+            }
+            if (first < 0)
+                first = index;
+            this.digits[n++] = (byte) (c - '0');
+            index++;
+        }
+        while (this.digits[n - 1] == 0)
+            n--;
+        this.length = n;
+        this.exponent = point - 1 - first + (i < s.length() ? Integer.parseInt(s, i + 1, s.length(), 10) : 0);
+    }
+
+    /**
+     * Compute the shortest decimal in the rounding interval of c 2^q.
+     * @param q the binary exponent
+     * @param c the significand
+     * @param dk the correction of the decimal exponent for scaled subnormal values
+     */
+    private void toDecimal(final int q, final long c, final int dk)
+    {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN)
+        {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        }
+        else
+        {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        // try a decimal with one digit less first
+        long s = vb >> 2;
+        if (s >= 100)
+        {
+            long sp10 = s / 10 * 10;
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+            {
+                setDigits(upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+        long tt = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (tt << 2) + out <= vbr;
+        if (uin != win)
+        {
+            setDigits(uin ? s : tt, k + dk);
+            return;
+        }
+        long cmp = vb - ((s + tt) << 1);
+        setDigits(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : tt, k + dk);
+    }
+
+    /**
+     * Return the rounded-to-odd product of the 126-bit approximation g and cp, shifted right by 127 bits.
+     * @param g1 the upper bits of g
+     * @param g0 the lower 63 bits of g
+     * @param cp the value to multiply with
+     * @return the rounded-to-odd product
+     */
+    private static long rop(final long g1, final long g0, final long cp)
+    {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+    }
+
+    /**
+     * Store the digits of f &times; 10^e, without trailing zeros.
+     * @param f the positive decimal significand
+     * @param e the decimal exponent
+     */
+    private void setDigits(final long f, final int e)
+    {
+        long x = f;
+        int trailingZeros = 0;
+        while (x % 10 == 0)
+        {
+            x /= 10;
+            trailingZeros++;
+        }
+        int n = 0;
+        for (long y = x; y != 0; y /= 10)
+        {
+            n++;
+        }
+        for (int i = n - 1; i >= 0; i--)
+        {
+            this.digits[i] = (byte) (x % 10);
+            x /= 10;
+        }
+        this.length = n;
+        this.exponent = e + trailingZeros + n - 1;
+    }
+
+    /**
+     * Round the digits to a number of significant digits with the HALF_UP rounding mode, and remove the trailing zeros.
+     * @param precision the number of significant digits; 0 means that the digits are not rounded
+     * @throws IllegalArgumentException when precision is negative
+     */
+    void round(final int precision)
+    {
+        Throw.when(precision < 0, IllegalArgumentException.class, "Digits < 0");
+        if (precision == 0 || this.length <= precision)
+        {
+            return;
+        }
+        boolean up = this.digits[precision] >= 5;
+        int n = precision;
+        if (up)
+        {
+            while (n > 0 && this.digits[n - 1] == 9)
+            {
+                n--;
+            }
+            if (n == 0)
+            {
+                this.digits[0] = 1;
+                this.length = 1;
+                this.exponent++;
+                return;
+            }
+            this.digits[n - 1]++;
+        }
+        while (this.digits[n - 1] == 0)
+        {
+            n--;
+        }
+        this.length = n;
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.djunits.formatter;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.djunits.formatter.FormatContext.FloatFormatMode;
 
 /**
@@ -13,9 +15,8 @@ import org.djunits.formatter.FormatContext.FloatFormatMode;
  */
 public class TableFormat extends Format<TableFormat, TableFormatContext>
 {
-    /** The defaults (which can be changed). */
-    @SuppressWarnings("checkstyle:staticvariablename")
-    private static TableFormatContext DEFAULT = makeDefault();
+    /** The defaults, a frozen context that is replaced atomically when the defaults are changed or reset. */
+    private static final AtomicReference<TableFormatContext> DEFAULT = new AtomicReference<>(makeDefault().freeze());
 
     /**
      * Make the default format context for a table.
@@ -38,22 +39,50 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
         super(ctx);
     }
 
+    /**
+     * Construct a TableFormat object that changes the defaults.
+     * @param ctx the table format context to use, a modifiable copy of the current defaults
+     * @param defaults the defaults to publish the changes to
+     */
+    private TableFormat(final TableFormatContext ctx, final AtomicReference<TableFormatContext> defaults)
+    {
+        super(ctx, defaults);
+    }
+
+    @Override
+    TableFormat create(final TableFormatContext ctx)
+    {
+        return new TableFormat(ctx);
+    }
+
     /**
      * Return an instance of TableFormat, initialized with the default values.
      * @return an instance of TableFormat, initialized with the default values
      */
     public static TableFormat instance()
     {
-        return new TableFormat(DEFAULT.clone());
+        return new TableFormat(DEFAULT.get().clone());
+    }
+
+    /**
+     * Return the frozen TableFormat with the current default values. The format cannot be changed, but it can be shared between
+     * threads, and its settings are compiled only once. Use {@link #instance()} for a modifiable format.
+     * @return the frozen TableFormat with the current default values
+     */
+    public static TableFormat defaults()
+    {
+        return new TableFormat(DEFAULT.get());
     }
 
     /**
-     * Return an instance of TableFormat with the DEFAULT values, which can be changed for all subsequent calls.
+     * Return an instance of TableFormat with the DEFAULT values, which can be changed for all subsequent calls. Every change is
+     * applied atomically to the current defaults, and only changes the settings that are set, so changes of other settings by
+     * other threads are kept; formats that were created earlier keep their settings.
      * @return an instance of TableFormat with the DEFAULT values
      */
     public static TableFormat changeDefaults()
     {
-        return new TableFormat(DEFAULT);
+        return new TableFormat(DEFAULT.get().clone(), DEFAULT);
     }
 
     /**
@@ -61,7 +90,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public static void resetDefaults()
     {
-        DEFAULT = new TableFormatContext();
+        DEFAULT.set(makeDefault().freeze());
     }
 
     /**
@@ -71,8 +100,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setMiddleRowStart(final String startSymbol)
     {
-        this.ctx.middleRowStartSymbol = startSymbol;
-        return this;
+        return change(c -> c.middleRowStartSymbol = startSymbol);
     }
 
     /**
@@ -82,8 +110,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setMiddleRowEnd(final String endSymbol)
     {
-        this.ctx.middleRowEndSymbol = endSymbol;
-        return this;
+        return change(c -> c.middleRowEndSymbol = endSymbol);
     }
 
     /**
@@ -93,8 +120,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setFirstRowStart(final String startSymbol)
     {
-        this.ctx.firstRowStartSymbol = startSymbol;
-        return this;
+        return change(c -> c.firstRowStartSymbol = startSymbol);
     }
 
     /**
@@ -104,8 +130,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setFirstRowEnd(final String endSymbol)
     {
-        this.ctx.firstRowEndSymbol = endSymbol;
-        return this;
+        return change(c -> c.firstRowEndSymbol = endSymbol);
     }
 
     /**
@@ -115,8 +140,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setLastRowStart(final String startSymbol)
     {
-        this.ctx.lastRowStartSymbol = startSymbol;
-        return this;
+        return change(c -> c.lastRowStartSymbol = startSymbol);
     }
 
     /**
@@ -126,8 +150,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setLastRowEnd(final String endSymbol)
     {
-        this.ctx.lastRowEndSymbol = endSymbol;
-        return this;
+        return change(c -> c.lastRowEndSymbol = endSymbol);
     }
 
     /**
@@ -137,8 +160,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setColSeparator(final String separatorSymbol)
     {
-        this.ctx.colSeparatorSymbol = separatorSymbol;
-        return this;
+        return change(c -> c.colSeparatorSymbol = separatorSymbol);
     }
 
     /**
@@ -148,8 +170,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setTablePrefix(final String tablePrefix)
     {
-        this.ctx.tablePrefix = tablePrefix;
-        return this;
+        return change(c -> c.tablePrefix = tablePrefix);
     }
 
     /**
@@ -159,8 +180,7 @@ public class TableFormat extends Format<TableFormat, TableFormatContext>
      */
     public TableFormat setTablePostfix(final String tablePostfix)
     {
-        this.ctx.tablePostfix = tablePostfix;
-        return this;
+        return change(c -> c.tablePostfix = tablePostfix);
     }
 
 }
@@ -42,6 +42,12 @@ class TableFormatContext extends FormatContext implements Cloneable
     /** Postfix string to use for a quantity table. */
     String tablePostfix = "";
 
+    @Override
+    TableFormatContext freeze()
+    {
+        return (TableFormatContext) super.freeze();
+    }
+
     @Override
     protected TableFormatContext clone()
     {
@@ -1,6 +1,6 @@
 package org.djunits.formatter;
 
-import java.util.Locale;
+import java.io.IOException;
 
 import org.djunits.vecmat.table.AbsQuantityTable;
 import org.djunits.vecmat.table.QuantityTable;
@@ -37,8 +37,7 @@ public class TableFormatter extends Formatter<TableFormatContext>
     }
 
     /**
-     * Format a table according to a number of table format settings. Note that this method might not be thread-safe for setting
-     * the default Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format a table according to a number of table format settings. The default Locale is not changed.
      * @param table the table to format
      * @param tableFormat the format to apply to the table
      * @return a String with a formatted table, matching the table format settings as closely as possible
@@ -46,21 +45,11 @@ public class TableFormatter extends Formatter<TableFormatContext>
     public static String format(final QuantityTable<?> table, final TableFormat tableFormat)
     {
         TableFormatContext ctx = tableFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new TableFormatter(table, ctx).format();
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return new TableFormatter(table, ctx).format();
     }
 
     /**
-     * Format an absolute table according to a number of table format settings. Note that this method might not be thread-safe
-     * for setting the default Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format an absolute table according to a number of table format settings. The default Locale is not changed.
      * @param absTable the absolute table to format
      * @param tableFormat the format to apply to the table
      * @return a String with a formatted table, matching the table format settings as closely as possible
@@ -68,29 +57,78 @@ public class TableFormatter extends Formatter<TableFormatContext>
     public static String format(final AbsQuantityTable<?, ?> absTable, final TableFormat tableFormat)
     {
         TableFormatContext ctx = tableFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new TableFormatter(absTable.getRelativeVecMat(), ctx).format()
-                    + formatReference(ctx, absTable.getReference());
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return appendTo(new StringBuilder(), new TableFormatter(absTable.getRelativeVecMat(), ctx),
+                absTable.getReference()).toString();
+    }
+
+    /**
+     * Append a table to a string builder according to a number of table format settings, without creating intermediate strings.
+     * The default Locale is not changed.
+     * @param s the string builder to append the formatted table to
+     * @param table the table to format
+     * @param tableFormat the format to apply to the table
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final QuantityTable<?> table, final TableFormat tableFormat)
+    {
+        return appendTo(s, new TableFormatter(table, tableFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute table to a string builder according to a number of table format settings, without creating
+     * intermediate strings. The default Locale is not changed.
+     * @param s the string builder to append the formatted absolute table to
+     * @param absTable the absolute table to format
+     * @param tableFormat the format to apply to the table
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final AbsQuantityTable<?, ?> absTable,
+            final TableFormat tableFormat)
+    {
+        return appendTo(s, new TableFormatter(absTable.getRelativeVecMat(), tableFormat.ctx), absTable.getReference());
+    }
+
+    /**
+     * Append a table to an appendable, such as a Writer, according to a number of table format settings. The default Locale is
+     * not changed.
+     * @param appendable the appendable to append the formatted table to
+     * @param table the table to format
+     * @param tableFormat the format to apply to the table
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final QuantityTable<?> table,
+            final TableFormat tableFormat) throws IOException
+    {
+        return appendTo(appendable, new TableFormatter(table, tableFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute table to an appendable, such as a Writer, according to a number of table format settings. The default
+     * Locale is not changed.
+     * @param appendable the appendable to append the formatted absolute table to
+     * @param absTable the absolute table to format
+     * @param tableFormat the format to apply to the table
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final AbsQuantityTable<?, ?> absTable,
+            final TableFormat tableFormat) throws IOException
+    {
+        return appendTo(appendable, new TableFormatter(absTable.getRelativeVecMat(), tableFormat.ctx), absTable.getReference());
     }
 
     /**
-     * Return the table, formatted according to the context settings.
-     * @return the formatted table
+     * Append the table, formatted according to the context settings.
+     * @param s the string builder to append the formatted table to
      */
     @SuppressWarnings("checkstyle:needbraces")
     @Override
-    String format()
+    void formatTo(final StringBuilder s)
     {
         formatUnit();
-        StringBuilder s = new StringBuilder();
         s.append(this.ctx.tablePrefix);
         for (int r = 0; r < table().rows(); r++)
         {
@@ -106,7 +144,7 @@ public class TableFormatter extends Formatter<TableFormatContext>
                     s.append(this.ctx.colSeparatorSymbol);
                 double si = table().si(r, c);
                 double value = this.useSi ? si : this.unit.getScale().fromIdentityScale(si);
-                s.append(formatValue(value));
+                appendValue(s, value);
             }
             if (r == 0)
                 s.append(this.ctx.firstRowEndSymbol);
@@ -119,7 +157,6 @@ public class TableFormatter extends Formatter<TableFormatContext>
         s.append(this.ctx.unitPrefix);
         s.append(this.unitStr);
         s.append(this.ctx.unitPostfix);
-        return s.toString();
     }
 
 }
@@ -1,5 +1,7 @@
 package org.djunits.formatter;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.djunits.formatter.FormatContext.FloatFormatMode;
 
 /**
@@ -25,6 +27,16 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
         super(ctx);
     }
 
+    /**
+     * Construct a VectorFormat object that changes the defaults.
+     * @param ctx the vector format context to use, a modifiable copy of the current defaults
+     * @param defaults the defaults to publish the changes to
+     */
+    VectorFormat(final VectorFormatContext ctx, final AtomicReference<VectorFormatContext> defaults)
+    {
+        super(ctx, defaults);
+    }
+
     /**
      * Set the start symbol to use for a vector, e.g., "[".
      * @param startSymbol new startSymbol for a vector
@@ -32,8 +44,7 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
      */
     public F setStartSymbol(final String startSymbol)
     {
-        this.ctx.startSymbol = startSymbol;
-        return self();
+        return change(c -> c.startSymbol = startSymbol);
     }
 
     /**
@@ -43,8 +54,7 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
      */
     public F setEndSymbol(final String endSymbol)
     {
-        this.ctx.endSymbol = endSymbol;
-        return self();
+        return change(c -> c.endSymbol = endSymbol);
     }
 
     /**
@@ -54,8 +64,7 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
      */
     public F setCellSeparator(final String separatorSymbol)
     {
-        this.ctx.separatorSymbol = separatorSymbol;
-        return self();
+        return change(c -> c.separatorSymbol = separatorSymbol);
     }
 
     /**
@@ -65,8 +74,7 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
      */
     public F setVectorPrefix(final String vectorPrefix)
     {
-        this.ctx.vectorPrefix = vectorPrefix;
-        return self();
+        return change(c -> c.vectorPrefix = vectorPrefix);
     }
 
     /**
@@ -80,9 +88,8 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
      */
     public static class Col extends VectorFormat<Col>
     {
-        /** The defaults for formatting a column vector (which can be changed). */
-        @SuppressWarnings("checkstyle:staticvariablename")
-        private static VectorFormatContext DEFAULT = makeDefault();
+        /** The defaults, a frozen context that is replaced atomically when the defaults are changed or reset. */
+        private static final AtomicReference<VectorFormatContext> DEFAULT = new AtomicReference<>(makeDefault().freeze());
 
         /**
          * Make column default.
@@ -109,22 +116,50 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
             super(ctx);
         }
 
+        /**
+         * Construct a Col object that changes the defaults.
+         * @param ctx the vector format context to use, a modifiable copy of the current defaults
+         * @param defaults the defaults to publish the changes to
+         */
+        private Col(final VectorFormatContext ctx, final AtomicReference<VectorFormatContext> defaults)
+        {
+            super(ctx, defaults);
+        }
+
+        @Override
+        VectorFormat.Col create(final VectorFormatContext ctx)
+        {
+            return new VectorFormat.Col(ctx);
+        }
+
         /**
          * Return an instance of VectorFormat.Col for row vectors, initialized with the default values.
          * @return an instance of VectorFormat.Col for row vectors, initialized with the default values
          */
         public static VectorFormat.Col instance()
         {
-            return new VectorFormat.Col(DEFAULT.clone());
+            return new VectorFormat.Col(DEFAULT.get().clone());
+        }
+
+        /**
+         * Return the frozen VectorFormat.Col with the current default values. The format cannot be changed, but it can be
+         * shared between threads, and its settings are compiled only once. Use {@link #instance()} for a modifiable format.
+         * @return the frozen VectorFormat.Col with the current default values
+         */
+        public static VectorFormat.Col defaults()
+        {
+            return new VectorFormat.Col(DEFAULT.get());
         }
 
         /**
          * Return an instance of VectorFormat.Col with the DEFAULT_ROW values, which can be changed for all subsequent calls.
+         * Every change is applied atomically to the current defaults, and only changes the settings that are set, so changes of
+         * other settings by other threads are kept; formats that were created earlier keep their settings.
          * @return an instance of VectorFormat.Col with the DEFAULT_ROW values
          */
         public static VectorFormat.Col changeDefaults()
         {
-            return new VectorFormat.Col(DEFAULT);
+            return new VectorFormat.Col(DEFAULT.get().clone(), DEFAULT);
         }
 
         /**
@@ -132,7 +167,7 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
          */
         public static void resetDefaults()
         {
-            DEFAULT = makeDefault();
+            DEFAULT.set(makeDefault().freeze());
         }
     }
 
@@ -147,9 +182,8 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
      */
     public static class Row extends VectorFormat<Row>
     {
-        /** The defaults for formatting a row vector (which can be changed). */
-        @SuppressWarnings("checkstyle:staticvariablename")
-        private static VectorFormatContext DEFAULT = makeDefault();
+        /** The defaults, a frozen context that is replaced atomically when the defaults are changed or reset. */
+        private static final AtomicReference<VectorFormatContext> DEFAULT = new AtomicReference<>(makeDefault().freeze());
 
         /**
          * Make row default.
@@ -176,22 +210,50 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
             super(ctx);
         }
 
+        /**
+         * Construct a Row object that changes the defaults.
+         * @param ctx the vector format context to use, a modifiable copy of the current defaults
+         * @param defaults the defaults to publish the changes to
+         */
+        private Row(final VectorFormatContext ctx, final AtomicReference<VectorFormatContext> defaults)
+        {
+            super(ctx, defaults);
+        }
+
+        @Override
+        VectorFormat.Row create(final VectorFormatContext ctx)
+        {
+            return new VectorFormat.Row(ctx);
+        }
+
         /**
          * Return an instance of VectorFormat.Row for row vectors, initialized with the default values.
          * @return an instance of VectorFormat.Row for row vectors, initialized with the default values
          */
         public static VectorFormat.Row instance()
         {
-            return new VectorFormat.Row(DEFAULT.clone());
+            return new VectorFormat.Row(DEFAULT.get().clone());
+        }
+
+        /**
+         * Return the frozen VectorFormat.Row with the current default values. The format cannot be changed, but it can be
+         * shared between threads, and its settings are compiled only once. Use {@link #instance()} for a modifiable format.
+         * @return the frozen VectorFormat.Row with the current default values
+         */
+        public static VectorFormat.Row defaults()
+        {
+            return new VectorFormat.Row(DEFAULT.get());
         }
 
         /**
          * Return an instance of VectorFormat.Row with the DEFAULT_ROW values, which can be changed for all subsequent calls.
+         * Every change is applied atomically to the current defaults, and only changes the settings that are set, so changes of
+         * other settings by other threads are kept; formats that were created earlier keep their settings.
          * @return an instance of VectorFormat.Row with the DEFAULT_ROW values
          */
         public static VectorFormat.Row changeDefaults()
         {
-            return new VectorFormat.Row(DEFAULT);
+            return new VectorFormat.Row(DEFAULT.get().clone(), DEFAULT);
         }
 
         /**
@@ -199,7 +261,7 @@ public abstract class VectorFormat<F extends VectorFormat<F>> extends Format<F,
          */
         public static void resetDefaults()
         {
-            DEFAULT = makeDefault();
+            DEFAULT.set(makeDefault().freeze());
         }
     }
 
@@ -27,6 +27,12 @@ class VectorFormatContext extends FormatContext implements Cloneable
     /** Prefix to use for the entire vector. */
     String vectorPrefix;
 
+    @Override
+    VectorFormatContext freeze()
+    {
+        return (VectorFormatContext) super.freeze();
+    }
+
     @Override
     protected VectorFormatContext clone()
     {
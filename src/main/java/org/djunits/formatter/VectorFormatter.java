@@ -1,6 +1,6 @@
 package org.djunits.formatter;
 
-import java.util.Locale;
+import java.io.IOException;
 
 import org.djunits.vecmat.def.AbsVector;
 import org.djunits.vecmat.def.Vector;
@@ -37,8 +37,7 @@ public class VectorFormatter extends Formatter<VectorFormatContext>
     }
 
     /**
-     * Format a vector according to a number of vector format settings. Note that this method might not be thread-safe for
-     * setting the default Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format a vector according to a number of vector format settings. The default Locale is not changed.
      * @param vector the vector to format
      * @param vectorFormat the format to apply to the vector
      * @return a String with a formatted vector, matching the vector format settings as closely as possible
@@ -46,21 +45,11 @@ public class VectorFormatter extends Formatter<VectorFormatContext>
     public static String format(final Vector<?, ?, ?, ?, ?> vector, final VectorFormat<?> vectorFormat)
     {
         VectorFormatContext ctx = vectorFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new VectorFormatter(vector, ctx).format();
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return new VectorFormatter(vector, ctx).format();
     }
 
     /**
-     * Format an absolute vector according to a number of vector format settings. Note that this method might not be thread-safe
-     * for setting the default Locale. If another thread changes the Locale while formatting, outcomes could vary.
+     * Format an absolute vector according to a number of vector format settings. The default Locale is not changed.
      * @param absVector the absolute vector to format
      * @param vectorFormat the format to apply to the vector
      * @return a String with a formatted vector, matching the vector format settings as closely as possible
@@ -68,29 +57,80 @@ public class VectorFormatter extends Formatter<VectorFormatContext>
     public static String format(final AbsVector<?, ?, ?, ?, ?> absVector, final VectorFormat<?> vectorFormat)
     {
         VectorFormatContext ctx = vectorFormat.ctx;
-        Locale savedLocale = Locale.getDefault();
-        try
-        {
-            savedLocale = saveLocale(ctx.locale);
-            return new VectorFormatter(absVector.getRelativeVecMat(), ctx).format()
-                    + formatReference(ctx, absVector.getReference());
-        }
-        finally
-        {
-            restoreLocale(savedLocale);
-        }
+        return appendTo(new StringBuilder(), new VectorFormatter(absVector.getRelativeVecMat(), ctx),
+                absVector.getReference()).toString();
+    }
+
+    /**
+     * Append a vector to a string builder according to a number of vector format settings, without creating intermediate
+     * strings. The default Locale is not changed.
+     * @param s the string builder to append the formatted vector to
+     * @param vector the vector to format
+     * @param vectorFormat the format to apply to the vector
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final Vector<?, ?, ?, ?, ?> vector,
+            final VectorFormat<?> vectorFormat)
+    {
+        return appendTo(s, new VectorFormatter(vector, vectorFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute vector to a string builder according to a number of vector format settings, without creating
+     * intermediate strings. The default Locale is not changed.
+     * @param s the string builder to append the formatted absolute vector to
+     * @param absVector the absolute vector to format
+     * @param vectorFormat the format to apply to the vector
+     * @return the string builder, to allow chaining
+     */
+    public static StringBuilder formatTo(final StringBuilder s, final AbsVector<?, ?, ?, ?, ?> absVector,
+            final VectorFormat<?> vectorFormat)
+    {
+        return appendTo(s, new VectorFormatter(absVector.getRelativeVecMat(), vectorFormat.ctx), absVector.getReference());
+    }
+
+    /**
+     * Append a vector to an appendable, such as a Writer, according to a number of vector format settings. The default Locale
+     * is not changed.
+     * @param appendable the appendable to append the formatted vector to
+     * @param vector the vector to format
+     * @param vectorFormat the format to apply to the vector
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final Vector<?, ?, ?, ?, ?> vector,
+            final VectorFormat<?> vectorFormat) throws IOException
+    {
+        return appendTo(appendable, new VectorFormatter(vector, vectorFormat.ctx), null);
+    }
+
+    /**
+     * Append an absolute vector to an appendable, such as a Writer, according to a number of vector format settings. The
+     * default Locale is not changed.
+     * @param appendable the appendable to append the formatted absolute vector to
+     * @param absVector the absolute vector to format
+     * @param vectorFormat the format to apply to the vector
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public static <A extends Appendable> A formatTo(final A appendable, final AbsVector<?, ?, ?, ?, ?> absVector,
+            final VectorFormat<?> vectorFormat) throws IOException
+    {
+        return appendTo(appendable, new VectorFormatter(absVector.getRelativeVecMat(), vectorFormat.ctx),
+                absVector.getReference());
     }
 
     /**
-     * Return the vector, formatted according to the context settings.
-     * @return the formatted vector
+     * Append the vector, formatted according to the context settings.
+     * @param s the string builder to append the formatted vector to
      */
     @SuppressWarnings("checkstyle:needbraces")
     @Override
-    String format()
+    void formatTo(final StringBuilder s)
     {
         formatUnit();
-        StringBuilder s = new StringBuilder();
         s.append(this.ctx.vectorPrefix);
         s.append(this.ctx.startSymbol);
         boolean first = true;
@@ -100,13 +140,12 @@ public class VectorFormatter extends Formatter<VectorFormatContext>
                 s.append(this.ctx.separatorSymbol);
             first = false;
             double value = this.useSi ? si : this.unit.getScale().fromIdentityScale(si);
-            s.append(formatValue(value));
+            appendValue(s, value);
         }
         s.append(this.ctx.endSymbol);
         s.append(this.ctx.unitPrefix);
         s.append(this.unitStr);
         s.append(this.ctx.unitPostfix);
-        return s.toString();
     }
 
 }
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -89,6 +90,17 @@ public class AbsorbedDose extends Quantity<AbsorbedDose>
         return new AbsorbedDose(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of AbsorbedDose values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the AbsorbedDose QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<AbsorbedDose> ofSi(final double[] siValues, final AbsorbedDose.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public AbsorbedDose instantiateSi(final double siValue, final UnitInterface<AbsorbedDose> displayUnit)
     {
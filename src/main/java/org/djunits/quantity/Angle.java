@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -102,6 +103,17 @@ public class Angle extends Quantity<Angle>
         return new Angle(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Angle values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Angle QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Angle> ofSi(final double[] siValues, final Angle.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Angle instantiateSi(final double siValue, final UnitInterface<Angle> displayUnit)
     {
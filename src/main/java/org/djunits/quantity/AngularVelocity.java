@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -88,6 +89,17 @@ public class AngularVelocity extends Quantity<AngularVelocity>
         return new AngularVelocity(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of AngularVelocity values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the AngularVelocity QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<AngularVelocity> ofSi(final double[] siValues, final AngularVelocity.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public AngularVelocity instantiateSi(final double siValue, final UnitInterface<AngularVelocity> displayUnit)
     {
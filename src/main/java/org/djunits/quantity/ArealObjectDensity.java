@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -88,6 +89,17 @@ public class ArealObjectDensity extends Quantity<ArealObjectDensity>
         return new ArealObjectDensity(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of ArealObjectDensity values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the ArealObjectDensity QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<ArealObjectDensity> ofSi(final double[] siValues, final ArealObjectDensity.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public ArealObjectDensity instantiateSi(final double siValue, final UnitInterface<ArealObjectDensity> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -88,6 +89,17 @@ public class Density extends Quantity<Density>
         return new Density(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Density values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Density QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Density> ofSi(final double[] siValues, final Density.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Density instantiateSi(final double siValue, final UnitInterface<Density> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.Unitless;
 
@@ -81,6 +82,17 @@ public class Dimensionless extends Quantity<Dimensionless>
         return new Dimensionless(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Dimensionless values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Dimensionless QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Dimensionless> ofSi(final double[] siValues, final Unitless displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Dimensionless instantiateSi(final double siValue, final UnitInterface<Dimensionless> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -93,6 +94,17 @@ public class Duration extends Quantity<Duration>
         return new Duration(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Duration values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Duration QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Duration> ofSi(final double[] siValues, final Duration.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Duration instantiateSi(final double siValue, final UnitInterface<Duration> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -91,6 +92,17 @@ public class ElectricCurrent extends Quantity<ElectricCurrent>
         return new ElectricCurrent(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of ElectricCurrent values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the ElectricCurrent QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<ElectricCurrent> ofSi(final double[] siValues, final ElectricCurrent.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public ElectricCurrent instantiateSi(final double siValue, final UnitInterface<ElectricCurrent> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -92,6 +93,17 @@ public class ElectricalConductance extends Quantity<ElectricalConductance>
         return new ElectricalConductance(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of ElectricalConductance values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the ElectricalConductance QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<ElectricalConductance> ofSi(final double[] siValues, final ElectricalConductance.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public ElectricalConductance instantiateSi(final double siValue, final UnitInterface<ElectricalConductance> displayUnit)
     {
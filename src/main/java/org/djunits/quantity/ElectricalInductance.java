@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -90,6 +91,17 @@ public class ElectricalInductance extends Quantity<ElectricalInductance>
         return new ElectricalInductance(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of ElectricalInductance values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the ElectricalInductance QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<ElectricalInductance> ofSi(final double[] siValues, final ElectricalInductance.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public ElectricalInductance instantiateSi(final double siValue, final UnitInterface<ElectricalInductance> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -92,6 +93,17 @@ public class ElectricalResistance extends Quantity<ElectricalResistance>
         return new ElectricalResistance(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of ElectricalResistance values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the ElectricalResistance QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<ElectricalResistance> ofSi(final double[] siValues, final ElectricalResistance.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public ElectricalResistance instantiateSi(final double siValue, final UnitInterface<ElectricalResistance> displayUnit)
     {
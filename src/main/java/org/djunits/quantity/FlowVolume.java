@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -88,6 +89,17 @@ public class FlowVolume extends Quantity<FlowVolume>
         return new FlowVolume(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of FlowVolume values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the FlowVolume QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<FlowVolume> ofSi(final double[] siValues, final FlowVolume.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public FlowVolume instantiateSi(final double siValue, final UnitInterface<FlowVolume> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -90,6 +91,17 @@ public class Force extends Quantity<Force>
         return new Force(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Force values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Force QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Force> ofSi(final double[] siValues, final Force.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Force instantiateSi(final double siValue, final UnitInterface<Force> displayUnit)
     {
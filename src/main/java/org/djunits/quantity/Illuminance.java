@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -91,6 +92,17 @@ public class Illuminance extends Quantity<Illuminance>
         return new Illuminance(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Illuminance values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Illuminance QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Illuminance> ofSi(final double[] siValues, final Illuminance.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Illuminance instantiateSi(final double siValue, final UnitInterface<Illuminance> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -91,6 +92,17 @@ public class Power extends Quantity<Power>
         return new Power(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Power values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Power QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Power> ofSi(final double[] siValues, final Power.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Power instantiateSi(final double siValue, final UnitInterface<Power> displayUnit)
     {
@@ -0,0 +1,158 @@
+package org.djunits.quantity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.Unitless;
+import org.djunits.unit.si.SIUnit;
+import org.djutils.exceptions.Throw;
+
+/**
+ * QuantityRegistry maps an (interned) {@link SIUnit} onto the SI or base unit of the quantity with that dimensionality, so a
+ * result of a multiplication or division can be instantiated directly as, e.g., a {@link Force} instead of an
+ * {@link SIQuantity}. The registry is built once from the <code>Unit.SI</code> units of the quantities in this package, and
+ * is read-only afterwards.
+ * <p>
+ * Some quantities share the same SI dimensions. In that case, the more generic quantity is registered: {@link Energy} rather
+ * than {@link Torque}, and {@link Frequency} rather than {@link RadioActivity}. {@link AbsorbedDose} and
+ * {@link EquivalentDose} are not registered at all, since m<sup>2</sup>/s<sup>2</sup> is also the dimension of a squared
+ * speed; results with these dimensions remain an {@link SIQuantity}. Absolute quantities are not registered, since products
+ * and quotients of quantities are always relative.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class QuantityRegistry
+{
+    /** The map from SI unit to the SI or base unit of the quantity with that dimensionality. */
+    private static final Map<SIUnit, UnitInterface<?>> SI_MAP;
+
+    static
+    {
+        Map<SIUnit, UnitInterface<?>> map = new HashMap<>();
+        register(map, Unitless.BASE);
+        register(map, Angle.Unit.SI);
+        register(map, SolidAngle.Unit.SI);
+        register(map, Length.Unit.SI);
+        register(map, Mass.Unit.SI);
+        register(map, Duration.Unit.SI);
+        register(map, ElectricCurrent.Unit.SI);
+        register(map, Temperature.Unit.SI);
+        register(map, AmountOfSubstance.Unit.SI);
+        register(map, LuminousIntensity.Unit.SI);
+        register(map, Area.Unit.SI);
+        register(map, Volume.Unit.SI);
+        register(map, Speed.Unit.SI);
+        register(map, Acceleration.Unit.SI);
+        register(map, AngularVelocity.Unit.SI);
+        register(map, AngularAcceleration.Unit.SI);
+        register(map, Frequency.Unit.SI);
+        register(map, Force.Unit.SI);
+        register(map, Energy.Unit.SI);
+        register(map, Power.Unit.SI);
+        register(map, Pressure.Unit.SI);
+        register(map, Momentum.Unit.SI);
+        register(map, Density.Unit.SI);
+        register(map, LinearDensity.Unit.SI);
+        register(map, FlowMass.Unit.SI);
+        register(map, FlowVolume.Unit.SI);
+        register(map, LinearObjectDensity.Unit.SI);
+        register(map, ArealObjectDensity.Unit.SI);
+        register(map, VolumetricObjectDensity.Unit.SI);
+        register(map, ElectricCharge.Unit.SI);
+        register(map, ElectricPotential.Unit.SI);
+        register(map, ElectricalCapacitance.Unit.SI);
+        register(map, ElectricalConductance.Unit.SI);
+        register(map, ElectricalInductance.Unit.SI);
+        register(map, ElectricalResistance.Unit.SI);
+        register(map, MagneticFlux.Unit.SI);
+        register(map, MagneticFluxDensity.Unit.SI);
+        register(map, LuminousFlux.Unit.SI);
+        register(map, Illuminance.Unit.SI);
+        register(map, CatalyticActivity.Unit.SI);
+        register(map, RadioActivity.Unit.SI); // same dimensions as Frequency, which takes precedence
+        register(map, Torque.Unit.SI); // same dimensions as Energy, which takes precedence
+        SI_MAP = Collections.unmodifiableMap(map);
+    }
+
+    /** */
+    private QuantityRegistry()
+    {
+        // static class.
+    }
+
+    /**
+     * Register the SI or base unit of a quantity, unless a quantity with the same dimensions has already been registered.
+     * @param map the map to register the unit in
+     * @param unit the SI or base unit of the quantity
+     */
+    private static void register(final Map<SIUnit, UnitInterface<?>> map, final UnitInterface<?> unit)
+    {
+        map.putIfAbsent(unit.siUnit(), unit);
+    }
+
+    /**
+     * Return the SI or base unit of the quantity that has the given SI dimensions, or null when no quantity is registered for
+     * these dimensions.
+     * @param siUnit the SI dimensions to look up
+     * @return the SI or base unit of the quantity with the given SI dimensions, or null when not registered
+     * @throws NullPointerException when siUnit is null
+     */
+    public static UnitInterface<?> baseUnit(final SIUnit siUnit)
+    {
+        Throw.whenNull(siUnit, "siUnit");
+        return SI_MAP.get(siUnit);
+    }
+
+    /**
+     * Return whether a quantity has been registered for the given SI dimensions.
+     * @param siUnit the SI dimensions to look up
+     * @return whether a quantity has been registered for the given SI dimensions
+     * @throws NullPointerException when siUnit is null
+     */
+    public static boolean isRegistered(final SIUnit siUnit)
+    {
+        return baseUnit(siUnit) != null;
+    }
+
+    /**
+     * Instantiate the quantity that belongs to the given SI dimensions, with its SI or base unit as the display unit. When no
+     * quantity has been registered for the dimensions, an {@link SIQuantity} is returned.
+     * @param si the SI value of the quantity
+     * @param siUnit the SI dimensions of the quantity
+     * @return a typed quantity for the SI dimensions, or an SIQuantity when no quantity is registered for the dimensions
+     * @throws NullPointerException when siUnit is null
+     */
+    public static Quantity<?> ofSi(final double si, final SIUnit siUnit)
+    {
+        UnitInterface<?> unit = baseUnit(siUnit);
+        return unit == null ? new SIQuantity(si, siUnit, true) : instantiate(si, unit);
+    }
+
+    /**
+     * Instantiate a quantity for a unit; this method captures the generic type of the unit.
+     * @param si the SI value of the quantity
+     * @param unit the unit, which is also used as the display unit
+     * @return the quantity with the given SI value and display unit
+     * @param <Q> the quantity type
+     */
+    private static <Q extends Quantity<Q>> Q instantiate(final double si, final UnitInterface<Q> unit)
+    {
+        return unit.ofSi(si, unit);
+    }
+
+    /**
+     * Return the registered SI dimensions and the SI or base unit of the corresponding quantity.
+     * @return an unmodifiable view of the registered SI dimensions and corresponding units
+     */
+    public static Map<SIUnit, UnitInterface<?>> registeredQuantities()
+    {
+        return SI_MAP;
+    }
+
+}
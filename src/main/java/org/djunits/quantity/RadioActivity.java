@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -91,6 +92,17 @@ public class RadioActivity extends Quantity<RadioActivity>
         return new RadioActivity(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of RadioActivity values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the RadioActivity QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<RadioActivity> ofSi(final double[] siValues, final RadioActivity.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public RadioActivity instantiateSi(final double siValue, final UnitInterface<RadioActivity> displayUnit)
     {
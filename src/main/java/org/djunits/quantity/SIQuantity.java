@@ -3,6 +3,7 @@ package org.djunits.quantity;
 import java.util.Locale;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.si.SIUnit;
 import org.djutils.base.NumberParser;
@@ -64,6 +65,17 @@ public class SIQuantity extends Quantity<SIQuantity>
         return new SIQuantity(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of SIQuantity values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the SIQuantity QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<SIQuantity> ofSi(final double[] siValues, final SIUnit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public SIQuantity instantiateSi(final double siValue, final UnitInterface<SIQuantity> displayUnit)
     {
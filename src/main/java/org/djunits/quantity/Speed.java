@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -89,6 +90,17 @@ public class Speed extends Quantity<Speed>
         return new Speed(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Speed values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Speed QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Speed> ofSi(final double[] siValues, final Speed.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Speed instantiateSi(final double siValue, final UnitInterface<Speed> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.Unitless;
 
@@ -83,6 +84,17 @@ public class TemperatureDifference extends Quantity<TemperatureDifference>
         return new TemperatureDifference(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of TemperatureDifference values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the TemperatureDifference QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<TemperatureDifference> ofSi(final double[] siValues, final Temperature.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public TemperatureDifference instantiateSi(final double siValue, final UnitInterface<TemperatureDifference> displayUnit)
     {
@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -88,6 +89,17 @@ public class Torque extends Quantity<Torque>
         return new Torque(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Torque values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Torque QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Torque> ofSi(final double[] siValues, final Torque.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Torque instantiateSi(final double siValue, final UnitInterface<Torque> displayUnit)
     {
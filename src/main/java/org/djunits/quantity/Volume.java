@@ -1,6 +1,7 @@
 package org.djunits.quantity;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.quantity.def.QuantityArray;
 import org.djunits.unit.AbstractUnit;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.UnitRuntimeException;
@@ -88,6 +89,17 @@ public class Volume extends Quantity<Volume>
         return new Volume(siValue, displayUnit, true);
     }
 
+    /**
+     * Return a QuantityArray of Volume values based on an array of SI values. A safe copy of the values is stored.
+     * @param siValues the quantity values expressed in the SI or base unit
+     * @param displayUnit the display unit to use for all values
+     * @return the Volume QuantityArray based on the SI values with the given display unit
+     */
+    public static QuantityArray<Volume> ofSi(final double[] siValues, final Volume.Unit displayUnit)
+    {
+        return QuantityArray.ofSi(siValues, displayUnit);
+    }
+
     @Override
     public Volume instantiateSi(final double siValue, final UnitInterface<Volume> displayUnit)
     {
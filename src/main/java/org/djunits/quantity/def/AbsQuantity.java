@@ -1,5 +1,6 @@
 package org.djunits.quantity.def;
 
+import java.io.IOException;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -311,7 +312,7 @@ public abstract class AbsQuantity<A extends AbsQuantity<A, Q, R>, Q extends Quan
     @Override
     public String format()
     {
-        return format(QuantityFormat.instance());
+        return format(QuantityFormat.defaults());
     }
 
     /**
@@ -324,6 +325,31 @@ public abstract class AbsQuantity<A extends AbsQuantity<A, Q, R>, Q extends Quan
         return QuantityFormatter.format(this, format);
     }
 
+    /**
+     * Append the representation of this quantity after applying the format to a string builder, without creating intermediate
+     * strings.
+     * @param s the string builder to append the formatted quantity to
+     * @param format the format to apply for the quantity
+     * @return the string builder, to allow chaining
+     */
+    public StringBuilder formatTo(final StringBuilder s, final QuantityFormat format)
+    {
+        return QuantityFormatter.formatTo(s, this, format);
+    }
+
+    /**
+     * Append the representation of this quantity after applying the format to an appendable, such as a Writer.
+     * @param appendable the appendable to append the formatted quantity to
+     * @param format the format to apply for the quantity
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public <A extends Appendable> A formatTo(final A appendable, final QuantityFormat format) throws IOException
+    {
+        return QuantityFormatter.formatTo(appendable, this, format);
+    }
+
     /**
      * String representation of this quantity, expressed in the specified unit.
      * @param targetUnit the unit into which the quantity is converted for display
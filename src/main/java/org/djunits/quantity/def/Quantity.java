@@ -1,5 +1,6 @@
 package org.djunits.quantity.def;
 
+import java.io.IOException;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -7,6 +8,7 @@ import org.djunits.formatter.QuantityFormat;
 import org.djunits.formatter.QuantityFormatter;
 import org.djunits.quantity.Area;
 import org.djunits.quantity.Length;
+import org.djunits.quantity.QuantityRegistry;
 import org.djunits.quantity.SIQuantity;
 import org.djunits.quantity.Speed;
 import org.djunits.unit.UnitInterface;
@@ -445,7 +447,7 @@ public abstract class Quantity<Q extends Quantity<Q>> extends Number
     @Override
     public String format()
     {
-        return format(QuantityFormat.instance());
+        return format(QuantityFormat.defaults());
     }
 
     /**
@@ -458,6 +460,31 @@ public abstract class Quantity<Q extends Quantity<Q>> extends Number
         return QuantityFormatter.format(this, format);
     }
 
+    /**
+     * Append the representation of this quantity after applying the format to a string builder, without creating intermediate
+     * strings.
+     * @param s the string builder to append the formatted quantity to
+     * @param format the format to apply for the quantity
+     * @return the string builder, to allow chaining
+     */
+    public StringBuilder formatTo(final StringBuilder s, final QuantityFormat format)
+    {
+        return QuantityFormatter.formatTo(s, this, format);
+    }
+
+    /**
+     * Append the representation of this quantity after applying the format to an appendable, such as a Writer.
+     * @param appendable the appendable to append the formatted quantity to
+     * @param format the format to apply for the quantity
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public <A extends Appendable> A formatTo(final A appendable, final QuantityFormat format) throws IOException
+    {
+        return QuantityFormatter.formatTo(appendable, this, format);
+    }
+
     /**
      * String representation of this quantity, expressed in the specified unit.
      * @param targetUnit the unit into which the quantity is converted for display
@@ -637,6 +664,32 @@ public abstract class Quantity<Q extends Quantity<Q>> extends Number
         return new SIQuantity(si() / quantity.si(), siUnit);
     }
 
+    /**
+     * Multiply this quantity with another quantity, and return the result as the quantity that belongs to the SI dimensions of
+     * the product, e.g., a {@link org.djunits.quantity.Force} when a mass is multiplied with an acceleration. The result is
+     * expressed in the SI or base unit of that quantity. When no quantity is registered in the {@link QuantityRegistry} for
+     * the dimensions of the product, an SIQuantity is returned.
+     * @param quantity the quantity to multiply with
+     * @return the multiplication of this quantity and the given quantity, typed by its SI dimensions
+     */
+    public Quantity<?> multiplyTyped(final Quantity<?> quantity)
+    {
+        return QuantityRegistry.ofSi(si() * quantity.si(), SIUnit.add(siUnit(), quantity.siUnit()));
+    }
+
+    /**
+     * Divide this quantity by another quantity, and return the result as the quantity that belongs to the SI dimensions of the
+     * quotient, e.g., a {@link Speed} when a length is divided by a duration. The result is expressed in the SI or base unit
+     * of that quantity. When no quantity is registered in the {@link QuantityRegistry} for the dimensions of the quotient, an
+     * SIQuantity is returned.
+     * @param quantity the quantity to divide by
+     * @return the division of this quantity and the given quantity, typed by its SI dimensions
+     */
+    public Quantity<?> divideTyped(final Quantity<?> quantity)
+    {
+        return QuantityRegistry.ofSi(si() / quantity.si(), SIUnit.subtract(siUnit(), quantity.siUnit()));
+    }
+
     /**
      * Return the reciprocal of this quantity (1/q).
      * @return the reciprocal of this quantity, with the correct SI units
@@ -0,0 +1,596 @@
+package org.djunits.quantity.def;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.djunits.quantity.SIQuantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.util.ArrayMath;
+import org.djunits.util.Math2;
+import org.djunits.util.SuppressFBWarnings;
+import org.djunits.value.Additive;
+import org.djunits.value.Scalable;
+import org.djunits.value.Value;
+import org.djunits.vecmat.dn.VectorN;
+import org.djunits.vecmat.storage.DenseDoubleDataSi;
+import org.djutils.exceptions.Throw;
+
+/**
+ * QuantityArray is a columnar container for a (large) number of relative quantities of the same type. Instead of storing one
+ * {@link Quantity} object per value, the values are stored as SI values in a single primitive {@code double[]}, with one shared
+ * display unit for all values. Individual {@link Quantity} objects are only instantiated when they are explicitly retrieved with
+ * {@link #get(int)} or through the iterator. The QuantityArray is immutable; operations return a new QuantityArray.
+ * <p>
+ * The QuantityArray can be converted to a {@link VectorN.Col} or a {@link DenseDoubleDataSi} without copying the data, and a
+ * QuantityArray can be created from a vector without copying the data when the vector uses dense double storage. A growable
+ * version to collect values is available as {@link QuantityArrayBuilder}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class QuantityArray<Q extends Quantity<Q>>
+        implements Value<Q>, Iterable<Q>, Additive<QuantityArray<Q>>, Scalable<QuantityArray<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /** The SI values of the quantities. */
+    private final double[] dataSi;
+
+    /** The display unit that is shared by all values. */
+    private final UnitInterface<Q> displayUnit;
+
+    /**
+     * Create a QuantityArray based on an array of SI values. Note that NO safe copy of the data is stored. The constructor is
+     * very useful to store data after a calculation that already made a new array.
+     * @param dataSi the SI values of the quantities
+     * @param displayUnit the display unit to use for all values
+     * @throws NullPointerException when dataSi or displayUnit is null
+     */
+    @SuppressFBWarnings(justification = "explicitly documented that no safe copy is made")
+    public QuantityArray(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        Throw.whenNull(displayUnit, "displayUnit");
+        this.dataSi = dataSi;
+        this.displayUnit = displayUnit;
+    }
+
+    // ------------------------------------------ OF METHODS ------------------------------------------
+
+    /**
+     * Create a QuantityArray based on an array of SI values. A safe copy of the data is stored.
+     * @param dataSi the SI values of the quantities
+     * @param displayUnit the display unit to use for all values
+     * @return a QuantityArray with a safe copy of the SI values
+     * @throws NullPointerException when dataSi or displayUnit is null
+     * @param <Q> the quantity type
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> ofSi(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        return new QuantityArray<>(dataSi.clone(), displayUnit);
+    }
+
+    /**
+     * Create a QuantityArray based on an array of values expressed in the given unit, which also acts as the display unit.
+     * @param dataInUnit the values of the quantities, expressed in the given unit
+     * @param unit the unit of the values, also acts as the display unit
+     * @return a QuantityArray with the values converted to SI values
+     * @throws NullPointerException when dataInUnit or unit is null
+     * @param <Q> the quantity type
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(dataInUnit, "dataInUnit");
+        Throw.whenNull(unit, "unit");
+        double[] dataSi = new double[dataInUnit.length];
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
+        return new QuantityArray<>(dataSi, unit);
+    }
+
+    /**
+     * Create a QuantityArray based on an array of quantities. The display unit is taken from the first quantity.
+     * @param data the quantities
+     * @return a QuantityArray with the SI values of the quantities
+     * @throws NullPointerException when data or one of its entries is null
+     * @throws IllegalArgumentException when the data array has length 0
+     * @param <Q> the quantity type
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(final Q[] data)
+    {
+        Throw.whenNull(data, "data");
+        Throw.when(data.length < 1, IllegalArgumentException.class, "data array length < 1");
+        double[] dataSi = new double[data.length];
+        for (int i = 0; i < data.length; i++)
+        {
+            Throw.whenNull(data[i], "data[%d] = null", i);
+            dataSi[i] = data[i].si();
+        }
+        return new QuantityArray<>(dataSi, data[0].getDisplayUnit());
+    }
+
+    /**
+     * Create a QuantityArray based on a list of quantities. The display unit is taken from the first quantity.
+     * @param data the quantities
+     * @return a QuantityArray with the SI values of the quantities
+     * @throws NullPointerException when data or one of its entries is null
+     * @throws IllegalArgumentException when the data list is empty
+     * @param <Q> the quantity type
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(final List<Q> data)
+    {
+        Throw.whenNull(data, "data");
+        Throw.when(data.size() < 1, IllegalArgumentException.class, "data.size < 1");
+        double[] dataSi = new double[data.size()];
+        int i = 0;
+        for (Q q : data)
+        {
+            Throw.whenNull(q, "data[%d] = null", i);
+            dataSi[i++] = q.si();
+        }
+        return new QuantityArray<>(dataSi, data.get(0).getDisplayUnit());
+    }
+
+    /**
+     * Create a QuantityArray based on a row or column vector. When the vector uses dense double storage, the underlying data is
+     * shared between the vector and the QuantityArray; otherwise, the data is copied into the QuantityArray.
+     * @param vector the row or column vector
+     * @return a QuantityArray with the SI values of the vector, and the display unit of the vector
+     * @throws NullPointerException when vector is null
+     * @param <Q> the quantity type
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(final VectorN<Q, ?, ?, ?, ?> vector)
+    {
+        Throw.whenNull(vector, "vector");
+        return new QuantityArray<>(vector.unsafeSiArray(), vector.getDisplayUnit());
+    }
+
+    // ------------------------------------------ ACCESS METHODS ------------------------------------------
+
+    @Override
+    public UnitInterface<Q> getDisplayUnit()
+    {
+        return this.displayUnit;
+    }
+
+    /**
+     * Return a QuantityArray with the same SI values, but with another display unit. The data is shared between this
+     * QuantityArray and the returned QuantityArray.
+     * @param newDisplayUnit the new display unit
+     * @return a QuantityArray with the same SI values and the new display unit
+     * @throws NullPointerException when newDisplayUnit is null
+     */
+    public QuantityArray<Q> setDisplayUnit(final UnitInterface<Q> newDisplayUnit)
+    {
+        return new QuantityArray<>(this.dataSi, newDisplayUnit);
+    }
+
+    /**
+     * Return the SI unit of the quantities in this array.
+     * @return the SI unit of the quantities in this array
+     */
+    public SIUnit siUnit()
+    {
+        return this.displayUnit.siUnit();
+    }
+
+    /**
+     * Return the number of values in this array.
+     * @return the number of values in this array
+     */
+    public int size()
+    {
+        return this.dataSi.length;
+    }
+
+    /**
+     * Return whether this array contains no values.
+     * @return whether this array contains no values
+     */
+    public boolean isEmpty()
+    {
+        return this.dataSi.length == 0;
+    }
+
+    /**
+     * Check whether the index is within bounds.
+     * @param index the index (0-based)
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    private void checkIndex(final int index)
+    {
+        Throw.when(index < 0 || index >= this.dataSi.length, IndexOutOfBoundsException.class, "index %d not in range 0..%d",
+                index, this.dataSi.length - 1);
+    }
+
+    /**
+     * Return the SI value at the given index.
+     * @param index the index (0-based)
+     * @return the SI value at the given index
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    public double si(final int index)
+    {
+        checkIndex(index);
+        return this.dataSi[index];
+    }
+
+    /**
+     * Return the value at the given index, expressed in the display unit.
+     * @param index the index (0-based)
+     * @return the value at the given index, expressed in the display unit
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    public double getInUnit(final int index)
+    {
+        return this.displayUnit.fromBaseValue(si(index));
+    }
+
+    /**
+     * Return the value at the given index, expressed in the target unit.
+     * @param index the index (0-based)
+     * @param targetUnit the unit to express the value in
+     * @return the value at the given index, expressed in the target unit
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    public double getInUnit(final int index, final UnitInterface<Q> targetUnit)
+    {
+        return targetUnit.fromBaseValue(si(index));
+    }
+
+    /**
+     * Return the quantity at the given index, with the display unit of this array. Note that a new quantity object is created.
+     * @param index the index (0-based)
+     * @return the quantity at the given index
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    public Q get(final int index)
+    {
+        return this.displayUnit.ofSi(si(index), this.displayUnit);
+    }
+
+    /**
+     * Return a safe copy of the SI values.
+     * @return a safe copy of the SI values
+     */
+    public double[] getSiArray()
+    {
+        return this.dataSi.clone();
+    }
+
+    /**
+     * Return the SI values without making a safe copy. The method gives access to the underlying data structure, so treat the
+     * data carefully.
+     * @return the underlying SI values (NO safe copy)
+     */
+    @SuppressFBWarnings(justification = "name of the method indicates unsafe access")
+    public double[] unsafeSiArray()
+    {
+        return this.dataSi;
+    }
+
+    /**
+     * Return the values expressed in the display unit as a new array.
+     * @return the values expressed in the display unit
+     */
+    public double[] getInUnitArray()
+    {
+        return getInUnitArray(this.displayUnit);
+    }
+
+    /**
+     * Return the values expressed in the target unit as a new array.
+     * @param targetUnit the unit to express the values in
+     * @return the values expressed in the target unit
+     */
+    public double[] getInUnitArray(final UnitInterface<Q> targetUnit)
+    {
+        Throw.whenNull(targetUnit, "targetUnit");
+        double[] result = new double[this.dataSi.length];
+        targetUnit.getScale().fromIdentityScale(this.dataSi, result);
+        return result;
+    }
+
+    /**
+     * Return the quantities in this array as an array of quantity objects. Note that a new quantity object is created for each
+     * value.
+     * @return the quantities in this array as an array of quantity objects
+     * @throws IllegalStateException when the array is empty, so the quantity class cannot be determined
+     */
+    public Q[] getScalarArray()
+    {
+        Throw.when(this.dataSi.length == 0, IllegalStateException.class, "cannot create scalar array for empty QuantityArray");
+        final Q first = get(0);
+        @SuppressWarnings("unchecked")
+        final Q[] out = (Q[]) Array.newInstance(first.getClass(), this.dataSi.length);
+        out[0] = first;
+        for (int i = 1; i < this.dataSi.length; i++)
+        {
+            out[i] = this.displayUnit.ofSi(this.dataSi[i], this.displayUnit);
+        }
+        return out;
+    }
+
+    @Override
+    public Iterator<Q> iterator()
+    {
+        return new Iterator<Q>()
+        {
+            /** the next index. */
+            private int index = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.index < QuantityArray.this.dataSi.length;
+            }
+
+            @Override
+            public Q next()
+            {
+                Throw.when(!hasNext(), NoSuchElementException.class, "no next element in QuantityArray");
+                return get(this.index++);
+            }
+        };
+    }
+
+    @Override
+    public boolean isRelative()
+    {
+        return true;
+    }
+
+    // ------------------------------------------ STATISTICS ------------------------------------------
+
+    /**
+     * Return the sum of the values in this array.
+     * @return the sum of the values, with the display unit of this array
+     */
+    public Q sum()
+    {
+        return this.displayUnit.ofSi(Math2.sum(this.dataSi), this.displayUnit);
+    }
+
+    /**
+     * Return the mean of the values in this array.
+     * @return the mean of the values, with the display unit of this array
+     */
+    public Q mean()
+    {
+        return this.displayUnit.ofSi(Math2.sum(this.dataSi) / this.dataSi.length, this.displayUnit);
+    }
+
+    /**
+     * Return the minimum value in this array.
+     * @return the minimum value, with the display unit of this array
+     */
+    public Q min()
+    {
+        return this.displayUnit.ofSi(Math2.min(this.dataSi), this.displayUnit);
+    }
+
+    /**
+     * Return the maximum value in this array.
+     * @return the maximum value, with the display unit of this array
+     */
+    public Q max()
+    {
+        return this.displayUnit.ofSi(Math2.max(this.dataSi), this.displayUnit);
+    }
+
+    // ------------------------------------------ ARITHMETIC ------------------------------------------
+
+    /**
+     * Check whether the other array has the same size as this array.
+     * @param other the other array
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when the sizes differ
+     */
+    private void checkSize(final QuantityArray<?> other)
+    {
+        Throw.whenNull(other, "other");
+        Throw.when(other.size() != size(), IllegalArgumentException.class, "QuantityArray size mismatch: %d != %d", size(),
+                other.size());
+    }
+
+    @Override
+    public QuantityArray<Q> add(final QuantityArray<Q> other)
+    {
+        checkSize(other);
+        return new QuantityArray<>(ArrayMath.add(this.dataSi, other.dataSi), this.displayUnit);
+    }
+
+    @Override
+    public QuantityArray<Q> subtract(final QuantityArray<Q> other)
+    {
+        checkSize(other);
+        return new QuantityArray<>(ArrayMath.subtract(this.dataSi, other.dataSi), this.displayUnit);
+    }
+
+    /**
+     * Return a QuantityArray where the increment has been added to each value.
+     * @param increment the quantity to add to each value
+     * @return a QuantityArray where the increment has been added to each value
+     */
+    public QuantityArray<Q> add(final Q increment)
+    {
+        return new QuantityArray<>(ArrayMath.add(this.dataSi, increment.si()), this.displayUnit);
+    }
+
+    /**
+     * Return a QuantityArray where the decrement has been subtracted from each value.
+     * @param decrement the quantity to subtract from each value
+     * @return a QuantityArray where the decrement has been subtracted from each value
+     */
+    public QuantityArray<Q> subtract(final Q decrement)
+    {
+        return new QuantityArray<>(ArrayMath.add(this.dataSi, -decrement.si()), this.displayUnit);
+    }
+
+    @Override
+    public QuantityArray<Q> negate()
+    {
+        return scaleBy(-1.0);
+    }
+
+    @Override
+    public QuantityArray<Q> abs()
+    {
+        return new QuantityArray<>(ArrayMath.abs(this.dataSi), this.displayUnit);
+    }
+
+    @Override
+    public QuantityArray<Q> scaleBy(final double factor)
+    {
+        return new QuantityArray<>(ArrayMath.scaleBy(this.dataSi, factor), this.displayUnit);
+    }
+
+    /**
+     * Multiply the values of this array element-wise with the values of another array, and return an array of SI quantities
+     * with the combined SI unit.
+     * @param other the array to multiply with
+     * @return an array of SI quantities with the element-wise product of the values
+     * @throws IllegalArgumentException when the sizes differ
+     */
+    public QuantityArray<SIQuantity> multiply(final QuantityArray<?> other)
+    {
+        checkSize(other);
+        return new QuantityArray<>(ArrayMath.multiply(this.dataSi, other.dataSi), SIUnit.add(siUnit(), other.siUnit()));
+    }
+
+    /**
+     * Divide the values of this array element-wise by the values of another array, and return an array of SI quantities with
+     * the combined SI unit.
+     * @param other the array to divide by
+     * @return an array of SI quantities with the element-wise division of the values
+     * @throws IllegalArgumentException when the sizes differ
+     */
+    public QuantityArray<SIQuantity> divide(final QuantityArray<?> other)
+    {
+        checkSize(other);
+        return new QuantityArray<>(ArrayMath.divide(this.dataSi, other.dataSi), SIUnit.subtract(siUnit(), other.siUnit()));
+    }
+
+    /**
+     * Multiply all values of this array with a quantity, and return an array of SI quantities with the combined SI unit.
+     * @param quantity the quantity to multiply with
+     * @return an array of SI quantities with the values multiplied by the quantity
+     */
+    public QuantityArray<SIQuantity> multiply(final Quantity<?> quantity)
+    {
+        return new QuantityArray<>(ArrayMath.scaleBy(this.dataSi, quantity.si()), SIUnit.add(siUnit(), quantity.siUnit()));
+    }
+
+    /**
+     * Divide all values of this array by a quantity, and return an array of SI quantities with the combined SI unit.
+     * @param quantity the quantity to divide by
+     * @return an array of SI quantities with the values divided by the quantity
+     */
+    public QuantityArray<SIQuantity> divide(final Quantity<?> quantity)
+    {
+        return new QuantityArray<>(ArrayMath.scaleBy(this.dataSi, 1.0 / quantity.si()),
+                SIUnit.subtract(siUnit(), quantity.siUnit()));
+    }
+
+    /**
+     * Return an array of SI quantities with the reciprocal of each value.
+     * @return an array of SI quantities with the reciprocal of each value
+     */
+    public QuantityArray<SIQuantity> reciprocal()
+    {
+        return new QuantityArray<>(ArrayMath.reciprocal(this.dataSi), siUnit().invert());
+    }
+
+    /**
+     * Return the array 'as' an array with a known quantity, using a unit to express the result in. Throw a Runtime exception
+     * when the SI units of this array and the target array do not match. The data is NOT copied.
+     * @param targetUnit the unit to convert the array to
+     * @return an array typed in the target quantity class
+     * @throws IllegalArgumentException when the units do not match
+     * @param <TQ> target quantity type
+     */
+    public <TQ extends Quantity<TQ>> QuantityArray<TQ> as(final UnitInterface<TQ> targetUnit) throws IllegalArgumentException
+    {
+        Throw.when(!siUnit().equals(targetUnit.siUnit()), IllegalArgumentException.class,
+                "QuantityArray.as(%s) called, but units do not match: %s <> %s", targetUnit,
+                siUnit().getDisplayAbbreviation(), targetUnit.siUnit().getDisplayAbbreviation());
+        return new QuantityArray<TQ>(this.dataSi, targetUnit);
+    }
+
+    // ------------------------------------------ BRIDGES ------------------------------------------
+
+    /**
+     * Return the values of this array as a dense data grid with one column. The data is shared between this array and the data
+     * grid.
+     * @return a dense data grid with one column that shares the data of this array
+     * @throws IllegalArgumentException when the array is empty
+     */
+    public DenseDoubleDataSi asDataGridSi()
+    {
+        return new DenseDoubleDataSi(this.dataSi, this.dataSi.length, 1);
+    }
+
+    /**
+     * Return the values of this array as a column vector. The data is shared between this array and the vector.
+     * @return a column vector that shares the data of this array
+     * @throws IllegalArgumentException when the array is empty
+     */
+    public VectorN.Col<Q> asVectorNCol()
+    {
+        return new VectorN.Col<Q>(asDataGridSi(), this.displayUnit);
+    }
+
+    // ------------------------------------------ FORMATTING ------------------------------------------
+
+    @Override
+    public String format()
+    {
+        return isEmpty() ? "[] " + this.displayUnit.getDisplayAbbreviation() : asVectorNCol().transpose().format();
+    }
+
+    @Override
+    public String format(final UnitInterface<Q> targetUnit)
+    {
+        return isEmpty() ? "[] " + targetUnit.getDisplayAbbreviation() : asVectorNCol().transpose().format(targetUnit);
+    }
+
+    @Override
+    public String toString()
+    {
+        return format();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(this.dataSi);
+        result = prime * result + Objects.hash(this.displayUnit);
+        return result;
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        QuantityArray<?> other = (QuantityArray<?>) obj;
+        return Objects.equals(this.displayUnit, other.displayUnit) && Arrays.equals(this.dataSi, other.dataSi);
+    }
+
+}
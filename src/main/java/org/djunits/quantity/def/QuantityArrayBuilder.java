@@ -0,0 +1,204 @@
+package org.djunits.quantity.def;
+
+import java.util.Arrays;
+
+import org.djunits.unit.UnitInterface;
+import org.djutils.exceptions.Throw;
+
+/**
+ * QuantityArrayBuilder is a growable buffer of SI values for quantities of the same type, from which an immutable
+ * {@link QuantityArray} can be built. Values are stored in a primitive {@code double[]} that grows when needed, so collecting
+ * values does not create a {@link Quantity} object per value. The builder is not thread-safe.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class QuantityArrayBuilder<Q extends Quantity<Q>>
+{
+    /** The default initial capacity of the buffer. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The buffer with SI values; only the first size entries are valid. */
+    private double[] dataSi;
+
+    /** The number of values in the buffer. */
+    private int size = 0;
+
+    /** The display unit for the values, which is also used for values that are added in a unit. */
+    private final UnitInterface<Q> displayUnit;
+
+    /**
+     * Create a builder with a default initial capacity.
+     * @param displayUnit the display unit for the QuantityArray, and the unit for values added with {@link #add(double)}
+     * @throws NullPointerException when displayUnit is null
+     */
+    public QuantityArrayBuilder(final UnitInterface<Q> displayUnit)
+    {
+        this(displayUnit, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a builder with a given initial capacity.
+     * @param displayUnit the display unit for the QuantityArray, and the unit for values added with {@link #add(double)}
+     * @param initialCapacity the initial capacity of the buffer
+     * @throws NullPointerException when displayUnit is null
+     * @throws IllegalArgumentException when initialCapacity is negative
+     */
+    public QuantityArrayBuilder(final UnitInterface<Q> displayUnit, final int initialCapacity)
+    {
+        Throw.whenNull(displayUnit, "displayUnit");
+        Throw.when(initialCapacity < 0, IllegalArgumentException.class, "initialCapacity < 0");
+        this.displayUnit = displayUnit;
+        this.dataSi = new double[initialCapacity];
+    }
+
+    /**
+     * Make sure that the buffer can hold at least the given number of values.
+     * @param minCapacity the minimum capacity of the buffer
+     */
+    private void ensureCapacity(final int minCapacity)
+    {
+        if (minCapacity > this.dataSi.length)
+        {
+            int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, this.dataSi.length + (this.dataSi.length >> 1)));
+            this.dataSi = Arrays.copyOf(this.dataSi, newCapacity);
+        }
+    }
+
+    /**
+     * Append an SI value.
+     * @param si the SI value to append
+     * @return the builder for method chaining
+     */
+    public QuantityArrayBuilder<Q> addSi(final double si)
+    {
+        ensureCapacity(this.size + 1);
+        this.dataSi[this.size++] = si;
+        return this;
+    }
+
+    /**
+     * Append a value that is expressed in the display unit of the builder.
+     * @param valueInUnit the value, expressed in the display unit of the builder
+     * @return the builder for method chaining
+     */
+    public QuantityArrayBuilder<Q> add(final double valueInUnit)
+    {
+        return addSi(this.displayUnit.toBaseValue(valueInUnit));
+    }
+
+    /**
+     * Append the SI value of a quantity.
+     * @param quantity the quantity to append
+     * @return the builder for method chaining
+     * @throws NullPointerException when quantity is null
+     */
+    public QuantityArrayBuilder<Q> add(final Q quantity)
+    {
+        Throw.whenNull(quantity, "quantity");
+        return addSi(quantity.si());
+    }
+
+    /**
+     * Append a number of SI values.
+     * @param si the SI values to append
+     * @return the builder for method chaining
+     * @throws NullPointerException when si is null
+     */
+    public QuantityArrayBuilder<Q> addAllSi(final double[] si)
+    {
+        Throw.whenNull(si, "si");
+        ensureCapacity(this.size + si.length);
+        System.arraycopy(si, 0, this.dataSi, this.size, si.length);
+        this.size += si.length;
+        return this;
+    }
+
+    /**
+     * Append all values of a QuantityArray.
+     * @param array the QuantityArray with the values to append
+     * @return the builder for method chaining
+     * @throws NullPointerException when array is null
+     */
+    public QuantityArrayBuilder<Q> addAll(final QuantityArray<Q> array)
+    {
+        Throw.whenNull(array, "array");
+        return addAllSi(array.unsafeSiArray());
+    }
+
+    /**
+     * Replace the SI value at the given index.
+     * @param index the index (0-based)
+     * @param si the new SI value
+     * @return the builder for method chaining
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    public QuantityArrayBuilder<Q> setSi(final int index, final double si)
+    {
+        Throw.when(index < 0 || index >= this.size, IndexOutOfBoundsException.class, "index %d not in range 0..%d", index,
+                this.size - 1);
+        this.dataSi[index] = si;
+        return this;
+    }
+
+    /**
+     * Return the SI value at the given index.
+     * @param index the index (0-based)
+     * @return the SI value at the given index
+     * @throws IndexOutOfBoundsException when index &lt; 0 or index &gt;= size()
+     */
+    public double si(final int index)
+    {
+        Throw.when(index < 0 || index >= this.size, IndexOutOfBoundsException.class, "index %d not in range 0..%d", index,
+                this.size - 1);
+        return this.dataSi[index];
+    }
+
+    /**
+     * Return the number of values in the builder.
+     * @return the number of values in the builder
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Return the display unit of the builder.
+     * @return the display unit of the builder
+     */
+    public UnitInterface<Q> getDisplayUnit()
+    {
+        return this.displayUnit;
+    }
+
+    /**
+     * Remove all values from the builder. The capacity of the buffer is retained, so the builder can be reused.
+     * @return the builder for method chaining
+     */
+    public QuantityArrayBuilder<Q> clear()
+    {
+        this.size = 0;
+        return this;
+    }
+
+    /**
+     * Build an immutable QuantityArray with a copy of the values in the builder. The builder can be used after this call.
+     * @return an immutable QuantityArray with the values in the builder and the display unit of the builder
+     */
+    public QuantityArray<Q> build()
+    {
+        return new QuantityArray<>(Arrays.copyOf(this.dataSi, this.size), this.displayUnit);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "QuantityArrayBuilder [size=" + this.size + ", capacity=" + this.dataSi.length + ", displayUnit="
+                + this.displayUnit + "]";
+    }
+
+}
@@ -0,0 +1,455 @@
+package org.djunits.quantity.def;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.UnitRuntimeException;
+import org.djunits.unit.Unitless;
+import org.djunits.unit.Units;
+import org.djutils.exceptions.Throw;
+
+/**
+ * QuantityParser is a reusable parser for high-volume parsing of quantities, e.g., from log files or telemetry feeds. It
+ * parses a value with a unit, such as "12.5 km" or "-3.0E2m/s", from a region of a {@link CharSequence} (e.g., a String,
+ * StringBuilder or CharBuffer). The result is stored in the parser, and can be retrieved as the SI value and the unit, or as a
+ * quantity. Errors are reported with a status code and the index at which the error was found, rather than with exceptions.
+ * When the unit is the same as in the previous call, parsing does not allocate any objects.
+ * <p>
+ * The number has to be in the locale-independent format of Java and JSON: an optional sign, digits with an optional decimal
+ * point, and an optional exponent, such as "-1.5E-3". Numbers with at most 15 significant digits and a decimal exponent of at
+ * most 22 are converted exactly without allocation; other numbers are converted by {@link Double#parseDouble(String)}. The unit
+ * is everything after the number, where whitespace between the number and the unit, and around the text, is ignored. The unit
+ * can be the US abbreviation or the localized abbreviation for the locale of the parser. The last resolved unit is cached, so
+ * parsing a series of values with the same unit does not look up the unit again. When the unit is omitted, the value is only
+ * accepted for a dimensionless quantity.
+ * <p>
+ * A QuantityParser is not thread-safe; use one parser per thread. Compared to {@link Quantity#valueOf(String, Quantity)}, the
+ * parser does not accept locale-specific number formats such as decimal commas or grouping separators.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public final class QuantityParser<Q extends Quantity<Q>>
+{
+    /** Status code: the text was parsed successfully. */
+    public static final int OK = 0;
+
+    /** Status code: the text is empty or only contains whitespace. */
+    public static final int ERROR_EMPTY = 1;
+
+    /** Status code: the text does not start with a valid number. */
+    public static final int ERROR_NUMBER = 2;
+
+    /** Status code: the unit is missing for a quantity that is not dimensionless. */
+    public static final int ERROR_MISSING_UNIT = 3;
+
+    /** Status code: the unit is not known for the quantity. */
+    public static final int ERROR_UNKNOWN_UNIT = 4;
+
+    /** The exact powers of ten that can be represented as a double. */
+    private static final double[] POW10 = {1E0, 1E1, 1E2, 1E3, 1E4, 1E5, 1E6, 1E7, 1E8, 1E9, 1E10, 1E11, 1E12, 1E13, 1E14,
+            1E15, 1E16, 1E17, 1E18, 1E19, 1E20, 1E21, 1E22};
+
+    /** The largest mantissa that can be represented exactly as a double. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** The maximum number of significant digits that is stored in the mantissa. */
+    private static final int MAX_DIGITS = 18;
+
+    /** The example quantity to instantiate quantities. */
+    private final Q example;
+
+    /** The unit class of the quantity. */
+    private final Class<UnitInterface<Q>> unitClass;
+
+    /** The locale for the localized unit abbreviations. */
+    private final Locale locale;
+
+    /** The unit to use when the unit is omitted, or null when the unit cannot be omitted. */
+    private final UnitInterface<Q> defaultUnit;
+
+    /** The characters of the last resolved unit token. */
+    private char[] lastToken = new char[16];
+
+    /** The length of the last resolved unit token, or -1 when there is no cached unit. */
+    private int lastTokenLength = -1;
+
+    /** The unit of the last resolved unit token. */
+    private UnitInterface<Q> lastUnit = null;
+
+    /** The status of the last parse. */
+    private int status = ERROR_EMPTY;
+
+    /** The index in the text where the error of the last parse was found, or -1 when there was no error. */
+    private int errorIndex = -1;
+
+    /** The parsed value, expressed in the parsed unit. */
+    private double value = Double.NaN;
+
+    /** The parsed value, expressed in the SI or base unit. */
+    private double si = Double.NaN;
+
+    /** The parsed unit. */
+    private UnitInterface<Q> unit = null;
+
+    /**
+     * Create a parser for the quantity type of the example, using the default locale for the localized unit abbreviations.
+     * @param example an example instance of the quantity type
+     * @throws NullPointerException when example is null
+     */
+    public QuantityParser(final Q example)
+    {
+        this(example, Locale.getDefault());
+    }
+
+    /**
+     * Create a parser for the quantity type of the example, using the given locale for the localized unit abbreviations.
+     * @param example an example instance of the quantity type
+     * @param locale the locale for the localized unit abbreviations
+     * @throws NullPointerException when example or locale is null
+     */
+    @SuppressWarnings("unchecked")
+    public QuantityParser(final Q example, final Locale locale)
+    {
+        Throw.whenNull(example, "example");
+        Throw.whenNull(locale, "locale");
+        this.example = example;
+        this.unitClass = (Class<UnitInterface<Q>>) example.getDisplayUnit().getClass();
+        this.locale = locale;
+        this.defaultUnit = Unitless.class.isAssignableFrom(this.unitClass) ? (UnitInterface<Q>) Unitless.BASE : null;
+    }
+
+    /**
+     * Parse a value with a unit from the text.
+     * @param text the text to parse
+     * @return the status of the parse, {@link #OK} when the text was parsed successfully
+     * @throws NullPointerException when text is null
+     */
+    public int parse(final CharSequence text)
+    {
+        Throw.whenNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parse a value with a unit from a region of the text.
+     * @param text the text to parse
+     * @param offset the index of the first character of the region
+     * @param length the number of characters of the region
+     * @return the status of the parse, {@link #OK} when the text was parsed successfully
+     * @throws NullPointerException when text is null
+     * @throws IndexOutOfBoundsException when the region is not within the text
+     */
+    public int parse(final CharSequence text, final int offset, final int length)
+    {
+        Throw.whenNull(text, "text");
+        Objects.checkFromIndexSize(offset, length, text.length());
+        this.value = Double.NaN;
+        this.si = Double.NaN;
+        this.unit = null;
+        int end = offset + length;
+        while (end > offset && Character.isWhitespace(text.charAt(end - 1)))
+        {
+            end--;
+        }
+        int pos = skipWhitespace(text, offset, end);
+        if (pos == end)
+        {
+            return fail(ERROR_EMPTY, pos);
+        }
+        int numberEnd = parseNumber(text, pos, end);
+        if (numberEnd < 0)
+        {
+            return fail(ERROR_NUMBER, pos);
+        }
+        int unitStart = skipWhitespace(text, numberEnd, end);
+        UnitInterface<Q> u = unitStart == end ? this.defaultUnit : resolveUnit(text, unitStart, end);
+        if (u == null)
+        {
+            return fail(unitStart == end ? ERROR_MISSING_UNIT : ERROR_UNKNOWN_UNIT, unitStart);
+        }
+        this.unit = u;
+        this.si = u.toBaseValue(this.value);
+        this.status = OK;
+        this.errorIndex = -1;
+        return OK;
+    }
+
+    /**
+     * Store the status of a failed parse.
+     * @param errorStatus the status code of the error
+     * @param index the index in the text where the error was found
+     * @return the status code of the error
+     */
+    private int fail(final int errorStatus, final int index)
+    {
+        this.value = Double.NaN;
+        this.status = errorStatus;
+        this.errorIndex = index;
+        return errorStatus;
+    }
+
+    /**
+     * Return the index of the first character that is not whitespace.
+     * @param text the text
+     * @param start the index to start
+     * @param end the index after the last character to consider
+     * @return the index of the first character that is not whitespace, or end when there is none
+     */
+    private static int skipWhitespace(final CharSequence text, final int start, final int end)
+    {
+        int pos = start;
+        while (pos < end && Character.isWhitespace(text.charAt(pos)))
+        {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Return whether a character is an ASCII digit.
+     * @param c the character
+     * @return whether the character is an ASCII digit
+     */
+    private static boolean isDigit(final char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Parse the number at the start of the region, and store it in the value field.
+     * @param text the text
+     * @param start the index of the first character of the number
+     * @param end the index after the last character of the region
+     * @return the index after the number, or -1 when there is no valid number
+     */
+    private int parseNumber(final CharSequence text, final int start, final int end)
+    {
+        int pos = start;
+        boolean negative = false;
+        char c = text.charAt(pos);
+        if (c == '+' || c == '-')
+        {
+            negative = c == '-';
+            pos++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean truncated = false;
+
+        // integer part
+        while (pos < end && isDigit(c = text.charAt(pos)))
+        {
+            anyDigit = true;
+            if (digits < MAX_DIGITS)
+            {
+                mantissa = 10L * mantissa + (c - '0');
+                digits += mantissa == 0L ? 0 : 1;
+            }
+            else
+            {
+                exponent++;
+                truncated |= c != '0';
+            }
+            pos++;
+        }
+
+        // fraction
+        if (pos < end && text.charAt(pos) == '.')
+        {
+            pos++;
+            while (pos < end && isDigit(c = text.charAt(pos)))
+            {
+                anyDigit = true;
+                if (digits < MAX_DIGITS)
+                {
+                    mantissa = 10L * mantissa + (c - '0');
+                    digits += mantissa == 0L ? 0 : 1;
+                    exponent--;
+                }
+                else
+                {
+                    truncated |= c != '0';
+                }
+                pos++;
+            }
+        }
+        if (!anyDigit)
+        {
+            return -1;
+        }
+
+        // exponent; an 'e' or 'E' that is not followed by digits is part of the unit, such as in "5eV"
+        if (pos < end && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E'))
+        {
+            int p = pos + 1;
+            boolean negativeExponent = false;
+            if (p < end && (text.charAt(p) == '+' || text.charAt(p) == '-'))
+            {
+                negativeExponent = text.charAt(p) == '-';
+                p++;
+            }
+            if (p < end && isDigit(text.charAt(p)))
+            {
+                int e = 0;
+                while (p < end && isDigit(c = text.charAt(p)))
+                {
+                    e = Math.min(10 * e + (c - '0'), 100_000);
+                    p++;
+                }
+                exponent += negativeExponent ? -e : e;
+                pos = p;
+            }
+        }
+
+        double d;
+        if (mantissa == 0L && !truncated)
+        {
+            d = 0.0;
+        }
+        else if (!truncated && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22)
+        {
+            // both the mantissa and the power of ten are exact, so the result is correctly rounded
+            d = exponent >= 0 ? mantissa * POW10[exponent] : mantissa / POW10[-exponent];
+        }
+        else
+        {
+            d = Math.abs(Double.parseDouble(text.subSequence(start, pos).toString()));
+        }
+        this.value = negative ? -d : d;
+        return pos;
+    }
+
+    /**
+     * Resolve the unit token, using the cached unit when the token is the same as the last resolved token.
+     * @param text the text
+     * @param start the index of the first character of the unit token
+     * @param end the index after the last character of the unit token
+     * @return the unit, or null when the unit is not known for the quantity
+     */
+    private UnitInterface<Q> resolveUnit(final CharSequence text, final int start, final int end)
+    {
+        int length = end - start;
+        if (length == this.lastTokenLength)
+        {
+            boolean same = true;
+            for (int i = 0; i < length && same; i++)
+            {
+                same = this.lastToken[i] == text.charAt(start + i);
+            }
+            if (same)
+            {
+                return this.lastUnit;
+            }
+        }
+        UnitInterface<Q> resolved;
+        try
+        {
+            resolved = Units.resolve(this.unitClass, text.subSequence(start, end).toString(), this.locale);
+        }
+        catch (UnitRuntimeException exception)
+        {
+            return null;
+        }
+        if (length > this.lastToken.length)
+        {
+            this.lastToken = new char[length];
+        }
+        for (int i = 0; i < length; i++)
+        {
+            this.lastToken[i] = text.charAt(start + i);
+        }
+        this.lastTokenLength = length;
+        this.lastUnit = resolved;
+        return resolved;
+    }
+
+    /**
+     * Return the status of the last parse.
+     * @return the status of the last parse, {@link #OK} when the text was parsed successfully
+     */
+    public int getStatus()
+    {
+        return this.status;
+    }
+
+    /**
+     * Return whether the last parse was successful.
+     * @return whether the last parse was successful
+     */
+    public boolean isOk()
+    {
+        return this.status == OK;
+    }
+
+    /**
+     * Return the index in the text where the error of the last parse was found.
+     * @return the index in the text where the error of the last parse was found, or -1 when the last parse was successful
+     */
+    public int getErrorIndex()
+    {
+        return this.errorIndex;
+    }
+
+    /**
+     * Return the value of the last parse, expressed in the parsed unit.
+     * @return the value of the last parse, expressed in the parsed unit, or NaN when the last parse was not successful
+     */
+    public double getValue()
+    {
+        return this.value;
+    }
+
+    /**
+     * Return the value of the last parse, expressed in the SI or base unit.
+     * @return the value of the last parse, expressed in the SI or base unit, or NaN when the last parse was not successful
+     */
+    public double si()
+    {
+        return this.si;
+    }
+
+    /**
+     * Return the unit of the last parse.
+     * @return the unit of the last parse, or null when the last parse was not successful
+     */
+    public UnitInterface<Q> getUnit()
+    {
+        return this.unit;
+    }
+
+    /**
+     * Return the locale for the localized unit abbreviations.
+     * @return the locale for the localized unit abbreviations
+     */
+    public Locale getLocale()
+    {
+        return this.locale;
+    }
+
+    /**
+     * Instantiate the quantity of the last parse, with the parsed unit as the display unit.
+     * @return the quantity of the last parse
+     * @throws IllegalStateException when the last parse was not successful
+     */
+    public Q quantity()
+    {
+        Throw.when(this.status != OK, IllegalStateException.class, "last parse was not successful, status = %d",
+                this.status);
+        return this.example.instantiateSi(this.si, this.unit);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "QuantityParser[" + this.example.getClass().getSimpleName() + ", locale=" + this.locale + ", status="
+                + this.status + "]";
+    }
+
+}
@@ -1,12 +1,13 @@
 package org.djunits.unit;
 
+import java.util.Locale;
 import java.util.Objects;
 
 import org.djunits.quantity.def.Quantity;
 import org.djunits.unit.scale.LinearScale;
 import org.djunits.unit.scale.Scale;
+import org.djunits.unit.si.PrefixType;
 import org.djunits.unit.si.SIPrefix;
-import org.djunits.unit.si.SIPrefixes;
 import org.djunits.unit.system.UnitSystem;
 import org.djutils.exceptions.Throw;
 
@@ -96,7 +97,9 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements UnitInterfa
     }
 
     /**
-     * Generate and register the units with all SI-prefixes.
+     * Register that this unit accepts all SI-prefixes. The units with an SI prefix are not created here, but lazily, when they
+     * are resolved for the first time, e.g., by {@link Units#resolve(Class, String)} or by a static field such as
+     * <code>Length.Unit.km</code>. This keeps the initialization of the unit classes cheap.
      * @param kilo whether the base unit already has a "kilo" in its abbreviation/name, such as the kilogram
      * @param perUnit whether it is a "per unit" such as "per meter"
      * @return the unit for method chaining
@@ -125,62 +128,44 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements UnitInterfa
                 "SI prefixes generated for 'per' class for unit %s, but name %s does not start with 'per '", cName,
                 getStoredName());
 
-        if (!kilo)
-        {
-            if (!perUnit)
-            {
-                for (SIPrefix sip : SIPrefixes.UNIT_PREFIXES.values())
-                {
-                    if (sip.getFactor() != 1.0)
-                    {
-                        deriveUnit(sip.getDefaultTextualPrefix() + getStoredTextualAbbreviation(),
-                                sip.getDefaultDisplayPrefix() + getStoredDisplayAbbreviation(),
-                                sip.getPrefixName() + getStoredName(), sip.getFactor(), getUnitSystem(), sip);
-                    }
-                }
-            }
-            else
-            {
-                for (SIPrefix sip : SIPrefixes.PER_UNIT_PREFIXES.values())
-                {
-                    if (sip.getFactor() != 1.0)
-                    {
-                        deriveUnit(sip.getDefaultTextualPrefix() + getStoredTextualAbbreviation().substring(1),
-                                sip.getDefaultDisplayPrefix() + getStoredDisplayAbbreviation().substring(1),
-                                sip.getPrefixName() + getStoredName().substring(4), sip.getFactor(), getUnitSystem(), sip);
-                    }
-                }
-            }
-        }
-        else
+        PrefixType prefixType = kilo ? (perUnit ? PrefixType.PER_KILO : PrefixType.KILO)
+                : (perUnit ? PrefixType.PER_UNIT : PrefixType.UNIT);
+        Units.registerSiPrefixBase(this, prefixType);
+        return this;
+    }
+
+    /**
+     * Create the unit with an SI prefix for this unit, for which {@link #generateSiPrefixes(boolean, boolean)} has been called.
+     * The abbreviations and name of the prefixed unit are built from the prefix and the abbreviations and name of this unit
+     * without its own prefix, e.g., "mg" and "milligram" for the kilogram. The new unit registers itself.
+     * @param siPrefix the SI prefix of the new unit, with the prefix type of this unit
+     * @return the new unit with the SI prefix
+     */
+    UnitInterface<Q> deriveSiPrefixedUnit(final SIPrefix siPrefix)
+    {
+        // strip the "/", "k", or "/k" from the abbreviations and the "per ", "kilo", or "per kilo" from the name
+        int abbreviationStrip = 0;
+        int nameStrip = 0;
+        switch (siPrefix.getType())
         {
-            if (!perUnit)
-            {
-                for (SIPrefix sip : SIPrefixes.KILO_PREFIXES.values())
-                {
-                    if (sip.getFactor() != 1.0)
-                    {
-                        deriveUnit(sip.getDefaultTextualPrefix() + getStoredTextualAbbreviation().substring(1),
-                                sip.getDefaultDisplayPrefix() + getStoredDisplayAbbreviation().substring(1),
-                                sip.getPrefixName() + getStoredName().substring(4), sip.getFactor(), getUnitSystem(), sip);
-                    }
-                }
-            }
-            else
-            {
-                for (SIPrefix sip : SIPrefixes.PER_KILO_PREFIXES.values())
-                {
-                    if (sip.getFactor() != 1.0)
-                    {
-
-                        deriveUnit(sip.getDefaultTextualPrefix() + getStoredTextualAbbreviation().substring(2),
-                                sip.getDefaultDisplayPrefix() + getStoredDisplayAbbreviation().substring(2),
-                                sip.getPrefixName() + getStoredName().substring(8), sip.getFactor(), getUnitSystem(), sip);
-                    }
-                }
-            }
+            case PER_UNIT:
+            case KILO:
+                abbreviationStrip = 1;
+                nameStrip = 4;
+                break;
+
+            case PER_KILO:
+                abbreviationStrip = 2;
+                nameStrip = 8;
+                break;
+
+            default:
+                break;
         }
-        return this;
+        return deriveUnit(siPrefix.getDefaultTextualPrefix() + getStoredTextualAbbreviation().substring(abbreviationStrip),
+                siPrefix.getDefaultDisplayPrefix() + getStoredDisplayAbbreviation().substring(abbreviationStrip),
+                siPrefix.getPrefixName() + getStoredName().substring(nameStrip), siPrefix.getFactor(), getUnitSystem(),
+                siPrefix);
     }
 
     /**
@@ -230,6 +215,12 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements UnitInterfa
         return Units.localizedUnitTextualAbbr(getClass(), getId());
     }
 
+    @Override
+    public String getTextualAbbreviation(final Locale locale)
+    {
+        return Units.localizedUnitTextualAbbr(locale, Units.quantityName(getClass()), getId());
+    }
+
     @Override
     public String getStoredDisplayAbbreviation()
     {
@@ -242,6 +233,12 @@ public abstract class AbstractUnit<Q extends Quantity<Q>> implements UnitInterfa
         return Units.localizedUnitDisplayAbbr(getClass(), getId());
     }
 
+    @Override
+    public String getDisplayAbbreviation(final Locale locale)
+    {
+        return Units.localizedUnitDisplayAbbr(locale, Units.quantityName(getClass()), getId());
+    }
+
     @Override
     public String getStoredName()
     {
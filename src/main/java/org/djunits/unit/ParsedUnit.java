@@ -0,0 +1,133 @@
+package org.djunits.unit;
+
+import java.util.Objects;
+
+import org.djunits.quantity.QuantityRegistry;
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.si.SIUnit;
+import org.djutils.exceptions.Throw;
+
+/**
+ * ParsedUnit is the result of parsing a (compound) unit string with the {@link UnitParser}. It stores the linear scale factor
+ * to the SI unit, and the SI dimensions of the unit. As an example, "km/h^2" is parsed into a scale factor of 1000/3600^2 and
+ * the SI unit m/s<sup>2</sup>. ParsedUnit objects are immutable.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class ParsedUnit
+{
+    /** The unit string that was parsed. */
+    private final String text;
+
+    /** The scale factor to convert a value in this unit to the SI unit. */
+    private final double scaleFactor;
+
+    /** The SI dimensions of the unit. */
+    private final SIUnit siUnit;
+
+    /**
+     * Create a parsed unit.
+     * @param text the unit string that was parsed
+     * @param scaleFactor the scale factor to convert a value in this unit to the SI unit
+     * @param siUnit the SI dimensions of the unit
+     * @throws NullPointerException when text or siUnit is null
+     */
+    public ParsedUnit(final String text, final double scaleFactor, final SIUnit siUnit)
+    {
+        Throw.whenNull(text, "text");
+        Throw.whenNull(siUnit, "siUnit");
+        this.text = text;
+        this.scaleFactor = scaleFactor;
+        this.siUnit = siUnit;
+    }
+
+    /**
+     * Return the unit string that was parsed.
+     * @return the unit string that was parsed
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Return the scale factor to convert a value in this unit to the SI unit.
+     * @return the scale factor to convert a value in this unit to the SI unit
+     */
+    public double getScaleFactor()
+    {
+        return this.scaleFactor;
+    }
+
+    /**
+     * Return the SI dimensions of the unit.
+     * @return the SI dimensions of the unit
+     */
+    public SIUnit siUnit()
+    {
+        return this.siUnit;
+    }
+
+    /**
+     * Convert a value expressed in this unit to the SI unit.
+     * @param value the value expressed in this unit
+     * @return the value expressed in the SI unit
+     */
+    public double toSi(final double value)
+    {
+        return value * this.scaleFactor;
+    }
+
+    /**
+     * Convert a value expressed in the SI unit to this unit.
+     * @param si the value expressed in the SI unit
+     * @return the value expressed in this unit
+     */
+    public double fromSi(final double si)
+    {
+        return si / this.scaleFactor;
+    }
+
+    /**
+     * Instantiate a quantity for a value expressed in this unit. The quantity type is looked up with the
+     * {@link QuantityRegistry} based on the SI dimensions, and the SI or base unit of that quantity is used as the display
+     * unit. When no quantity is registered for the dimensions, an SIQuantity is returned.
+     * @param value the value expressed in this unit
+     * @return a quantity for the value, with the SI or base unit of the quantity as the display unit
+     */
+    public Quantity<?> quantity(final double value)
+    {
+        return QuantityRegistry.ofSi(toSi(value), this.siUnit);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(this.scaleFactor, this.siUnit, this.text);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:needbraces")
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ParsedUnit other = (ParsedUnit) obj;
+        return Double.doubleToLongBits(this.scaleFactor) == Double.doubleToLongBits(other.scaleFactor)
+                && Objects.equals(this.siUnit, other.siUnit) && Objects.equals(this.text, other.text);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ParsedUnit[" + this.text + " = " + this.scaleFactor + " " + this.siUnit.getDisplayAbbreviation() + "]";
+    }
+
+}
@@ -0,0 +1,197 @@
+package org.djunits.unit;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.scale.LinearScale;
+import org.djutils.exceptions.Throw;
+
+/**
+ * UnitConverter converts values that are expressed in one unit to values that are expressed in another unit of the same
+ * quantity. The conversion is resolved once, when the converter is created: when both units have a {@link LinearScale}, the
+ * two scale factors are collapsed into a single multiplier, and when that multiplier is 1 the conversion is a plain copy.
+ * Other scales, such as the GradeScale, convert through the SI value of the quantity. Converters are immutable and
+ * thread-safe; they are usually obtained through {@link Units#converter(UnitInterface, UnitInterface)}, which caches them
+ * per pair of units.
+ * <p>
+ * Note that the collapsed multiplier can lead to results that differ in the last bit from a conversion through the SI value,
+ * since one multiplication is carried out instead of a multiplication and a division.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public final class UnitConverter<Q extends Quantity<Q>>
+{
+    /** The unit of the values to convert. */
+    private final UnitInterface<Q> fromUnit;
+
+    /** The unit to convert the values to. */
+    private final UnitInterface<Q> toUnit;
+
+    /** Whether the conversion is a single multiplication with the factor. */
+    private final boolean linear;
+
+    /** The multiplier for a linear conversion; NaN when the conversion is not linear. */
+    private final double factor;
+
+    /**
+     * Create a converter from one unit to another unit. Use {@link Units#converter(UnitInterface, UnitInterface)} to obtain a
+     * cached instance.
+     * @param fromUnit the unit of the values to convert
+     * @param toUnit the unit to convert the values to
+     * @throws NullPointerException when fromUnit or toUnit is null
+     * @throws IllegalArgumentException when the SI units of fromUnit and toUnit do not match
+     */
+    public UnitConverter(final UnitInterface<Q> fromUnit, final UnitInterface<Q> toUnit)
+    {
+        Throw.whenNull(fromUnit, "fromUnit");
+        Throw.whenNull(toUnit, "toUnit");
+        Throw.when(!fromUnit.siUnit().equals(toUnit.siUnit()), IllegalArgumentException.class,
+                "UnitConverter from %s to %s: units do not match: %s <> %s", fromUnit.getId(), toUnit.getId(),
+                fromUnit.siUnit().getDisplayAbbreviation(), toUnit.siUnit().getDisplayAbbreviation());
+        this.fromUnit = fromUnit;
+        this.toUnit = toUnit;
+        if (fromUnit.getScale() instanceof LinearScale fromScale && toUnit.getScale() instanceof LinearScale toScale)
+        {
+            this.linear = true;
+            this.factor = fromScale.getScaleFactorToBaseUnit() == toScale.getScaleFactorToBaseUnit() ? 1.0
+                    : fromScale.getScaleFactorToBaseUnit() / toScale.getScaleFactorToBaseUnit();
+        }
+        else
+        {
+            this.linear = false;
+            this.factor = Double.NaN;
+        }
+    }
+
+    /**
+     * Convert a single value.
+     * @param value the value, expressed in the from-unit
+     * @return the value, expressed in the to-unit
+     */
+    public double convert(final double value)
+    {
+        return this.linear ? value * this.factor : this.toUnit.fromBaseValue(this.fromUnit.toBaseValue(value));
+    }
+
+    /**
+     * Convert all values of an array, and store the results in another array. The arrays can be the same array, in which case
+     * the values are converted in place.
+     * @param in the values, expressed in the from-unit
+     * @param out the array to store the values, expressed in the to-unit; it should be at least as long as the input array
+     * @throws NullPointerException when in or out is null
+     * @throws IllegalArgumentException when out is shorter than in
+     */
+    public void convert(final double[] in, final double[] out)
+    {
+        Throw.whenNull(in, "in");
+        Throw.whenNull(out, "out");
+        Throw.when(out.length < in.length, IllegalArgumentException.class, "output array length %d < input array length %d",
+                out.length, in.length);
+        convert(in, 0, out, 0, in.length);
+    }
+
+    /**
+     * Convert a range of values of an array in place.
+     * @param values the array with the values, expressed in the from-unit, which will be overwritten with the values expressed
+     *            in the to-unit
+     * @param offset the index of the first value to convert
+     * @param length the number of values to convert
+     * @throws NullPointerException when values is null
+     * @throws IndexOutOfBoundsException when offset or length are negative, or offset + length exceeds the array length
+     */
+    public void convert(final double[] values, final int offset, final int length)
+    {
+        Throw.whenNull(values, "values");
+        Throw.when(offset < 0 || length < 0 || offset > values.length - length, IndexOutOfBoundsException.class,
+                "offset %d and length %d out of bounds for array length %d", offset, length, values.length);
+        convert(values, offset, values, offset, length);
+    }
+
+    /**
+     * Convert a range of values; the bounds have been checked by the caller.
+     * @param in the input array
+     * @param inOffset the index of the first value to convert in the input array
+     * @param out the output array
+     * @param outOffset the index of the first result in the output array
+     * @param length the number of values to convert
+     */
+    private void convert(final double[] in, final int inOffset, final double[] out, final int outOffset, final int length)
+    {
+        if (this.linear)
+        {
+            if (this.factor == 1.0)
+            {
+                if (in != out || inOffset != outOffset)
+                {
+                    System.arraycopy(in, inOffset, out, outOffset, length);
+                }
+                return;
+            }
+            final double f = this.factor;
+            for (int i = 0; i < length; i++)
+            {
+                out[outOffset + i] = in[inOffset + i] * f;
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            out[outOffset + i] = this.toUnit.fromBaseValue(this.fromUnit.toBaseValue(in[inOffset + i]));
+        }
+    }
+
+    /**
+     * Return the unit of the values to convert.
+     * @return the unit of the values to convert
+     */
+    public UnitInterface<Q> getFromUnit()
+    {
+        return this.fromUnit;
+    }
+
+    /**
+     * Return the unit to convert the values to.
+     * @return the unit to convert the values to
+     */
+    public UnitInterface<Q> getToUnit()
+    {
+        return this.toUnit;
+    }
+
+    /**
+     * Return whether the conversion is carried out as a single multiplication.
+     * @return whether the conversion is carried out as a single multiplication
+     */
+    public boolean isLinear()
+    {
+        return this.linear;
+    }
+
+    /**
+     * Return whether the conversion leaves the values unchanged.
+     * @return whether the conversion leaves the values unchanged
+     */
+    public boolean isIdentity()
+    {
+        return this.linear && this.factor == 1.0;
+    }
+
+    /**
+     * Return the multiplier for a linear conversion, or NaN when the conversion is not linear.
+     * @return the multiplier for a linear conversion, or NaN when the conversion is not linear
+     */
+    public double getFactor()
+    {
+        return this.factor;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "UnitConverter [" + this.fromUnit.getId() + " -> " + this.toUnit.getId()
+                + (this.linear ? ", factor=" + this.factor : ", non-linear") + "]";
+    }
+
+}
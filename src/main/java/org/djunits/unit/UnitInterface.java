@@ -1,5 +1,7 @@
 package org.djunits.unit;
 
+import java.util.Locale;
+
 import org.djunits.quantity.def.Quantity;
 import org.djunits.unit.scale.Scale;
 import org.djunits.unit.si.SIPrefix;
@@ -79,6 +81,28 @@ public interface UnitInterface<Q extends Quantity<Q>>
      */
     String getTextualAbbreviation();
 
+    /**
+     * Retrieve the display abbreviation, and apply localization for the given locale when possible. The default implementation
+     * does not depend on the locale and returns {@link #getDisplayAbbreviation()}.
+     * @param locale the locale to use for the localization
+     * @return the (localized) display abbreviation
+     */
+    default String getDisplayAbbreviation(final Locale locale)
+    {
+        return getDisplayAbbreviation();
+    }
+
+    /**
+     * Retrieve the textual abbreviation, and apply localization for the given locale when possible. The default implementation
+     * does not depend on the locale and returns {@link #getTextualAbbreviation()}.
+     * @param locale the locale to use for the localization
+     * @return the (localized) textual abbreviation
+     */
+    default String getTextualAbbreviation(final Locale locale)
+    {
+        return getTextualAbbreviation();
+    }
+
     /**
      * Return the name, which is the main written explanation, of the unit. Apply localization when possible.
      * @return the (localized) name of the unit
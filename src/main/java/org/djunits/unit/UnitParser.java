@@ -0,0 +1,627 @@
+package org.djunits.unit;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.djunits.unit.scale.LinearScale;
+import org.djunits.unit.si.PrefixType;
+import org.djunits.unit.si.SIPrefix;
+import org.djunits.unit.si.SIPrefixes;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.unit.system.UnitSystem;
+import org.djutils.exceptions.Throw;
+
+/**
+ * UnitParser parses free-form (compound) unit strings such as "kN.m", "km/h^2" or "MJ/kg" into a {@link ParsedUnit} with a
+ * scale factor and SI dimensions. The parser uses a prefix trie that is compiled from the textual and display abbreviations
+ * of all registered units with a linear scale, and a prefix trie of the SI prefixes. A unit string is parsed in one pass, where
+ * every term is matched with the longest registered abbreviation, or with an SI prefix followed by a registered unit that
+ * accepts SI prefixes. The grammar is:
+ *
+ * <pre>
+ * unit     = [ "/" ] term { ( "." | "*" | "&middot;" | "/" ) term }
+ * term     = ( abbreviation | prefix abbreviation | "1" ) [ exponent ]
+ * exponent = [ "^" ] [ "+" | "-" ] digit { digit }
+ * </pre>
+ *
+ * As in {@link SIUnit#of(String)}, all terms after a "/" are part of the denominator, so "W/m2.K" means W/(m<sup>2</sup>K),
+ * and only one "/" is allowed outside registered abbreviations. Registered abbreviations that contain operators or digits,
+ * such as "km/h" or "m2", are only used when they are not followed by an exponent, so "km/h^2" is parsed as km/h<sup>2</sup>
+ * rather than as (km/h)<sup>2</sup>. Registered abbreviations with a "/" are not used in the denominator, and not when they
+ * are followed by a product, so "km/h.s" is parsed as km/(h.s). A unit string can start with a "/", so "/s" is parsed as 1/s.
+ * The liter ("L" or "l") and the radian accept SI prefixes, as in "mL" and "mrad", although these units are not defined. The
+ * micro sign U+00B5 can be used instead of the Greek letter mu U+03BC, so "&micro;m" is parsed as a micrometer. When an
+ * abbreviation is used by units of more than one quantity, SI and base units take precedence over other SI units, which take
+ * precedence over units of other unit systems, so "A" is the ampere rather than the angstrom.
+ * <p>
+ * Parsed units are cached, so repeated parsing of the same strings, e.g., from instrument feeds, costs a single hash lookup.
+ * The trie is compiled when the parser is used for the first time, and compiled again when units have been registered or
+ * unregistered in {@link Units}. The built-in units are taken from the generated {@link UnitTable}s, so parsing does not
+ * initialize the quantity classes, and the built-in units can always be parsed. The parser is thread-safe.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class UnitParser
+{
+    /** The maximum number of parsed units in the cache. */
+    public static final int MAX_CACHE_SIZE = 4096;
+
+    /** The maximum absolute value of an exponent. */
+    private static final int MAX_EXPONENT = 99;
+
+    /**
+     * The built-in units, per quantity name and id, that accept SI prefixes in unit strings although no units with SI prefixes
+     * are defined for them, with the abbreviations that can follow the prefix, such as "mL", "ml" and "mrad".
+     */
+    private static final Map<String, Map<String, List<String>>> PREFIX_STEMS =
+            Map.of("Volume", Map.of("L", List.of("L", "l")), "Angle", Map.of("rad", List.of("rad")));
+
+    /** The compiled tables; null when not yet compiled. */
+    private static volatile Tables tables = null;
+
+    /** Lock for compiling the tables. */
+    private static final Object LOCK = new Object();
+
+    /** */
+    private UnitParser()
+    {
+        // static class.
+    }
+
+    /**
+     * Parse a (compound) unit string into its scale factor and SI dimensions. Results are cached.
+     * @param text the unit string to parse, e.g., "kN.m", "km/h^2" or "MJ/kg"
+     * @return the parsed unit with the scale factor and the SI dimensions of the unit string
+     * @throws NullPointerException when text is null
+     * @throws UnitRuntimeException when the unit string cannot be parsed
+     */
+    public static ParsedUnit parse(final String text) throws UnitRuntimeException
+    {
+        Throw.whenNull(text, "text");
+        Tables t = tables();
+        ParsedUnit result = t.cache.get(text);
+        if (result == null)
+        {
+            result = t.parse(text);
+            if (t.cache.size() < MAX_CACHE_SIZE)
+            {
+                t.cache.putIfAbsent(text, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Clear the cache of parsed units, and compile the tables again at the next use of the parser.
+     */
+    public static void clearCache()
+    {
+        tables = null;
+    }
+
+    /**
+     * Return the compiled tables, and compile them when the registry of units has changed since the last compilation.
+     * @return the compiled tables for the current registry of units
+     */
+    private static Tables tables()
+    {
+        long version = Units.registryVersion();
+        Tables t = tables;
+        if (t != null && t.version == version)
+        {
+            return t;
+        }
+        synchronized (LOCK)
+        {
+            version = Units.registryVersion();
+            t = tables;
+            if (t == null || t.version != version)
+            {
+                t = new Tables(version, Units.createdUnits(), Units.siPrefixBases());
+                tables = t;
+            }
+            return t;
+        }
+    }
+
+    /**
+     * Trie node. The children are stored in arrays that are sorted on character, to allow for binary search without boxing.
+     */
+    private static final class Node
+    {
+        /** The sorted characters of the children. */
+        private char[] chars = new char[0];
+
+        /** The children, in the same order as the characters. */
+        private Node[] children = new Node[0];
+
+        /** The entry for the string that ends at this node, or null when no string ends here. */
+        private Entry entry = null;
+
+        /**
+         * Return the child for a character.
+         * @param c the character
+         * @return the child for the character, or null when there is no child for the character
+         */
+        Node child(final char c)
+        {
+            int lo = 0;
+            int hi = this.chars.length - 1;
+            while (lo <= hi)
+            {
+                int mid = (lo + hi) >>> 1;
+                char m = this.chars[mid];
+                if (m < c)
+                {
+                    lo = mid + 1;
+                }
+                else if (m > c)
+                {
+                    hi = mid - 1;
+                }
+                else
+                {
+                    return this.children[mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Return the child for a character, and create it when it does not exist yet.
+         * @param c the character
+         * @return the (new) child for the character
+         */
+        Node getOrAddChild(final char c)
+        {
+            Node node = child(c);
+            if (node != null)
+            {
+                return node;
+            }
+            int n = this.chars.length;
+            int index = 0;
+            while (index < n && this.chars[index] < c)
+            {
+                index++;
+            }
+            char[] newChars = new char[n + 1];
+            Node[] newChildren = new Node[n + 1];
+            System.arraycopy(this.chars, 0, newChars, 0, index);
+            System.arraycopy(this.children, 0, newChildren, 0, index);
+            System.arraycopy(this.chars, index, newChars, index + 1, n - index);
+            System.arraycopy(this.children, index, newChildren, index + 1, n - index);
+            node = new Node();
+            newChars[index] = c;
+            newChildren[index] = node;
+            this.chars = newChars;
+            this.children = newChildren;
+            return node;
+        }
+
+        /**
+         * Add a string to the trie that starts at this node. When the string is already present, the existing entry is only
+         * replaced when the new entry has a higher priority.
+         * @param key the string to add
+         * @param value the entry for the string
+         */
+        void add(final String key, final Entry value)
+        {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++)
+            {
+                node = node.getOrAddChild(key.charAt(i));
+            }
+            if (node.entry == null || value.rank < node.entry.rank)
+            {
+                node.entry = value;
+            }
+        }
+    }
+
+    /**
+     * Entry in a trie, with the scale factor and SI dimensions of a unit, or the factor of an SI prefix.
+     */
+    private static final class Entry
+    {
+        /** The scale factor of the unit or the factor of the prefix. */
+        private final double factor;
+
+        /** The SI dimensions of the unit; dimensionless for a prefix. */
+        private final SIUnit siUnit;
+
+        /** Whether the unit accepts an SI prefix. */
+        private final boolean prefixable;
+
+        /** Whether the abbreviation contains operators or digits, so it cannot be followed by an exponent. */
+        private final boolean compound;
+
+        /** Whether the abbreviation contains a division sign. */
+        private final boolean division;
+
+        /** The rank of the entry when abbreviations are ambiguous; the entry with the lowest rank is used. */
+        private final int rank;
+
+        /**
+         * Create a trie entry.
+         * @param factor the scale factor of the unit or the factor of the prefix
+         * @param siUnit the SI dimensions of the unit; dimensionless for a prefix
+         * @param prefixable whether the unit accepts an SI prefix
+         * @param abbreviation the abbreviation of the unit or prefix
+         * @param rank the rank of the entry when abbreviations are ambiguous; the entry with the lowest rank is used
+         */
+        Entry(final double factor, final SIUnit siUnit, final boolean prefixable, final String abbreviation, final int rank)
+        {
+            this.factor = factor;
+            this.rank = rank;
+            this.siUnit = siUnit;
+            this.prefixable = prefixable;
+            boolean isCompound = false;
+            for (int i = 0; i < abbreviation.length(); i++)
+            {
+                char c = abbreviation.charAt(i);
+                isCompound |= Tables.isOperator(c) || c == '^' || (c >= '0' && c <= '9');
+            }
+            this.compound = isCompound;
+            this.division = abbreviation.indexOf('/') >= 0;
+        }
+
+        /**
+         * Return whether the abbreviation of this entry can be used when it ends at the given position.
+         * @param text the unit string
+         * @param end the position after the abbreviation
+         * @param denominator whether the abbreviation is part of the denominator
+         * @return whether the abbreviation of this entry can be used
+         */
+        boolean acceptable(final String text, final int end, final boolean denominator)
+        {
+            if (this.compound && Tables.isExponentStart(text, end))
+            {
+                return false;
+            }
+            return !this.division || (!denominator && (end == text.length() || text.charAt(end) == '/'));
+        }
+    }
+
+    /**
+     * The compiled tries for a snapshot of the registry of units, and the cache of parsed units for these tries.
+     */
+    private static final class Tables
+    {
+        /** The version of the registry from which the tables were compiled. */
+        private final long version;
+
+        /** The trie with the abbreviations of the units. */
+        private final Node units = new Node();
+
+        /** The trie with the SI prefixes. */
+        private final Node prefixes = new Node();
+
+        /** The cache of parsed units. */
+        private final Map<String, ParsedUnit> cache = new ConcurrentHashMap<>();
+
+        /**
+         * Compile the tries for a snapshot of the registry of units. The units with an SI prefix that have not been created yet
+         * are parsed as an SI prefix followed by the unit without prefix, so they do not have to be created for the parser.
+         * @param version the version of the registry of units
+         * @param registry the snapshot of the created and registered units
+         * @param siPrefixBases the units that accept SI prefixes
+         */
+        Tables(final long version, final Map<String, Map<String, UnitInterface<?>>> registry,
+                final List<Units.SiPrefixBase> siPrefixBases)
+        {
+            this.version = version;
+
+            // the abbreviations without prefix of the units that accept SI prefixes, such as "m" and "g"
+            Set<String> prefixable = new HashSet<>();
+            this.units.add("1", new Entry(1.0, SIUnit.DIMLESS, false, "1", 0));
+
+            // the built-in units come from the generated unit tables, so the quantity classes do not have to be initialized
+            for (UnitTable table : UnitTable.tables())
+            {
+                SIUnit siUnit = table.siUnit();
+                for (int i = 0; i < table.size(); i++)
+                {
+                    double factor = table.getScaleFactor(i);
+                    if (Double.isNaN(factor))
+                    {
+                        continue;
+                    }
+                    int rank = rank(factor == 1.0, table.getUnitSystem(i));
+                    PrefixType prefixType = table.getSiPrefixType(i);
+                    boolean kilo = prefixType == PrefixType.KILO;
+                    if (prefixType == PrefixType.UNIT || kilo)
+                    {
+                        addStem(prefixable, kilo ? table.getId(i).substring(1) : table.getId(i), factor, siUnit, kilo, rank);
+                        String display = table.getDisplayAbbreviation(i);
+                        addStem(prefixable, kilo ? display.substring(1) : display, factor, siUnit, kilo, rank);
+                    }
+                    List<String> stems = PREFIX_STEMS.getOrDefault(table.getQuantityName(), Map.of()).get(table.getId(i));
+                    if (stems != null)
+                    {
+                        for (String stem : stems)
+                        {
+                            addStem(prefixable, stem, factor, siUnit, false, rank);
+                        }
+                    }
+                    this.units.add(table.getId(i), new Entry(factor, siUnit, false, table.getId(i), rank));
+                    if (!table.getDisplayAbbreviation(i).isEmpty())
+                    {
+                        this.units.add(table.getDisplayAbbreviation(i),
+                                new Entry(factor, siUnit, false, table.getDisplayAbbreviation(i), rank));
+                    }
+                }
+            }
+
+            // units that have been registered at runtime, and units that accept SI prefixes that are not built-in
+            for (Units.SiPrefixBase base : siPrefixBases)
+            {
+                PrefixType prefixType = base.getPrefixType();
+                AbstractUnit<?> unit = base.getUnit();
+                if ((prefixType == PrefixType.UNIT || prefixType == PrefixType.KILO)
+                        && unit.getScale() instanceof LinearScale scale)
+                {
+                    boolean kilo = prefixType == PrefixType.KILO;
+                    double factor = scale.getScaleFactorToBaseUnit();
+                    int rank = rank(unit);
+                    addStem(prefixable, base.getStem(), factor, unit.siUnit(), kilo, rank);
+                    String display = unit.getStoredDisplayAbbreviation();
+                    addStem(prefixable, kilo ? display.substring(1) : display, factor, unit.siUnit(), kilo, rank);
+                }
+            }
+
+            for (Map<String, UnitInterface<?>> quantityUnits : registry.values())
+            {
+                for (UnitInterface<?> unit : quantityUnits.values())
+                {
+                    if (unit.getScale() instanceof LinearScale scale)
+                    {
+                        String textual = unit.getStoredTextualAbbreviation();
+                        boolean canPrefix = prefixable.contains(textual);
+                        double factor = scale.getScaleFactorToBaseUnit();
+                        int rank = rank(unit);
+                        this.units.add(textual, new Entry(factor, unit.siUnit(), canPrefix, textual, rank));
+                        String display = unit.getStoredDisplayAbbreviation();
+                        if (!display.isEmpty())
+                        {
+                            this.units.add(display, new Entry(factor, unit.siUnit(), canPrefix, display, rank));
+                        }
+                    }
+                }
+            }
+
+            for (SIPrefix siPrefix : SIPrefixes.UNIT_PREFIXES.values())
+            {
+                if (!siPrefix.getDefaultTextualPrefix().isEmpty())
+                {
+                    Entry entry = new Entry(siPrefix.getFactor(), SIUnit.DIMLESS, false, "", 0);
+                    this.prefixes.add(siPrefix.getDefaultTextualPrefix(), entry);
+                    this.prefixes.add(siPrefix.getDefaultDisplayPrefix(), entry);
+                }
+            }
+        }
+
+        /**
+         * Add the abbreviation without prefix of a unit that accepts SI prefixes to the trie, e.g., "g" for the kilogram.
+         * @param prefixable the set of abbreviations that accept SI prefixes, to which the stem is added
+         * @param stem the abbreviation without prefix; nothing is added when the stem is empty
+         * @param factor the scale factor of the unit that accepts SI prefixes, e.g., 1.0 for the kilogram
+         * @param siUnit the SI dimensions of the unit
+         * @param kilo whether the unit has "kilo" in its abbreviation, so the factor of the stem is 1000 times smaller
+         * @param rank the rank of the unit
+         */
+        private void addStem(final Set<String> prefixable, final String stem, final double factor, final SIUnit siUnit,
+                final boolean kilo, final int rank)
+        {
+            if (!stem.isEmpty())
+            {
+                prefixable.add(stem);
+                this.units.add(stem, new Entry(kilo ? factor / 1000.0 : factor, siUnit, true, stem, rank));
+            }
+        }
+
+        /**
+         * Return the rank of a unit for abbreviations that are used by more than one unit, such as "A" for the ampere and the
+         * angstrom, or "g" for the gram and the standard gravity. SI and base units come first, then the other units of the SI,
+         * and then the units of other unit systems.
+         * @param unit the unit to rank
+         * @return the rank of the unit, where a lower rank has a higher priority
+         */
+        private static int rank(final UnitInterface<?> unit)
+        {
+            return rank(unit.getScale().isIdentityScale(), unit.getUnitSystem());
+        }
+
+        /**
+         * Return the rank of a unit based on its scale and unit system, see {@link #rank(UnitInterface)}.
+         * @param identity whether the unit has an identity scale
+         * @param unitSystem the unit system of the unit
+         * @return the rank of the unit, where a lower rank has a higher priority
+         */
+        private static int rank(final boolean identity, final UnitSystem unitSystem)
+        {
+            if (identity)
+            {
+                return 0;
+            }
+            boolean si = unitSystem == UnitSystem.SI_BASE || unitSystem == UnitSystem.SI_DERIVED
+                    || unitSystem == UnitSystem.SI_ACCEPTED;
+            return si ? 1 : 2;
+        }
+
+        /**
+         * Return whether a character is a product or division operator.
+         * @param c the character to check
+         * @return whether the character is a product or division operator
+         */
+        static boolean isOperator(final char c)
+        {
+            return c == '.' || c == '*' || c == '\u00B7' || c == '/';
+        }
+
+        /**
+         * Return whether an exponent starts at the given position.
+         * @param text the unit string
+         * @param pos the position to check
+         * @return whether an exponent starts at the given position
+         */
+        static boolean isExponentStart(final String text, final int pos)
+        {
+            if (pos >= text.length())
+            {
+                return false;
+            }
+            char c = text.charAt(pos);
+            return c == '^' || c == '-' || c == '+' || (c >= '0' && c <= '9');
+        }
+
+        /**
+         * Parse a unit string in one pass. The micro sign U+00B5 is read as the Greek letter mu U+03BC of the SI prefix micro.
+         * @param unitString the unit string to parse
+         * @return the parsed unit
+         * @throws UnitRuntimeException when the unit string cannot be parsed
+         */
+        ParsedUnit parse(final String unitString)
+        {
+            final String text = unitString.replace('\u00B5', '\u03BC');
+            final int len = text.length();
+            Throw.when(len == 0, UnitRuntimeException.class, "Empty unit string cannot be parsed");
+            double factor = 1.0;
+            SIUnit siUnit = SIUnit.DIMLESS;
+            boolean denominator = false;
+            int pos = 0;
+            while (true)
+            {
+                // find the longest registered abbreviation that starts at pos
+                int bestEnd = -1;
+                Entry best = null;
+                double prefixFactor = 1.0;
+                Node node = this.units;
+                for (int i = pos; i < len; i++)
+                {
+                    node = node.child(text.charAt(i));
+                    if (node == null)
+                    {
+                        break;
+                    }
+                    if (node.entry != null && node.entry.acceptable(text, i + 1, denominator))
+                    {
+                        bestEnd = i + 1;
+                        best = node.entry;
+                    }
+                }
+
+                // find a longer match of an SI prefix followed by a unit that accepts SI prefixes
+                Node prefixNode = this.prefixes;
+                for (int p = pos; p < len - 1; p++)
+                {
+                    prefixNode = prefixNode.child(text.charAt(p));
+                    if (prefixNode == null)
+                    {
+                        break;
+                    }
+                    if (prefixNode.entry != null)
+                    {
+                        node = this.units;
+                        for (int i = p + 1; i < len; i++)
+                        {
+                            node = node.child(text.charAt(i));
+                            if (node == null)
+                            {
+                                break;
+                            }
+                            if (i + 1 > bestEnd && node.entry != null && node.entry.prefixable
+                                    && node.entry.acceptable(text, i + 1, denominator))
+                            {
+                                bestEnd = i + 1;
+                                best = node.entry;
+                                prefixFactor = prefixNode.entry.factor;
+                            }
+                        }
+                    }
+                }
+
+                if (best == null)
+                {
+                    // a leading division sign without a registered abbreviation, such as "/s", means 1/s
+                    if (pos == 0 && len > 1 && text.charAt(0) == '/')
+                    {
+                        denominator = true;
+                        pos = 1;
+                        continue;
+                    }
+                    throw new UnitRuntimeException("Unit string '" + unitString + "' contains an unknown unit at position "
+                            + pos + ": " + unitString.substring(pos));
+                }
+                pos = bestEnd;
+
+                // parse the optional exponent
+                int exponent = 1;
+                if (pos < len && isExponentStart(text, pos))
+                {
+                    int start = pos;
+                    if (text.charAt(pos) == '^')
+                    {
+                        pos++;
+                    }
+                    int sign = 1;
+                    if (pos < len && (text.charAt(pos) == '-' || text.charAt(pos) == '+'))
+                    {
+                        sign = text.charAt(pos) == '-' ? -1 : 1;
+                        pos++;
+                    }
+                    int digitsStart = pos;
+                    exponent = 0;
+                    while (pos < len && text.charAt(pos) >= '0' && text.charAt(pos) <= '9')
+                    {
+                        exponent = 10 * exponent + (text.charAt(pos) - '0');
+                        Throw.when(exponent > MAX_EXPONENT, UnitRuntimeException.class,
+                                "Unit string '%s' contains an exponent that is too large at position %d", unitString, start);
+                        pos++;
+                    }
+                    Throw.when(pos == digitsStart, UnitRuntimeException.class,
+                            "Unit string '%s' contains an exponent without digits at position %d", unitString, start);
+                    exponent *= sign;
+                }
+
+                // combine the term with the result
+                double termFactor = Math.pow(prefixFactor * best.factor, exponent);
+                SIUnit termUnit = exponent == 1 ? best.siUnit : best.siUnit.pow(exponent);
+                if (denominator)
+                {
+                    factor /= termFactor;
+                    siUnit = siUnit.minus(termUnit);
+                }
+                else
+                {
+                    factor *= termFactor;
+                    siUnit = siUnit.plus(termUnit);
+                }
+
+                // parse the operator
+                if (pos == len)
+                {
+                    return new ParsedUnit(unitString, factor, siUnit);
+                }
+                char c = text.charAt(pos);
+                Throw.when(!isOperator(c), UnitRuntimeException.class,
+                        "Unit string '%s' contains an unexpected character '%s' at position %d", unitString, c, pos);
+                if (c == '/')
+                {
+                    Throw.when(denominator, UnitRuntimeException.class,
+                            "Unit string '%s' contains more than one division sign", unitString);
+                    denominator = true;
+                }
+                pos++;
+                Throw.when(pos == len, UnitRuntimeException.class, "Unit string '%s' ends with an operator", unitString);
+            }
+        }
+    }
+
+}
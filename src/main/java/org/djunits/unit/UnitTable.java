@@ -0,0 +1,216 @@
+package org.djunits.unit;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.unit.si.PrefixType;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.unit.system.UnitSystem;
+import org.djutils.exceptions.Throw;
+
+/**
+ * UnitTable is a compact, static description of the built-in units of one quantity: the ids (textual abbreviations), the
+ * display abbreviations, the scale factors to the SI unit, the SI prefixes that the units accept, the unit systems, and the SI
+ * dimensions of the quantity. The tables are generated from the unit classes by the <code>GenerateUnitTableData</code>
+ * program in the test sources, so the information is available without loading and initializing the unit classes. The unit
+ * classes themselves remain the source of truth: <code>UnitTableTest</code> fails when the generated tables are not up to date.
+ * <p>
+ * The tables are used by the {@link UnitParser} to compile its trie without initializing all quantity classes, and by
+ * {@link Units} to initialize the unit class of a built-in quantity without reflection.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class UnitTable
+{
+    /** The tables of all built-in quantities, keyed on the quantity name, in a predictable order. */
+    private static final Map<String, UnitTable> TABLES;
+
+    static
+    {
+        Map<String, UnitTable> tables = new LinkedHashMap<>();
+        for (UnitTable table : UnitTableData.tables())
+        {
+            tables.put(table.getQuantityName(), table);
+        }
+        TABLES = tables;
+    }
+
+    /** The simple class name of the quantity, as used in {@link Units}. */
+    private final String quantityName;
+
+    /** The exponents of the SI dimensions of the quantity in the order rad, sr, kg, m, s, A, K, mol, cd. */
+    private final int[] siDimensions;
+
+    /** The ids (textual abbreviations) of the units. */
+    private final String[] ids;
+
+    /** The display abbreviations of the units. */
+    private final String[] displayAbbreviations;
+
+    /** The scale factors of the units to the SI unit, or NaN for a unit that does not have a linear scale. */
+    private final double[] scaleFactors;
+
+    /** The types of SI prefixes that the units accept, or null for a unit that does not accept SI prefixes. */
+    private final PrefixType[] siPrefixTypes;
+
+    /** The unit systems of the units. */
+    private final UnitSystem[] unitSystems;
+
+    /**
+     * Create the table for the built-in units of one quantity. The arrays are NOT copied.
+     * @param quantityName the simple class name of the quantity
+     * @param siDimensions the exponents of the SI dimensions of the quantity in the order rad, sr, kg, m, s, A, K, mol, cd
+     * @param ids the ids (textual abbreviations) of the units
+     * @param displayAbbreviations the display abbreviations of the units
+     * @param scaleFactors the scale factors of the units to the SI unit, or NaN for a unit without a linear scale
+     * @param siPrefixTypes the types of SI prefixes that the units accept, or null for a unit that does not accept SI
+     *            prefixes
+     * @param unitSystems the unit systems of the units
+     * @throws IllegalArgumentException when the arrays for the units do not have the same length
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    UnitTable(final String quantityName, final int[] siDimensions, final String[] ids, final String[] displayAbbreviations,
+            final double[] scaleFactors, final PrefixType[] siPrefixTypes, final UnitSystem[] unitSystems)
+    {
+        Throw.whenNull(quantityName, "quantityName");
+        Throw.when(displayAbbreviations.length != ids.length || scaleFactors.length != ids.length
+                || siPrefixTypes.length != ids.length || unitSystems.length != ids.length, IllegalArgumentException.class,
+                "UnitTable for %s: arrays for the units do not have the same length", quantityName);
+        this.quantityName = quantityName;
+        this.siDimensions = siDimensions;
+        this.ids = ids;
+        this.displayAbbreviations = displayAbbreviations;
+        this.scaleFactors = scaleFactors;
+        this.siPrefixTypes = siPrefixTypes;
+        this.unitSystems = unitSystems;
+    }
+
+    /**
+     * Return the table of the built-in units of a quantity.
+     * @param quantityName the simple class name of the quantity, e.g., "Length"
+     * @return the table of the built-in units of the quantity, or null when the quantity is not a built-in quantity
+     */
+    public static UnitTable of(final String quantityName)
+    {
+        return TABLES.get(quantityName);
+    }
+
+    /**
+     * Return the tables of all built-in quantities, in a predictable order.
+     * @return an immutable list with the tables of all built-in quantities
+     */
+    public static List<UnitTable> tables()
+    {
+        return List.copyOf(TABLES.values());
+    }
+
+    /**
+     * Return the simple class name of the quantity.
+     * @return the simple class name of the quantity, e.g., "Length"
+     */
+    public String getQuantityName()
+    {
+        return this.quantityName;
+    }
+
+    /**
+     * Return the SI dimensions of the quantity.
+     * @return the SI dimensions of the quantity
+     */
+    public SIUnit siUnit()
+    {
+        return SIUnit.of(this.siDimensions);
+    }
+
+    /**
+     * Return the number of built-in units of the quantity.
+     * @return the number of built-in units of the quantity
+     */
+    public int size()
+    {
+        return this.ids.length;
+    }
+
+    /**
+     * Return the index of a unit in the table.
+     * @param id the id (textual abbreviation) of the unit
+     * @return the index of the unit in the table, or -1 when the table does not contain the unit
+     */
+    public int indexOf(final String id)
+    {
+        for (int i = 0; i < this.ids.length; i++)
+        {
+            if (this.ids[i].equals(id))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the id (textual abbreviation) of a unit.
+     * @param index the index of the unit
+     * @return the id of the unit
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public String getId(final int index)
+    {
+        return this.ids[index];
+    }
+
+    /**
+     * Return the display abbreviation of a unit.
+     * @param index the index of the unit
+     * @return the display abbreviation of the unit
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public String getDisplayAbbreviation(final int index)
+    {
+        return this.displayAbbreviations[index];
+    }
+
+    /**
+     * Return the scale factor of a unit to the SI unit.
+     * @param index the index of the unit
+     * @return the scale factor of the unit to the SI unit, or NaN when the unit does not have a linear scale
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public double getScaleFactor(final int index)
+    {
+        return this.scaleFactors[index];
+    }
+
+    /**
+     * Return the type of SI prefixes that a unit accepts.
+     * @param index the index of the unit
+     * @return the type of SI prefixes that the unit accepts, or null when the unit does not accept SI prefixes
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public PrefixType getSiPrefixType(final int index)
+    {
+        return this.siPrefixTypes[index];
+    }
+
+    /**
+     * Return the unit system of a unit.
+     * @param index the index of the unit
+     * @return the unit system of the unit
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public UnitSystem getUnitSystem(final int index)
+    {
+        return this.unitSystems[index];
+    }
+
+    @Override
+    public String toString()
+    {
+        return "UnitTable[" + this.quantityName + ", " + this.ids.length + " units]";
+    }
+
+}
@@ -0,0 +1,964 @@
+package org.djunits.unit;
+
+import java.util.List;
+
+import org.djunits.quantity.AbsorbedDose;
+import org.djunits.quantity.Acceleration;
+import org.djunits.quantity.AmountOfSubstance;
+import org.djunits.quantity.Angle;
+import org.djunits.quantity.AngularAcceleration;
+import org.djunits.quantity.AngularVelocity;
+import org.djunits.quantity.Area;
+import org.djunits.quantity.ArealObjectDensity;
+import org.djunits.quantity.CatalyticActivity;
+import org.djunits.quantity.Density;
+import org.djunits.quantity.Duration;
+import org.djunits.quantity.ElectricCharge;
+import org.djunits.quantity.ElectricCurrent;
+import org.djunits.quantity.ElectricPotential;
+import org.djunits.quantity.ElectricalCapacitance;
+import org.djunits.quantity.ElectricalConductance;
+import org.djunits.quantity.ElectricalInductance;
+import org.djunits.quantity.ElectricalResistance;
+import org.djunits.quantity.Energy;
+import org.djunits.quantity.EquivalentDose;
+import org.djunits.quantity.FlowMass;
+import org.djunits.quantity.FlowVolume;
+import org.djunits.quantity.Force;
+import org.djunits.quantity.Frequency;
+import org.djunits.quantity.Illuminance;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.LinearDensity;
+import org.djunits.quantity.LinearObjectDensity;
+import org.djunits.quantity.LuminousFlux;
+import org.djunits.quantity.LuminousIntensity;
+import org.djunits.quantity.MagneticFlux;
+import org.djunits.quantity.MagneticFluxDensity;
+import org.djunits.quantity.Mass;
+import org.djunits.quantity.Momentum;
+import org.djunits.quantity.Power;
+import org.djunits.quantity.Pressure;
+import org.djunits.quantity.RadioActivity;
+import org.djunits.quantity.SolidAngle;
+import org.djunits.quantity.Speed;
+import org.djunits.quantity.Temperature;
+import org.djunits.quantity.Torque;
+import org.djunits.quantity.Volume;
+import org.djunits.quantity.VolumetricObjectDensity;
+import org.djunits.unit.si.PrefixType;
+import org.djunits.unit.system.UnitSystem;
+
+/**
+ * UnitTableData contains the {@link UnitTable}s of the built-in quantities. This file is generated by the
+ * <code>GenerateUnitTableData</code> program in the test sources, and should not be edited by hand.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+final class UnitTableData
+{
+    /** */
+    private UnitTableData()
+    {
+        // utility class
+    }
+
+    /**
+     * Return the tables of the built-in quantities, in a predictable order.
+     * @return the tables of the built-in quantities
+     */
+    static List<UnitTable> tables()
+    {
+        return List.of(unitless(), absorbedDose(), acceleration(), amountOfSubstance(), angle(), angularAcceleration(),
+                angularVelocity(), area(), arealObjectDensity(), catalyticActivity(), density(), duration(), electricCharge(),
+                electricCurrent(), electricPotential(), electricalCapacitance(), electricalConductance(),
+                electricalInductance(), electricalResistance(), energy(), equivalentDose(), flowMass(), flowVolume(), force(),
+                frequency(), illuminance(), length(), linearDensity(), linearObjectDensity(), luminousFlux(),
+                luminousIntensity(), magneticFlux(), magneticFluxDensity(), mass(), momentum(), power(), pressure(),
+                radioActivity(), solidAngle(), speed(), temperature(), torque(), volume(), volumetricObjectDensity());
+    }
+
+    /**
+     * Initialize the unit class of a built-in quantity without reflection, and return its SI or base unit.
+     * @param quantityName the simple class name of the quantity
+     * @return the SI or base unit of the quantity, or null when the quantity is not a built-in quantity, or when the
+     *         unit class is being initialized by the current thread
+     */
+    static UnitInterface<?> initialize(final String quantityName)
+    {
+        switch (quantityName)
+        {
+            case "Unitless":
+                return Unitless.BASE;
+
+            case "AbsorbedDose":
+                return AbsorbedDose.Unit.SI;
+
+            case "Acceleration":
+                return Acceleration.Unit.SI;
+
+            case "AmountOfSubstance":
+                return AmountOfSubstance.Unit.SI;
+
+            case "Angle":
+                return Angle.Unit.SI;
+
+            case "AngularAcceleration":
+                return AngularAcceleration.Unit.SI;
+
+            case "AngularVelocity":
+                return AngularVelocity.Unit.SI;
+
+            case "Area":
+                return Area.Unit.SI;
+
+            case "ArealObjectDensity":
+                return ArealObjectDensity.Unit.SI;
+
+            case "CatalyticActivity":
+                return CatalyticActivity.Unit.SI;
+
+            case "Density":
+                return Density.Unit.SI;
+
+            case "Duration":
+                return Duration.Unit.SI;
+
+            case "ElectricCharge":
+                return ElectricCharge.Unit.SI;
+
+            case "ElectricCurrent":
+                return ElectricCurrent.Unit.SI;
+
+            case "ElectricPotential":
+                return ElectricPotential.Unit.SI;
+
+            case "ElectricalCapacitance":
+                return ElectricalCapacitance.Unit.SI;
+
+            case "ElectricalConductance":
+                return ElectricalConductance.Unit.SI;
+
+            case "ElectricalInductance":
+                return ElectricalInductance.Unit.SI;
+
+            case "ElectricalResistance":
+                return ElectricalResistance.Unit.SI;
+
+            case "Energy":
+                return Energy.Unit.SI;
+
+            case "EquivalentDose":
+                return EquivalentDose.Unit.SI;
+
+            case "FlowMass":
+                return FlowMass.Unit.SI;
+
+            case "FlowVolume":
+                return FlowVolume.Unit.SI;
+
+            case "Force":
+                return Force.Unit.SI;
+
+            case "Frequency":
+                return Frequency.Unit.SI;
+
+            case "Illuminance":
+                return Illuminance.Unit.SI;
+
+            case "Length":
+                return Length.Unit.SI;
+
+            case "LinearDensity":
+                return LinearDensity.Unit.SI;
+
+            case "LinearObjectDensity":
+                return LinearObjectDensity.Unit.SI;
+
+            case "LuminousFlux":
+                return LuminousFlux.Unit.SI;
+
+            case "LuminousIntensity":
+                return LuminousIntensity.Unit.SI;
+
+            case "MagneticFlux":
+                return MagneticFlux.Unit.SI;
+
+            case "MagneticFluxDensity":
+                return MagneticFluxDensity.Unit.SI;
+
+            case "Mass":
+                return Mass.Unit.SI;
+
+            case "Momentum":
+                return Momentum.Unit.SI;
+
+            case "Power":
+                return Power.Unit.SI;
+
+            case "Pressure":
+                return Pressure.Unit.SI;
+
+            case "RadioActivity":
+                return RadioActivity.Unit.SI;
+
+            case "SolidAngle":
+                return SolidAngle.Unit.SI;
+
+            case "Speed":
+                return Speed.Unit.SI;
+
+            case "Temperature":
+                return Temperature.Unit.SI;
+
+            case "Torque":
+                return Torque.Unit.SI;
+
+            case "Volume":
+                return Volume.Unit.SI;
+
+            case "VolumetricObjectDensity":
+                return VolumetricObjectDensity.Unit.SI;
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Return the table of the built-in units of Unitless.
+     * @return the table of the built-in units of Unitless
+     */
+    private static UnitTable unitless()
+    {
+        return new UnitTable("Unitless", new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0},
+                new String[] {" "},
+                new String[] {" "},
+                new double[] {1.0},
+                new PrefixType[] {null},
+                new UnitSystem[] {UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of AbsorbedDose.
+     * @return the table of the built-in units of AbsorbedDose
+     */
+    private static UnitTable absorbedDose()
+    {
+        return new UnitTable("AbsorbedDose", new int[] {0, 0, 0, 2, -2, 0, 0, 0, 0},
+                new String[] {"Gy", "mGy", "muGy", "erg/g", "rad"},
+                new String[] {"Gy", "mGy", "\u03BCGy", "erg/g", "rad"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-4, 0.01},
+                new PrefixType[] {null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.CGS,
+                        UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of Acceleration.
+     * @return the table of the built-in units of Acceleration
+     */
+    private static UnitTable acceleration()
+    {
+        return new UnitTable("Acceleration", new int[] {0, 0, 0, 1, -2, 0, 0, 0, 0},
+                new String[] {"m/s2", "km/h2", "ft/s2", "in/s2", "mi/h2", "mi/s2", "kt/s", "mi/h/s", "g", "Gal"},
+                new String[] {"m/s2", "km/h2", "ft/s2", "in/s2", "mi/h2", "mi/s2", "kt/s", "mi/h/s", "g", "Gal"},
+                new double[] {1.0, 7.716049382716049E-5, 0.3048, 0.025400000000000002, 1.2417777777777778E-4, 1609.344,
+                        0.5144444444444445, 0.44704, 9.80665, 0.01},
+                new PrefixType[] {null, null, null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_ACCEPTED, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.OTHER, UnitSystem.IMPERIAL, UnitSystem.OTHER,
+                        UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of AmountOfSubstance.
+     * @return the table of the built-in units of AmountOfSubstance
+     */
+    private static UnitTable amountOfSubstance()
+    {
+        return new UnitTable("AmountOfSubstance", new int[] {0, 0, 0, 0, 0, 0, 0, 1, 0},
+                new String[] {"mol", "mmol", "mumol", "nmol"},
+                new String[] {"mol", "mmol", "\u03BCmol", "nmol"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-9},
+                new PrefixType[] {PrefixType.UNIT, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE});
+    }
+
+    /**
+     * Return the table of the built-in units of Angle.
+     * @return the table of the built-in units of Angle
+     */
+    private static UnitTable angle()
+    {
+        return new UnitTable("Angle", new int[] {1, 0, 0, 0, 0, 0, 0, 0, 0},
+                new String[] {"rad", "%", "deg", "arcmin", "arcsec", "grad", "cdm", "cds"},
+                new String[] {"rad", "%", "\u00B0", "'", "\"", "grad", "c'", "c\""},
+                new double[] {1.0, Double.NaN, 0.017453292519943295, 2.908882086657216E-4, 4.84813681109536E-6,
+                        0.015707963267948967, 1.5707963267948968E-4, 1.5707963267948969E-6},
+                new PrefixType[] {null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.OTHER, UnitSystem.SI_ACCEPTED, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of AngularAcceleration.
+     * @return the table of the built-in units of AngularAcceleration
+     */
+    private static UnitTable angularAcceleration()
+    {
+        return new UnitTable("AngularAcceleration", new int[] {1, 0, 0, 0, -2, 0, 0, 0, 0},
+                new String[] {"rad/s2", "deg/s2", "arcmin/s2", "arcsec/s2", "grad/s2", "cdm/s2", "cds/s2"},
+                new String[] {"rad/s2", "\u00B0/s2", "'/s2", "\"/s2", "grad/s2", "c'/s2", "c\"/s2"},
+                new double[] {1.0, 0.017453292519943295, 2.908882086657216E-4, 4.84813681109536E-6, 0.015707963267948967,
+                        1.5707963267948968E-4, 1.5707963267948969E-6},
+                new PrefixType[] {null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_ACCEPTED, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of AngularVelocity.
+     * @return the table of the built-in units of AngularVelocity
+     */
+    private static UnitTable angularVelocity()
+    {
+        return new UnitTable("AngularVelocity", new int[] {1, 0, 0, 0, -1, 0, 0, 0, 0},
+                new String[] {"rad/s", "deg/s", "arcmin/s", "arcsec/s", "grad/s", "cdm/s", "cds/s"},
+                new String[] {"rad/s", "\u00B0/s", "'/s", "\"/s", "grad/s", "c'/s", "c\"/s"},
+                new double[] {1.0, 0.017453292519943295, 2.908882086657216E-4, 4.84813681109536E-6, 0.015707963267948967,
+                        1.5707963267948968E-4, 1.5707963267948969E-6},
+                new PrefixType[] {null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_ACCEPTED, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of Area.
+     * @return the table of the built-in units of Area
+     */
+    private static UnitTable area()
+    {
+        return new UnitTable("Area", new int[] {0, 0, 0, 2, 0, 0, 0, 0, 0},
+                new String[] {"m2", "km2", "hm2", "dam2", "dm2", "cm2", "mm2", "mum2", "nm2", "pm2", "fm2", "am2", "ca", "a",
+                        "ha", "mi2", "NM2", "ft2", "in2", "yd2", "ac"},
+                new String[] {"m2", "km2", "hm2", "dam2", "dm2", "cm2", "mm2", "\u03BCm2", "nm2", "pm2", "fm2", "am2", "ca",
+                        "a", "ha", "mi2", "NM2", "ft2", "in2", "yd2", "ac"},
+                new double[] {1.0, 1000000.0, 10000.0, 100.0, 0.01, 1.0E-4, 1.0E-6, 1.0E-12, 1.0E-18, 1.0E-24, 1.0E-30,
+                        1.0E-36, 1.0, 100.0, 10000.0, 2589988.110336, 3429904.0, 0.09290304, 6.451600000000001E-4,
+                        0.8361273600000002, 4046.8564224},
+                new PrefixType[] {null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.IMPERIAL, UnitSystem.OTHER, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL});
+    }
+
+    /**
+     * Return the table of the built-in units of ArealObjectDensity.
+     * @return the table of the built-in units of ArealObjectDensity
+     */
+    private static UnitTable arealObjectDensity()
+    {
+        return new UnitTable("ArealObjectDensity", new int[] {0, 0, 0, -2, 0, 0, 0, 0, 0},
+                new String[] {"/m2"},
+                new String[] {"/m2"},
+                new double[] {1.0},
+                new PrefixType[] {null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of CatalyticActivity.
+     * @return the table of the built-in units of CatalyticActivity
+     */
+    private static UnitTable catalyticActivity()
+    {
+        return new UnitTable("CatalyticActivity", new int[] {0, 0, 0, 0, -1, 0, 0, 1, 0},
+                new String[] {"kat", "mkat", "mukat", "nkat"},
+                new String[] {"kat", "mkat", "\u03BCkat", "nkat"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-9},
+                new PrefixType[] {PrefixType.UNIT, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of Density.
+     * @return the table of the built-in units of Density
+     */
+    private static UnitTable density()
+    {
+        return new UnitTable("Density", new int[] {0, 0, 1, -3, 0, 0, 0, 0, 0},
+                new String[] {"kg/m3", "g/cm3"},
+                new String[] {"kg/m3", "g/cm3"},
+                new double[] {1.0, 1000.0},
+                new PrefixType[] {null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of Duration.
+     * @return the table of the built-in units of Duration
+     */
+    private static UnitTable duration()
+    {
+        return new UnitTable("Duration", new int[] {0, 0, 0, 0, 1, 0, 0, 0, 0},
+                new String[] {"s", "ps", "ns", "mus", "ms", "min", "h", "day", "wk"},
+                new String[] {"s", "ps", "ns", "\u03BCs", "ms", "min", "h", "day", "wk"},
+                new double[] {1.0, 1.0E-12, 1.0E-9, 1.0E-6, 0.001, 60.0, 3600.0, 86400.0, 604800.0},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED, UnitSystem.OTHER,
+                        UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricCharge.
+     * @return the table of the built-in units of ElectricCharge
+     */
+    private static UnitTable electricCharge()
+    {
+        return new UnitTable("ElectricCharge", new int[] {0, 0, 0, 0, 1, 1, 0, 0, 0},
+                new String[] {"C", "mC", "muC", "Ah", "mAh", "mAs", "kAh", "MAh", "F", "e", "statC", "Fr", "esu", "abC",
+                        "emu"},
+                new String[] {"C", "mC", "\u03BCC", "Ah", "mAh", "mAs", "kAh", "MAh", "F", "e", "statC", "Fr", "esu", "abC",
+                        "emu"},
+                new double[] {1.0, 0.001, 1.0E-6, 3600.0, 3.6, 0.001, 3600000.0, 3.6E9, 96485.3383, 1.602176634E-19,
+                        3.335641E-10, 3.335641E-10, 3.335641E-10, 10.0, 10.0},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.OTHER, UnitSystem.SI_ACCEPTED, UnitSystem.CGS_ESU, UnitSystem.CGS_ESU, UnitSystem.CGS_ESU,
+                        UnitSystem.CGS_EMU, UnitSystem.CGS_EMU});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricCurrent.
+     * @return the table of the built-in units of ElectricCurrent
+     */
+    private static UnitTable electricCurrent()
+    {
+        return new UnitTable("ElectricCurrent", new int[] {0, 0, 0, 0, 0, 1, 0, 0, 0},
+                new String[] {"A", "muA", "mA", "kA", "MA", "statA", "abA"},
+                new String[] {"A", "\u03BCA", "mA", "kA", "MA", "statA", "abA"},
+                new double[] {1.0, 1.0E-6, 0.001, 1000.0, 1000000.0, 3.335641E-10, 10.0},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.CGS_ESU, UnitSystem.CGS_EMU});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricPotential.
+     * @return the table of the built-in units of ElectricPotential
+     */
+    private static UnitTable electricPotential()
+    {
+        return new UnitTable("ElectricPotential", new int[] {0, 0, 1, 2, -3, -1, 0, 0, 0},
+                new String[] {"V", "muV", "mV", "kV", "MV", "GV", "statV", "abV"},
+                new String[] {"V", "\u03BCV", "mV", "kV", "MV", "GV", "statV", "abV"},
+                new double[] {1.0, 1.0E-6, 0.001, 1000.0, 1000000.0, 1.0E9, 299.792458, 1.0E-8},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.CGS_ESU, UnitSystem.CGS_EMU});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricalCapacitance.
+     * @return the table of the built-in units of ElectricalCapacitance
+     */
+    private static UnitTable electricalCapacitance()
+    {
+        return new UnitTable("ElectricalCapacitance", new int[] {0, 0, -1, -2, 4, 2, 0, 0, 0},
+                new String[] {"F", "mF", "muF", "nF", "pF"},
+                new String[] {"F", "mF", "\u03BCF", "nF", "pF"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-9, 1.0E-12},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricalConductance.
+     * @return the table of the built-in units of ElectricalConductance
+     */
+    private static UnitTable electricalConductance()
+    {
+        return new UnitTable("ElectricalConductance", new int[] {0, 0, -1, -2, 3, 2, 0, 0, 0},
+                new String[] {"S", "mS", "muS", "nS"},
+                new String[] {"S", "mS", "\u03BCS", "nS"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-9},
+                new PrefixType[] {PrefixType.UNIT, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricalInductance.
+     * @return the table of the built-in units of ElectricalInductance
+     */
+    private static UnitTable electricalInductance()
+    {
+        return new UnitTable("ElectricalInductance", new int[] {0, 0, 1, 2, -2, -2, 0, 0, 0},
+                new String[] {"H"},
+                new String[] {"H"},
+                new double[] {1.0},
+                new PrefixType[] {PrefixType.UNIT},
+                new UnitSystem[] {UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of ElectricalResistance.
+     * @return the table of the built-in units of ElectricalResistance
+     */
+    private static UnitTable electricalResistance()
+    {
+        return new UnitTable("ElectricalResistance", new int[] {0, 0, 1, 2, -3, -2, 0, 0, 0},
+                new String[] {"ohm", "muohm", "mohm", "kohm", "Mohm", "Gohm", "abohm", "stohm"},
+                new String[] {"\u03A9", "\u03BC\u03A9", "m\u03A9", "k\u03A9", "M\u03A9", "G\u03A9", "ab\u03A9", "st\u03A9"},
+                new double[] {1.0, 1.0E-6, 0.001, 1000.0, 1000000.0, 1.0E9, 1.0E-9, 8.987551787E11},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.CGS_EMU, UnitSystem.CGS_EMU});
+    }
+
+    /**
+     * Return the table of the built-in units of Energy.
+     * @return the table of the built-in units of Energy
+     */
+    private static UnitTable energy()
+    {
+        return new UnitTable("Energy", new int[] {0, 0, 1, 2, -2, 0, 0, 0, 0},
+                new String[] {"J", "muJ", "mJ", "kJ", "MJ", "GJ", "TJ", "PJ", "ft.lbf", "in.lbf", "BTU(ISO)", "BTU(IT)",
+                        "cal(IT)", "cal", "kcal", "Wh", "muWh", "mWh", "kWh", "MWh", "GWh", "TWh", "PWh", "eV", "keV", "MeV",
+                        "GeV", "sn.m", "erg"},
+                new String[] {"J", "\u03BCJ", "mJ", "kJ", "MJ", "GJ", "TJ", "PJ", "ft.lbf", "in.lbf", "BTU(ISO)", "BTU(IT)",
+                        "cal(IT)", "cal", "kcal", "Wh", "\u03BCWh", "mWh", "kWh", "MWh", "GWh", "TWh", "PWh", "eV", "keV",
+                        "MeV", "GeV", "sn.m", "erg"},
+                new double[] {1.0, 1.0E-6, 0.001, 1000.0, 1000000.0, 1.0E9, 1.0E12, 1.0E15, 1.3558179483314006,
+                        0.11298482902761672, 1054.5, 1055.05585262, 4.1868, 4.184, 4184.0, 3600.0, 0.0036, 3.6, 3600000.0,
+                        3.6E9, 3.6E12, 3.6E15, 3.6E18, 1.602176634E-19, 1.602176634E-16, 1.6021766339999998E-13,
+                        1.6021766339999998E-10, 1000.0, 1.0E-7},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED,
+                        UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED, UnitSystem.MTS, UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of EquivalentDose.
+     * @return the table of the built-in units of EquivalentDose
+     */
+    private static UnitTable equivalentDose()
+    {
+        return new UnitTable("EquivalentDose", new int[] {0, 0, 0, 2, -2, 0, 0, 0, 0},
+                new String[] {"Sv", "mSv", "muSv", "rem"},
+                new String[] {"Sv", "mSv", "\u03BCSv", "rem"},
+                new double[] {1.0, 0.001, 1.0E-6, 0.01},
+                new PrefixType[] {PrefixType.UNIT, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of FlowMass.
+     * @return the table of the built-in units of FlowMass
+     */
+    private static UnitTable flowMass()
+    {
+        return new UnitTable("FlowMass", new int[] {0, 0, 1, 0, -1, 0, 0, 0, 0},
+                new String[] {"kg/s", "lb/s"},
+                new String[] {"kg/s", "lb/s"},
+                new double[] {1.0, 0.45359237},
+                new PrefixType[] {null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.IMPERIAL});
+    }
+
+    /**
+     * Return the table of the built-in units of FlowVolume.
+     * @return the table of the built-in units of FlowVolume
+     */
+    private static UnitTable flowVolume()
+    {
+        return new UnitTable("FlowVolume", new int[] {0, 0, 0, 3, -1, 0, 0, 0, 0},
+                new String[] {"m3/s", "m3/min", "m3/h", "m3/day", "L/s", "L/min", "L/h", "L/day", "ft3/s", "ft3/min", "in3/s",
+                        "in3/min", "gal(US)/s", "gal(US)/min", "gal(US)/h", "gal(US)/day"},
+                new String[] {"m3/s", "m3/min", "m3/h", "m3/day", "L/s", "L/min", "L/h", "L/day", "ft3/s", "ft3/min", "in3/s",
+                        "in3/min", "gal(US)/s", "gal(US)/min", "gal(US)/h", "gal(US)/day"},
+                new double[] {1.0, 0.016666666666666666, 2.777777777777778E-4, 1.1574074074074073E-5, 0.001,
+                        1.6666666666666667E-5, 2.7777777777777776E-7, 1.1574074074074072E-8, 0.028316846592000004,
+                        4.7194744320000004E-4, 1.6387064000000003E-5, 2.731177333333334E-7, 0.0037854117840000006,
+                        6.30901964E-5, 1.0515032733333334E-6, 4.381263638888889E-8},
+                new PrefixType[] {null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED,
+                        UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED,
+                        UnitSystem.SI_ACCEPTED, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.US_CUSTOMARY, UnitSystem.US_CUSTOMARY, UnitSystem.US_CUSTOMARY,
+                        UnitSystem.US_CUSTOMARY});
+    }
+
+    /**
+     * Return the table of the built-in units of Force.
+     * @return the table of the built-in units of Force
+     */
+    private static UnitTable force()
+    {
+        return new UnitTable("Force", new int[] {0, 0, 1, 1, -2, 0, 0, 0, 0},
+                new String[] {"N", "dyn", "kgf", "ozf", "lbf", "tnf", "sn"},
+                new String[] {"N", "dyn", "kgf", "ozf", "lbf", "tnf", "sn"},
+                new double[] {1.0, 1.0E-5, 9.80665, 0.2780138509537812, 4.4482216152605, 8896.443230521, 1000.0},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.CGS, UnitSystem.OTHER, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.MTS});
+    }
+
+    /**
+     * Return the table of the built-in units of Frequency.
+     * @return the table of the built-in units of Frequency
+     */
+    private static UnitTable frequency()
+    {
+        return new UnitTable("Frequency", new int[] {0, 0, 0, 0, -1, 0, 0, 0, 0},
+                new String[] {"Hz", "kHz", "MHz", "GHz", "THz", "rpm"},
+                new String[] {"Hz", "kHz", "MHz", "GHz", "THz", "rpm"},
+                new double[] {1.0, 1000.0, 1000000.0, 1.0E9, 1.0E12, 0.016666666666666666},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of Illuminance.
+     * @return the table of the built-in units of Illuminance
+     */
+    private static UnitTable illuminance()
+    {
+        return new UnitTable("Illuminance", new int[] {0, 1, 0, -2, 0, 0, 0, 0, 1},
+                new String[] {"lx", "mlx", "mulx", "klx", "ph", "nx"},
+                new String[] {"lx", "mlx", "\u03BClx", "klx", "ph", "nx"},
+                new double[] {1.0, 0.001, 1.0E-6, 1000.0, 10000.0, 0.001},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.CGS, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of Length.
+     * @return the table of the built-in units of Length
+     */
+    private static UnitTable length()
+    {
+        return new UnitTable("Length", new int[] {0, 0, 0, 1, 0, 0, 0, 0, 0},
+                new String[] {"m", "dam", "hm", "km", "dm", "cm", "mm", "mum", "nm", "pm", "am", "fm", "ft", "in", "yd", "mi",
+                        "NM", "AU", "ly", "pc", "A"},
+                new String[] {"m", "dam", "hm", "km", "dm", "cm", "mm", "\u03BCm", "nm", "pm", "am", "fm", "ft", "in", "yd",
+                        "mi", "NM", "AU", "ly", "pc", "\u00C5"},
+                new double[] {1.0, 10.0, 100.0, 1000.0, 0.1, 0.01, 0.001, 1.0E-6, 1.0E-9, 1.0E-12, 1.0E-18, 1.0E-15, 0.3048,
+                        0.025400000000000002, 0.9144000000000001, 1609.344, 1852.0, 1.495978707E11, 9.4607304725808E15,
+                        3.0856775814913672E16, 1.0E-10},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of LinearDensity.
+     * @return the table of the built-in units of LinearDensity
+     */
+    private static UnitTable linearDensity()
+    {
+        return new UnitTable("LinearDensity", new int[] {0, 0, 1, -1, 0, 0, 0, 0, 0},
+                new String[] {"kg/m"},
+                new String[] {"kg/m"},
+                new double[] {1.0},
+                new PrefixType[] {null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of LinearObjectDensity.
+     * @return the table of the built-in units of LinearObjectDensity
+     */
+    private static UnitTable linearObjectDensity()
+    {
+        return new UnitTable("LinearObjectDensity", new int[] {0, 0, 0, -1, 0, 0, 0, 0, 0},
+                new String[] {"/m", "/mm", "/cm", "/dm", "/dam", "/hm", "/km", "/in", "/ft", "/yd", "/mi"},
+                new String[] {"/m", "/mm", "/cm", "/dm", "/dam", "/hm", "/km", "/in", "/ft", "/yd", "/mi"},
+                new double[] {1.0, 1000.0, 100.0, 10.0, 0.1, 0.01, 0.001, 39.370078740157474, 3.280839895013123,
+                        1.0936132983377076, 6.213711922373339E-4},
+                new PrefixType[] {PrefixType.PER_UNIT, null, null, null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL});
+    }
+
+    /**
+     * Return the table of the built-in units of LuminousFlux.
+     * @return the table of the built-in units of LuminousFlux
+     */
+    private static UnitTable luminousFlux()
+    {
+        return new UnitTable("LuminousFlux", new int[] {0, 1, 0, 0, 0, 0, 0, 0, 1},
+                new String[] {"lm"},
+                new String[] {"lm"},
+                new double[] {1.0},
+                new PrefixType[] {null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of LuminousIntensity.
+     * @return the table of the built-in units of LuminousIntensity
+     */
+    private static UnitTable luminousIntensity()
+    {
+        return new UnitTable("LuminousIntensity", new int[] {0, 0, 0, 0, 0, 0, 0, 0, 1},
+                new String[] {"cd"},
+                new String[] {"cd"},
+                new double[] {1.0},
+                new PrefixType[] {PrefixType.UNIT},
+                new UnitSystem[] {UnitSystem.SI_BASE});
+    }
+
+    /**
+     * Return the table of the built-in units of MagneticFlux.
+     * @return the table of the built-in units of MagneticFlux
+     */
+    private static UnitTable magneticFlux()
+    {
+        return new UnitTable("MagneticFlux", new int[] {0, 0, 1, 2, -2, -1, 0, 0, 0},
+                new String[] {"Wb", "mWb", "muWb", "nWb", "Mx"},
+                new String[] {"Wb", "mWb", "\u03BCWb", "nWb", "Mx"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-9, 1.0E-8},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of MagneticFluxDensity.
+     * @return the table of the built-in units of MagneticFluxDensity
+     */
+    private static UnitTable magneticFluxDensity()
+    {
+        return new UnitTable("MagneticFluxDensity", new int[] {0, 0, 1, 0, -2, -1, 0, 0, 0},
+                new String[] {"T", "mT", "muT", "nT", "G"},
+                new String[] {"T", "mT", "\u03BCT", "nT", "G"},
+                new double[] {1.0, 0.001, 1.0E-6, 1.0E-9, 1.0E-4},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of Mass.
+     * @return the table of the built-in units of Mass
+     */
+    private static UnitTable mass()
+    {
+        return new UnitTable("Mass", new int[] {0, 0, 1, 0, 0, 0, 0, 0, 0},
+                new String[] {"kg", "g", "mug", "mg", "lb", "oz", "long tn", "sh tn", "t", "t(mts)", "Da", "eV", "mueV", "meV",
+                        "keV", "MeV", "GeV"},
+                new String[] {"kg", "g", "\u03BCg", "mg", "lb", "oz", "long tn", "sh tn", "t", "t(mts)", "Da", "eV",
+                        "\u03BCeV", "meV", "keV", "MeV", "GeV"},
+                new double[] {1.0, 0.001, 1.0E-9, 1.0E-6, 0.45359237, 0.028349523125, 1016.0469088000001, 907.18474, 1000.0,
+                        1000.0, 1.6605390666E-27, 1.782661907E-36, 1.7826619069999997E-42, 1.782661907E-39,
+                        1.7826619069999998E-33, 1.782661907E-30, 1.782661907E-27},
+                new PrefixType[] {PrefixType.KILO, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.US_CUSTOMARY,
+                        UnitSystem.SI_ACCEPTED, UnitSystem.MTS, UnitSystem.SI_ACCEPTED, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of Momentum.
+     * @return the table of the built-in units of Momentum
+     */
+    private static UnitTable momentum()
+    {
+        return new UnitTable("Momentum", new int[] {0, 0, 1, 1, -1, 0, 0, 0, 0},
+                new String[] {"kgm/s"},
+                new String[] {"kgm/s"},
+                new double[] {1.0},
+                new PrefixType[] {null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of Power.
+     * @return the table of the built-in units of Power
+     */
+    private static UnitTable power()
+    {
+        return new UnitTable("Power", new int[] {0, 0, 1, 2, -3, 0, 0, 0, 0},
+                new String[] {"W", "muW", "mW", "kW", "MW", "GW", "TW", "PW", "ft.lbf/h", "ft.lbf/min", "ft.lbf/s", "hp(M)",
+                        "sn.m/s", "erg/s"},
+                new String[] {"W", "\u03BCW", "mW", "kW", "MW", "GW", "TW", "PW", "ft.lbf/h", "ft.lbf/min", "ft.lbf/s",
+                        "hp(M)", "sn.m/s", "erg/s"},
+                new double[] {1.0, 1.0E-6, 0.001, 1000.0, 1000000.0, 1.0E9, 1.0E12, 1.0E15, 3.7661609675872237E-4,
+                        0.022596965805523343, 1.3558179483314006, 735.49875, 1000.0, 1.0E-7},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.OTHER, UnitSystem.MTS,
+                        UnitSystem.CGS});
+    }
+
+    /**
+     * Return the table of the built-in units of Pressure.
+     * @return the table of the built-in units of Pressure
+     */
+    private static UnitTable pressure()
+    {
+        return new UnitTable("Pressure", new int[] {0, 0, 1, -1, -2, 0, 0, 0, 0},
+                new String[] {"Pa", "hPa", "kPa", "atm", "torr", "at", "Ba", "bar", "mbar", "cmHg", "mmHg", "ftHg", "inHg",
+                        "kgf/mm2", "lbf/ft2", "lbf/in2", "pz"},
+                new String[] {"Pa", "hPa", "kPa", "atm", "torr", "at", "Ba", "bar", "mbar", "cmHg", "mmHg", "ftHg", "inHg",
+                        "kgf/mm2", "lbf/ft2", "lbf/in2", "pz"},
+                new double[] {1.0, 100.0, 1000.0, 101325.0, 133.32236842105263, 98066.49999999999, 0.1, 100000.0, 100.0,
+                        1333.224, 133.3224, 40636.66, 3386.389, 9806650.0, 47.88025898033584, 6894.75729316836, 1000.0},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.CGS, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.OTHER,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.MTS});
+    }
+
+    /**
+     * Return the table of the built-in units of RadioActivity.
+     * @return the table of the built-in units of RadioActivity
+     */
+    private static UnitTable radioActivity()
+    {
+        return new UnitTable("RadioActivity", new int[] {0, 0, 0, 0, -1, 0, 0, 0, 0},
+                new String[] {"Bq", "kBq", "MBq", "GBq", "TBq", "Ci", "mCi", "muCi", "nCi", "Rd"},
+                new String[] {"Bq", "kBq", "MBq", "GBq", "TBq", "Ci", "mCi", "\u03BCCi", "nCi", "Rd"},
+                new double[] {1.0, 1000.0, 1000000.0, 1.0E9, 1.0E12, 3.7E10, 3.7E7, 37000.0, 37.0, 1000000.0},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED,
+                        UnitSystem.SI_DERIVED, UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of SolidAngle.
+     * @return the table of the built-in units of SolidAngle
+     */
+    private static UnitTable solidAngle()
+    {
+        return new UnitTable("SolidAngle", new int[] {0, 1, 0, 0, 0, 0, 0, 0, 0},
+                new String[] {"sr", "sq.deg"},
+                new String[] {"sr", "sq.deg"},
+                new double[] {1.0, 3.0461741978670857E-4},
+                new PrefixType[] {null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED});
+    }
+
+    /**
+     * Return the table of the built-in units of Speed.
+     * @return the table of the built-in units of Speed
+     */
+    private static UnitTable speed()
+    {
+        return new UnitTable("Speed", new int[] {0, 0, 0, 1, -1, 0, 0, 0, 0},
+                new String[] {"m/s", "m/h", "km/s", "km/h", "in/s", "in/min", "in/h", "ft/s", "ft/min", "ft/h", "mi/s",
+                        "mi/min", "mi/h", "kt"},
+                new String[] {"m/s", "m/h", "km/s", "km/h", "in/s", "in/min", "in/h", "ft/s", "ft/min", "ft/h", "mi/s",
+                        "mi/min", "mi/h", "kt"},
+                new double[] {1.0, 2.777777777777778E-4, 1000.0, 0.2777777777777778, 0.025400000000000002,
+                        4.233333333333334E-4, 7.055555555555556E-6, 0.3048, 0.00508, 8.466666666666667E-5, 1609.344,
+                        26.822400000000002, 0.44704, 0.5144444444444445},
+                new PrefixType[] {null, null, null, null, null, null, null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_ACCEPTED, UnitSystem.SI_ACCEPTED,
+                        UnitSystem.SI_ACCEPTED, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of Temperature.
+     * @return the table of the built-in units of Temperature
+     */
+    private static UnitTable temperature()
+    {
+        return new UnitTable("Temperature", new int[] {0, 0, 0, 0, 0, 0, 1, 0, 0},
+                new String[] {"K", "degC", "degF", "degR", "degRe"},
+                new String[] {"K", "\u00B0C", "\u00B0F", "\u00B0R", "\u00B0R\u00E9"},
+                new double[] {1.0, 1.0, 0.5555555555555556, 0.5555555555555556, 0.8},
+                new PrefixType[] {PrefixType.UNIT, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.SI_DERIVED, UnitSystem.OTHER, UnitSystem.OTHER,
+                        UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of Torque.
+     * @return the table of the built-in units of Torque
+     */
+    private static UnitTable torque()
+    {
+        return new UnitTable("Torque", new int[] {0, 0, 1, 2, -2, 0, 0, 0, 0},
+                new String[] {"Nm", "m.kgf", "lbf.ft", "lbf.in"},
+                new String[] {"Nm", "m.kgf", "lbf.ft", "lbf.in"},
+                new double[] {1.0, 9.80665, 1.3558179483314006, 0.11298482902761672},
+                new PrefixType[] {null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED, UnitSystem.OTHER, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL});
+    }
+
+    /**
+     * Return the table of the built-in units of Volume.
+     * @return the table of the built-in units of Volume
+     */
+    private static UnitTable volume()
+    {
+        return new UnitTable("Volume", new int[] {0, 0, 0, 3, 0, 0, 0, 0, 0},
+                new String[] {"m3", "mm3", "cm3", "dm3", "dam3", "hm3", "km3", "in3", "ft3", "yd3", "mi3", "NM3", "L",
+                        "gal(US)", "gal(imp)", "qt(US)", "qt(imp)", "pt(US)", "pt(imp)", "fl.oz(US)", "fl.oz(imp)", "ly3",
+                        "pc3"},
+                new String[] {"m3", "mm3", "cm3", "dm3", "dam3", "hm3", "km3", "in3", "ft3", "yd3", "mi3", "NM3", "L",
+                        "gal(US)", "gal(imp)", "qt(US)", "qt(imp)", "pt(US)", "pt(imp)", "fl.oz(US)", "fl.oz(imp)", "ly3",
+                        "pc3"},
+                new double[] {1.0, 1.0E-9, 1.0E-6, 0.001, 1000.0, 1000000.0, 1.0E9, 1.6387064000000003E-5,
+                        0.028316846592000004, 0.7645548579840002, 4.16818182544058E9, 6.352182208E9, 0.001,
+                        0.0037854117840000006, 0.00454609, 9.463529460000001E-4, 0.0011365225, 4.7317647300000007E-4,
+                        5.6826125E-4, 2.9573529562500005E-5, 2.84130625E-5, 8.467866646237152E47, 2.937998946096347E49},
+                new PrefixType[] {null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, null, null, null, null},
+                new UnitSystem[] {UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE,
+                        UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.SI_BASE, UnitSystem.IMPERIAL, UnitSystem.IMPERIAL,
+                        UnitSystem.IMPERIAL, UnitSystem.IMPERIAL, UnitSystem.OTHER, UnitSystem.SI_ACCEPTED,
+                        UnitSystem.US_CUSTOMARY, UnitSystem.IMPERIAL, UnitSystem.US_CUSTOMARY, UnitSystem.IMPERIAL,
+                        UnitSystem.US_CUSTOMARY, UnitSystem.IMPERIAL, UnitSystem.US_CUSTOMARY, UnitSystem.IMPERIAL,
+                        UnitSystem.OTHER, UnitSystem.OTHER});
+    }
+
+    /**
+     * Return the table of the built-in units of VolumetricObjectDensity.
+     * @return the table of the built-in units of VolumetricObjectDensity
+     */
+    private static UnitTable volumetricObjectDensity()
+    {
+        return new UnitTable("VolumetricObjectDensity", new int[] {0, 0, 0, -3, 0, 0, 0, 0, 0},
+                new String[] {"/m3"},
+                new String[] {"/m3"},
+                new double[] {1.0},
+                new PrefixType[] {null},
+                new UnitSystem[] {UnitSystem.SI_DERIVED});
+    }
+
+}
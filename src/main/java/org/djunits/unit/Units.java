@@ -4,13 +4,25 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
-
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.si.PrefixType;
+import org.djunits.unit.si.SIPrefix;
+import org.djunits.unit.si.SIPrefixes;
 import org.djutils.exceptions.Throw;
 import org.djutils.logger.CategoryLogger;
 
@@ -29,17 +41,60 @@ import org.djutils.logger.CategoryLogger;
  */
 public final class Units
 {
-    /** Map with all units per quantity type. */
-    private static final Map<String, Map<String, UnitInterface<?>>> UNIT_MAP = new LinkedHashMap<>();
+    /** Map with all units per quantity type, used for lock-free lookup of units. */
+    private static final Map<String, Map<String, UnitInterface<?>>> UNIT_MAP = new ConcurrentHashMap<>();
+
+    /** Map with all units per quantity type in registration order. Only accessed while holding REGISTRY_LOCK. */
+    private static final Map<String, Map<String, UnitInterface<?>>> ORDERED_UNIT_MAP = new LinkedHashMap<>();
+
+    /** Lock for changes to the registry. Lookups do not need the lock. */
+    private static final Object REGISTRY_LOCK = new Object();
+
+    /** Immutable snapshot of the registered units, or null when the registry changed after the last snapshot. */
+    private static volatile Map<String, Map<String, UnitInterface<?>>> registrySnapshot = null;
+
+    /** Immutable lists of the units that accept SI prefixes per quantity type; the prefixed units are created on demand. */
+    private static final Map<String, List<SiPrefixBase>> SI_PREFIX_BASES = new ConcurrentHashMap<>();
+
+    /** The number of units that accept SI prefixes. */
+    private static volatile int siPrefixBaseCount = 0;
+
+    /** The number of units that accept SI prefixes for which all units with SI prefixes have been created. */
+    private static volatile int siPrefixBaseCreatedCount = 0;
 
-    /** Current map locale. */
-    private static Locale currentLocale = Locale.US;
+    /** The version of the registry, which is incremented at every change of the registry and of the localized strings. */
+    private static volatile long registryVersion = 0L;
 
-    /** Current resource bundle. */
-    private static ResourceBundle resourceBundle = null;
+    /** The maximum number of unit converters in the cache of {@link #converter(UnitInterface, UnitInterface)}. */
+    public static final int MAX_CONVERTER_CACHE_SIZE = 4096;
+
+    /** Cache of unit converters per from-unit and to-unit. */
+    private static final Map<UnitInterface<?>, Map<UnitInterface<?>, UnitConverter<?>>> CONVERTER_MAP =
+            new ConcurrentHashMap<>();
+
+    /** The number of unit converters in the cache. */
+    private static final AtomicInteger CONVERTER_COUNT = new AtomicInteger();
+
+    /** Immutable table of the localized strings of the resource bundle, per locale. */
+    private static final Map<Locale, Map<String, String>> LOCALIZED_STRINGS = new ConcurrentHashMap<>();
+
+    /** Cache of the quantity name per unit class. */
+    private static final ClassValue<String> QUANTITY_NAMES = new ClassValue<String>()
+    {
+        @Override
+        protected String computeValue(final Class<?> unitClass)
+        {
+            String name = unitClassName(unitClass);
+            if (name.endsWith(".Unit"))
+            {
+                name = name.substring(0, name.length() - 5);
+            }
+            return name;
+        }
+    };
 
-    /** Localized map to translate textual unit abbreviation to US id. */
-    private static Map<String, Map<String, String>> localizedUnitTranslateMap = new LinkedHashMap<>();
+    /** Immutable maps per locale to translate a localized textual unit abbreviation to the US id, per quantity name. */
+    private static final Map<Locale, Map<String, Map<String, String>>> TRANSLATE_MAPS = new ConcurrentHashMap<>();
 
     /** Prefix for quantity keys in the resource bundle. */
     private static final String QUANTITY_PREFIX = "quantity.";
@@ -63,35 +118,172 @@ public final class Units
     }
 
     /**
-     * Register a unit so it can be found based on its textual abbreviations.
+     * Register a unit so it can be found based on its textual abbreviations. Registration is thread-safe, and a registered
+     * unit is immediately visible to {@link #resolve(Class, String)} in all threads.
      * @param unit the unit to register
      * @throws NullPointerException when unit is null
      */
     public static void register(final UnitInterface<?> unit)
     {
         Throw.whenNull(unit, "unit");
-        var subMap =
-                UNIT_MAP.computeIfAbsent(quantityName(unit.getClass()), k -> new LinkedHashMap<String, UnitInterface<?>>());
-        subMap.putIfAbsent(unit.getStoredTextualAbbreviation(), unit);
+        String quantityName = quantityName(unit.getClass());
+        String key = unit.getStoredTextualAbbreviation();
+        synchronized (REGISTRY_LOCK)
+        {
+            var orderedSubMap =
+                    ORDERED_UNIT_MAP.computeIfAbsent(quantityName, k -> new LinkedHashMap<String, UnitInterface<?>>());
+            if (orderedSubMap.putIfAbsent(key, unit) == null)
+            {
+                UNIT_MAP.computeIfAbsent(quantityName, k -> new ConcurrentHashMap<String, UnitInterface<?>>()).put(key, unit);
+                registrySnapshot = null;
+                registryVersion++;
+            }
+        }
     }
 
     /**
-     * Unregister a unit, e.g. in a unit test. No exception will be thrown when the unit was not in the registration map.
+     * Unregister a unit, e.g. in a unit test. No exception will be thrown when the unit was not in the registration map. The
+     * cached converters from and to the unit are removed as well.
      * @param unit the unit to unregister
      * @throws NullPointerException when unit is null
      */
     public static void unregister(final UnitInterface<?> unit)
     {
         Throw.whenNull(unit, "unit");
-        var subMap = UNIT_MAP.get(quantityName(unit.getClass()));
-        if (subMap != null)
+        String quantityName = quantityName(unit.getClass());
+        String key = unit.getStoredTextualAbbreviation();
+        synchronized (REGISTRY_LOCK)
+        {
+            var orderedSubMap = ORDERED_UNIT_MAP.get(quantityName);
+            if (orderedSubMap != null && orderedSubMap.remove(key) != null)
+            {
+                UNIT_MAP.get(quantityName).remove(key);
+                removeConverters(unit);
+                registrySnapshot = null;
+                registryVersion++;
+            }
+        }
+    }
+
+    /**
+     * Register a unit that accepts all SI prefixes, such as the meter or the kilogram. The units with an SI prefix are created
+     * and registered when they are resolved for the first time, or when {@link #registeredUnits()} is called.
+     * @param unit the unit without prefix, such as "m", "kg", "/s" or "/kg"
+     * @param prefixType the type of SI prefixes for the unit
+     */
+    static void registerSiPrefixBase(final AbstractUnit<?> unit, final PrefixType prefixType)
+    {
+        SiPrefixBase base = new SiPrefixBase(unit, prefixType);
+        String quantityName = quantityName(unit.getClass());
+        synchronized (REGISTRY_LOCK)
+        {
+            List<SiPrefixBase> bases = new ArrayList<>(SI_PREFIX_BASES.getOrDefault(quantityName, List.of()));
+            bases.add(base);
+            SI_PREFIX_BASES.put(quantityName, List.copyOf(bases));
+            siPrefixBaseCount++;
+            registryVersion++;
+        }
+    }
+
+    /**
+     * Create and register the unit with an SI prefix for an abbreviation, when the abbreviation consists of an SI prefix and a
+     * unit that accepts SI prefixes for the quantity.
+     * @param quantityName the name of the quantity
+     * @param key the textual abbreviation of the unit, e.g., "km"
+     * @return the registered unit for the abbreviation, or null when the abbreviation is not an SI prefix plus a unit that
+     *         accepts SI prefixes, or when the unit has been created before and has been unregistered since
+     */
+    private static UnitInterface<?> createSiPrefixedUnit(final String quantityName, final String key)
+    {
+        List<SiPrefixBase> bases = SI_PREFIX_BASES.get(quantityName);
+        if (bases == null)
+        {
+            return null;
+        }
+        for (SiPrefixBase base : bases)
+        {
+            String stem = base.getStem();
+            if (key.endsWith(stem))
+            {
+                String prefix = key.substring(0, key.length() - stem.length());
+                SIPrefix siPrefix = base.getPrefixes().get(prefix);
+                if (siPrefix != null && siPrefix.getFactor() != 1.0)
+                {
+                    // initialize the unit class before taking the lock, since the thread that initializes it needs the lock
+                    initializeUnitClass(base.getUnit().getClass());
+                    synchronized (REGISTRY_LOCK)
+                    {
+                        if (base.created.add(prefix))
+                        {
+                            base.getUnit().deriveSiPrefixedUnit(siPrefix);
+                        }
+                        return UNIT_MAP.get(quantityName).get(key);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Create and register all units with an SI prefix that have not been created yet.
+     */
+    private static void createAllSiPrefixedUnits()
+    {
+        int count = siPrefixBaseCount;
+        if (siPrefixBaseCreatedCount == count)
+        {
+            return;
+        }
+        for (List<SiPrefixBase> bases : SI_PREFIX_BASES.values())
+        {
+            for (SiPrefixBase base : bases)
+            {
+                initializeUnitClass(base.getUnit().getClass());
+                synchronized (REGISTRY_LOCK)
+                {
+                    for (var prefix : base.getPrefixes().entrySet())
+                    {
+                        if (prefix.getValue().getFactor() != 1.0 && base.created.add(prefix.getKey()))
+                        {
+                            base.getUnit().deriveSiPrefixedUnit(prefix.getValue());
+                        }
+                    }
+                }
+            }
+        }
+        synchronized (REGISTRY_LOCK)
+        {
+            siPrefixBaseCreatedCount = Math.max(siPrefixBaseCreatedCount, count);
+        }
+    }
+
+    /**
+     * Return the version of the registry, which changes at every registration or unregistration of a unit, and when the
+     * localization cache is cleared, so caches of resolved units and unit strings can detect that they are outdated.
+     * @return the version of the registry
+     */
+    public static long registryVersion()
+    {
+        return registryVersion;
+    }
+
+    /**
+     * Return the units that accept SI prefixes, for which the prefixed units are created on demand.
+     * @return a list of the units that accept SI prefixes
+     */
+    static List<SiPrefixBase> siPrefixBases()
+    {
+        List<SiPrefixBase> result = new ArrayList<>();
+        for (List<SiPrefixBase> bases : SI_PREFIX_BASES.values())
         {
-            subMap.remove(unit.getStoredTextualAbbreviation());
+            result.addAll(bases);
         }
+        return result;
     }
 
     /**
-     * Look up a unit in the registry, based on its textual abbreviation.
+     * Look up a unit in the registry, based on its textual abbreviation in the default locale.
      * @param unitClass the unit class for which the abbreviation has to be looked up
      * @param abbreviation the abbreviation to look up in the unit registry
      * @return the unit belonging to the abbreviation (if it exists)
@@ -101,50 +293,206 @@ public final class Units
      */
     public static <U extends UnitInterface<?>> U resolve(final Class<U> unitClass, final String abbreviation)
             throws UnitRuntimeException
+    {
+        return resolve(unitClass, abbreviation, Locale.getDefault());
+    }
+
+    /**
+     * Look up a unit in the registry, based on its textual abbreviation in the given locale. The abbreviation can be the
+     * localized abbreviation for the locale, or the US abbreviation that is used as the id of the unit. The translation of the
+     * localized abbreviations is read once per locale, and looked up without locking, so units for different locales can be
+     * resolved concurrently.
+     * @param unitClass the unit class for which the abbreviation has to be looked up
+     * @param abbreviation the abbreviation to look up in the unit registry
+     * @param locale the locale of the abbreviation
+     * @return the unit belonging to the abbreviation (if it exists)
+     * @throws NullPointerException when unitClass, abbreviation or locale is null
+     * @throws UnitRuntimeException when the unit did not exist, or the abbreviation was not registered
+     * @param <U> the unit type
+     */
+    public static <U extends UnitInterface<?>> U resolve(final Class<U> unitClass, final String abbreviation,
+            final Locale locale) throws UnitRuntimeException
     {
         Throw.whenNull(unitClass, "unitClass");
         Throw.whenNull(abbreviation, "abbreviation");
+        Throw.whenNull(locale, "locale");
         Throw.when(!UnitInterface.class.isAssignableFrom(unitClass), IllegalArgumentException.class,
                 "The provided unit class %s does not implement a unit", unitClass.getName());
 
         String quantityName = quantityName(unitClass);
-        if (!UNIT_MAP.containsKey(quantityName))
+        var subMap = UNIT_MAP.get(quantityName);
+        if (subMap == null)
         {
-            // force the class to load and initialize its units
-            try
-            {
-                Class.forName(unitClass.getName(), true, // <-- initialize
-                        unitClass.getClassLoader());
-            }
-            catch (ClassNotFoundException e)
-            {
-                throw new UnitRuntimeException("Could not load unit class " + unitClass.getName(), e);
-            }
+            // force the class to load and initialize its units; when another thread is initializing the class, this call
+            // waits until all units of the class have been registered
+            initializeUnitClass(unitClass);
+            subMap = UNIT_MAP.get(quantityName);
         }
 
-        Throw.when(!UNIT_MAP.containsKey(quantityName), UnitRuntimeException.class,
-                "Error resolving unit class %s (abbreviation '%s')", unitClass.getSimpleName(), abbreviation);
-        readTranslateMap();
+        Throw.when(subMap == null, UnitRuntimeException.class, "Error resolving unit class %s (abbreviation '%s')",
+                unitClass.getSimpleName(), abbreviation);
         String unitKey = abbreviation;
-        if (localizedUnitTranslateMap.containsKey(quantityName)
-                && localizedUnitTranslateMap.get(quantityName).containsKey(abbreviation))
+        Map<String, String> quantityTranslateMap = translateMap(locale).get(quantityName);
+        if (quantityTranslateMap != null)
+        {
+            unitKey = quantityTranslateMap.getOrDefault(abbreviation, abbreviation);
+        }
+        UnitInterface<?> unit = subMap.get(unitKey);
+        if (unit == null)
         {
-            unitKey = localizedUnitTranslateMap.get(quantityName).get(abbreviation);
+            // the unit class might still be registering its units in another thread
+            initializeUnitClass(unitClass);
+            unit = subMap.get(unitKey);
+            if (unit == null)
+            {
+                unit = createSiPrefixedUnit(quantityName, unitKey);
+            }
         }
         @SuppressWarnings("unchecked")
-        U result = (U) UNIT_MAP.get(quantityName).get(unitKey);
+        U result = (U) unit;
         Throw.when(result == null, UnitRuntimeException.class, "Error resolving abbreviation '%s' for unit class %s",
                 abbreviation, unitClass.getSimpleName());
         return result;
     }
 
     /**
-     * Return a safe copy of the registered units, e.g. to build pick lists in a user interface.
-     * @return a safe copy of the registered units
+     * Force a unit class to load and initialize, so its units are registered.
+     * @param unitClass the unit class to initialize
+     * @throws UnitRuntimeException when the class could not be loaded
+     */
+    private static void initializeUnitClass(final Class<?> unitClass)
+    {
+        // the unit classes of the built-in quantities are initialized through the generated unit tables, without reflection
+        UnitInterface<?> unit = UnitTableData.initialize(quantityName(unitClass));
+        if (unit != null && unit.getClass() == unitClass)
+        {
+            return;
+        }
+        try
+        {
+            Class.forName(unitClass.getName(), true, unitClass.getClassLoader());
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new UnitRuntimeException("Could not load unit class " + unitClass.getName(), e);
+        }
+    }
+
+    /**
+     * Return a converter for values expressed in fromUnit to values expressed in toUnit. The converter is created once per
+     * pair of units, and cached for later use. The cache holds at most {@link #MAX_CONVERTER_CACHE_SIZE} converters; when it is
+     * full, e.g., because many units have been created at runtime, a new converter is returned for every pair that is not in
+     * the cache. The converters of a unit are removed from the cache when the unit is unregistered.
+     * @param fromUnit the unit of the values to convert
+     * @param toUnit the unit to convert the values to
+     * @return a (cached) converter from fromUnit to toUnit
+     * @throws NullPointerException when fromUnit or toUnit is null
+     * @throws IllegalArgumentException when the SI units of fromUnit and toUnit do not match
+     * @param <Q> the quantity type
+     */
+    @SuppressWarnings("unchecked")
+    public static <Q extends Quantity<Q>> UnitConverter<Q> converter(final UnitInterface<Q> fromUnit,
+            final UnitInterface<Q> toUnit)
+    {
+        Throw.whenNull(fromUnit, "fromUnit");
+        Throw.whenNull(toUnit, "toUnit");
+        Map<UnitInterface<?>, UnitConverter<?>> toMap = CONVERTER_MAP.get(fromUnit);
+        UnitConverter<?> converter = toMap == null ? null : toMap.get(toUnit);
+        if (converter == null)
+        {
+            if (CONVERTER_COUNT.get() >= MAX_CONVERTER_CACHE_SIZE)
+            {
+                return new UnitConverter<Q>(fromUnit, toUnit);
+            }
+            converter = CONVERTER_MAP.computeIfAbsent(fromUnit, k -> new ConcurrentHashMap<>()).computeIfAbsent(toUnit, k ->
+            {
+                UnitConverter<Q> newConverter = new UnitConverter<Q>(fromUnit, toUnit);
+                CONVERTER_COUNT.incrementAndGet();
+                return newConverter;
+            });
+        }
+        return (UnitConverter<Q>) converter;
+    }
+
+    /**
+     * Remove the converters from and to a unit from the cache of {@link #converter(UnitInterface, UnitInterface)}.
+     * @param unit the unit to remove the converters for
+     */
+    private static void removeConverters(final UnitInterface<?> unit)
+    {
+        Map<UnitInterface<?>, UnitConverter<?>> fromMap = CONVERTER_MAP.remove(unit);
+        if (fromMap != null)
+        {
+            CONVERTER_COUNT.addAndGet(-fromMap.size());
+        }
+        for (Map<UnitInterface<?>, UnitConverter<?>> toMap : CONVERTER_MAP.values())
+        {
+            if (toMap.remove(unit) != null)
+            {
+                CONVERTER_COUNT.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Return the number of unit converters in the cache of {@link #converter(UnitInterface, UnitInterface)}.
+     * @return the number of unit converters in the cache
+     */
+    static int converterCacheSize()
+    {
+        return CONVERTER_COUNT.get();
+    }
+
+    /**
+     * Remove all unit converters from the cache. Since the cache stops accepting converters when it holds
+     * {@link #MAX_CONVERTER_CACHE_SIZE} converters, this allows a test that fills the cache to restore the initial state.
+     */
+    static void clearConverterCache()
+    {
+        for (UnitInterface<?> unit : CONVERTER_MAP.keySet())
+        {
+            removeConverters(unit);
+        }
+    }
+
+    /**
+     * Return an immutable snapshot of the registered units per quantity name, in registration order, e.g. to build pick lists
+     * in a user interface. The units with SI prefixes that have not been used yet are created and registered first. The
+     * snapshot is only rebuilt after units have been registered or unregistered, so repeated calls are cheap and return the
+     * same instance while the registry does not change.
+     * @return an immutable snapshot of the registered units
      */
     public static Map<String, Map<String, UnitInterface<?>>> registeredUnits()
     {
-        return new LinkedHashMap<String, Map<String, UnitInterface<?>>>(UNIT_MAP);
+        createAllSiPrefixedUnits();
+        return createdUnits();
+    }
+
+    /**
+     * Return an immutable snapshot of the units that have been created and registered so far, without creating the units with
+     * SI prefixes that have not been used yet.
+     * @return an immutable snapshot of the created and registered units
+     */
+    static Map<String, Map<String, UnitInterface<?>>> createdUnits()
+    {
+        var snapshot = registrySnapshot;
+        if (snapshot != null)
+        {
+            return snapshot;
+        }
+        synchronized (REGISTRY_LOCK)
+        {
+            if (registrySnapshot == null)
+            {
+                var map = new LinkedHashMap<String, Map<String, UnitInterface<?>>>();
+                for (var entry : ORDERED_UNIT_MAP.entrySet())
+                {
+                    map.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(entry.getValue())));
+                }
+                registrySnapshot = Collections.unmodifiableMap(map);
+            }
+            return registrySnapshot;
+        }
     }
 
     /**
@@ -152,14 +500,9 @@ public final class Units
      * @param unitClass the unit class
      * @return the quantity name based on the unit class
      */
-    private static String quantityName(final Class<?> unitClass)
+    static String quantityName(final Class<?> unitClass)
     {
-        String name = unitClassName(unitClass);
-        if (name.endsWith(".Unit"))
-        {
-            name = name.substring(0, name.length() - 5);
-        }
-        return name;
+        return QUANTITY_NAMES.get(unitClass);
     }
 
     /**
@@ -173,6 +516,97 @@ public final class Units
         return cls.getCanonicalName().substring(cls.getPackageName().isEmpty() ? 0 : cls.getPackageName().length() + 1);
     }
 
+    /**
+     * A unit that accepts all SI prefixes, with the SI prefixes of its prefix type and its abbreviation without prefix.
+     */
+    static final class SiPrefixBase
+    {
+        /** The unit without prefix, such as "m", "kg", "/s" or "/kg". */
+        private final AbstractUnit<?> unit;
+
+        /** The type of SI prefixes for the unit. */
+        private final PrefixType prefixType;
+
+        /** The SI prefixes for the unit, keyed on the textual prefix. */
+        private final Map<String, SIPrefix> prefixes;
+
+        /** The textual abbreviation of the unit without its own prefix, such as "m", "g", "s" or "g". */
+        private final String stem;
+
+        /** The textual prefixes for which the prefixed unit has been created. Only accessed while holding REGISTRY_LOCK. */
+        private final Set<String> created = new HashSet<>();
+
+        /**
+         * Create the description of a unit that accepts all SI prefixes.
+         * @param unit the unit without prefix, such as "m", "kg", "/s" or "/kg"
+         * @param prefixType the type of SI prefixes for the unit
+         */
+        SiPrefixBase(final AbstractUnit<?> unit, final PrefixType prefixType)
+        {
+            this.unit = unit;
+            this.prefixType = prefixType;
+            String abbreviation = unit.getStoredTextualAbbreviation();
+            switch (prefixType)
+            {
+                case PER_UNIT:
+                    this.prefixes = SIPrefixes.PER_UNIT_PREFIXES;
+                    this.stem = abbreviation.substring(1);
+                    break;
+
+                case KILO:
+                    this.prefixes = SIPrefixes.KILO_PREFIXES;
+                    this.stem = abbreviation.substring(1);
+                    break;
+
+                case PER_KILO:
+                    this.prefixes = SIPrefixes.PER_KILO_PREFIXES;
+                    this.stem = abbreviation.substring(2);
+                    break;
+
+                default:
+                    this.prefixes = SIPrefixes.UNIT_PREFIXES;
+                    this.stem = abbreviation;
+                    break;
+            }
+        }
+
+        /**
+         * Return the unit without prefix.
+         * @return the unit without prefix, such as "m", "kg", "/s" or "/kg"
+         */
+        AbstractUnit<?> getUnit()
+        {
+            return this.unit;
+        }
+
+        /**
+         * Return the type of SI prefixes for the unit.
+         * @return the type of SI prefixes for the unit
+         */
+        PrefixType getPrefixType()
+        {
+            return this.prefixType;
+        }
+
+        /**
+         * Return the SI prefixes for the unit, keyed on the textual prefix.
+         * @return the SI prefixes for the unit
+         */
+        Map<String, SIPrefix> getPrefixes()
+        {
+            return this.prefixes;
+        }
+
+        /**
+         * Return the textual abbreviation of the unit without its own prefix.
+         * @return the textual abbreviation of the unit without its own prefix, such as "m", "g", "s" or "g"
+         */
+        String getStem()
+        {
+            return this.stem;
+        }
+    }
+
     /** The base of the resource bundle name, will expand to unit.properties, unit_nl.properties, etc. */
     private static final String BUNDLE_BASE = "unit";
 
@@ -246,44 +680,59 @@ public final class Units
     }
 
     /**
-     * Read the data from the resource bundle. Load ALL classes, even the ones that are not (yet) part of the UNIT_MAP. Since
-     * the UNIT_MAP is filled by lazy loading (only register units for unit classes when they are used in the code or requested
-     * in the <code>resolve()</code> function, unit classes or units might not yet be present when the resource bundle is read.
+     * Return the immutable map to translate localized textual unit abbreviations to US ids for a locale. The map is built the
+     * first time a locale is used, and cached.
+     * @param locale the locale
+     * @return an immutable map from quantity name to a map from localized abbreviation to US id
      */
-    private static synchronized void readTranslateMap()
+    private static Map<String, Map<String, String>> translateMap(final Locale locale)
     {
-        if (Locale.getDefault().equals(currentLocale))
+        Map<String, Map<String, String>> translateMap = TRANSLATE_MAPS.get(locale);
+        if (translateMap == null)
         {
-            return;
+            translateMap = TRANSLATE_MAPS.computeIfAbsent(locale, Units::readTranslateMap);
         }
-        localizedUnitTranslateMap.clear();
-        if (Locale.getDefault().equals(Locale.US))
+        return translateMap;
+    }
+
+    /**
+     * Read the translation of the localized textual unit abbreviations from the resource bundle of a locale. Read ALL
+     * quantities, even the ones that are not (yet) part of the UNIT_MAP. Since the UNIT_MAP is filled by lazy loading (only
+     * register units for unit classes when they are used in the code or requested in the <code>resolve()</code> function, unit
+     * classes or units might not yet be present when the resource bundle is read.
+     * @param locale the locale
+     * @return an immutable map from quantity name to a map from localized abbreviation to US id
+     */
+    private static Map<String, Map<String, String>> readTranslateMap(final Locale locale)
+    {
+        if (locale.equals(Locale.US))
         {
-            currentLocale = Locale.US;
-            return;
+            return Map.of();
         }
-        currentLocale = Locale.getDefault();
-        resourceBundle = bundle(currentLocale);
-        if (resourceBundle != null)
+        Map<String, Map<String, String>> translateMap = new HashMap<>();
+        for (var entry : localizedStrings(locale).entrySet())
         {
-            for (String key : resourceBundle.keySet())
+            String key = entry.getKey();
+            if (!key.startsWith(UNIT_PREFIX) || !key.endsWith(ABBR_SUFFIX))
             {
-                if (!key.startsWith(UNIT_PREFIX) || !key.endsWith(ABBR_SUFFIX))
-                {
-                    continue;
-                }
-                String quantity = key.substring(UNIT_PREFIX.length(), key.indexOf('.', UNIT_PREFIX.length()));
-                var quantityMap = localizedUnitTranslateMap.computeIfAbsent(quantity, k -> new LinkedHashMap<String, String>());
-                String unitId = key.substring(key.indexOf('.', UNIT_PREFIX.length()));
-                unitId = unitId.substring(1, unitId.length() - ABBR_SUFFIX.length());
-                String token = getStringSafe(resourceBundle, key).strip();
-                if (token == null || token.isBlank())
-                {
-                    continue;
-                }
-                quantityMap.put(token, unitId);
+                continue;
+            }
+            String quantity = key.substring(UNIT_PREFIX.length(), key.indexOf('.', UNIT_PREFIX.length()));
+            String unitId = key.substring(key.indexOf('.', UNIT_PREFIX.length()));
+            unitId = unitId.substring(1, unitId.length() - ABBR_SUFFIX.length());
+            String token = entry.getValue().strip();
+            if (token.isBlank())
+            {
+                continue;
             }
+            translateMap.computeIfAbsent(quantity, k -> new HashMap<String, String>()).put(token, unitId);
+        }
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (var entry : translateMap.entrySet())
+        {
+            result.put(entry.getKey(), Map.copyOf(entry.getValue()));
         }
+        return Map.copyOf(result);
     }
 
     /**
@@ -322,7 +771,11 @@ public final class Units
             CategoryLogger.always().info("djunits localization. Quantity {} unknown", quantityName);
             return null;
         }
-        UnitInterface<?> unit = UNIT_MAP.get(quantityName).get(unitKey);
+        UnitInterface<?> unit = subMap.get(unitKey);
+        if (unit == null)
+        {
+            unit = createSiPrefixedUnit(quantityName, unitKey);
+        }
         if (unit == null)
         {
             CategoryLogger.always().info("djunits localization. Unit {} for quantity {} could not be found", unitKey,
@@ -448,21 +901,67 @@ public final class Units
      * @param key the key to search for
      * @param required whether the key should be present in the bundle
      * @return the value of the key for the given locale
+     * @throws MissingResourceException when required is true and the key is not present
      */
     private static String getLocalized(final Locale locale, final String key, final boolean required)
     {
-        try
+        String value = localizedStrings(locale).get(key);
+        if (value == null && required)
         {
-            ResourceBundle b = bundle(locale);
-            return b.getString(key);
+            throw new MissingResourceException("Can't find resource for bundle " + BUNDLE_BASE + ", key " + key,
+                    Units.class.getName(), key);
         }
-        catch (MissingResourceException e)
+        return value;
+    }
+
+    /**
+     * Return the immutable table with all localized strings for a locale. The table is read from the resource bundle the first
+     * time a locale is used, and cached, so localization lookups do not need a resource bundle lookup.
+     * @param locale the locale to return the localized strings for
+     * @return an immutable map from resource bundle key to localized string for the locale
+     */
+    private static Map<String, String> localizedStrings(final Locale locale)
+    {
+        Map<String, String> strings = LOCALIZED_STRINGS.get(locale);
+        if (strings == null)
+        {
+            strings = LOCALIZED_STRINGS.computeIfAbsent(locale, Units::readLocalizedStrings);
+        }
+        return strings;
+    }
+
+    /**
+     * Read all strings of the resource bundle for a locale, including the strings of its parent bundles.
+     * @param locale the locale to read the strings for
+     * @return an immutable map from resource bundle key to localized string for the locale
+     */
+    private static Map<String, String> readLocalizedStrings(final Locale locale)
+    {
+        ResourceBundle b = bundle(locale);
+        Map<String, String> strings = new HashMap<>();
+        for (String key : b.keySet())
         {
-            if (required)
+            String value = getStringSafe(b, key);
+            if (value != null)
             {
-                throw e;
+                strings.put(key, value);
             }
-            return null;
+        }
+        return Map.copyOf(strings);
+    }
+
+    /**
+     * Clear the cached localized strings, e.g., after resource bundles have been changed or added at runtime. The strings will
+     * be read again from the resource bundles when a locale is used the next time. The version of the registry is changed, so
+     * caches of resolved units and unit strings are renewed as well.
+     */
+    public static void clearLocalizationCache()
+    {
+        synchronized (REGISTRY_LOCK)
+        {
+            LOCALIZED_STRINGS.clear();
+            TRANSLATE_MAPS.clear();
+            registryVersion++;
         }
     }
 
@@ -44,6 +44,72 @@ public class GradeScale implements Scale
         return Math.tan(value) / this.conversionFactorToGrade;
     }
 
+    @Override
+    public void toIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.conversionFactorToGrade;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = Math.atan(src[i] * f);
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.conversionFactorToGrade;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = Math.tan(src[i]) / f;
+        }
+    }
+
+    @Override
+    public void toIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.conversionFactorToGrade;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) Math.atan(src[i] * f);
+        }
+    }
+
+    @Override
+    public void toIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.conversionFactorToGrade;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) Math.atan(src[i] * f);
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.conversionFactorToGrade;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) (Math.tan(src[i]) / f);
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.conversionFactorToGrade;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) (Math.tan(src[i]) / f);
+        }
+    }
+
     /**
      * @return conversionFactorToGrade
      */
@@ -36,6 +36,66 @@ public final class IdentityScale extends LinearScale
         return value;
     }
 
+    @Override
+    public void toIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        if (src != dst)
+        {
+            System.arraycopy(src, 0, dst, 0, src.length);
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        if (src != dst)
+        {
+            System.arraycopy(src, 0, dst, 0, src.length);
+        }
+    }
+
+    @Override
+    public void toIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        if (src != dst)
+        {
+            System.arraycopy(src, 0, dst, 0, src.length);
+        }
+    }
+
+    @Override
+    public void toIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) src[i];
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) src[i];
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        if (src != dst)
+        {
+            System.arraycopy(src, 0, dst, 0, src.length);
+        }
+    }
+
     @Override
     public String toString()
     {
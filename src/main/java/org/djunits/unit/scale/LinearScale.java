@@ -57,6 +57,72 @@ public class LinearScale implements Scale
         return value / this.scaleFactorToBaseUnit;
     }
 
+    @Override
+    public void toIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.scaleFactorToBaseUnit;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = src[i] * f;
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.scaleFactorToBaseUnit;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = src[i] / f;
+        }
+    }
+
+    @Override
+    public void toIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.scaleFactorToBaseUnit;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) (src[i] * f);
+        }
+    }
+
+    @Override
+    public void toIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.scaleFactorToBaseUnit;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) (src[i] * f);
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.scaleFactorToBaseUnit;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) (src[i] / f);
+        }
+    }
+
+    @Override
+    public void fromIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        final double f = this.scaleFactorToBaseUnit;
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) (src[i] / f);
+        }
+    }
+
     /**
      * Retrieve the factor for conversion to the standard unit.
      * @return the factor for conversion to the standard unit
@@ -27,6 +27,109 @@ public interface Scale extends Serializable
      */
     double fromIdentityScale(double value);
 
+    /**
+     * Convert an array of values expressed in this unit to their base (SI) values on the identity scale, and store the results
+     * in another array. The arrays can be the same array, in which case the values are converted in place. Implementations
+     * can override this method with a loop that does not need a method call per value.
+     * @param src the values expressed in this unit
+     * @param dst the array to store the SI values in; it should be at least as long as src
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    default void toIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = toIdentityScale(src[i]);
+        }
+    }
+
+    /**
+     * Convert an array of base (SI) values on the identity scale to values in the unit that uses this scale, and store the
+     * results in another array. The arrays can be the same array, in which case the values are converted in place.
+     * @param src the SI values
+     * @param dst the array to store the values in the unit in; it should be at least as long as src
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    default void fromIdentityScale(final double[] src, final double[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = fromIdentityScale(src[i]);
+        }
+    }
+
+    /**
+     * Convert an array of float values expressed in this unit to their base (SI) values on the identity scale, and store the
+     * results in another array. The calculation is carried out in double precision, and the result is rounded to a float.
+     * @param src the values expressed in this unit
+     * @param dst the array to store the SI values in; it should be at least as long as src
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    default void toIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) toIdentityScale(src[i]);
+        }
+    }
+
+    /**
+     * Convert an array of double values expressed in this unit to their base (SI) values on the identity scale, and store the
+     * results in a float array. The calculation is carried out in double precision, and the result is rounded to a float.
+     * @param src the values expressed in this unit
+     * @param dst the array to store the SI values in; it should be at least as long as src
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    default void toIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) toIdentityScale(src[i]);
+        }
+    }
+
+    /**
+     * Convert an array of double base (SI) values on the identity scale to values in the unit that uses this scale, and store
+     * the results in a float array. The calculation is carried out in double precision, and the result is rounded to a float.
+     * @param src the SI values
+     * @param dst the array to store the values in the unit in; it should be at least as long as src
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    default void fromIdentityScale(final double[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) fromIdentityScale(src[i]);
+        }
+    }
+
+    /**
+     * Convert an array of float base (SI) values on the identity scale to values in the unit that uses this scale, and store
+     * the results in another array. The calculation is carried out in double precision, and the result is rounded to a float.
+     * @param src the SI values
+     * @param dst the array to store the values in the unit in; it should be at least as long as src
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    default void fromIdentityScale(final float[] src, final float[] dst)
+    {
+        ScaleArrays.checkArrays(src, dst);
+        for (int i = 0; i < src.length; i++)
+        {
+            dst[i] = (float) fromIdentityScale(src[i]);
+        }
+    }
+
     /**
      * Return whether a scale is an 'identity' scale. For a linear scale, any scale with conversion factor 1 would be considered
      * an identity scale.
@@ -0,0 +1,75 @@
+package org.djunits.unit.scale;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * ScaleArrays contains the argument checks for the array conversions of the {@link Scale} implementations, so the default
+ * methods of Scale and the optimized methods of the scales report invalid arguments in the same way.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+final class ScaleArrays
+{
+    /** Not instantiable. */
+    private ScaleArrays()
+    {
+    }
+
+    /**
+     * Check the source and destination arrays of a double to double array conversion.
+     * @param src the source array
+     * @param dst the destination array
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    static void checkArrays(final double[] src, final double[] dst)
+    {
+        Throw.whenNull(src, "src");
+        Throw.whenNull(dst, "dst");
+        checkLength(src.length, dst.length);
+    }
+
+    /**
+     * Check the source and destination arrays of a float to float array conversion.
+     * @param src the source array
+     * @param dst the destination array
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    static void checkArrays(final float[] src, final float[] dst)
+    {
+        Throw.whenNull(src, "src");
+        Throw.whenNull(dst, "dst");
+        checkLength(src.length, dst.length);
+    }
+
+    /**
+     * Check the source and destination arrays of a double to float array conversion.
+     * @param src the source array
+     * @param dst the destination array
+     * @throws NullPointerException when src or dst is null
+     * @throws IllegalArgumentException when dst is shorter than src
+     */
+    static void checkArrays(final double[] src, final float[] dst)
+    {
+        Throw.whenNull(src, "src");
+        Throw.whenNull(dst, "dst");
+        checkLength(src.length, dst.length);
+    }
+
+    /**
+     * Check that the destination array for an array conversion is long enough.
+     * @param srcLength the length of the source array
+     * @param dstLength the length of the destination array
+     * @throws IllegalArgumentException when dstLength &lt; srcLength
+     */
+    private static void checkLength(final int srcLength, final int dstLength)
+    {
+        Throw.when(dstLength < srcLength, IllegalArgumentException.class, "dst.length %d < src.length %d", dstLength,
+                srcLength);
+    }
+
+}
@@ -1,6 +1,8 @@
 package org.djunits.unit.si;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.djunits.quantity.SIQuantity;
 import org.djunits.unit.UnitInterface;
@@ -14,6 +16,15 @@ import org.djutils.exceptions.Throw;
  * SIUnit stores the dimensionality of a unit using the SI standards. Angle (rad) and solid angle (sr) have been added to be
  * able to specify often used units regarding rotation.
  * <p>
+ * The nine exponents are also packed into a single <code>long</code> key of 7 bits per dimension, which allows exponents
+ * between -64 and 63. Equality and hashing only use this key. Canonical instances are kept in an intern table; the unit
+ * algebra ({@link #plus(SIUnit)}, {@link #minus(SIUnit)}, {@link #invert()}, {@link #pow(int)}, {@link #add(SIUnit, SIUnit)}
+ * and {@link #subtract(SIUnit, SIUnit)}) and {@link #of(String)} return the interned instance, so they do not allocate once a
+ * dimensionality has been seen before. The intern table holds at most {@link #MAX_INTERN_SIZE} dimensionalities, which is far
+ * more than the units of the library and of a typical application use. When the table is full, e.g., because many different
+ * unit strings from user input have been parsed, new dimensionalities are returned as instances that are not interned. These
+ * are equal to any other instance with the same dimensions, so code should compare SIUnits with equals, not with ==.
+ * <p>
  * Copyright (c) 2019-2026 Delft University of Technology, PO Box 5, 2600 AA, Delft, the Netherlands. All rights reserved. <br>
  * BSD-style license. See <a href="https://djunits.org/docs/license.html">DJUNITS License</a>
  * @author Alexander Verbraeck
@@ -26,11 +37,38 @@ public class SIUnit implements UnitInterface<SIQuantity>
     /** The abbreviations of the SI units we use in SIUnit. */
     private static final String[] SI_ABBREVIATIONS = new String[] {"rad", "sr", "kg", "m", "s", "A", "K", "mol", "cd"};
 
-    /** For parsing, the mol has to be parsed before the m, otherwise the "m" from "mol" is eaten; same for "s" and "sr". */
-    private static final int[] PARSE_ORDER = new int[] {0, 1, 2, 7, 3, 4, 5, 6, 8};
+    /** The number of bits per dimension in the packed key. */
+    private static final int KEY_BITS = 7;
+
+    /** The mask for one dimension in the packed key. */
+    private static final long KEY_MASK = (1L << KEY_BITS) - 1L;
+
+    /** The bias that is added to an exponent before it is stored in the packed key. */
+    private static final int KEY_BIAS = 1 << (KEY_BITS - 1);
+
+    /** The smallest exponent that can be stored for a dimension. */
+    public static final int MIN_EXPONENT = -KEY_BIAS;
+
+    /** The largest exponent that can be stored for a dimension. */
+    public static final int MAX_EXPONENT = KEY_BIAS - 1;
+
+    /** The maximum number of canonical instances in the intern table. */
+    public static final int MAX_INTERN_SIZE = 1024;
+
+    /**
+     * The intern table with the canonical instances. The table is replaced as a whole when a new instance is added, so lookups
+     * do not need to lock.
+     */
+    private static volatile InternTable internTable = new InternTable(64, MAX_INTERN_SIZE);
+
+    /** The maximum number of parsed strings in the cache of {@link #of(String)}. */
+    public static final int MAX_PARSE_CACHE_SIZE = 4096;
+
+    /** The cache of parsed strings to interned instances for {@link #of(String)}. */
+    private static final Map<String, SIUnit> PARSE_CACHE = new ConcurrentHashMap<>();
 
     /** the dimensionless SIUnit. */
-    public static final SIUnit DIMLESS = new SIUnit(0, 0, 0, 0, 0, 0, 0, 0, 0);
+    public static final SIUnit DIMLESS = of(0, 0, 0, 0, 0, 0, 0, 0, 0);
 
     /**
      * The (currently) 9 dimensions of the SI unit we distinguish: 0: angle (rad), 1: solid angle (sr), 2: mass (kg), 3: length
@@ -39,12 +77,16 @@ public class SIUnit implements UnitInterface<SIQuantity>
      */
     private final int[] dimensions;
 
+    /** The exponents of the dimensions, packed with {@link #KEY_BITS} bits per dimension. */
+    private final long key;
+
     /**
      * Create an immutable SIUnit instance based on a safe copy of a given dimensions specification. As an example, speed is
      * indicated as length = 1; time = -1 with the other dimensions equal to zero.
      * @param dimensions The (currently) 9 dimensions of the SI unit we distinguish: 0: angle (rad), 1: solid angle (sr), 2:
      *            mass (kg), 3: length (m), 4: time (s), 5: current (A), 6: temperature (K), 7: amount of substance (mol), 8:
      *            luminous intensity (cd).
+     * @throws IllegalArgumentException when the array does not have 9 dimensions, or an exponent is out of range
      */
     public SIUnit(final int[] dimensions)
     {
@@ -52,6 +94,7 @@ public class SIUnit implements UnitInterface<SIQuantity>
         Throw.when(dimensions.length != NUMBER_DIMENSIONS, IllegalArgumentException.class,
                 "SIUnit has the wrong dimensionality: %s instead of %s", dimensions.length, NUMBER_DIMENSIONS);
         this.dimensions = dimensions.clone(); // safe copy
+        this.key = pack(this.dimensions);
     }
 
     /**
@@ -65,6 +108,7 @@ public class SIUnit implements UnitInterface<SIQuantity>
      * @param temperature dimension of the temperature (K)
      * @param amountOfSubstance dimension of the amount of substance (mol)
      * @param luminousIntensity dimension of the luminous intensity (cd)
+     * @throws IllegalArgumentException when an exponent is out of range
      */
     @SuppressWarnings("checkstyle:parameternumber")
     public SIUnit(final int angle, final int solidAngle, final int mass, final int length, final int time, final int current,
@@ -80,119 +124,351 @@ public class SIUnit implements UnitInterface<SIQuantity>
         this.dimensions[6] = temperature;
         this.dimensions[7] = amountOfSubstance;
         this.dimensions[8] = luminousIntensity;
+        this.key = pack(this.dimensions);
+    }
+
+    /**
+     * Return the canonical (interned) SIUnit instance for the given dimensions specification. When the intern table is full
+     * and the dimensions have not been interned before, a new instance that is not interned is returned.
+     * @param dimensions The (currently) 9 dimensions of the SI unit we distinguish: 0: angle (rad), 1: solid angle (sr), 2:
+     *            mass (kg), 3: length (m), 4: time (s), 5: current (A), 6: temperature (K), 7: amount of substance (mol), 8:
+     *            luminous intensity (cd).
+     * @return the interned SIUnit instance for the dimensions
+     * @throws IllegalArgumentException when the array does not have 9 dimensions, or an exponent is out of range
+     */
+    public static SIUnit of(final int... dimensions)
+    {
+        Throw.whenNull(dimensions, "dimensions cannot be null");
+        Throw.when(dimensions.length != NUMBER_DIMENSIONS, IllegalArgumentException.class,
+                "SIUnit has the wrong dimensionality: %s instead of %s", dimensions.length, NUMBER_DIMENSIONS);
+        return ofKey(pack(dimensions));
+    }
+
+    /**
+     * Return the canonical (interned) SIUnit instance for a packed key, or a new instance when the intern table is full.
+     * @param key the packed exponents
+     * @return the interned SIUnit instance for the key, or a new instance when the intern table is full
+     */
+    private static SIUnit ofKey(final long key)
+    {
+        SIUnit unit = internTable.get(key);
+        return unit != null ? unit : internSlow(key, null);
+    }
+
+    /**
+     * Add an instance for the key to the intern table, unless another thread has done so already. When the table is full, the
+     * instance is returned without interning it.
+     * @param key the packed exponents
+     * @param candidate the instance to intern, or null to create a new instance
+     * @return the interned SIUnit instance for the key, or the (new) instance when the intern table is full
+     */
+    private static synchronized SIUnit internSlow(final long key, final SIUnit candidate)
+    {
+        InternTable table = internTable;
+        SIUnit unit = table.get(key);
+        if (unit == null)
+        {
+            unit = candidate != null ? candidate : new SIUnit(unpack(key));
+            if (!table.isFull())
+            {
+                internTable = table.with(unit);
+            }
+        }
+        return unit;
+    }
+
+    /**
+     * Return the canonical (interned) instance with the same dimensions as this SIUnit. When the intern table is full and the
+     * dimensions have not been interned before, this instance is returned.
+     * @return the interned SIUnit instance with the same dimensions as this SIUnit, or this instance
+     */
+    public SIUnit intern()
+    {
+        SIUnit unit = internTable.get(this.key);
+        return unit != null ? unit : internSlow(this.key, this);
+    }
+
+    /**
+     * Return the number of canonical instances in the intern table.
+     * @return the number of canonical instances in the intern table
+     */
+    static int internedCount()
+    {
+        return internTable.size();
+    }
+
+    /**
+     * Return the exponents of the dimensions, packed into a single long with 7 bits per dimension. Two SIUnits are equal if
+     * and only if their keys are equal.
+     * @return the packed exponents of the dimensions
+     */
+    public long getKey()
+    {
+        return this.key;
+    }
+
+    /**
+     * Pack an array of exponents into a key.
+     * @param dimensions the exponents in the order rad, sr, kg, m, s, A, K, mol, cd
+     * @return the packed key
+     * @throws IllegalArgumentException when an exponent is out of range
+     */
+    private static long pack(final int[] dimensions)
+    {
+        long result = 0L;
+        for (int i = 0; i < NUMBER_DIMENSIONS; i++)
+        {
+            result = packDimension(result, i, dimensions[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Store one exponent in a key.
+     * @param key the key in which the exponent has not yet been stored
+     * @param index the index of the dimension
+     * @param exponent the exponent to store
+     * @return the key with the exponent stored
+     * @throws IllegalArgumentException when the exponent is out of range
+     */
+    private static long packDimension(final long key, final int index, final int exponent)
+    {
+        Throw.when(exponent < MIN_EXPONENT || exponent > MAX_EXPONENT, IllegalArgumentException.class,
+                "SIUnit exponent %d for %s out of range [%d, %d]", exponent, SI_ABBREVIATIONS[index], MIN_EXPONENT,
+                MAX_EXPONENT);
+        return key | ((long) (exponent + KEY_BIAS) << (KEY_BITS * index));
+    }
+
+    /**
+     * Retrieve one exponent from a key.
+     * @param key the packed key
+     * @param index the index of the dimension
+     * @return the exponent for the dimension
+     */
+    private static int unpackDimension(final long key, final int index)
+    {
+        return (int) ((key >>> (KEY_BITS * index)) & KEY_MASK) - KEY_BIAS;
+    }
+
+    /**
+     * Unpack a key into an array of exponents.
+     * @param key the packed key
+     * @return the exponents in the order rad, sr, kg, m, s, A, K, mol, cd
+     */
+    private static int[] unpack(final long key)
+    {
+        int[] result = new int[NUMBER_DIMENSIONS];
+        for (int i = 0; i < NUMBER_DIMENSIONS; i++)
+        {
+            result[i] = unpackDimension(key, i);
+        }
+        return result;
     }
 
     /**
      * Parse a string representing SI dimensions to an SIUnit object. Example: SIUnit.of("kgm/s2") and SIUnit.of("kgms-2") will
      * both be translated to a dimensions object with vector {0,0,1,1,-2,0,0,0,0}. It is allowed to use 0 or 1 for the
      * dimensions. Having the same unit in the numerator and the denominator is not seen as a problem: the values are subtracted
-     * from each other, so m/m will have a length dimensionality of 0. Dimensions between -9 and 9 are allowed. Spaces, periods
-     * and ^ are taken out, but other characters are not allowed and will lead to a UnitException. The order of allowed units is
-     * arbitrary, so "kg/ms2" is accepted as well as "kg/s^2.m".
+     * from each other, so m/m will have a length dimensionality of 0. Dimensions can have multiple digits and can be negative,
+     * as long as the result is between {@link #MIN_EXPONENT} and {@link #MAX_EXPONENT}. Spaces, periods and ^ can be used
+     * between the units and the dimensions, but other characters are not allowed and will lead to a UnitException. The order
+     * of allowed units is arbitrary, so "kg/ms2" is accepted as well as "kg/s^2.m". Note that the empty string and "1" parse
+     * to the dimensionless unit.
+     * <p>
+     * The string is parsed in a single pass without creating intermediate strings, and the results are cached, so parsing the
+     * same dimension strings again, e.g., from a data file, costs a single hash lookup.
      * @param siString the string to parse
-     * @return the corresponding SI dimensions
+     * @return the corresponding interned SI dimensions
      * @throws UnitRuntimeException when the string could not be parsed into dimensions
      */
     public static SIUnit of(final String siString) throws UnitRuntimeException
     {
         Throw.whenNull(siString, "siString cannot be null");
-        String dimString = siString.replaceAll("[ .^]", "");
-        if (dimString.contains("/"))
+        SIUnit unit = PARSE_CACHE.get(siString);
+        if (unit == null)
         {
-            String[] parts = dimString.split("\\/");
-            if (parts.length != 2)
-            {
-                throw new UnitRuntimeException("SI String " + dimString + " contains more than one division sign");
-            }
-            int[] numerator = parse(parts[0]);
-            int[] denominator = parse(parts[1]);
-            for (int i = 0; i < NUMBER_DIMENSIONS; i++)
+            unit = ofKey(parse(siString));
+            if (PARSE_CACHE.size() < MAX_PARSE_CACHE_SIZE)
             {
-                numerator[i] -= denominator[i];
+                PARSE_CACHE.putIfAbsent(siString, unit);
             }
-            return new SIUnit(numerator);
         }
-        return new SIUnit(parse(dimString));
+        return unit;
+    }
+
+    /**
+     * Remove all entries from the cache of {@link #of(String)}. Since the cache stops accepting entries when it holds
+     * {@link #MAX_PARSE_CACHE_SIZE} strings, this allows a test that fills the cache to restore the initial state.
+     */
+    static void clearParseCache()
+    {
+        PARSE_CACHE.clear();
+    }
+
+    /**
+     * Return the number of strings in the cache of {@link #of(String)}.
+     * @return the number of strings in the cache
+     */
+    static int parseCacheSize()
+    {
+        return PARSE_CACHE.size();
     }
 
     /**
-     * Translate a string representing SI dimensions to an SIUnit object. Example: SIUnit.of("kgm2") is translated to a vector
-     * {0,0,1,2,0,0,0,0,0}. It is allowed to use 0 or 1 for the dimensions. Dimensions between -9 and 9 are allowed. The parsing
-     * is quite lenient: periods and carets (^) are taken out, and the order can be arbitrary, so "kgms-2" is accepted as well
-     * as "m.s^-2.kg". Note that the empty string parses to the dimensionless unit.
-     * @param siString concatenation of SI units with positive or negative dimensions. No divisions sign is allowed.
-     * @return a vector of length <code>NUMBER_DIMENSIONS</code> with the dimensions for the SI units
+     * Translate a string representing SI dimensions to a packed key. The string consists of an optional numerator and an
+     * optional denominator after a single division sign. Each part is either "1", or a concatenation of SI units that are each
+     * followed by an optional positive or negative dimension. Spaces, periods and carets (^) are skipped. A unit may occur only
+     * once in the numerator and once in the denominator.
+     * @param siString the string to parse
+     * @return the packed key with the dimensions for the SI units
      * @throws UnitRuntimeException when the String cannot be parsed, e.g. due to units not being recognized
      */
-    private static int[] parse(final String siString) throws UnitRuntimeException
+    private static long parse(final String siString) throws UnitRuntimeException
     {
-        Throw.whenNull(siString, "siString cannot be null");
         int[] result = new int[NUMBER_DIMENSIONS];
-        if (siString.equals("1") || siString.length() == 0)
+        int length = siString.length();
+        boolean denominator = false;
+        boolean one = false; // the current part is "1"
+        int seen = 0; // bit mask of the units in the current part
+        int pos = skipSeparators(siString, 0);
+        while (pos < length)
         {
-            return result;
-        }
-        String copy = siString;
-        int copyLength = copy.length();
-        while (copyLength > 0)
-        {
-            // find the next unit
-            for (int j = 0; j < SI_ABBREVIATIONS.length; j++)
+            char c = siString.charAt(pos);
+            if (c == '/')
             {
-                int i = PARSE_ORDER[j];
-                String si = SI_ABBREVIATIONS[i];
-                if (copy.startsWith(si))
+                if (denominator)
                 {
-                    if (result[i] != 0)
-                    {
-                        throw new UnitRuntimeException("SI string " + siString + " has a double entry for unit " + si);
-                    }
-                    copy = copy.substring(si.length());
-                    if (copy.length() == 0)
-                    {
-                        result[i] = 1;
-                        break;
-                    }
-                    else if (copy.startsWith("-"))
-                    {
-                        if (copy.length() == 1)
-                        {
-                            throw new UnitRuntimeException("SI string " + siString + " ends with a minus sign");
-                        }
-                        if (Character.isDigit(copy.charAt(1)))
-                        {
-                            result[i] = (-1 * (copy.charAt(1) - '0'));
-                            copy = copy.substring(2);
-                            break;
-                        }
-                        throw new UnitRuntimeException(
-                                "SI string " + siString + " has a minus sign for unit " + si + " but no dimension");
-                    }
-                    else if (Character.isDigit(copy.charAt(0)))
-                    {
-                        result[i] = (copy.charAt(0) - '0');
-                        copy = copy.substring(1);
-                        break;
-                    }
-                    else
+                    throw new UnitRuntimeException("SI string " + siString + " contains more than one division sign");
+                }
+                denominator = true;
+                one = false;
+                seen = 0;
+                pos = skipSeparators(siString, pos + 1);
+                continue;
+            }
+            if (c == '1' && seen == 0 && !one)
+            {
+                one = true;
+                pos = skipSeparators(siString, pos + 1);
+                continue;
+            }
+            int index = one ? -1 : matchAbbreviation(siString, pos);
+            if (index < 0)
+            {
+                throw new UnitRuntimeException("Trailing information in SI string " + siString + " at position " + pos);
+            }
+            if ((seen & (1 << index)) != 0)
+            {
+                throw new UnitRuntimeException(
+                        "SI string " + siString + " has a double entry for unit " + SI_ABBREVIATIONS[index]);
+            }
+            seen |= 1 << index;
+            pos = skipSeparators(siString, pos + SI_ABBREVIATIONS[index].length());
+
+            // optional dimension
+            int dimension = 1;
+            boolean negative = pos < length && siString.charAt(pos) == '-';
+            if (negative)
+            {
+                pos = skipSeparators(siString, pos + 1);
+                if (pos == length || !isDigit(siString.charAt(pos)))
+                {
+                    throw new UnitRuntimeException("SI string " + siString + " has a minus sign for unit "
+                            + SI_ABBREVIATIONS[index] + " but no dimension");
+                }
+            }
+            if (pos < length && isDigit(siString.charAt(pos)))
+            {
+                dimension = 0;
+                while (pos < length && isDigit(siString.charAt(pos)))
+                {
+                    dimension = 10 * dimension + siString.charAt(pos) - '0';
+                    if (dimension > 2 * KEY_BIAS)
                     {
-                        result[i] = 1;
-                        break;
+                        throw new UnitRuntimeException("SI string " + siString + " has a dimension out of range for unit "
+                                + SI_ABBREVIATIONS[index]);
                     }
+                    pos = skipSeparators(siString, pos + 1);
                 }
             }
-            if (copy.length() == copyLength)
+            result[index] += (negative ^ denominator) ? -dimension : dimension;
+        }
+        if (denominator && seen == 0 && !one)
+        {
+            throw new UnitRuntimeException("SI string " + siString + " has an empty denominator");
+        }
+        long key = 0L;
+        for (int i = 0; i < NUMBER_DIMENSIONS; i++)
+        {
+            if (result[i] < MIN_EXPONENT || result[i] > MAX_EXPONENT)
             {
-                // we did not parse anything... wrong character
-                break;
+                throw new UnitRuntimeException(
+                        "SI string " + siString + " has a dimension out of range for unit " + SI_ABBREVIATIONS[i]);
             }
-            copyLength = copy.length();
+            key = packDimension(key, i, result[i]);
         }
-        if (copy.length() != 0)
+        return key;
+    }
+
+    /**
+     * Return the index of the SI unit whose abbreviation starts at a position in a string. The "mol" is matched before the
+     * "m", and the "sr" before the "s".
+     * @param siString the string to parse
+     * @param pos the position in the string
+     * @return the index of the SI unit, or -1 when no SI unit starts at the position
+     */
+    private static int matchAbbreviation(final String siString, final int pos)
+    {
+        switch (siString.charAt(pos))
         {
-            throw new UnitRuntimeException("Trailing information in SI string " + siString);
+            case 'r':
+                return siString.startsWith("rad", pos) ? 0 : -1;
+            case 's':
+                return siString.startsWith("sr", pos) ? 1 : 4;
+            case 'k':
+                return siString.startsWith("kg", pos) ? 2 : -1;
+            case 'm':
+                return siString.startsWith("mol", pos) ? 7 : 3;
+            case 'A':
+                return 5;
+            case 'K':
+                return 6;
+            case 'c':
+                return siString.startsWith("cd", pos) ? 8 : -1;
+            default:
+                return -1;
         }
-        return result;
+    }
+
+    /**
+     * Return the position of the first character at or after a position that is not a space, period or caret.
+     * @param siString the string to parse
+     * @param pos the position to start
+     * @return the position of the first character that is not a separator, or the length of the string
+     */
+    private static int skipSeparators(final String siString, final int pos)
+    {
+        int i = pos;
+        while (i < siString.length())
+        {
+            char c = siString.charAt(i);
+            if (c != ' ' && c != '.' && c != '^')
+            {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Return whether a character is an ASCII digit.
+     * @param c the character
+     * @return whether the character is an ASCII digit
+     */
+    private static boolean isDigit(final char c)
+    {
+        return c >= '0' && c <= '9';
     }
 
     /**
@@ -215,66 +491,51 @@ public class SIUnit implements UnitInterface<SIQuantity>
     }
 
     /**
-     * Add a set of SI dimensions to this SIUnit. Note: as dimensions are considered to be immutable, a new dimension is
-     * returned. The original dimension (<code>this</code>) remains unaltered.
+     * Add a set of SI dimensions to this SIUnit. Note: as dimensions are considered to be immutable, the
+     * interned dimension is returned. The original dimension (<code>this</code>) remains unaltered.
      * @param other the dimensions to add (usually as a result of multiplication of scalars)
      * @return the new dimensions with the dimensions of this object plus the dimensions in the parameter
      */
     public SIUnit plus(final SIUnit other)
     {
-        int[] result = new int[NUMBER_DIMENSIONS];
-        for (int i = 0; i < NUMBER_DIMENSIONS; i++)
-        {
-            result[i] = this.dimensions[i] + other.dimensions[i];
-        }
-        return new SIUnit(result);
+        return add(this, other);
     }
 
     /**
-     * Subtract a set of SI dimensions from this SIUnit. Note: as dimensions are considered to be immutable, a new dimension is
-     * returned. The original dimension (<code>this</code>) remains unaltered.
+     * Subtract a set of SI dimensions from this SIUnit. Note: as dimensions are considered to be immutable, the
+     * interned dimension is returned. The original dimension (<code>this</code>) remains unaltered.
      * @param other the dimensions to subtract (usually as a result of division of scalars)
      * @return the new dimensions with the dimensions of this object minus the dimensions in the parameter
      */
     public SIUnit minus(final SIUnit other)
     {
-        int[] result = new int[NUMBER_DIMENSIONS];
-        for (int i = 0; i < NUMBER_DIMENSIONS; i++)
-        {
-            result[i] = this.dimensions[i] - other.dimensions[i];
-        }
-        return new SIUnit(result);
+        return subtract(this, other);
     }
 
     /**
-     * Invert a set of SI dimensions; instead of m/s we get s/m. Note: as dimensions are considered to be immutable, a new
-     * dimension is returned. The original dimension (<code>this</code>) remains unaltered.
+     * Invert a set of SI dimensions; instead of m/s we get s/m. Note: as dimensions are considered to be immutable, the
+     * interned dimension is returned. The original dimension (<code>this</code>) remains unaltered.
      * @return the new dimensions that are the inverse of the dimensions in this object
      */
     public SIUnit invert()
     {
-        int[] result = new int[NUMBER_DIMENSIONS];
-        for (int i = 0; i < NUMBER_DIMENSIONS; i++)
-        {
-            result[i] = -this.dimensions[i];
-        }
-        return new SIUnit(result);
+        return pow(-1);
     }
 
     /**
-     * Raise a set of SI dimensions to the n-th power. Note: as dimensions are considered to be immutable, a new dimension is
-     * returned. The original dimension (<code>this</code>) remains unaltered.
+     * Raise a set of SI dimensions to the n-th power. Note: as dimensions are considered to be immutable, the
+     * interned dimension is returned. The original dimension (<code>this</code>) remains unaltered.
      * @param n the power to which to raise this set of dimensions
      * @return the new dimensions with the dimensions of this object raised to the n-th power
      */
     public SIUnit pow(final int n)
     {
-        int[] result = new int[NUMBER_DIMENSIONS];
+        long result = 0L;
         for (int i = 0; i < NUMBER_DIMENSIONS; i++)
         {
-            result[i] = this.dimensions[i] * n;
+            result = packDimension(result, i, unpackDimension(this.key, i) * n);
         }
-        return new SIUnit(result);
+        return ofKey(result);
     }
 
     /**
@@ -285,12 +546,12 @@ public class SIUnit implements UnitInterface<SIQuantity>
      */
     public static SIUnit add(final SIUnit dim1, final SIUnit dim2)
     {
-        int[] dim = new int[NUMBER_DIMENSIONS];
+        long result = 0L;
         for (int i = 0; i < NUMBER_DIMENSIONS; i++)
         {
-            dim[i] = dim1.dimensions[i] + dim2.dimensions[i];
+            result = packDimension(result, i, unpackDimension(dim1.key, i) + unpackDimension(dim2.key, i));
         }
-        return new SIUnit(dim);
+        return ofKey(result);
     }
 
     /**
@@ -302,12 +563,12 @@ public class SIUnit implements UnitInterface<SIQuantity>
      */
     public static SIUnit subtract(final SIUnit dim1, final SIUnit dim2)
     {
-        int[] dim = new int[NUMBER_DIMENSIONS];
+        long result = 0L;
         for (int i = 0; i < NUMBER_DIMENSIONS; i++)
         {
-            dim[i] = dim1.dimensions[i] - dim2.dimensions[i];
+            result = packDimension(result, i, unpackDimension(dim1.key, i) - unpackDimension(dim2.key, i));
         }
-        return new SIUnit(dim);
+        return ofKey(result);
     }
 
     @Override
@@ -518,10 +779,7 @@ public class SIUnit implements UnitInterface<SIQuantity>
     @Override
     public int hashCode()
     {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + Arrays.hashCode(this.dimensions);
-        return result;
+        return Long.hashCode(this.key * 0x9E3779B97F4A7C15L);
     }
 
     @Override
@@ -535,9 +793,145 @@ public class SIUnit implements UnitInterface<SIQuantity>
         if (getClass() != obj.getClass())
             return false;
         SIUnit other = (SIUnit) obj;
-        if (!Arrays.equals(this.dimensions, other.dimensions))
-            return false;
-        return true;
+        return this.key == other.key;
+    }
+
+    /**
+     * Immutable open-addressing hash table from packed key to canonical SIUnit instance. A new table is created for every
+     * insertion; since the number of entries is limited to a maximum size, this keeps lookups lock-free and allocation-free,
+     * with a bounded cost for an insertion and a bounded memory use.
+     */
+    static final class InternTable
+    {
+        /** The maximum number of units in the table. */
+        private final int maxSize;
+
+        /** The keys; only valid where units[i] != null. */
+        private final long[] keys;
+
+        /** The interned units. */
+        private final SIUnit[] units;
+
+        /** The number of interned units. */
+        private final int size;
+
+        /**
+         * Create an empty table.
+         * @param capacity the capacity, a power of 2
+         * @param maxSize the maximum number of units in the table
+         */
+        InternTable(final int capacity, final int maxSize)
+        {
+            this.keys = new long[capacity];
+            this.units = new SIUnit[capacity];
+            this.size = 0;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Create a table with the entries of a given table and one additional unit.
+         * @param table the table to copy
+         * @param unit the unit to add
+         */
+        private InternTable(final InternTable table, final SIUnit unit)
+        {
+            this.maxSize = table.maxSize;
+            if (2 * (table.size + 1) > table.units.length)
+            {
+                this.keys = new long[2 * table.units.length];
+                this.units = new SIUnit[2 * table.units.length];
+                for (int i = 0; i < table.units.length; i++)
+                {
+                    if (table.units[i] != null)
+                    {
+                        insert(table.units[i]);
+                    }
+                }
+            }
+            else
+            {
+                this.keys = table.keys.clone();
+                this.units = table.units.clone();
+            }
+            insert(unit);
+            this.size = table.size + 1;
+        }
+
+        /**
+         * Return the slot index to start probing for a key.
+         * @param key the packed key
+         * @return the slot index to start probing
+         */
+        private int slot(final long key)
+        {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & (this.units.length - 1);
+        }
+
+        /**
+         * Insert a unit in a free slot; only used during construction.
+         * @param unit the unit to insert
+         */
+        private void insert(final SIUnit unit)
+        {
+            int i = slot(unit.key);
+            while (this.units[i] != null)
+            {
+                i = (i + 1) & (this.units.length - 1);
+            }
+            this.keys[i] = unit.key;
+            this.units[i] = unit;
+        }
+
+        /**
+         * Return the interned unit for a key, or null when the key has not been interned.
+         * @param key the packed key
+         * @return the interned unit for the key, or null
+         */
+        SIUnit get(final long key)
+        {
+            int i = slot(key);
+            SIUnit unit;
+            while ((unit = this.units[i]) != null)
+            {
+                if (this.keys[i] == key)
+                {
+                    return unit;
+                }
+                i = (i + 1) & (this.units.length - 1);
+            }
+            return null;
+        }
+
+        /**
+         * Return whether the table holds the maximum number of units.
+         * @return whether the table holds the maximum number of units
+         */
+        boolean isFull()
+        {
+            return this.size >= this.maxSize;
+        }
+
+        /**
+         * Return the number of units in the table.
+         * @return the number of units in the table
+         */
+        int size()
+        {
+            return this.size;
+        }
+
+        /**
+         * Return a new table with the entries of this table and one additional unit.
+         * @param unit the unit to add
+         * @return a new table with the additional unit
+         * @throws IllegalStateException when the table is full
+         */
+        InternTable with(final SIUnit unit)
+        {
+            Throw.when(isFull(), IllegalStateException.class, "InternTable is full");
+            return new InternTable(this, unit);
+        }
     }
 
 }
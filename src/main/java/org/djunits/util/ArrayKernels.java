@@ -0,0 +1,675 @@
+package org.djunits.util;
+
+/**
+ * ArrayKernels defines the element-wise operations and reductions on primitive arrays that are used by {@link ArrayMath} and
+ * {@link Math2}. The active implementation is selected once, at class initialization of ArrayMath: when the
+ * <code>jdk.incubator.vector</code> module is available (i.e., the JVM is started with
+ * <code>--add-modules jdk.incubator.vector</code>), an implementation based on the Java Vector API is used; otherwise the
+ * {@link ScalarArrayKernels} with plain loops is used. The selection can be forced to the scalar implementation by setting
+ * the system property <code>djunits.simd</code> to <code>false</code>. Since the Vector API is an incubator module, the
+ * Vector API implementation is only compiled and tested when the project is built with the Maven profile <code>simd</code>,
+ * e.g., <code>mvn -Psimd test</code>; without it, the library only contains the scalar implementation.
+ * <p>
+ * Each operation works on a range of indices {@code [from, to)}; the methods without a range are default methods that
+ * process the whole array. The ranges make it possible to split an operation into parts, e.g., for parallel execution with
+ * a {@link ParallelPolicy}. The kernels do not check their arguments: the arrays should be non-null, the input arrays should
+ * have the same length, the output array should be at least as long as the input arrays, and the range should be within the
+ * bounds of the arrays. Reductions require at least one element in the range. The element-wise operations of all
+ * implementations give identical results; the reductions for sums may differ in the last bits between implementations, since
+ * a SIMD implementation adds the values in a different order. The sums of float arrays are accumulated and returned in double
+ * precision, so the rounding error of a long float array does not grow with the precision of a float.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public interface ArrayKernels
+{
+    /**
+     * Return a short name for the implementation, e.g., for logging which implementation is active.
+     * @return a short name for the implementation
+     */
+    String getName();
+
+    /**
+     * Compute the element-wise sum {@code out[i] = a[i] + b[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void add(final double[] a, final double[] b, final double[] out)
+    {
+        add(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise sum {@code out[i] = a[i] + b[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void add(double[] a, double[] b, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise difference {@code out[i] = a[i] - b[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void subtract(final double[] a, final double[] b, final double[] out)
+    {
+        subtract(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise difference {@code out[i] = a[i] - b[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void subtract(double[] a, double[] b, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise product {@code out[i] = a[i] * b[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void multiply(final double[] a, final double[] b, final double[] out)
+    {
+        multiply(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise product {@code out[i] = a[i] * b[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void multiply(double[] a, double[] b, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise quotient {@code out[i] = a[i] / b[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void divide(final double[] a, final double[] b, final double[] out)
+    {
+        divide(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise quotient {@code out[i] = a[i] / b[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void divide(double[] a, double[] b, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise sum with a constant {@code out[i] = a[i] + c} for double arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void addScalar(final double[] a, final double c, final double[] out)
+    {
+        addScalar(a, c, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise sum with a constant {@code out[i] = a[i] + c} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void addScalar(double[] a, double c, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise scaling {@code out[i] = c * a[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void scale(final double[] a, final double c, final double[] out)
+    {
+        scale(a, c, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise scaling {@code out[i] = c * a[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void scale(double[] a, double c, double[] out, int from, int to);
+
+    /**
+     * Compute the fused operation {@code out[i] = a[i] + alpha * b[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param alpha the multiplier for b
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void axpy(final double[] a, final double[] b, final double alpha, final double[] out)
+    {
+        axpy(a, b, alpha, out, 0, a.length);
+    }
+
+    /**
+     * Compute the fused operation {@code out[i] = a[i] + alpha * b[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param alpha the multiplier for b
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void axpy(double[] a, double[] b, double alpha, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise absolute value {@code out[i] = |a[i]|} for double arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void abs(final double[] a, final double[] out)
+    {
+        abs(a, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise absolute value {@code out[i] = |a[i]|} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void abs(double[] a, double[] out, int from, int to);
+
+    /**
+     * Compute the element-wise reciprocal {@code out[i] = 1 / a[i]} for double arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void reciprocal(final double[] a, final double[] out)
+    {
+        reciprocal(a, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise reciprocal {@code out[i] = 1 / a[i]} for a range of indices of double arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void reciprocal(double[] a, double[] out, int from, int to);
+
+    /**
+     * Return the sum of the values of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the sum of the values
+     */
+    default double sum(final double[] a)
+    {
+        return sum(a, 0, a.length);
+    }
+
+    /**
+     * Return the sum of the values for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the sum of the values in the range
+     */
+    double sum(double[] a, int from, int to);
+
+    /**
+     * Return the sum of the absolute values of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the sum of the absolute values
+     */
+    default double sumAbs(final double[] a)
+    {
+        return sumAbs(a, 0, a.length);
+    }
+
+    /**
+     * Return the sum of the absolute values for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the sum of the absolute values in the range
+     */
+    double sumAbs(double[] a, int from, int to);
+
+    /**
+     * Return the sum of the squared values of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the sum of the squared values
+     */
+    default double sumSqr(final double[] a)
+    {
+        return sumSqr(a, 0, a.length);
+    }
+
+    /**
+     * Return the sum of the squared values for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the sum of the squared values in the range
+     */
+    double sumSqr(double[] a, int from, int to);
+
+    /**
+     * Return the minimum value of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the minimum value
+     */
+    default double min(final double[] a)
+    {
+        return min(a, 0, a.length);
+    }
+
+    /**
+     * Return the minimum value for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the minimum value in the range
+     */
+    double min(double[] a, int from, int to);
+
+    /**
+     * Return the maximum value of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the maximum value
+     */
+    default double max(final double[] a)
+    {
+        return max(a, 0, a.length);
+    }
+
+    /**
+     * Return the maximum value for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the maximum value in the range
+     */
+    double max(double[] a, int from, int to);
+
+    /**
+     * Return the minimum absolute value of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the minimum absolute value
+     */
+    default double minAbs(final double[] a)
+    {
+        return minAbs(a, 0, a.length);
+    }
+
+    /**
+     * Return the minimum absolute value for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the minimum absolute value in the range
+     */
+    double minAbs(double[] a, int from, int to);
+
+    /**
+     * Return the maximum absolute value of a double array.
+     * @param a the values; the array should contain at least one value
+     * @return the maximum absolute value
+     */
+    default double maxAbs(final double[] a)
+    {
+        return maxAbs(a, 0, a.length);
+    }
+
+    /**
+     * Return the maximum absolute value for a range of indices of a double array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the maximum absolute value in the range
+     */
+    double maxAbs(double[] a, int from, int to);
+
+    /**
+     * Compute the element-wise sum {@code out[i] = a[i] + b[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void add(final float[] a, final float[] b, final float[] out)
+    {
+        add(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise sum {@code out[i] = a[i] + b[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void add(float[] a, float[] b, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise difference {@code out[i] = a[i] - b[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void subtract(final float[] a, final float[] b, final float[] out)
+    {
+        subtract(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise difference {@code out[i] = a[i] - b[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void subtract(float[] a, float[] b, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise product {@code out[i] = a[i] * b[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void multiply(final float[] a, final float[] b, final float[] out)
+    {
+        multiply(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise product {@code out[i] = a[i] * b[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void multiply(float[] a, float[] b, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise quotient {@code out[i] = a[i] / b[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void divide(final float[] a, final float[] b, final float[] out)
+    {
+        divide(a, b, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise quotient {@code out[i] = a[i] / b[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void divide(float[] a, float[] b, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise sum with a constant {@code out[i] = a[i] + c} for float arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void addScalar(final float[] a, final float c, final float[] out)
+    {
+        addScalar(a, c, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise sum with a constant {@code out[i] = a[i] + c} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void addScalar(float[] a, float c, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise scaling {@code out[i] = c * a[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void scale(final float[] a, final float c, final float[] out)
+    {
+        scale(a, c, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise scaling {@code out[i] = c * a[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param c the constant
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void scale(float[] a, float c, float[] out, int from, int to);
+
+    /**
+     * Compute the fused operation {@code out[i] = a[i] + alpha * b[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param alpha the multiplier for b
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void axpy(final float[] a, final float[] b, final float alpha, final float[] out)
+    {
+        axpy(a, b, alpha, out, 0, a.length);
+    }
+
+    /**
+     * Compute the fused operation {@code out[i] = a[i] + alpha * b[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param b the right-hand values
+     * @param alpha the multiplier for b
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void axpy(float[] a, float[] b, float alpha, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise absolute value {@code out[i] = |a[i]|} for float arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void abs(final float[] a, final float[] out)
+    {
+        abs(a, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise absolute value {@code out[i] = |a[i]|} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void abs(float[] a, float[] out, int from, int to);
+
+    /**
+     * Compute the element-wise reciprocal {@code out[i] = 1 / a[i]} for float arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     */
+    default void reciprocal(final float[] a, final float[] out)
+    {
+        reciprocal(a, out, 0, a.length);
+    }
+
+    /**
+     * Compute the element-wise reciprocal {@code out[i] = 1 / a[i]} for a range of indices of float arrays.
+     * @param a the (left-hand) values
+     * @param out the array to store the results in; it can be the same array as one of the inputs
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive)
+     */
+    void reciprocal(float[] a, float[] out, int from, int to);
+
+    /**
+     * Return the sum of the values of a float array, accumulated in double precision.
+     * @param a the values; the array should contain at least one value
+     * @return the sum of the values
+     */
+    default double sum(final float[] a)
+    {
+        return sum(a, 0, a.length);
+    }
+
+    /**
+     * Return the sum of the values for a range of indices of a float array, accumulated in double precision.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the sum of the values in the range
+     */
+    double sum(float[] a, int from, int to);
+
+    /**
+     * Return the sum of the absolute values of a float array, accumulated in double precision.
+     * @param a the values; the array should contain at least one value
+     * @return the sum of the absolute values
+     */
+    default double sumAbs(final float[] a)
+    {
+        return sumAbs(a, 0, a.length);
+    }
+
+    /**
+     * Return the sum of the absolute values for a range of indices of a float array, accumulated in double precision.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the sum of the absolute values in the range
+     */
+    double sumAbs(float[] a, int from, int to);
+
+    /**
+     * Return the sum of the squared values of a float array, accumulated in double precision.
+     * @param a the values; the array should contain at least one value
+     * @return the sum of the squared values
+     */
+    default double sumSqr(final float[] a)
+    {
+        return sumSqr(a, 0, a.length);
+    }
+
+    /**
+     * Return the sum of the squared values for a range of indices of a float array, accumulated in double precision.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the sum of the squared values in the range
+     */
+    double sumSqr(float[] a, int from, int to);
+
+    /**
+     * Return the minimum value of a float array.
+     * @param a the values; the array should contain at least one value
+     * @return the minimum value
+     */
+    default float min(final float[] a)
+    {
+        return min(a, 0, a.length);
+    }
+
+    /**
+     * Return the minimum value for a range of indices of a float array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the minimum value in the range
+     */
+    float min(float[] a, int from, int to);
+
+    /**
+     * Return the maximum value of a float array.
+     * @param a the values; the array should contain at least one value
+     * @return the maximum value
+     */
+    default float max(final float[] a)
+    {
+        return max(a, 0, a.length);
+    }
+
+    /**
+     * Return the maximum value for a range of indices of a float array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the maximum value in the range
+     */
+    float max(float[] a, int from, int to);
+
+    /**
+     * Return the minimum absolute value of a float array.
+     * @param a the values; the array should contain at least one value
+     * @return the minimum absolute value
+     */
+    default float minAbs(final float[] a)
+    {
+        return minAbs(a, 0, a.length);
+    }
+
+    /**
+     * Return the minimum absolute value for a range of indices of a float array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the minimum absolute value in the range
+     */
+    float minAbs(float[] a, int from, int to);
+
+    /**
+     * Return the maximum absolute value of a float array.
+     * @param a the values; the array should contain at least one value
+     * @return the maximum absolute value
+     */
+    default float maxAbs(final float[] a)
+    {
+        return maxAbs(a, 0, a.length);
+    }
+
+    /**
+     * Return the maximum absolute value for a range of indices of a float array.
+     * @param a the values
+     * @param from the first index to process (inclusive)
+     * @param to the last index to process (exclusive); the range should contain at least one value
+     * @return the maximum absolute value in the range
+     */
+    float maxAbs(float[] a, int from, int to);
+
+}
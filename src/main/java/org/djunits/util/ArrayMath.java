@@ -3,7 +3,7 @@ package org.djunits.util;
 import org.djutils.exceptions.Throw;
 
 /**
- * Utility methods for element-wise arithmetic on primitive {@code double[]} arrays.
+ * Utility methods for element-wise arithmetic on primitive {@code double[]} and {@code float[]} arrays.
  * <p>
  * This class provides common operations such as addition, scaling (multiplying by a scalar), and the fused AXPY operation
  * ({@code out = a + alpha * b}). Each operation is available in two forms:
@@ -15,8 +15,12 @@ import org.djutils.exceptions.Throw;
  * <h2>Design &amp; Performance Notes</h2>
  * <ul>
  * <li>Methods operate on primitive arrays to avoid boxing and reduce allocation overhead.</li>
- * <li>Simple indexed {@code for}-loops are used on purpose; modern JVMs can hoist bounds checks, unroll loops, and sometimes
- * auto-vectorize tight loops on hot paths.</li>
+ * <li>The loops are carried out by the {@link ArrayKernels} that are returned by {@link #kernels()}: an implementation
+ * based on the Java Vector API when the <code>jdk.incubator.vector</code> module is available, and otherwise simple indexed
+ * {@code for}-loops for which modern JVMs can hoist bounds checks, unroll loops, and sometimes auto-vectorize.</li>
+ * <li>When the default {@link ParallelPolicy} is set to a parallel policy, large arrays are split over the threads of a
+ * fork-join pool; arrays below the threshold of the policy are processed directly by the kernels. The initial default
+ * policy is sequential.</li>
  * <li>Procedural variants ({@code ...Into}) allow output reuse to reduce GC pressure.</li>
  * <li>No special-casing for short arrays; on modern CPUs/JITs, well-structured loops scale efficiently.</li>
  * </ul>
@@ -34,11 +38,62 @@ import org.djutils.exceptions.Throw;
  */
 public final class ArrayMath
 {
+    /** The name of the system property that can be set to false to disable the Vector API kernels. */
+    public static final String SIMD_PROPERTY = "djunits.simd";
+
+    /** The kernels that carry out the loops. */
+    private static final ArrayKernels KERNELS = selectKernels();
+
     /** Not instantiable. */
     private ArrayMath()
     {
     }
 
+    /**
+     * Select the kernels to use: the Vector API kernels when the <code>jdk.incubator.vector</code> module is available and the
+     * system property {@value #SIMD_PROPERTY} is not false, and the scalar kernels otherwise.
+     * @return the kernels to use
+     */
+    private static ArrayKernels selectKernels()
+    {
+        try
+        {
+            if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))
+                    || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            {
+                return ScalarArrayKernels.INSTANCE;
+            }
+            return (ArrayKernels) Class.forName("org.djunits.util.VectorApiArrayKernels").getDeclaredConstructor()
+                    .newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError | SecurityException exception)
+        {
+            return ScalarArrayKernels.INSTANCE;
+        }
+    }
+
+    /**
+     * Return the kernels that carry out the element-wise operations and reductions of ArrayMath and Math2 in the current
+     * thread. These kernels are used for arrays that are smaller than the threshold of the default {@link ParallelPolicy},
+     * and for the parts of a parallel operation.
+     * @return the active kernels
+     */
+    public static ArrayKernels kernels()
+    {
+        return KERNELS;
+    }
+
+    /**
+     * Return the scalar kernels, which process the arrays in index order in the current thread, also when the Vector API
+     * kernels are active. A reduction with these kernels, such as <code>ArrayMath.scalarKernels().sum(values)</code>, returns
+     * the same bits as a plain loop.
+     * @return the scalar kernels
+     */
+    public static ArrayKernels scalarKernels()
+    {
+        return ScalarArrayKernels.INSTANCE;
+    }
+
     // ---------------------------------------------------------------------
     // Functional (allocating) variants
     // ---------------------------------------------------------------------
@@ -46,8 +101,7 @@ public final class ArrayMath
     /**
      * Returns a new array equal to the element-wise sum {@code a + b}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations (bounds-check
-     * elimination, loop unrolling, potential auto-vectorization).
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the left-hand array; must be non-null
      * @param b the right-hand array; must be non-null and the same length as {@code a}
      * @return a newly allocated array where {@code out[i] = a[i] + b[i]} for all indices
@@ -64,18 +118,14 @@ public final class ArrayMath
             throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
         }
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] + b[i];
-        }
+        ParallelPolicy.getDefault().kernels().add(a, b, out);
         return out;
     }
 
     /**
      * Returns a new array equal to the element-wise sum with a constant {@code a + c}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations (bounds-check
-     * elimination, loop unrolling, potential auto-vectorization).
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the left-hand array; must be non-null
      * @param c a constant to add to each element
      * @return a newly allocated array where {@code out[i] = a[i] + c} for all indices
@@ -86,18 +136,14 @@ public final class ArrayMath
         Throw.whenNull(a, "a");
         final int n = a.length;
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] + c;
-        }
+        ParallelPolicy.getDefault().kernels().addScalar(a, c, out);
         return out;
     }
 
     /**
      * Returns a new array equal to the element-wise difference {@code a - b}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations (bounds-check
-     * elimination, loop unrolling, potential auto-vectorization).
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the left-hand array; must be non-null
      * @param b the right-hand array; must be non-null and the same length as {@code a}
      * @return a newly allocated array where {@code out[i] = a[i] - b[i]} for all indices
@@ -114,17 +160,14 @@ public final class ArrayMath
             throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
         }
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] - b[i];
-        }
+        ParallelPolicy.getDefault().kernels().subtract(a, b, out);
         return out;
     }
 
     /**
      * Returns a new array equal to the element-wise scaled vector {@code alpha * a}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations.
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the input array; must be non-null
      * @param alpha the scalar multiplier
      * @return a newly allocated array where {@code out[i] = alpha * a[i]} for all indices
@@ -135,17 +178,14 @@ public final class ArrayMath
         Throw.whenNull(a, "a");
         final int n = a.length;
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = alpha * a[i];
-        }
+        ParallelPolicy.getDefault().kernels().scale(a, alpha, out);
         return out;
     }
 
     /**
      * Returns a new array with absolute values for each entry {@code abs(a)}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations.
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the input array; must be non-null
      * @return a newly allocated array where {@code out[i] = Math.abs(a[i])} for all indices
      * @throws NullPointerException if {@code a} is null
@@ -155,10 +195,7 @@ public final class ArrayMath
         Throw.whenNull(a, "a");
         final int n = a.length;
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = Math.abs(a[i]);
-        }
+        ParallelPolicy.getDefault().kernels().abs(a, out);
         return out;
     }
 
@@ -167,7 +204,7 @@ public final class ArrayMath
      * <p>
      * This performs a single pass over the data to improve cache locality compared to separate scale and add steps.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations.
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the left-hand array; must be non-null
      * @param b the right-hand array; must be non-null and the same length as {@code a}
      * @param alpha the scalar multiplier for {@code b}
@@ -185,18 +222,14 @@ public final class ArrayMath
             throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
         }
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] + alpha * b[i];
-        }
+        ParallelPolicy.getDefault().kernels().axpy(a, b, alpha, out);
         return out;
     }
 
     /**
      * Returns a new array equal to the element-wise multiplication {@code a * b}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations (bounds-check
-     * elimination, loop unrolling, potential auto-vectorization).
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the left-hand array; must be non-null
      * @param b the right-hand array; must be non-null and the same length as {@code a}
      * @return a newly allocated array where {@code out[i] = a[i] * b[i]} for all indices
@@ -213,18 +246,14 @@ public final class ArrayMath
             throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
         }
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] * b[i];
-        }
+        ParallelPolicy.getDefault().kernels().multiply(a, b, out);
         return out;
     }
 
     /**
      * Returns a new array equal to the element-wise division {@code a / b}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations (bounds-check
-     * elimination, loop unrolling, potential auto-vectorization).
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the left-hand array; must be non-null
      * @param b the right-hand array; must be non-null and the same length as {@code a}
      * @return a newly allocated array where {@code out[i] = a[i] / b[i]} for all indices
@@ -241,18 +270,14 @@ public final class ArrayMath
             throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
         }
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] / b[i];
-        }
+        ParallelPolicy.getDefault().kernels().divide(a, b, out);
         return out;
     }
 
     /**
      * Returns a new array equal to the element-wise reciprocal {@code 1 / a}.
      * <p>
-     * <strong>Implementation Note:</strong> Uses a simple indexed {@code for}-loop to enable JIT optimizations (bounds-check
-     * elimination, loop unrolling, potential auto-vectorization).
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
      * @param a the array; must be non-null
      * @return a newly allocated array where {@code out[i] = 1 / a[i]} for all indices
      * @throws NullPointerException if {@code a} is null
@@ -262,10 +287,7 @@ public final class ArrayMath
         Throw.whenNull(a, "a");
         final int n = a.length;
         double[] out = new double[n];
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = 1.0 / a[i];
-        }
+        ParallelPolicy.getDefault().kernels().reciprocal(a, out);
         return out;
     }
 
@@ -286,6 +308,118 @@ public final class ArrayMath
         return n;
     }
 
+    // ---------------------------------------------------------------------
+    // Functional (allocating) variants for float arrays
+    // ---------------------------------------------------------------------
+
+    /**
+     * Returns a new float array equal to the element-wise sum {@code a + b}, without widening the values to double.
+     * <p>
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
+     * @param a the left-hand array; must be non-null
+     * @param b the right-hand array; must be non-null and the same length as {@code a}
+     * @return a newly allocated array where {@code out[i] = a[i] + b[i]} for all indices
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @throws IllegalArgumentException if {@code a.length != b.length}
+     */
+    public static float[] add(final float[] a, final float[] b)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(b, "b");
+        final int n = a.length;
+        if (b.length != n)
+        {
+            throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
+        }
+        float[] out = new float[n];
+        ParallelPolicy.getDefault().kernels().add(a, b, out);
+        return out;
+    }
+
+    /**
+     * Returns a new float array equal to the element-wise difference {@code a - b}, without widening the values to double.
+     * <p>
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
+     * @param a the left-hand array; must be non-null
+     * @param b the right-hand array; must be non-null and the same length as {@code a}
+     * @return a newly allocated array where {@code out[i] = a[i] - b[i]} for all indices
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @throws IllegalArgumentException if {@code a.length != b.length}
+     */
+    public static float[] subtract(final float[] a, final float[] b)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(b, "b");
+        final int n = a.length;
+        if (b.length != n)
+        {
+            throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
+        }
+        float[] out = new float[n];
+        ParallelPolicy.getDefault().kernels().subtract(a, b, out);
+        return out;
+    }
+
+    /**
+     * Returns a new float array equal to the element-wise multiplication {@code a * b}, without widening the values to double.
+     * <p>
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
+     * @param a the left-hand array; must be non-null
+     * @param b the right-hand array; must be non-null and the same length as {@code a}
+     * @return a newly allocated array where {@code out[i] = a[i] * b[i]} for all indices
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @throws IllegalArgumentException if {@code a.length != b.length}
+     */
+    public static float[] multiply(final float[] a, final float[] b)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(b, "b");
+        final int n = a.length;
+        if (b.length != n)
+        {
+            throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", b.length=" + b.length);
+        }
+        float[] out = new float[n];
+        ParallelPolicy.getDefault().kernels().multiply(a, b, out);
+        return out;
+    }
+
+    /**
+     * Returns a new float array equal to the element-wise scaled vector {@code alpha * a}, without widening the values to
+     * double.
+     * <p>
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
+     * @param a the input array; must be non-null
+     * @param alpha the scalar multiplier
+     * @return a newly allocated array where {@code out[i] = alpha * a[i]} for all indices
+     * @throws NullPointerException if {@code a} is null
+     */
+    public static float[] scaleBy(final float[] a, final float alpha)
+    {
+        Throw.whenNull(a, "a");
+        final int n = a.length;
+        float[] out = new float[n];
+        ParallelPolicy.getDefault().kernels().scale(a, alpha, out);
+        return out;
+    }
+
+    /**
+     * Returns a new float array with absolute values for each entry {@code abs(a)}, without widening the values to double.
+     * <p>
+     * <strong>Implementation Note:</strong> The loop is carried out by the kernels of the default {@link ParallelPolicy}.
+     * @param a the input array; must be non-null
+     * @return a newly allocated array where {@code out[i] = Math.abs(a[i])} for all indices
+     * @throws NullPointerException if {@code a} is null
+     */
+    public static float[] abs(final float[] a)
+    {
+        Throw.whenNull(a, "a");
+        final int n = a.length;
+        float[] out = new float[n];
+        ParallelPolicy.getDefault().kernels().abs(a, out);
+        return out;
+    }
+
     // ---------------------------------------------------------------------
     // Procedural (into) variants — write into caller-provided buffer
     // ---------------------------------------------------------------------
@@ -311,10 +445,74 @@ public final class ArrayMath
             throw new IllegalArgumentException(
                     "Length mismatch: a.length=" + n + ", b.length=" + b.length + ", out.length=" + out.length);
         }
-        for (int i = 0; i < n; i++)
+        ParallelPolicy.getDefault().kernels().add(a, b, out);
+    }
+
+    /**
+     * Computes the element-wise sum with a constant {@code a + c} and writes the result into {@code out}.
+     * <p>
+     * <strong>Implementation Note:</strong> Reusing {@code out} avoids allocation and reduces GC pressure in hot paths.
+     * @param a the input array; must be non-null
+     * @param c a constant to add to each element
+     * @param out the destination array; must be non-null and the same length as {@code a}
+     * @throws NullPointerException if {@code a} or {@code out} is null
+     * @throws IllegalArgumentException if {@code out.length != a.length}
+     */
+    public static void addInto(final double[] a, final double c, final double[] out)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(out, "out");
+        final int n = a.length;
+        if (out.length != n)
+        {
+            throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", out.length=" + out.length);
+        }
+        ParallelPolicy.getDefault().kernels().addScalar(a, c, out);
+    }
+
+    /**
+     * Computes the element-wise difference {@code a - b} and writes the result into {@code out}.
+     * <p>
+     * <strong>Implementation Note:</strong> Reusing {@code out} avoids allocation and reduces GC pressure in hot paths.
+     * @param a the left-hand array; must be non-null
+     * @param b the right-hand array; must be non-null and the same length as {@code a}
+     * @param out the destination array; must be non-null and the same length as {@code a}
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if lengths differ among {@code a}, {@code b}, and {@code out}
+     */
+    public static void subtractInto(final double[] a, final double[] b, final double[] out)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(b, "b");
+        Throw.whenNull(out, "out");
+        final int n = a.length;
+        if (b.length != n || out.length != n)
+        {
+            throw new IllegalArgumentException(
+                    "Length mismatch: a.length=" + n + ", b.length=" + b.length + ", out.length=" + out.length);
+        }
+        ParallelPolicy.getDefault().kernels().subtract(a, b, out);
+    }
+
+    /**
+     * Computes the element-wise absolute values {@code abs(a)} and writes the result into {@code out}.
+     * <p>
+     * <strong>Implementation Note:</strong> Reusing {@code out} avoids allocation and reduces GC pressure in hot paths.
+     * @param a the input array; must be non-null
+     * @param out the destination array; must be non-null and the same length as {@code a}
+     * @throws NullPointerException if {@code a} or {@code out} is null
+     * @throws IllegalArgumentException if {@code out.length != a.length}
+     */
+    public static void absInto(final double[] a, final double[] out)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(out, "out");
+        final int n = a.length;
+        if (out.length != n)
         {
-            out[i] = a[i] + b[i];
+            throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", out.length=" + out.length);
         }
+        ParallelPolicy.getDefault().kernels().abs(a, out);
     }
 
     /**
@@ -336,10 +534,7 @@ public final class ArrayMath
         {
             throw new IllegalArgumentException("Length mismatch: a.length=" + n + ", out.length=" + out.length);
         }
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = alpha * a[i];
-        }
+        ParallelPolicy.getDefault().kernels().scale(a, alpha, out);
     }
 
     /**
@@ -364,9 +559,6 @@ public final class ArrayMath
             throw new IllegalArgumentException(
                     "Length mismatch: a.length=" + n + ", b.length=" + b.length + ", out.length=" + out.length);
         }
-        for (int i = 0; i < n; i++)
-        {
-            out[i] = a[i] + alpha * b[i];
-        }
+        ParallelPolicy.getDefault().kernels().axpy(a, b, alpha, out);
     }
 }
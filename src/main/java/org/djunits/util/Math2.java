@@ -29,12 +29,7 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double max = dn[0];
-        for (double d : dn)
-        {
-            max = Math.max(max, d);
-        }
-        return max;
+        return ParallelPolicy.getDefault().kernels().max(dn);
     }
 
     /**
@@ -48,12 +43,7 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double min = dn[0];
-        for (double d : dn)
-        {
-            min = Math.min(min, d);
-        }
-        return min;
+        return ParallelPolicy.getDefault().kernels().min(dn);
     }
 
     /**
@@ -67,12 +57,7 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double max = Math.abs(dn[0]);
-        for (double d : dn)
-        {
-            max = Math.max(max, Math.abs(d));
-        }
-        return max;
+        return ParallelPolicy.getDefault().kernels().maxAbs(dn);
     }
 
     /**
@@ -86,16 +71,16 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double min = Math.abs(dn[0]);
-        for (double d : dn)
-        {
-            min = Math.min(min, Math.abs(d));
-        }
-        return min;
+        return ParallelPolicy.getDefault().kernels().minAbs(dn);
     }
 
     /**
      * Return the sum of the values of an array of values.
+     * <p>
+     * With the initial, sequential default {@link ParallelPolicy} and the scalar kernels, the values are added in index order.
+     * When a parallel default policy is set, or the Vector API kernels are active, the values of a large array are added in
+     * another order, so the result can differ in the last bits. Use <code>ArrayMath.scalarKernels().sum(dn)</code> to add in
+     * index order regardless of the default policy and the active kernels.
      * @param dn zero or more values
      * @return the sum of the values of the arguments
      */
@@ -105,14 +90,12 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double sum = 0.0;
-        for (double d : dn)
-            sum += d;
-        return sum;
+        return ParallelPolicy.getDefault().kernels().sum(dn);
     }
 
     /**
-     * Return the sum of the absolute values of an array of values.
+     * Return the sum of the absolute values of an array of values. The order of summation depends on the default
+     * {@link ParallelPolicy}, as described for {@link #sum(double...)}.
      * @param dn zero or more values
      * @return the sum of the absolute values of the arguments
      */
@@ -122,14 +105,12 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double sum = 0.0;
-        for (double d : dn)
-            sum += Math.abs(d);
-        return sum;
+        return ParallelPolicy.getDefault().kernels().sumAbs(dn);
     }
 
     /**
-     * Return the sum of the squares of the values of an array of values.
+     * Return the sum of the squares of the values of an array of values. The order of summation depends on the default
+     * {@link ParallelPolicy}, as described for {@link #sum(double...)}.
      * @param dn zero or more values
      * @return the sum of the squares of the values of the arguments
      */
@@ -139,10 +120,81 @@ public final class Math2
         if (dn == null || dn.length == 0)
             return Double.NaN;
 
-        double sqrsum = 0.0;
-        for (double d : dn)
-            sqrsum += d * d;
-        return sqrsum;
+        return ParallelPolicy.getDefault().kernels().sumSqr(dn);
+    }
+
+    /**
+     * Return the maximum value within a float array, without widening the array to double.
+     * @param fn the values; can be null or empty
+     * @return the maximum value of the values, or NaN when the array is null or empty
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public static double max(final float[] fn)
+    {
+        if (fn == null || fn.length == 0)
+            return Double.NaN;
+
+        return ParallelPolicy.getDefault().kernels().max(fn);
+    }
+
+    /**
+     * Return the minimum value within a float array, without widening the array to double.
+     * @param fn the values; can be null or empty
+     * @return the minimum value of the values, or NaN when the array is null or empty
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public static double min(final float[] fn)
+    {
+        if (fn == null || fn.length == 0)
+            return Double.NaN;
+
+        return ParallelPolicy.getDefault().kernels().min(fn);
+    }
+
+    /**
+     * Return the sum of the values of a float array, accumulated in double precision without widening the array to double.
+     * The order of summation depends on the default {@link ParallelPolicy}, as described for {@link #sum(double...)}.
+     * @param fn the values; can be null or empty
+     * @return the sum of the values, or NaN when the array is null or empty
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public static double sum(final float[] fn)
+    {
+        if (fn == null || fn.length == 0)
+            return Double.NaN;
+
+        return ParallelPolicy.getDefault().kernels().sum(fn);
+    }
+
+    /**
+     * Return the sum of the absolute values of a float array, accumulated in double precision without widening the array to
+     * double. The order of summation depends on the default {@link ParallelPolicy}, as described for {@link #sum(double...)}.
+     * @param fn the values; can be null or empty
+     * @return the sum of the absolute values, or NaN when the array is null or empty
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public static double sumAbs(final float[] fn)
+    {
+        if (fn == null || fn.length == 0)
+            return Double.NaN;
+
+        return ParallelPolicy.getDefault().kernels().sumAbs(fn);
+    }
+
+    /**
+     * Return the sum of the squares of the values of a float array, accumulated in double precision without widening the array
+     * to double. The order of summation depends on the default {@link ParallelPolicy}, as described for
+     * {@link #sum(double...)}.
+     * @param fn the values; can be null or empty
+     * @return the sum of the squares of the values, or NaN when the array is null or empty
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public static double sumSqr(final float[] fn)
+    {
+        if (fn == null || fn.length == 0)
+            return Double.NaN;
+
+        return ParallelPolicy.getDefault().kernels().sumSqr(fn);
     }
 
     /**
@@ -0,0 +1,545 @@
+package org.djunits.util;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * ParallelArrayKernels carries out the operations of another {@link ArrayKernels} implementation in parallel, according to a
+ * {@link ParallelPolicy}. Ranges that are smaller than the threshold of the policy are passed directly to the other kernels.
+ * Larger ranges are split recursively into halves until the parts are not larger than the chunk size of the policy; the parts
+ * are executed as fork-join tasks in the pool of the policy. The results of the parts of a reduction are combined pairwise in
+ * the order of the recursive split, which makes the result independent of the number of threads. Partial results of float
+ * reductions are combined in double precision.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+final class ParallelArrayKernels implements ArrayKernels
+{
+    /** The kernels that process the parts. */
+    private final ArrayKernels delegate;
+
+    /** The policy that determines the threshold, chunk size and pool. */
+    private final ParallelPolicy policy;
+
+    /**
+     * Create kernels that carry out the operations of another implementation in parallel.
+     * @param delegate the kernels that process the parts
+     * @param policy the policy that determines the threshold, chunk size and pool
+     */
+    ParallelArrayKernels(final ArrayKernels delegate, final ParallelPolicy policy)
+    {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public String getName()
+    {
+        return this.delegate.getName() + "-parallel";
+    }
+
+    /**
+     * Return whether a range is processed sequentially by the delegate kernels.
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     * @return whether the range is smaller than the threshold of the policy
+     */
+    private boolean sequential(final int from, final int to)
+    {
+        return to - from < this.policy.getThreshold();
+    }
+
+    /**
+     * Process a range in parallel.
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     * @param body the operation on a part of the range
+     */
+    private void forEach(final int from, final int to, final RangeBody body)
+    {
+        this.policy.getPool().invoke(new RangeAction(from, to, this.policy.getChunkSize(), body));
+    }
+
+    /**
+     * Reduce a range in parallel, combining the results of the parts pairwise.
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     * @param leaf the reduction of a part of the range
+     * @param combiner the operation that combines the results of two adjacent parts
+     * @return the reduction of the range
+     */
+    private double reduce(final int from, final int to, final RangeFunction leaf, final DoubleBinaryOperator combiner)
+    {
+        return this.policy.getPool().invoke(new RangeReduction(from, to, this.policy.getChunkSize(), leaf, combiner));
+    }
+
+    @Override
+    public void add(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.add(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.add(a, b, out, f, t));
+    }
+
+    @Override
+    public void subtract(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.subtract(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.subtract(a, b, out, f, t));
+    }
+
+    @Override
+    public void multiply(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.multiply(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.multiply(a, b, out, f, t));
+    }
+
+    @Override
+    public void divide(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.divide(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.divide(a, b, out, f, t));
+    }
+
+    @Override
+    public void addScalar(final double[] a, final double c, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.addScalar(a, c, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.addScalar(a, c, out, f, t));
+    }
+
+    @Override
+    public void scale(final double[] a, final double c, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.scale(a, c, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.scale(a, c, out, f, t));
+    }
+
+    @Override
+    public void axpy(final double[] a, final double[] b, final double alpha, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.axpy(a, b, alpha, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.axpy(a, b, alpha, out, f, t));
+    }
+
+    @Override
+    public void abs(final double[] a, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.abs(a, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.abs(a, out, f, t));
+    }
+
+    @Override
+    public void reciprocal(final double[] a, final double[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.reciprocal(a, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.reciprocal(a, out, f, t));
+    }
+
+    @Override
+    public double sum(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.sum(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.sum(a, f, t), Double::sum);
+    }
+
+    @Override
+    public double sumAbs(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.sumAbs(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.sumAbs(a, f, t), Double::sum);
+    }
+
+    @Override
+    public double sumSqr(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.sumSqr(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.sumSqr(a, f, t), Double::sum);
+    }
+
+    @Override
+    public double min(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.min(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.min(a, f, t), Math::min);
+    }
+
+    @Override
+    public double max(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.max(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.max(a, f, t), Math::max);
+    }
+
+    @Override
+    public double minAbs(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.minAbs(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.minAbs(a, f, t), Math::min);
+    }
+
+    @Override
+    public double maxAbs(final double[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.maxAbs(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.maxAbs(a, f, t), Math::max);
+    }
+
+    @Override
+    public void add(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.add(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.add(a, b, out, f, t));
+    }
+
+    @Override
+    public void subtract(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.subtract(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.subtract(a, b, out, f, t));
+    }
+
+    @Override
+    public void multiply(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.multiply(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.multiply(a, b, out, f, t));
+    }
+
+    @Override
+    public void divide(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.divide(a, b, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.divide(a, b, out, f, t));
+    }
+
+    @Override
+    public void addScalar(final float[] a, final float c, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.addScalar(a, c, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.addScalar(a, c, out, f, t));
+    }
+
+    @Override
+    public void scale(final float[] a, final float c, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.scale(a, c, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.scale(a, c, out, f, t));
+    }
+
+    @Override
+    public void axpy(final float[] a, final float[] b, final float alpha, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.axpy(a, b, alpha, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.axpy(a, b, alpha, out, f, t));
+    }
+
+    @Override
+    public void abs(final float[] a, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.abs(a, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.abs(a, out, f, t));
+    }
+
+    @Override
+    public void reciprocal(final float[] a, final float[] out, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            this.delegate.reciprocal(a, out, from, to);
+            return;
+        }
+        forEach(from, to, (f, t) -> this.delegate.reciprocal(a, out, f, t));
+    }
+
+    @Override
+    public double sum(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.sum(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.sum(a, f, t), Double::sum);
+    }
+
+    @Override
+    public double sumAbs(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.sumAbs(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.sumAbs(a, f, t), Double::sum);
+    }
+
+    @Override
+    public double sumSqr(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.sumSqr(a, from, to);
+        }
+        return reduce(from, to, (f, t) -> this.delegate.sumSqr(a, f, t), Double::sum);
+    }
+
+    @Override
+    public float min(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.min(a, from, to);
+        }
+        return (float) reduce(from, to, (f, t) -> this.delegate.min(a, f, t), Math::min);
+    }
+
+    @Override
+    public float max(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.max(a, from, to);
+        }
+        return (float) reduce(from, to, (f, t) -> this.delegate.max(a, f, t), Math::max);
+    }
+
+    @Override
+    public float minAbs(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.minAbs(a, from, to);
+        }
+        return (float) reduce(from, to, (f, t) -> this.delegate.minAbs(a, f, t), Math::min);
+    }
+
+    @Override
+    public float maxAbs(final float[] a, final int from, final int to)
+    {
+        if (sequential(from, to))
+        {
+            return this.delegate.maxAbs(a, from, to);
+        }
+        return (float) reduce(from, to, (f, t) -> this.delegate.maxAbs(a, f, t), Math::max);
+    }
+
+    /** An operation on a range of indices. */
+    @FunctionalInterface
+    private interface RangeBody
+    {
+        /**
+         * Process a range.
+         * @param from the first index (inclusive)
+         * @param to the last index (exclusive)
+         */
+        void apply(int from, int to);
+    }
+
+    /** A reduction of a range of indices. */
+    @FunctionalInterface
+    private interface RangeFunction
+    {
+        /**
+         * Reduce a range.
+         * @param from the first index (inclusive)
+         * @param to the last index (exclusive)
+         * @return the reduction of the range
+         */
+        double apply(int from, int to);
+    }
+
+    /** Fork-join task that splits a range into halves until the parts are not larger than the chunk size. */
+    private static final class RangeAction extends RecursiveAction
+    {
+        /** */
+        private static final long serialVersionUID = 600L;
+
+        /** The first index (inclusive). */
+        private final int from;
+
+        /** The last index (exclusive). */
+        private final int to;
+
+        /** The maximum size of a part. */
+        private final int chunkSize;
+
+        /** The operation on a part. */
+        private final transient RangeBody body;
+
+        /**
+         * Create a task for a range.
+         * @param from the first index (inclusive)
+         * @param to the last index (exclusive)
+         * @param chunkSize the maximum size of a part
+         * @param body the operation on a part
+         */
+        RangeAction(final int from, final int to, final int chunkSize, final RangeBody body)
+        {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this.to - this.from <= this.chunkSize)
+            {
+                this.body.apply(this.from, this.to);
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new RangeAction(this.from, mid, this.chunkSize, this.body),
+                    new RangeAction(mid, this.to, this.chunkSize, this.body));
+        }
+    }
+
+    /** Fork-join task that reduces a range, combining the results of its two halves in a fixed order. */
+    private static final class RangeReduction extends RecursiveTask<Double>
+    {
+        /** */
+        private static final long serialVersionUID = 600L;
+
+        /** The first index (inclusive). */
+        private final int from;
+
+        /** The last index (exclusive). */
+        private final int to;
+
+        /** The maximum size of a part. */
+        private final int chunkSize;
+
+        /** The reduction of a part. */
+        private final transient RangeFunction leaf;
+
+        /** The operation that combines the results of two adjacent parts. */
+        private final transient DoubleBinaryOperator combiner;
+
+        /**
+         * Create a task for a range.
+         * @param from the first index (inclusive)
+         * @param to the last index (exclusive)
+         * @param chunkSize the maximum size of a part
+         * @param leaf the reduction of a part
+         * @param combiner the operation that combines the results of two adjacent parts
+         */
+        RangeReduction(final int from, final int to, final int chunkSize, final RangeFunction leaf,
+                final DoubleBinaryOperator combiner)
+        {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected Double compute()
+        {
+            if (this.to - this.from <= this.chunkSize)
+            {
+                return this.leaf.apply(this.from, this.to);
+            }
+            int mid = (this.from + this.to) >>> 1;
+            RangeReduction left = new RangeReduction(this.from, mid, this.chunkSize, this.leaf, this.combiner);
+            RangeReduction right = new RangeReduction(mid, this.to, this.chunkSize, this.leaf, this.combiner);
+            left.fork();
+            double rightResult = right.compute();
+            return this.combiner.applyAsDouble(left.join(), rightResult);
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+package org.djunits.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * ParallelPolicy determines when the element-wise operations and reductions of {@link ArrayMath} and {@link Math2} are split
+ * over the threads of a {@link ForkJoinPool}. An operation is executed in parallel when the policy is enabled and the number of
+ * elements is at least the threshold; smaller arrays are processed directly by the {@link ArrayKernels} of
+ * {@link ArrayMath#kernels()}, without any extra overhead. A parallel operation is split recursively into halves until the
+ * parts are not larger than the chunk size.
+ * <p>
+ * Reductions such as sums are combined pairwise along the same recursive split. Since the split only depends on the length of
+ * the array and the chunk size, and not on the number of threads or the scheduling of the tasks, the result of a parallel
+ * reduction is deterministic: it is the same for every run and for every pool. It can differ in the last bits from the result
+ * of a sequential reduction, which adds the values in another order.
+ * <p>
+ * Parallel execution is opt-in. The initial default policy is {@link #SEQUENTIAL}, so the operations of ArrayMath and Math2
+ * run in the calling thread, with the kernels of {@link ArrayMath#kernels()}. When these are the Vector API kernels, a sum
+ * adds the values lane by lane, and can differ in the last bits from a plain loop. The policy that is used by ArrayMath and
+ * Math2 can be changed globally with {@link #setDefault(ParallelPolicy)}, or by starting the JVM with the system property
+ * <code>djunits.parallel</code> set to <code>true</code>, which makes the initial default policy use the common pool when the
+ * common pool has a parallelism of more than 1. For a single call, the kernels of a specific policy can be used directly, e.g.,
+ * <code>ParallelPolicy.of(pool).kernels().sum(values)</code>. A sum in index order, with the same bits as a plain loop, is
+ * returned by <code>ArrayMath.scalarKernels().sum(values)</code>. Policies are immutable and thread-safe.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class ParallelPolicy
+{
+    /** The name of the system property that can be set to true to enable parallel execution by default. */
+    public static final String PARALLEL_PROPERTY = "djunits.parallel";
+
+    /** The default minimum number of elements for parallel execution. */
+    public static final int DEFAULT_THRESHOLD = 1 << 17;
+
+    /** The default maximum number of elements that is processed by one task. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 13;
+
+    /** The policy that never executes operations in parallel. */
+    public static final ParallelPolicy SEQUENTIAL = new ParallelPolicy(false, Integer.MAX_VALUE, DEFAULT_CHUNK_SIZE, null);
+
+    /** The policy that is used by ArrayMath and Math2. */
+    private static volatile ParallelPolicy defaultPolicy = initialDefault();
+
+    /** Whether parallel execution is enabled. */
+    private final boolean enabled;
+
+    /** The minimum number of elements for parallel execution. */
+    private final int threshold;
+
+    /** The maximum number of elements that is processed by one task. */
+    private final int chunkSize;
+
+    /** The pool to execute the tasks in; null means the common pool. */
+    private final ForkJoinPool pool;
+
+    /** The kernels that apply this policy. */
+    private final ArrayKernels kernels;
+
+    /**
+     * Create a policy.
+     * @param enabled whether parallel execution is enabled
+     * @param threshold the minimum number of elements for parallel execution
+     * @param chunkSize the maximum number of elements that is processed by one task
+     * @param pool the pool to execute the tasks in; null means the common pool
+     */
+    private ParallelPolicy(final boolean enabled, final int threshold, final int chunkSize, final ForkJoinPool pool)
+    {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+        this.kernels = enabled ? new ParallelArrayKernels(ArrayMath.kernels(), this) : ArrayMath.kernels();
+    }
+
+    /**
+     * Determine the initial default policy: {@link #SEQUENTIAL}, unless the system property {@value #PARALLEL_PROPERTY} is
+     * true and the common pool has more than one thread.
+     * @return the initial default policy
+     */
+    private static ParallelPolicy initialDefault()
+    {
+        if (!Boolean.getBoolean(PARALLEL_PROPERTY) || ForkJoinPool.getCommonPoolParallelism() <= 1)
+        {
+            return SEQUENTIAL;
+        }
+        return of(DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE, null);
+    }
+
+    /**
+     * Create an enabled policy.
+     * @param threshold the minimum number of elements for parallel execution
+     * @param chunkSize the maximum number of elements that is processed by one task
+     * @param pool the pool to execute the tasks in; null means the common pool
+     * @return an enabled policy with the given settings
+     * @throws IllegalArgumentException when threshold or chunkSize is smaller than 1
+     */
+    public static ParallelPolicy of(final int threshold, final int chunkSize, final ForkJoinPool pool)
+    {
+        Throw.when(threshold < 1, IllegalArgumentException.class, "threshold %d < 1", threshold);
+        Throw.when(chunkSize < 1, IllegalArgumentException.class, "chunkSize %d < 1", chunkSize);
+        return new ParallelPolicy(true, threshold, chunkSize, pool);
+    }
+
+    /**
+     * Create an enabled policy that uses the given pool, and the default threshold and chunk size.
+     * @param pool the pool to execute the tasks in
+     * @return an enabled policy that uses the given pool
+     * @throws NullPointerException when pool is null
+     */
+    public static ParallelPolicy of(final ForkJoinPool pool)
+    {
+        Throw.whenNull(pool, "pool");
+        return of(DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE, pool);
+    }
+
+    /**
+     * Return an enabled policy with the settings of this policy, but with another threshold.
+     * @param newThreshold the minimum number of elements for parallel execution
+     * @return an enabled policy with the given threshold
+     * @throws IllegalArgumentException when newThreshold is smaller than 1
+     */
+    public ParallelPolicy withThreshold(final int newThreshold)
+    {
+        return of(newThreshold, this.chunkSize, this.pool);
+    }
+
+    /**
+     * Return an enabled policy with the settings of this policy, but with another chunk size.
+     * @param newChunkSize the maximum number of elements that is processed by one task
+     * @return an enabled policy with the given chunk size
+     * @throws IllegalArgumentException when newChunkSize is smaller than 1
+     */
+    public ParallelPolicy withChunkSize(final int newChunkSize)
+    {
+        return of(this.enabled ? this.threshold : DEFAULT_THRESHOLD, newChunkSize, this.pool);
+    }
+
+    /**
+     * Return an enabled policy with the settings of this policy, but with another pool.
+     * @param newPool the pool to execute the tasks in; null means the common pool
+     * @return an enabled policy with the given pool
+     */
+    public ParallelPolicy withPool(final ForkJoinPool newPool)
+    {
+        return of(this.enabled ? this.threshold : DEFAULT_THRESHOLD, this.chunkSize, newPool);
+    }
+
+    /**
+     * Return the policy that is used by ArrayMath and Math2.
+     * @return the policy that is used by ArrayMath and Math2
+     */
+    public static ParallelPolicy getDefault()
+    {
+        return defaultPolicy;
+    }
+
+    /**
+     * Set the policy that is used by ArrayMath and Math2. Use {@link #SEQUENTIAL} to switch off parallel execution. Note that
+     * with an enabled policy, the sums of large arrays are added in another order, and can differ in the last bits from the
+     * sums with the sequential policy.
+     * @param policy the new default policy
+     * @throws NullPointerException when policy is null
+     */
+    public static void setDefault(final ParallelPolicy policy)
+    {
+        Throw.whenNull(policy, "policy");
+        defaultPolicy = policy;
+    }
+
+    /**
+     * Return whether parallel execution is enabled for this policy.
+     * @return whether parallel execution is enabled for this policy
+     */
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    /**
+     * Return whether an operation on the given number of elements is executed in parallel.
+     * @param length the number of elements
+     * @return whether an operation on the given number of elements is executed in parallel
+     */
+    public boolean isParallel(final int length)
+    {
+        return this.enabled && length >= this.threshold;
+    }
+
+    /**
+     * Return the minimum number of elements for parallel execution.
+     * @return the minimum number of elements for parallel execution
+     */
+    public int getThreshold()
+    {
+        return this.threshold;
+    }
+
+    /**
+     * Return the maximum number of elements that is processed by one task.
+     * @return the maximum number of elements that is processed by one task
+     */
+    public int getChunkSize()
+    {
+        return this.chunkSize;
+    }
+
+    /**
+     * Return the pool that executes the tasks.
+     * @return the pool that executes the tasks
+     */
+    public ForkJoinPool getPool()
+    {
+        return this.pool == null ? ForkJoinPool.commonPool() : this.pool;
+    }
+
+    /**
+     * Return the kernels that carry out operations according to this policy. When the policy is not enabled, these are the
+     * kernels of {@link ArrayMath#kernels()}.
+     * @return the kernels that carry out operations according to this policy
+     */
+    public ArrayKernels kernels()
+    {
+        return this.kernels;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.enabled ? "ParallelPolicy [threshold=" + this.threshold + ", chunkSize=" + this.chunkSize + ", pool="
+                + (this.pool == null ? "common" : this.pool.toString()) + "]" : "ParallelPolicy [SEQUENTIAL]";
+    }
+
+}
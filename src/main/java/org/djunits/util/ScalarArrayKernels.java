@@ -0,0 +1,358 @@
+package org.djunits.util;
+
+/**
+ * ScalarArrayKernels implements the {@link ArrayKernels} with plain indexed loops. These loops are left to the JIT compiler
+ * for unrolling and auto-vectorization. This implementation is always available, and is used when the Java Vector API is not.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class ScalarArrayKernels implements ArrayKernels
+{
+    /** The singleton instance. */
+    public static final ScalarArrayKernels INSTANCE = new ScalarArrayKernels();
+
+    /** Use the singleton instance. */
+    private ScalarArrayKernels()
+    {
+    }
+
+    @Override
+    public String getName()
+    {
+        return "scalar";
+    }
+
+    @Override
+    public void add(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void subtract(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void multiply(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void divide(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void addScalar(final double[] a, final double c, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] + c;
+        }
+    }
+
+    @Override
+    public void scale(final double[] a, final double c, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = c * a[i];
+        }
+    }
+
+    @Override
+    public void axpy(final double[] a, final double[] b, final double alpha, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] + alpha * b[i];
+        }
+    }
+
+    @Override
+    public void abs(final double[] a, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = Math.abs(a[i]);
+        }
+    }
+
+    @Override
+    public void reciprocal(final double[] a, final double[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = 1.0 / a[i];
+        }
+    }
+
+    @Override
+    public double sum(final double[] a, final int from, final int to)
+    {
+        double acc = 0.0;
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x;
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumAbs(final double[] a, final int from, final int to)
+    {
+        double acc = 0.0;
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + Math.abs(x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumSqr(final double[] a, final int from, final int to)
+    {
+        double acc = 0.0;
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x * x;
+        }
+        return acc;
+    }
+
+    @Override
+    public double min(final double[] a, final int from, final int to)
+    {
+        double acc = a[from];
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.min(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double max(final double[] a, final int from, final int to)
+    {
+        double acc = a[from];
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.max(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double minAbs(final double[] a, final int from, final int to)
+    {
+        double acc = Math.abs(a[from]);
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.min(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+    @Override
+    public double maxAbs(final double[] a, final int from, final int to)
+    {
+        double acc = Math.abs(a[from]);
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.max(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+    @Override
+    public void add(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void subtract(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void multiply(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void divide(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void addScalar(final float[] a, final float c, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] + c;
+        }
+    }
+
+    @Override
+    public void scale(final float[] a, final float c, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = c * a[i];
+        }
+    }
+
+    @Override
+    public void axpy(final float[] a, final float[] b, final float alpha, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = a[i] + alpha * b[i];
+        }
+    }
+
+    @Override
+    public void abs(final float[] a, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = Math.abs(a[i]);
+        }
+    }
+
+    @Override
+    public void reciprocal(final float[] a, final float[] out, final int from, final int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            out[i] = 1.0f / a[i];
+        }
+    }
+
+    @Override
+    public double sum(final float[] a, final int from, final int to)
+    {
+        double acc = 0.0;
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x;
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumAbs(final float[] a, final int from, final int to)
+    {
+        double acc = 0.0;
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + Math.abs(x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumSqr(final float[] a, final int from, final int to)
+    {
+        double acc = 0.0;
+        for (int i = from; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x * x;
+        }
+        return acc;
+    }
+
+    @Override
+    public float min(final float[] a, final int from, final int to)
+    {
+        float acc = a[from];
+        for (int i = from; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.min(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public float max(final float[] a, final int from, final int to)
+    {
+        float acc = a[from];
+        for (int i = from; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.max(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public float minAbs(final float[] a, final int from, final int to)
+    {
+        float acc = Math.abs(a[from]);
+        for (int i = from; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.min(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+    @Override
+    public float maxAbs(final float[] a, final int from, final int to)
+    {
+        float acc = Math.abs(a[from]);
+        for (int i = from; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.max(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+}
@@ -0,0 +1,632 @@
+package org.djunits.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorApiArrayKernels implements the {@link ArrayKernels} with the (incubating) Java Vector API, using the preferred vector
+ * species of the platform, e.g., 4 double lanes for AVX2 and 8 double lanes for AVX-512. The remaining elements that do not
+ * fill a complete vector are processed with a scalar loop. This class is only loaded when the
+ * <code>jdk.incubator.vector</code> module is available; see {@link ArrayMath#kernels()}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+final class VectorApiArrayKernels implements ArrayKernels
+{
+    /** The preferred species for double lanes. */
+    private static final VectorSpecies<Double> SD = DoubleVector.SPECIES_PREFERRED;
+
+    /** The preferred species for float lanes. */
+    private static final VectorSpecies<Float> SF = FloatVector.SPECIES_PREFERRED;
+
+    /** Package-private constructor; instantiated by ArrayMath when the Vector API is available. */
+    VectorApiArrayKernels()
+    {
+    }
+
+    @Override
+    public String getName()
+    {
+        return "vector-api-" + SD.vectorBitSize();
+    }
+
+    @Override
+    public void add(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SD, b, i);
+            va.add(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void subtract(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SD, b, i);
+            va.sub(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void multiply(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SD, b, i);
+            va.mul(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void divide(final double[] a, final double[] b, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SD, b, i);
+            va.div(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void addScalar(final double[] a, final double c, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            va.add(c).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] + c;
+        }
+    }
+
+    @Override
+    public void scale(final double[] a, final double c, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            va.mul(c).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = c * a[i];
+        }
+    }
+
+    @Override
+    public void axpy(final double[] a, final double[] b, final double alpha, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SD, b, i);
+            va.add(vb.mul(alpha)).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] + alpha * b[i];
+        }
+    }
+
+    @Override
+    public void abs(final double[] a, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            va.abs().intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = Math.abs(a[i]);
+        }
+    }
+
+    @Override
+    public void reciprocal(final double[] a, final double[] out, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        final DoubleVector one = DoubleVector.broadcast(SD, 1.0);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector va = DoubleVector.fromArray(SD, a, i);
+            one.div(va).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = 1.0 / a[i];
+        }
+    }
+
+    @Override
+    public double sum(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.zero(SD);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.add(v);
+        }
+        double acc = vacc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x;
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumAbs(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.zero(SD);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.add(v.abs());
+        }
+        double acc = vacc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + Math.abs(x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumSqr(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.zero(SD);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.add(v.mul(v));
+        }
+        double acc = vacc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x * x;
+        }
+        return acc;
+    }
+
+    @Override
+    public double min(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.broadcast(SD, a[from]);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.min(v);
+        }
+        double acc = vacc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.min(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double max(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.broadcast(SD, a[from]);
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.max(v);
+        }
+        double acc = vacc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.max(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double minAbs(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.broadcast(SD, Math.abs(a[from]));
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.min(v.abs());
+        }
+        double acc = vacc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.min(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+    @Override
+    public double maxAbs(final double[] a, final int from, final int to)
+    {
+        final int upper = from + SD.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.broadcast(SD, Math.abs(a[from]));
+        int i = from;
+        for (; i < upper; i += SD.length())
+        {
+            DoubleVector v = DoubleVector.fromArray(SD, a, i);
+            vacc = vacc.max(v.abs());
+        }
+        double acc = vacc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = Math.max(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+    @Override
+    public void add(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            FloatVector vb = FloatVector.fromArray(SF, b, i);
+            va.add(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void subtract(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            FloatVector vb = FloatVector.fromArray(SF, b, i);
+            va.sub(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    @Override
+    public void multiply(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            FloatVector vb = FloatVector.fromArray(SF, b, i);
+            va.mul(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    @Override
+    public void divide(final float[] a, final float[] b, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            FloatVector vb = FloatVector.fromArray(SF, b, i);
+            va.div(vb).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void addScalar(final float[] a, final float c, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            va.add(c).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] + c;
+        }
+    }
+
+    @Override
+    public void scale(final float[] a, final float c, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            va.mul(c).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = c * a[i];
+        }
+    }
+
+    @Override
+    public void axpy(final float[] a, final float[] b, final float alpha, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            FloatVector vb = FloatVector.fromArray(SF, b, i);
+            va.add(vb.mul(alpha)).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = a[i] + alpha * b[i];
+        }
+    }
+
+    @Override
+    public void abs(final float[] a, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            va.abs().intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = Math.abs(a[i]);
+        }
+    }
+
+    @Override
+    public void reciprocal(final float[] a, final float[] out, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        final FloatVector one = FloatVector.broadcast(SF, 1.0f);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector va = FloatVector.fromArray(SF, a, i);
+            one.div(va).intoArray(out, i);
+        }
+        for (; i < to; i++)
+        {
+            out[i] = 1.0f / a[i];
+        }
+    }
+
+    /**
+     * Add the lanes of a float vector to a double accumulator. The float vector has twice as many lanes as the double
+     * accumulator, so it is widened in two parts.
+     * @param acc the double accumulator
+     * @param v the float vector to add
+     * @return the new value of the accumulator
+     */
+    private static DoubleVector addWidened(final DoubleVector acc, final FloatVector v)
+    {
+        return acc.add(v.convertShape(VectorOperators.F2D, SD, 0)).add(v.convertShape(VectorOperators.F2D, SD, 1));
+    }
+
+    @Override
+    public double sum(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.zero(SD);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            vacc = addWidened(vacc, v);
+        }
+        double acc = vacc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x;
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumAbs(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.zero(SD);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            vacc = addWidened(vacc, v.abs());
+        }
+        double acc = vacc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + Math.abs(x);
+        }
+        return acc;
+    }
+
+    @Override
+    public double sumSqr(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        DoubleVector vacc = DoubleVector.zero(SD);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            DoubleVector low = (DoubleVector) v.convertShape(VectorOperators.F2D, SD, 0);
+            DoubleVector high = (DoubleVector) v.convertShape(VectorOperators.F2D, SD, 1);
+            vacc = vacc.add(low.mul(low)).add(high.mul(high));
+        }
+        double acc = vacc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++)
+        {
+            double x = a[i];
+            acc = acc + x * x;
+        }
+        return acc;
+    }
+
+    @Override
+    public float min(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        FloatVector vacc = FloatVector.broadcast(SF, a[from]);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            vacc = vacc.min(v);
+        }
+        float acc = vacc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.min(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public float max(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        FloatVector vacc = FloatVector.broadcast(SF, a[from]);
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            vacc = vacc.max(v);
+        }
+        float acc = vacc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.max(acc, x);
+        }
+        return acc;
+    }
+
+    @Override
+    public float minAbs(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        FloatVector vacc = FloatVector.broadcast(SF, Math.abs(a[from]));
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            vacc = vacc.min(v.abs());
+        }
+        float acc = vacc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.min(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+    @Override
+    public float maxAbs(final float[] a, final int from, final int to)
+    {
+        final int upper = from + SF.loopBound(to - from);
+        FloatVector vacc = FloatVector.broadcast(SF, Math.abs(a[from]));
+        int i = from;
+        for (; i < upper; i += SF.length())
+        {
+            FloatVector v = FloatVector.fromArray(SF, a, i);
+            vacc = vacc.max(v.abs());
+        }
+        float acc = vacc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++)
+        {
+            float x = a[i];
+            acc = Math.max(acc, Math.abs(x));
+        }
+        return acc;
+    }
+
+}
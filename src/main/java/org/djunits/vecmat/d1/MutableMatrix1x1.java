@@ -0,0 +1,134 @@
+package org.djunits.vecmat.d1;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.vecmat.def.MutableSquareMatrix;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableMatrix1x1 implements a square matrix with 1x1 real-valued entries that can be changed in place, e.g., for gains and
+ * variances that are updated in every step of a simulation. The values are stored densely in a row-major double array. Besides
+ * the element-wise in-place operations, the matrix can multiply another 1x1 matrix or a 1-vector into a caller-provided target,
+ * without allocating a new array. The method {@link #freeze()} returns an immutable {@link Matrix1x1} that shares the array
+ * until the next change of this matrix.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class MutableMatrix1x1<Q extends Quantity<Q>> extends MutableSquareMatrix<Q, MutableMatrix1x1<Q>, Matrix1x1<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /**
+     * Create a new MutableMatrix1x1 that uses the given row-major array for its SI values. The array is NOT copied.
+     * @param dataSi the SI values in row-major order
+     * @param displayUnit the display unit to use
+     * @throws IllegalArgumentException when dataSi does not contain 1 value
+     */
+    protected MutableMatrix1x1(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        super(dataSi, displayUnit, 1);
+    }
+
+    /**
+     * Create a new MutableMatrix1x1 with a copy of the given row-major SI values.
+     * @param dataSi the matrix values {a11} as an array using SI units
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix1x1 with the given values
+     * @throws IllegalArgumentException when dataSi does not contain 1 value
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix1x1<Q> ofSi(final double[] dataSi,
+            final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        return new MutableMatrix1x1<>(dataSi.clone(), displayUnit);
+    }
+
+    /**
+     * Create a new MutableMatrix1x1 with row-major values expressed in a unit.
+     * @param dataInUnit the matrix values {a11} expressed in the unit
+     * @param unit the unit of the values, also used as the display unit
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix1x1 with the given values
+     * @throws IllegalArgumentException when dataInUnit does not contain 1 value
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix1x1<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(dataInUnit, "dataInUnit");
+        Throw.whenNull(unit, "unit");
+        double[] dataSi = new double[dataInUnit.length];
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
+        return new MutableMatrix1x1<>(dataSi, unit);
+    }
+
+    /**
+     * Create a new MutableMatrix1x1 with the values and display unit of an immutable 1x1 matrix.
+     * @param matrix the matrix to copy the values and display unit from
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix1x1 with the values of the matrix
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix1x1<Q> of(final Matrix1x1<Q> matrix)
+    {
+        Throw.whenNull(matrix, "matrix");
+        return new MutableMatrix1x1<>(matrix.getSiArray(), matrix.getDisplayUnit());
+    }
+
+    /**
+     * Create a new MutableMatrix1x1 with all values zero.
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix1x1 with all values zero
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix1x1<Q> zero(final UnitInterface<Q> displayUnit)
+    {
+        return new MutableMatrix1x1<>(new double[1], displayUnit);
+    }
+
+    @Override
+    public Matrix1x1<Q> freeze()
+    {
+        return Matrix1x1.ofSi(shareSiArray(), getDisplayUnit());
+    }
+
+    /**
+     * Multiply this matrix with another 1x1 matrix, and store the product in the target matrix. The SI unit of the target has
+     * to be the SI-unit “sum” of this matrix and the other matrix (i.e., {@code U.plus(V)} on the underlying {@link SIUnit}s).
+     * The target cannot be this matrix or the other matrix.
+     * @param other the right-hand matrix to multiply with
+     * @param target the matrix to store the product in
+     * @param <T> the target matrix type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the SI unit of the target does not match, or when the target is this matrix or
+     *             the other matrix
+     */
+    public <T extends MutableMatrix1x1<?>> T multiplyInto(final MutableMatrix1x1<?> other, final T target)
+    {
+        return multiplyMatrixInto(other, target);
+    }
+
+    /**
+     * Multiply this matrix with a 1-vector, and store the product in the target vector. The SI unit of the target has to be
+     * the SI-unit “sum” of this matrix and the vector. The target can be the same vector as the vector to multiply with.
+     * @param vector the column vector to multiply with
+     * @param target the vector to store the product in
+     * @param <T> the target vector type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the SI unit of the target does not match
+     */
+    public <T extends MutableVector1<?>> T multiplyInto(final MutableVector1<?> vector, final T target)
+    {
+        Throw.whenNull(vector, "vector");
+        Throw.whenNull(target, "target");
+        checkProductUnit(getDisplayUnit().siUnit().plus(vector.getDisplayUnit().siUnit()), target);
+        double[] m = siArrayOf(this);
+        target.unsafeSiArray()[0] = m[0] * vector.xSi();
+        return target;
+    }
+
+}
@@ -0,0 +1,180 @@
+package org.djunits.vecmat.d1;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.vecmat.def.MutableVectorMatrix;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableVector1 implements a vector with one real-valued entry that can be changed in place, e.g., for a position, speed
+ * or acceleration along a line that is updated in every step of a simulation. The in-place operations have been
+ * re-implemented for one entry for efficiency. The method {@link #freeze()} returns an immutable {@link Vector1} with the
+ * current value.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class MutableVector1<Q extends Quantity<Q>> extends MutableVectorMatrix<Q, MutableVector1<Q>, Vector1<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /**
+     * Create a new MutableVector1 with a display unit.
+     * @param xSi the x-value expressed in the SI unit
+     * @param displayUnit the display unit to use
+     */
+    public MutableVector1(final double xSi, final UnitInterface<Q> displayUnit)
+    {
+        super(new double[] {xSi}, displayUnit);
+    }
+
+    /**
+     * Create a new MutableVector1 with a value expressed in a unit.
+     * @param xInUnit the x-value expressed in the unit
+     * @param unit the unit of the value, also used as the display unit
+     * @param <Q> the quantity type
+     * @return a new MutableVector1 with the given value
+     */
+    public static <Q extends Quantity<Q>> MutableVector1<Q> of(final double xInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(unit, "unit");
+        return new MutableVector1<>(unit.toBaseValue(xInUnit), unit);
+    }
+
+    /**
+     * Create a new MutableVector1 with the value and display unit of an immutable 1-vector.
+     * @param vector the vector to copy the value and display unit from
+     * @param <Q> the quantity type
+     * @return a new MutableVector1 with the value of the vector
+     */
+    public static <Q extends Quantity<Q>> MutableVector1<Q> of(final Vector1<Q> vector)
+    {
+        Throw.whenNull(vector, "vector");
+        return new MutableVector1<>(vector.xSi(), vector.getDisplayUnit());
+    }
+
+    /**
+     * Create a new MutableVector1 with value zero.
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableVector1 with value zero
+     */
+    public static <Q extends Quantity<Q>> MutableVector1<Q> zero(final UnitInterface<Q> displayUnit)
+    {
+        return new MutableVector1<>(0.0, displayUnit);
+    }
+
+    @Override
+    public int rows()
+    {
+        return 1;
+    }
+
+    @Override
+    public int cols()
+    {
+        return 1;
+    }
+
+    /**
+     * Return an immutable vector with the current value. The value is copied.
+     * @return an immutable vector with the current value
+     */
+    @Override
+    public Vector1<Q> freeze()
+    {
+        return new Vector1<Q>(xSi(), getDisplayUnit());
+    }
+
+    /**
+     * Return the x-value of the vector in SI or BASE units.
+     * @return the x-value of the vector in SI or BASE units
+     */
+    public double xSi()
+    {
+        return siArrayOf(this)[0];
+    }
+
+    /**
+     * Return the x-value of the vector as a quantity with the correct unit.
+     * @return the x-value of the vector as a quantity with the correct unit
+     */
+    public Q x()
+    {
+        return getDisplayUnit().ofSi(xSi(), getDisplayUnit());
+    }
+
+    /**
+     * Return the Euclidean norm of the vector, i.e., the absolute value of the entry, as a quantity with the display unit.
+     * @return the Euclidean norm of the vector
+     */
+    public Q norm()
+    {
+        return getDisplayUnit().ofSi(Math.abs(xSi()), getDisplayUnit());
+    }
+
+    /**
+     * Set the x-value of the vector in SI or BASE units.
+     * @param xSi the new x-value in SI or BASE units
+     * @return this object for method chaining
+     */
+    public MutableVector1<Q> setSi(final double xSi)
+    {
+        writableSiArray()[0] = xSi;
+        return this;
+    }
+
+    /**
+     * Copy the value of an immutable 1-vector into this vector.
+     * @param vector the vector to copy the value from
+     * @return this object for method chaining
+     */
+    public MutableVector1<Q> set(final Vector1<Q> vector)
+    {
+        Throw.whenNull(vector, "vector");
+        return setSi(vector.xSi());
+    }
+
+    @Override
+    public MutableVector1<Q> addInPlace(final MutableVector1<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        double[] o = siArrayOf(other);
+        double[] d = writableSiArray();
+        d[0] += o[0];
+        return this;
+    }
+
+    @Override
+    public MutableVector1<Q> subtractInPlace(final MutableVector1<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        double[] o = siArrayOf(other);
+        double[] d = writableSiArray();
+        d[0] -= o[0];
+        return this;
+    }
+
+    @Override
+    public MutableVector1<Q> axpyInPlace(final double alpha, final MutableVector1<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        double[] o = siArrayOf(other);
+        double[] d = writableSiArray();
+        d[0] += alpha * o[0];
+        return this;
+    }
+
+    @Override
+    public MutableVector1<Q> scaleInPlace(final double factor)
+    {
+        double[] d = writableSiArray();
+        d[0] *= factor;
+        return this;
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.djunits.vecmat.d3;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.vecmat.def.MutableSquareMatrix;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableMatrix3x3 implements a square matrix with 3x3 real-valued entries that can be changed in place, e.g., for rotations,
+ * inertia tensors and covariances that are updated in every step of a simulation. The values are stored densely in a row-major
+ * double array. Besides the element-wise in-place operations, the matrix can multiply another 3x3 matrix or a 3-vector into a
+ * caller-provided target, without allocating a new array. The method {@link #freeze()} returns an immutable {@link Matrix3x3}
+ * that shares the array until the next change of this matrix.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class MutableMatrix3x3<Q extends Quantity<Q>> extends MutableSquareMatrix<Q, MutableMatrix3x3<Q>, Matrix3x3<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /**
+     * Create a new MutableMatrix3x3 that uses the given row-major array for its SI values. The array is NOT copied.
+     * @param dataSi the SI values in row-major order
+     * @param displayUnit the display unit to use
+     * @throws IllegalArgumentException when dataSi does not contain 9 values
+     */
+    protected MutableMatrix3x3(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        super(dataSi, displayUnit, 3);
+    }
+
+    /**
+     * Create a new MutableMatrix3x3 with a copy of the given row-major SI values.
+     * @param dataSi the matrix values {a11, a12, a13, a21, a22, a23, a31, a32, a33} as an array using SI units
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix3x3 with the given values
+     * @throws IllegalArgumentException when dataSi does not contain 9 values
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix3x3<Q> ofSi(final double[] dataSi,
+            final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        return new MutableMatrix3x3<>(dataSi.clone(), displayUnit);
+    }
+
+    /**
+     * Create a new MutableMatrix3x3 with row-major values expressed in a unit.
+     * @param dataInUnit the matrix values {a11, a12, a13, a21, a22, a23, a31, a32, a33} expressed in the unit
+     * @param unit the unit of the values, also used as the display unit
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix3x3 with the given values
+     * @throws IllegalArgumentException when dataInUnit does not contain 9 values
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix3x3<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(dataInUnit, "dataInUnit");
+        Throw.whenNull(unit, "unit");
+        double[] dataSi = new double[dataInUnit.length];
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
+        return new MutableMatrix3x3<>(dataSi, unit);
+    }
+
+    /**
+     * Create a new MutableMatrix3x3 with the values and display unit of an immutable 3x3 matrix.
+     * @param matrix the matrix to copy the values and display unit from
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix3x3 with the values of the matrix
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix3x3<Q> of(final Matrix3x3<Q> matrix)
+    {
+        Throw.whenNull(matrix, "matrix");
+        return new MutableMatrix3x3<>(matrix.getSiArray(), matrix.getDisplayUnit());
+    }
+
+    /**
+     * Create a new MutableMatrix3x3 with all values zero.
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableMatrix3x3 with all values zero
+     */
+    public static <Q extends Quantity<Q>> MutableMatrix3x3<Q> zero(final UnitInterface<Q> displayUnit)
+    {
+        return new MutableMatrix3x3<>(new double[9], displayUnit);
+    }
+
+    @Override
+    public Matrix3x3<Q> freeze()
+    {
+        return Matrix3x3.ofSi(shareSiArray(), getDisplayUnit());
+    }
+
+    /**
+     * Multiply this matrix with another 3x3 matrix, and store the product in the target matrix. The SI unit of the target has
+     * to be the SI-unit “sum” of this matrix and the other matrix (i.e., {@code U.plus(V)} on the underlying {@link SIUnit}s).
+     * The target cannot be this matrix or the other matrix.
+     * @param other the right-hand matrix to multiply with
+     * @param target the matrix to store the product in
+     * @param <T> the target matrix type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the SI unit of the target does not match, or when the target is this matrix or
+     *             the other matrix
+     */
+    public <T extends MutableMatrix3x3<?>> T multiplyInto(final MutableMatrix3x3<?> other, final T target)
+    {
+        return multiplyMatrixInto(other, target);
+    }
+
+    /**
+     * Multiply this matrix with a 3-vector, and store the product in the target vector. The SI unit of the target has to be
+     * the SI-unit “sum” of this matrix and the vector. The target can be the same vector as the vector to multiply with.
+     * @param vector the column vector to multiply with
+     * @param target the vector to store the product in
+     * @param <T> the target vector type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the SI unit of the target does not match
+     */
+    public <T extends MutableVector3<?>> T multiplyInto(final MutableVector3<?> vector, final T target)
+    {
+        Throw.whenNull(vector, "vector");
+        Throw.whenNull(target, "target");
+        checkProductUnit(getDisplayUnit().siUnit().plus(vector.getDisplayUnit().siUnit()), target);
+        double[] m = siArrayOf(this);
+        double x = vector.xSi();
+        double y = vector.ySi();
+        double z = vector.zSi();
+        double[] t = target.unsafeSiArray();
+        t[0] = m[0] * x + m[1] * y + m[2] * z;
+        t[1] = m[3] * x + m[4] * y + m[5] * z;
+        t[2] = m[6] * x + m[7] * y + m[8] * z;
+        return target;
+    }
+
+}
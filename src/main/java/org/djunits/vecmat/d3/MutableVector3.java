@@ -0,0 +1,236 @@
+package org.djunits.vecmat.d3;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.vecmat.def.MutableVectorMatrix;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableVector3 implements a column vector with three real-valued entries that can be changed in place, e.g., for positions,
+ * speeds and accelerations that are updated in every step of a simulation. The in-place operations have been re-implemented
+ * for three entries for efficiency. The method {@link #freeze()} returns an immutable {@link Vector3.Col} with the current
+ * values.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class MutableVector3<Q extends Quantity<Q>> extends MutableVectorMatrix<Q, MutableVector3<Q>, Vector3.Col<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /**
+     * Create a new MutableVector3 with a display unit.
+     * @param xSi the x-value expressed in the SI unit
+     * @param ySi the y-value expressed in the SI unit
+     * @param zSi the z-value expressed in the SI unit
+     * @param displayUnit the display unit to use
+     */
+    public MutableVector3(final double xSi, final double ySi, final double zSi, final UnitInterface<Q> displayUnit)
+    {
+        super(new double[] {xSi, ySi, zSi}, displayUnit);
+    }
+
+    /**
+     * Create a new MutableVector3 with values expressed in a unit.
+     * @param xInUnit the x-value expressed in the unit
+     * @param yInUnit the y-value expressed in the unit
+     * @param zInUnit the z-value expressed in the unit
+     * @param unit the unit of the values, also used as the display unit
+     * @param <Q> the quantity type
+     * @return a new MutableVector3 with the given values
+     */
+    public static <Q extends Quantity<Q>> MutableVector3<Q> of(final double xInUnit, final double yInUnit,
+            final double zInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(unit, "unit");
+        return new MutableVector3<>(unit.toBaseValue(xInUnit), unit.toBaseValue(yInUnit), unit.toBaseValue(zInUnit), unit);
+    }
+
+    /**
+     * Create a new MutableVector3 with the values and display unit of an immutable 3-vector.
+     * @param vector the vector to copy the values and display unit from
+     * @param <Q> the quantity type
+     * @return a new MutableVector3 with the values of the vector
+     */
+    public static <Q extends Quantity<Q>> MutableVector3<Q> of(final Vector3<Q, ?, ?, ?, ?> vector)
+    {
+        Throw.whenNull(vector, "vector");
+        return new MutableVector3<>(vector.xSi(), vector.ySi(), vector.zSi(), vector.getDisplayUnit());
+    }
+
+    /**
+     * Create a new MutableVector3 with all values zero.
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableVector3 with all values zero
+     */
+    public static <Q extends Quantity<Q>> MutableVector3<Q> zero(final UnitInterface<Q> displayUnit)
+    {
+        return new MutableVector3<>(0.0, 0.0, 0.0, displayUnit);
+    }
+
+    @Override
+    public int rows()
+    {
+        return 3;
+    }
+
+    @Override
+    public int cols()
+    {
+        return 1;
+    }
+
+    /**
+     * Return an immutable column vector with the current values. The three values are copied.
+     * @return an immutable column vector with the current values
+     */
+    @Override
+    public Vector3.Col<Q> freeze()
+    {
+        double[] data = siArrayOf(this);
+        return new Vector3.Col<Q>(data[0], data[1], data[2], getDisplayUnit());
+    }
+
+    /**
+     * Return the x-value of the vector in SI or BASE units.
+     * @return the x-value of the vector in SI or BASE units
+     */
+    public double xSi()
+    {
+        return siArrayOf(this)[0];
+    }
+
+    /**
+     * Return the y-value of the vector in SI or BASE units.
+     * @return the y-value of the vector in SI or BASE units
+     */
+    public double ySi()
+    {
+        return siArrayOf(this)[1];
+    }
+
+    /**
+     * Return the z-value of the vector in SI or BASE units.
+     * @return the z-value of the vector in SI or BASE units
+     */
+    public double zSi()
+    {
+        return siArrayOf(this)[2];
+    }
+
+    /**
+     * Return the x-value of the vector as a quantity with the correct unit.
+     * @return the x-value of the vector as a quantity with the correct unit
+     */
+    public Q x()
+    {
+        return getDisplayUnit().ofSi(xSi(), getDisplayUnit());
+    }
+
+    /**
+     * Return the y-value of the vector as a quantity with the correct unit.
+     * @return the y-value of the vector as a quantity with the correct unit
+     */
+    public Q y()
+    {
+        return getDisplayUnit().ofSi(ySi(), getDisplayUnit());
+    }
+
+    /**
+     * Return the z-value of the vector as a quantity with the correct unit.
+     * @return the z-value of the vector as a quantity with the correct unit
+     */
+    public Q z()
+    {
+        return getDisplayUnit().ofSi(zSi(), getDisplayUnit());
+    }
+
+    /**
+     * Return the Euclidean norm of the vector as a quantity with the display unit.
+     * @return the Euclidean norm of the vector
+     */
+    public Q norm()
+    {
+        double[] d = siArrayOf(this);
+        return getDisplayUnit().ofSi(Math.sqrt(d[0] * d[0] + d[1] * d[1] + d[2] * d[2]), getDisplayUnit());
+    }
+
+    /**
+     * Set the x, y and z values of the vector in SI or BASE units.
+     * @param xSi the new x-value in SI or BASE units
+     * @param ySi the new y-value in SI or BASE units
+     * @param zSi the new z-value in SI or BASE units
+     * @return this object for method chaining
+     */
+    public MutableVector3<Q> setSi(final double xSi, final double ySi, final double zSi)
+    {
+        double[] d = writableSiArray();
+        d[0] = xSi;
+        d[1] = ySi;
+        d[2] = zSi;
+        return this;
+    }
+
+    /**
+     * Copy the values of an immutable 3-vector into this vector.
+     * @param vector the vector to copy the values from
+     * @return this object for method chaining
+     */
+    public MutableVector3<Q> set(final Vector3<Q, ?, ?, ?, ?> vector)
+    {
+        Throw.whenNull(vector, "vector");
+        return setSi(vector.xSi(), vector.ySi(), vector.zSi());
+    }
+
+    @Override
+    public MutableVector3<Q> addInPlace(final MutableVector3<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        double[] o = siArrayOf(other);
+        double[] d = writableSiArray();
+        d[0] += o[0];
+        d[1] += o[1];
+        d[2] += o[2];
+        return this;
+    }
+
+    @Override
+    public MutableVector3<Q> subtractInPlace(final MutableVector3<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        double[] o = siArrayOf(other);
+        double[] d = writableSiArray();
+        d[0] -= o[0];
+        d[1] -= o[1];
+        d[2] -= o[2];
+        return this;
+    }
+
+    @Override
+    public MutableVector3<Q> axpyInPlace(final double alpha, final MutableVector3<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        double[] o = siArrayOf(other);
+        double[] d = writableSiArray();
+        d[0] += alpha * o[0];
+        d[1] += alpha * o[1];
+        d[2] += alpha * o[2];
+        return this;
+    }
+
+    @Override
+    public MutableVector3<Q> scaleInPlace(final double factor)
+    {
+        double[] d = writableSiArray();
+        d[0] *= factor;
+        d[1] *= factor;
+        d[2] *= factor;
+        return this;
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.djunits.vecmat.def;
 
+import java.io.IOException;
+
 import org.djunits.formatter.MatrixFormat;
 import org.djunits.formatter.MatrixFormatter;
 import org.djunits.quantity.def.AbsQuantity;
@@ -47,7 +49,7 @@ public abstract class AbsMatrix<A extends AbsQuantity<A, Q, ?>, Q extends Quanti
     @Override
     public String format()
     {
-        return format(MatrixFormat.instance());
+        return format(MatrixFormat.defaults());
     }
 
     /**
@@ -60,6 +62,31 @@ public abstract class AbsMatrix<A extends AbsQuantity<A, Q, ?>, Q extends Quanti
         return MatrixFormatter.format(this, format);
     }
 
+    /**
+     * Append the representation of this matrix after applying the format to a string builder, without creating intermediate
+     * strings.
+     * @param s the string builder to append the formatted matrix to
+     * @param format the format to apply for the matrix
+     * @return the string builder, to allow chaining
+     */
+    public StringBuilder formatTo(final StringBuilder s, final MatrixFormat format)
+    {
+        return MatrixFormatter.formatTo(s, this, format);
+    }
+
+    /**
+     * Append the representation of this matrix after applying the format to an appendable, such as a Writer.
+     * @param appendable the appendable to append the formatted matrix to
+     * @param format the format to apply for the matrix
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public <A extends Appendable> A formatTo(final A appendable, final MatrixFormat format) throws IOException
+    {
+        return MatrixFormatter.formatTo(appendable, this, format);
+    }
+
     /**
      * String representation of this matrix, expressed in the specified unit.
      * @param targetUnit the unit into which the values of the matrix are converted for display
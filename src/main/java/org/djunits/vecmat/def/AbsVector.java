@@ -1,5 +1,6 @@
 package org.djunits.vecmat.def;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -198,7 +199,7 @@ public abstract class AbsVector<A extends AbsQuantity<A, Q, ?>, Q extends Quanti
         @Override
         default String format()
         {
-            return format(VectorFormat.Col.instance());
+            return format(VectorFormat.Col.defaults());
         }
 
         /**
@@ -211,6 +212,31 @@ public abstract class AbsVector<A extends AbsQuantity<A, Q, ?>, Q extends Quanti
             return VectorFormatter.format((AbsVector<?, ?, ?, ?, ?>) this, format);
         }
 
+        /**
+         * Append the representation of this vector after applying the format to a string builder, without creating intermediate
+         * strings.
+         * @param s the string builder to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the string builder, to allow chaining
+         */
+        default StringBuilder formatTo(final StringBuilder s, final VectorFormat.Col format)
+        {
+            return VectorFormatter.formatTo(s, (AbsVector<?, ?, ?, ?, ?>) this, format);
+        }
+
+        /**
+         * Append the representation of this vector after applying the format to an appendable, such as a Writer.
+         * @param appendable the appendable to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the appendable, to allow chaining
+         * @param <A> the type of appendable
+         * @throws IOException when appending to the appendable fails
+         */
+        default <A extends Appendable> A formatTo(final A appendable, final VectorFormat.Col format) throws IOException
+        {
+            return VectorFormatter.formatTo(appendable, (AbsVector<?, ?, ?, ?, ?>) this, format);
+        }
+
         /**
          * String representation of this vector, expressed in the specified unit.
          * @param targetUnit the unit into which the values of the vector are converted for display
@@ -237,7 +263,7 @@ public abstract class AbsVector<A extends AbsQuantity<A, Q, ?>, Q extends Quanti
         @Override
         default String format()
         {
-            return format(VectorFormat.Row.instance());
+            return format(VectorFormat.Row.defaults());
         }
 
         /**
@@ -250,6 +276,31 @@ public abstract class AbsVector<A extends AbsQuantity<A, Q, ?>, Q extends Quanti
             return VectorFormatter.format((AbsVector<?, ?, ?, ?, ?>) this, format);
         }
 
+        /**
+         * Append the representation of this vector after applying the format to a string builder, without creating intermediate
+         * strings.
+         * @param s the string builder to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the string builder, to allow chaining
+         */
+        default StringBuilder formatTo(final StringBuilder s, final VectorFormat.Row format)
+        {
+            return VectorFormatter.formatTo(s, (AbsVector<?, ?, ?, ?, ?>) this, format);
+        }
+
+        /**
+         * Append the representation of this vector after applying the format to an appendable, such as a Writer.
+         * @param appendable the appendable to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the appendable, to allow chaining
+         * @param <A> the type of appendable
+         * @throws IOException when appending to the appendable fails
+         */
+        default <A extends Appendable> A formatTo(final A appendable, final VectorFormat.Row format) throws IOException
+        {
+            return VectorFormatter.formatTo(appendable, (AbsVector<?, ?, ?, ?, ?>) this, format);
+        }
+
         /**
          * String representation of this vector, expressed in the specified unit.
          * @param targetUnit the unit into which the values of the vector are converted for display
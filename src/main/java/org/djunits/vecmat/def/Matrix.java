@@ -1,5 +1,7 @@
 package org.djunits.vecmat.def;
 
+import java.io.IOException;
+
 import org.djunits.formatter.MatrixFormat;
 import org.djunits.formatter.MatrixFormatter;
 import org.djunits.quantity.SIQuantity;
@@ -8,8 +10,10 @@ import org.djunits.unit.UnitInterface;
 import org.djunits.unit.si.SIUnit;
 import org.djunits.util.MatrixMath;
 import org.djunits.vecmat.dnxm.MatrixNxM;
+import org.djunits.vecmat.storage.DataGridSi;
 import org.djunits.vecmat.storage.DenseDoubleDataSi;
 import org.djunits.vecmat.storage.DenseFloatDataSi;
+import org.djunits.vecmat.storage.SparseMatrixMath;
 
 /**
  * Matrix contains a number of standard operations on matrices of relative quantities.
@@ -43,6 +47,9 @@ public abstract class Matrix<Q extends Quantity<Q>, M extends Matrix<Q, M, SI, H
     /**
      * Multiply this matrix with a MatrixNxM, resulting in a MatrixNxM. The multiplication is a (NxM) x (MxP) matrix
      * multiplication resulting in an (NxP) matrix.
+     * <p>
+     * When one of the operands has sparse storage, the product only visits the stored values, and when both operands have
+     * float storage, the product is calculated on the float arrays; see {@link SparseMatrixMath}.
      * @param matrix the matrix to multiply with
      * @return a MatrixNxM of an SIQuantity as the result of the matrix multiplication
      * @throws IllegalArgumentException when the number of columns of this matrix does not equal the number of rows of the
@@ -51,8 +58,14 @@ public abstract class Matrix<Q extends Quantity<Q>, M extends Matrix<Q, M, SI, H
     public MatrixNxM<SIQuantity> multiply(final MatrixNxM<?> matrix)
     {
         checkMultiply(matrix);
-        double[] result = MatrixMath.multiply(unsafeSiArray(), matrix.unsafeSiArray(), rows(), cols(), matrix.cols());
         SIUnit siUnit = getDisplayUnit().siUnit().plus(matrix.getDisplayUnit().siUnit());
+        if ((dataGrid() != null && (dataGrid().isSparse() || dataGrid().isFloat() && matrix.getDataGrid().isFloat()))
+                || matrix.getDataGrid().isSparse())
+        {
+            DataGridSi<?> grid = dataGrid() != null ? dataGrid() : new DenseDoubleDataSi(unsafeSiArray(), rows(), cols());
+            return new MatrixNxM<SIQuantity>(SparseMatrixMath.multiply(grid, matrix.getDataGrid()), siUnit);
+        }
+        double[] result = MatrixMath.multiply(unsafeSiArray(), matrix.unsafeSiArray(), rows(), cols(), matrix.cols());
         if (matrix.getDataGrid().isDouble())
         {
             return new MatrixNxM<SIQuantity>(new DenseDoubleDataSi(result, rows(), matrix.cols()), siUnit);
@@ -71,7 +84,7 @@ public abstract class Matrix<Q extends Quantity<Q>, M extends Matrix<Q, M, SI, H
     @Override
     public String format()
     {
-        return format(MatrixFormat.instance());
+        return format(MatrixFormat.defaults());
     }
 
     /**
@@ -84,6 +97,31 @@ public abstract class Matrix<Q extends Quantity<Q>, M extends Matrix<Q, M, SI, H
         return MatrixFormatter.format(this, format);
     }
 
+    /**
+     * Append the representation of this matrix after applying the format to a string builder, without creating intermediate
+     * strings.
+     * @param s the string builder to append the formatted matrix to
+     * @param format the format to apply for the matrix
+     * @return the string builder, to allow chaining
+     */
+    public StringBuilder formatTo(final StringBuilder s, final MatrixFormat format)
+    {
+        return MatrixFormatter.formatTo(s, this, format);
+    }
+
+    /**
+     * Append the representation of this matrix after applying the format to an appendable, such as a Writer.
+     * @param appendable the appendable to append the formatted matrix to
+     * @param format the format to apply for the matrix
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public <A extends Appendable> A formatTo(final A appendable, final MatrixFormat format) throws IOException
+    {
+        return MatrixFormatter.formatTo(appendable, this, format);
+    }
+
     /**
      * String representation of this matrix, expressed in the specified unit.
      * @param targetUnit the unit into which the values of the matrix are converted for display
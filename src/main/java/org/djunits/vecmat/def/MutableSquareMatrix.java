@@ -0,0 +1,165 @@
+package org.djunits.vecmat.def;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.util.MatrixMath;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableSquareMatrix implements the core functions for a square matrix with n x n real-valued entries that can be changed in
+ * place. The values are stored densely in a row-major double array. Besides the element-wise in-place operations of
+ * {@link MutableVectorMatrix}, the matrix can be transposed in place, and subclasses can multiply another matrix into a
+ * caller-provided target of the same order, without allocating a new array.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ * @param <M> the 'SELF' mutable square matrix type
+ * @param <F> the immutable matrix type that is returned by freeze()
+ */
+public abstract class MutableSquareMatrix<Q extends Quantity<Q>, M extends MutableSquareMatrix<Q, M, F>,
+        F extends VectorMatrix<Q, ?, ?, ?, ?>> extends MutableVectorMatrix<Q, M, F>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /** The order (n in n x n) of the matrix. */
+    private final int order;
+
+    /**
+     * Create a new MutableSquareMatrix that uses the given row-major array for its SI values. The array is NOT copied.
+     * @param dataSi the SI values in row-major order
+     * @param displayUnit the display unit to use
+     * @param order the order of the square matrix (number of rows/columns)
+     * @throws IllegalArgumentException when dataSi.length != order * order
+     */
+    protected MutableSquareMatrix(final double[] dataSi, final UnitInterface<Q> displayUnit, final int order)
+    {
+        super(dataSi, displayUnit);
+        Throw.when(dataSi.length != order * order, IllegalArgumentException.class,
+                "MutableSquareMatrix initialized with %d values instead of %d", dataSi.length, order * order);
+        this.order = order;
+    }
+
+    @Override
+    public int rows()
+    {
+        return this.order;
+    }
+
+    @Override
+    public int cols()
+    {
+        return this.order;
+    }
+
+    /**
+     * Return the order of the matrix, i.e., the number of rows and columns.
+     * @return the order of the matrix
+     */
+    public int order()
+    {
+        return this.order;
+    }
+
+    /**
+     * Return the SI value of an entry.
+     * @param row the row, starting at 0
+     * @param col the column, starting at 0
+     * @return the SI value of the entry
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    public double si(final int row, final int col)
+    {
+        checkIndex(row, col);
+        return siArrayOf(this)[row * this.order + col];
+    }
+
+    /**
+     * Return the value of an entry as a quantity with the display unit.
+     * @param row the row, starting at 0
+     * @param col the column, starting at 0
+     * @return the value of the entry as a quantity
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    public Q get(final int row, final int col)
+    {
+        return getDisplayUnit().ofSi(si(row, col), getDisplayUnit());
+    }
+
+    /**
+     * Set the SI value of an entry.
+     * @param row the row, starting at 0
+     * @param col the column, starting at 0
+     * @param valueSi the new SI value of the entry
+     * @return this object for method chaining
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    public M setSi(final int row, final int col, final double valueSi)
+    {
+        checkIndex(row, col);
+        writableSiArray()[row * this.order + col] = valueSi;
+        return self();
+    }
+
+    /**
+     * Transpose this matrix in place.
+     * @return this object for method chaining
+     */
+    public M transposeInPlace()
+    {
+        double[] d = writableSiArray();
+        final int n = this.order;
+        for (int i = 0; i < n; i++)
+        {
+            for (int j = i + 1; j < n; j++)
+            {
+                double tmp = d[i * n + j];
+                d[i * n + j] = d[j * n + i];
+                d[j * n + i] = tmp;
+            }
+        }
+        return self();
+    }
+
+    /**
+     * Multiply this matrix with another matrix of the same order, and store the product in the target matrix. The SI unit of
+     * the target has to be the SI-unit “sum” of this matrix and the other matrix (i.e., {@code U.plus(V)} on the underlying
+     * {@link SIUnit}s). The target cannot be this matrix or the other matrix. Subclasses expose this method with the types of
+     * their own order.
+     * @param other the right-hand matrix to multiply with
+     * @param target the matrix to store the product in
+     * @param <T> the target matrix type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the orders of the matrices differ, when the SI unit of the target does not match,
+     *             or when the target is this matrix or the other matrix
+     */
+    protected <T extends MutableSquareMatrix<?, ?, ?>> T multiplyMatrixInto(final MutableSquareMatrix<?, ?, ?> other,
+            final T target)
+    {
+        checkShape(other);
+        checkShape(target);
+        Throw.when(target == this || target == other, IllegalArgumentException.class,
+                "target of multiplyInto cannot be one of the operands");
+        checkProductUnit(getDisplayUnit().siUnit().plus(other.getDisplayUnit().siUnit()), target);
+        final int n = this.order;
+        MatrixMath.multiplyInto(siArrayOf(this), siArrayOf(other), n, n, n, target.unsafeSiArray());
+        return target;
+    }
+
+    /**
+     * Check that the row and column are within the bounds of the matrix.
+     * @param row the row, starting at 0
+     * @param col the column, starting at 0
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    protected void checkIndex(final int row, final int col)
+    {
+        Throw.when(row < 0 || row >= this.order || col < 0 || col >= this.order, IndexOutOfBoundsException.class,
+                "index (%d, %d) out of bounds for matrix of order %d", row, col, this.order);
+    }
+
+}
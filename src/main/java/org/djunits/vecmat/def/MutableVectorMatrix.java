@@ -0,0 +1,374 @@
+package org.djunits.vecmat.def;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.util.ArrayMath;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableVectorMatrix is the base class for vectors and matrices of relative quantities whose values can be changed in place.
+ * Where the operations of a {@link VectorMatrix} return a new instance with a new array for every result, the in-place
+ * operations of a mutable vector or matrix overwrite the values of the instance itself, and return the instance for chaining.
+ * This makes it possible to run simulation loops without creating garbage. The read methods come from
+ * {@link ReadableVectorMatrix}, which is also implemented by VectorMatrix, so code that only reads values can accept both.
+ * <p>
+ * The method {@link #freeze()} returns an immutable snapshot of the current values. The snapshot shares the array with the
+ * mutable instance until the next change of the mutable instance, which then first makes a private copy of the values. Freezing
+ * is therefore cheap, and repeated in-place operations after a freeze only copy the values once.
+ * <p>
+ * Mutable vectors and matrices are not thread-safe. The values are stored in SI or BASE units in row-major order; the display
+ * unit is fixed at construction.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ * @param <M> the 'SELF' mutable vector or matrix type
+ * @param <F> the immutable vector or matrix type that is returned by freeze()
+ */
+public abstract class MutableVectorMatrix<Q extends Quantity<Q>, M extends MutableVectorMatrix<Q, M, F>,
+        F extends VectorMatrix<Q, ?, ?, ?, ?>> implements ReadableVectorMatrix<Q>, Serializable
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /** The display unit. */
+    private final UnitInterface<Q> displayUnit;
+
+    /** The SI values in row-major order. */
+    private double[] dataSi;
+
+    /** Whether the array with SI values is shared with a frozen snapshot, and has to be copied before the next change. */
+    private boolean shared = false;
+
+    /**
+     * Create a new mutable vector or matrix that uses the given array for its SI values. The array is NOT copied.
+     * @param dataSi the SI values in row-major order
+     * @param displayUnit the display unit to use
+     * @throws NullPointerException when dataSi or displayUnit is null
+     */
+    protected MutableVectorMatrix(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        Throw.whenNull(displayUnit, "displayUnit");
+        this.dataSi = dataSi;
+        this.displayUnit = displayUnit;
+    }
+
+    /**
+     * Return this object with the 'SELF' type.
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    protected final M self()
+    {
+        return (M) this;
+    }
+
+    @Override
+    public UnitInterface<Q> getDisplayUnit()
+    {
+        return this.displayUnit;
+    }
+
+    /**
+     * Return the number of entries.
+     * @return the number of entries
+     */
+    public int size()
+    {
+        return this.dataSi.length;
+    }
+
+    /**
+     * Return an immutable snapshot of the current values. The snapshot shares the values with this object until this object
+     * is changed for the first time after the freeze.
+     * @return an immutable snapshot of the current values
+     */
+    public abstract F freeze();
+
+    /**
+     * Return the array with SI values, and mark it as shared with a frozen snapshot. Subclasses use this method to create the
+     * snapshot in {@link #freeze()}.
+     * @return the array with SI values, which should not be changed by the caller
+     */
+    protected final double[] shareSiArray()
+    {
+        this.shared = true;
+        return this.dataSi;
+    }
+
+    /**
+     * Return the array with SI values for a change. When the array is shared with a frozen snapshot, a private copy is made
+     * first.
+     * @return the array with SI values that can be changed
+     */
+    protected final double[] writableSiArray()
+    {
+        if (this.shared)
+        {
+            this.dataSi = this.dataSi.clone();
+            this.shared = false;
+        }
+        return this.dataSi;
+    }
+
+    /**
+     * Return the array with SI values of another mutable vector or matrix, for reading.
+     * @param other the other vector or matrix
+     * @return the array with SI values of the other vector or matrix, which should not be changed
+     */
+    protected static double[] siArrayOf(final MutableVectorMatrix<?, ?, ?> other)
+    {
+        return other.dataSi;
+    }
+
+    // ------------------------------------------ READ METHODS ------------------------------------------
+
+    @Override
+    public double si(final int index)
+    {
+        ReadableVectorMatrix.checkIndex(index, this.dataSi.length);
+        return this.dataSi[index];
+    }
+
+    @Override
+    public double[] getSiArray()
+    {
+        return this.dataSi.clone();
+    }
+
+    /**
+     * Return the row-major array of SI-values that is used by this vector or matrix. Changes to the array by the caller are
+     * changes to this vector or matrix; they do not affect snapshots that have been frozen earlier.
+     * @return the row-major array of SI-values (not a copy)
+     */
+    @Override
+    public double[] unsafeSiArray()
+    {
+        return writableSiArray();
+    }
+
+    // ------------------------------------------ WRITE METHODS ------------------------------------------
+
+    /**
+     * Set the SI value of an entry, based on its row-major index.
+     * @param index the row-major index, starting at 0
+     * @param valueSi the new SI value of the entry
+     * @return this object for method chaining
+     * @throws IndexOutOfBoundsException when the index is out of bounds
+     */
+    public M setSi(final int index, final double valueSi)
+    {
+        ReadableVectorMatrix.checkIndex(index, this.dataSi.length);
+        writableSiArray()[index] = valueSi;
+        return self();
+    }
+
+    /**
+     * Set the value of an entry to the value of a quantity.
+     * @param index the row-major index, starting at 0
+     * @param value the new value of the entry
+     * @return this object for method chaining
+     * @throws IndexOutOfBoundsException when the index is out of bounds
+     */
+    public M set(final int index, final Q value)
+    {
+        return setSi(index, value.si());
+    }
+
+    /**
+     * Copy SI values into this vector or matrix.
+     * @param valuesSi the SI values in row-major order; the length should be equal to the size of this vector or matrix
+     * @return this object for method chaining
+     * @throws IllegalArgumentException when the length of valuesSi is not equal to the size
+     */
+    public M setSi(final double[] valuesSi)
+    {
+        Throw.whenNull(valuesSi, "valuesSi");
+        Throw.when(valuesSi.length != this.dataSi.length, IllegalArgumentException.class,
+                "length of valuesSi (%d) != size (%d)", valuesSi.length, this.dataSi.length);
+        System.arraycopy(valuesSi, 0, writableSiArray(), 0, valuesSi.length);
+        return self();
+    }
+
+    /**
+     * Copy the values of another mutable vector or matrix with the same shape into this vector or matrix.
+     * @param other the vector or matrix to copy the values from
+     * @return this object for method chaining
+     * @throws IllegalArgumentException when the shapes differ
+     */
+    public M set(final M other)
+    {
+        checkShape(other);
+        System.arraycopy(siArrayOf(other), 0, writableSiArray(), 0, this.dataSi.length);
+        return self();
+    }
+
+    /**
+     * Copy the values of another mutable or immutable vector or matrix with the same shape into this vector or matrix.
+     * @param other the vector or matrix to copy the values from
+     * @return this object for method chaining
+     * @throws IllegalArgumentException when the shapes differ
+     */
+    public M set(final ReadableVectorMatrix<Q> other)
+    {
+        Throw.whenNull(other, "other");
+        Throw.when(rows() != other.rows() || cols() != other.cols(), IllegalArgumentException.class,
+                "shape of other (%dx%d) != shape of this (%dx%d)", other.rows(), other.cols(), rows(), cols());
+        // reading the array of a mutable other directly keeps it shared with its frozen snapshots
+        double[] otherSi = other instanceof MutableVectorMatrix<?, ?, ?> mvm ? siArrayOf(mvm) : other.unsafeSiArray();
+        System.arraycopy(otherSi, 0, writableSiArray(), 0, this.dataSi.length);
+        return self();
+    }
+
+    /**
+     * Add the values of another vector or matrix with the same shape to this vector or matrix.
+     * @param other the vector or matrix to add
+     * @return this object for method chaining
+     * @throws IllegalArgumentException when the shapes differ
+     */
+    public M addInPlace(final M other)
+    {
+        checkShape(other);
+        double[] data = writableSiArray();
+        ArrayMath.addInto(data, siArrayOf(other), data);
+        return self();
+    }
+
+    /**
+     * Subtract the values of another vector or matrix with the same shape from this vector or matrix.
+     * @param other the vector or matrix to subtract
+     * @return this object for method chaining
+     * @throws IllegalArgumentException when the shapes differ
+     */
+    public M subtractInPlace(final M other)
+    {
+        checkShape(other);
+        double[] data = writableSiArray();
+        ArrayMath.subtractInto(data, siArrayOf(other), data);
+        return self();
+    }
+
+    /**
+     * Add a multiple of another vector or matrix with the same shape to this vector or matrix: {@code this += alpha * other}.
+     * @param alpha the multiplier for the other vector or matrix
+     * @param other the vector or matrix to add
+     * @return this object for method chaining
+     * @throws IllegalArgumentException when the shapes differ
+     */
+    public M axpyInPlace(final double alpha, final M other)
+    {
+        checkShape(other);
+        double[] data = writableSiArray();
+        ArrayMath.axpyInto(data, siArrayOf(other), alpha, data);
+        return self();
+    }
+
+    /**
+     * Increment all entries of this vector or matrix with the given quantity.
+     * @param increment the quantity by which to increase the values
+     * @return this object for method chaining
+     */
+    public M addInPlace(final Q increment)
+    {
+        double[] data = writableSiArray();
+        ArrayMath.addInto(data, increment.si(), data);
+        return self();
+    }
+
+    /**
+     * Decrement all entries of this vector or matrix with the given quantity.
+     * @param decrement the quantity by which to decrease the values
+     * @return this object for method chaining
+     */
+    public M subtractInPlace(final Q decrement)
+    {
+        double[] data = writableSiArray();
+        ArrayMath.addInto(data, -decrement.si(), data);
+        return self();
+    }
+
+    /**
+     * Multiply all entries of this vector or matrix by a factor.
+     * @param factor the factor to multiply with
+     * @return this object for method chaining
+     */
+    public M scaleInPlace(final double factor)
+    {
+        double[] data = writableSiArray();
+        ArrayMath.scaleInto(data, factor, data);
+        return self();
+    }
+
+    /**
+     * Negate all entries of this vector or matrix.
+     * @return this object for method chaining
+     */
+    public M negateInPlace()
+    {
+        return scaleInPlace(-1.0);
+    }
+
+    /**
+     * Replace all entries of this vector or matrix by their absolute value.
+     * @return this object for method chaining
+     */
+    public M absInPlace()
+    {
+        double[] data = writableSiArray();
+        ArrayMath.absInto(data, data);
+        return self();
+    }
+
+    /**
+     * Set all entries of this vector or matrix to zero.
+     * @return this object for method chaining
+     */
+    public M clear()
+    {
+        Arrays.fill(writableSiArray(), 0.0);
+        return self();
+    }
+
+    // ------------------------------------------ HELPER METHODS ------------------------------------------
+
+    /**
+     * Check that another mutable vector or matrix has the same shape as this vector or matrix.
+     * @param other the other vector or matrix
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when the shapes differ
+     */
+    protected void checkShape(final MutableVectorMatrix<?, ?, ?> other)
+    {
+        Throw.whenNull(other, "other");
+        Throw.when(rows() != other.rows() || cols() != other.cols(), IllegalArgumentException.class,
+                "shape of other (%dx%d) != shape of this (%dx%d)", other.rows(), other.cols(), rows(), cols());
+    }
+
+    /**
+     * Check that the SI unit of a target for a multiplication equals the SI unit of the product.
+     * @param productUnit the SI unit of the product
+     * @param target the target of the multiplication
+     * @throws IllegalArgumentException when the SI unit of the target does not match the SI unit of the product
+     */
+    protected static void checkProductUnit(final SIUnit productUnit, final MutableVectorMatrix<?, ?, ?> target)
+    {
+        Throw.when(!productUnit.equals(target.getDisplayUnit().siUnit()), IllegalArgumentException.class,
+                "SI unit of target (%s) does not match the SI unit of the product (%s)",
+                target.getDisplayUnit().siUnit().getDisplayAbbreviation(), productUnit.getDisplayAbbreviation());
+    }
+
+    @Override
+    public String toString()
+    {
+        return getClass().getSimpleName() + " " + rows() + "x" + cols() + " " + Arrays.toString(this.dataSi) + " "
+                + this.displayUnit.siUnit().getDisplayAbbreviation();
+    }
+
+}
@@ -0,0 +1,152 @@
+package org.djunits.vecmat.def;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.util.ArrayMath;
+import org.djunits.util.Math2;
+import org.djutils.exceptions.Throw;
+
+/**
+ * ReadableVectorMatrix contains the read operations that the immutable vectors and matrices ({@link VectorMatrix}) and the
+ * mutable vectors and matrices ({@link MutableVectorMatrix}) of relative quantities have in common, so code that only reads the
+ * values can accept both. The statistics are computed from {@link #unsafeSiArray()}; implementations can override them, e.g.,
+ * to avoid expanding sparse data to a dense array.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public interface ReadableVectorMatrix<Q extends Quantity<Q>>
+{
+    /**
+     * Return the display unit.
+     * @return the display unit
+     */
+    UnitInterface<Q> getDisplayUnit();
+
+    /**
+     * Return the number of rows.
+     * @return the number of rows
+     */
+    int rows();
+
+    /**
+     * Return the number of columns.
+     * @return the number of columns
+     */
+    int cols();
+
+    /**
+     * Return the SI value of an entry, based on its row-major index. For a vector, the row-major index is the index of the
+     * entry in the vector.
+     * @param index the row-major index, starting at 0
+     * @return the SI value of the entry
+     * @throws IndexOutOfBoundsException when the index is out of bounds
+     */
+    double si(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Return the value of an entry as a quantity with the display unit, based on its row-major index.
+     * @param index the row-major index, starting at 0
+     * @return the value of the entry as a quantity
+     * @throws IndexOutOfBoundsException when the index is out of bounds
+     */
+    default Q get(final int index) throws IndexOutOfBoundsException
+    {
+        return getDisplayUnit().ofSi(si(index), getDisplayUnit());
+    }
+
+    /**
+     * Return a row-major array of SI-values for this vector or matrix. This is guaranteed to be a safe copy.
+     * @return the row-major array of SI-values (safe copy)
+     */
+    double[] getSiArray();
+
+    /**
+     * Return a row-major possibly UNSAFE array of SI-values for this vector or matrix. The method might give access to the
+     * underlying data structure, so treat the data carefully.
+     * @return the row-major array of SI-values (possibly not a copy)
+     */
+    double[] unsafeSiArray();
+
+    /**
+     * Return the mean value of the entries of the vector or matrix.
+     * @return the mean value of the entries of the vector or matrix
+     */
+    default Q mean()
+    {
+        double[] siArray = unsafeSiArray();
+        return getDisplayUnit().ofSi(Math2.sum(siArray) / siArray.length, getDisplayUnit());
+    }
+
+    /**
+     * Return the minimum value of the entries of the vector or matrix.
+     * @return the minimum value of the entries of the vector or matrix
+     */
+    default Q min()
+    {
+        return getDisplayUnit().ofSi(Math2.min(unsafeSiArray()), getDisplayUnit());
+    }
+
+    /**
+     * Return the maximum value of the entries of the vector or matrix.
+     * @return the maximum value of the entries of the vector or matrix
+     */
+    default Q max()
+    {
+        return getDisplayUnit().ofSi(Math2.max(unsafeSiArray()), getDisplayUnit());
+    }
+
+    /**
+     * Return the median value of the entries of the vector or matrix.
+     * @return the median value of the entries of the vector or matrix
+     */
+    default Q median()
+    {
+        return getDisplayUnit().ofSi(Math2.median(unsafeSiArray()), getDisplayUnit());
+    }
+
+    /**
+     * Return the sum of the values of the entries of the vector or matrix.
+     * @return the sum of the values of the entries of the vector or matrix
+     */
+    default Q sum()
+    {
+        return getDisplayUnit().ofSi(Math2.sum(unsafeSiArray()), getDisplayUnit());
+    }
+
+    /**
+     * Return the number of non-zero entries in the vector or matrix. Note that NaN and Infinity count as a non-zero element.
+     * The value -0.0 counts as 0.0.
+     * @return the number of non-zero entries in the vector or matrix
+     */
+    default int nonZeroCount()
+    {
+        return ArrayMath.nnz(unsafeSiArray());
+    }
+
+    /**
+     * Return the number of non-zero entries in the vector or matrix. Note that NaN and Infinity count as a non-zero element.
+     * The value -0.0 counts as 0.0. The acronym 'nnz' stands for 'number of non-zero entries'.
+     * @return the number of non-zero entries in the vector or matrix
+     */
+    default int nnz()
+    {
+        return nonZeroCount();
+    }
+
+    /**
+     * Check a row-major index against the number of entries of a vector or matrix.
+     * @param index the row-major index, starting at 0
+     * @param size the number of entries
+     * @throws IndexOutOfBoundsException when the index is out of bounds
+     */
+    static void checkIndex(final int index, final int size)
+    {
+        Throw.when(index < 0 || index >= size, IndexOutOfBoundsException.class, "index %d out of bounds for size %d", index,
+                size);
+    }
+
+}
@@ -7,7 +7,6 @@ import java.util.List;
 import org.djunits.quantity.SIQuantity;
 import org.djunits.quantity.def.Quantity;
 import org.djunits.unit.UnitInterface;
-import org.djunits.unit.si.SIUnit;
 import org.djunits.util.Math2;
 import org.djunits.util.MatrixMath;
 import org.djunits.vecmat.NonInvertibleMatrixException;
@@ -81,14 +80,7 @@ public abstract class SquareMatrix<Q extends Quantity<Q>, M extends SquareMatrix
      */
     public SIQuantity determinant()
     {
-        SIUnit siu = getDisplayUnit().siUnit();
-        int[] newDim = new int[SIUnit.NUMBER_DIMENSIONS];
-        for (int i = 0; i < SIUnit.NUMBER_DIMENSIONS; i++)
-        {
-            newDim[i] = order() * (int) siu.siDimensions()[i];
-        }
-        SIUnit detSIUnit = new SIUnit(newDim);
-        return new SIQuantity(determinantSi(), detSIUnit);
+        return new SIQuantity(determinantSi(), getDisplayUnit().siUnit().pow(order()));
     }
 
     /**
@@ -45,6 +45,19 @@ public abstract class Table<Q extends Quantity<Q>, T extends Table<Q, T, SI, H,
      */
     public abstract double si(int row, int col) throws IndexOutOfBoundsException;
 
+    /**
+     * Return the si-value at a 0-based row-major index, i.e., the value at position (index / cols(), index % cols()).
+     * @param index the row-major index (0-based)
+     * @return the si-value at the row-major index
+     * @throws IndexOutOfBoundsException when index &lt; 0 or larger than rows() * cols() - 1
+     */
+    @Override
+    public double si(final int index) throws IndexOutOfBoundsException
+    {
+        ReadableVectorMatrix.checkIndex(index, rows() * cols());
+        return si(index / cols(), index % cols());
+    }
+
     /**
      * Return the si-value at position (row, col), where both row and col are 1-based values.
      * @param mRow the row (1-based)
@@ -1,5 +1,6 @@
 package org.djunits.vecmat.def;
 
+import java.io.IOException;
 import java.util.Iterator;
 
 import org.djunits.formatter.VectorFormat;
@@ -132,7 +133,7 @@ public abstract class Vector<Q extends Quantity<Q>, V extends Vector<Q, V, SI, H
         @Override
         default String format()
         {
-            return format(VectorFormat.Col.instance());
+            return format(VectorFormat.Col.defaults());
         }
 
         /**
@@ -145,6 +146,31 @@ public abstract class Vector<Q extends Quantity<Q>, V extends Vector<Q, V, SI, H
             return VectorFormatter.format((Vector<?, ?, ?, ?, ?>) this, format);
         }
 
+        /**
+         * Append the representation of this vector after applying the format to a string builder, without creating intermediate
+         * strings.
+         * @param s the string builder to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the string builder, to allow chaining
+         */
+        default StringBuilder formatTo(final StringBuilder s, final VectorFormat<?> format)
+        {
+            return VectorFormatter.formatTo(s, (Vector<?, ?, ?, ?, ?>) this, format);
+        }
+
+        /**
+         * Append the representation of this vector after applying the format to an appendable, such as a Writer.
+         * @param appendable the appendable to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the appendable, to allow chaining
+         * @param <A> the type of appendable
+         * @throws IOException when appending to the appendable fails
+         */
+        default <A extends Appendable> A formatTo(final A appendable, final VectorFormat<?> format) throws IOException
+        {
+            return VectorFormatter.formatTo(appendable, (Vector<?, ?, ?, ?, ?>) this, format);
+        }
+
         /**
          * String representation of this vector, expressed in the specified unit.
          * @param targetUnit the unit into which the values of the vector are converted for display
@@ -171,7 +197,7 @@ public abstract class Vector<Q extends Quantity<Q>, V extends Vector<Q, V, SI, H
         @Override
         default String format()
         {
-            return format(VectorFormat.Row.instance());
+            return format(VectorFormat.Row.defaults());
         }
 
         /**
@@ -184,6 +210,31 @@ public abstract class Vector<Q extends Quantity<Q>, V extends Vector<Q, V, SI, H
             return VectorFormatter.format((Vector<?, ?, ?, ?, ?>) this, format);
         }
 
+        /**
+         * Append the representation of this vector after applying the format to a string builder, without creating intermediate
+         * strings.
+         * @param s the string builder to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the string builder, to allow chaining
+         */
+        default StringBuilder formatTo(final StringBuilder s, final VectorFormat<?> format)
+        {
+            return VectorFormatter.formatTo(s, (Vector<?, ?, ?, ?, ?>) this, format);
+        }
+
+        /**
+         * Append the representation of this vector after applying the format to an appendable, such as a Writer.
+         * @param appendable the appendable to append the formatted vector to
+         * @param format the format to apply for the vector
+         * @return the appendable, to allow chaining
+         * @param <A> the type of appendable
+         * @throws IOException when appending to the appendable fails
+         */
+        default <A extends Appendable> A formatTo(final A appendable, final VectorFormat<?> format) throws IOException
+        {
+            return VectorFormatter.formatTo(appendable, (Vector<?, ?, ?, ?, ?>) this, format);
+        }
+
         /**
          * String representation of this vector, expressed in the specified unit.
          * @param targetUnit the unit into which the values of the vector are converted for display
@@ -6,7 +6,6 @@ import org.djunits.quantity.def.Quantity;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.si.SIUnit;
 import org.djunits.util.ArrayMath;
-import org.djunits.util.Math2;
 import org.djunits.value.Additive;
 import org.djunits.value.Scalable;
 import org.djunits.value.Value;
@@ -20,6 +19,7 @@ import org.djunits.vecmat.dn.MatrixNxN;
 import org.djunits.vecmat.dn.VectorN;
 import org.djunits.vecmat.dnxm.MatrixNxM;
 import org.djunits.vecmat.operations.Hadamard;
+import org.djunits.vecmat.storage.DataGridSi;
 import org.djunits.vecmat.storage.DenseDoubleDataSi;
 import org.djunits.vecmat.table.QuantityTable;
 import org.djutils.exceptions.Throw;
@@ -39,7 +39,8 @@ import org.djutils.exceptions.Throw;
  */
 public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatrix<Q, VM, SI, H, VMT>,
         SI extends VectorMatrix<SIQuantity, SI, ?, ?, ?>, H extends VectorMatrix<?, ?, ?, ?, ?>,
-        VMT extends VectorMatrix<Q, VMT, ?, ?, VM>> implements Value<Q>, Scalable<VM>, Additive<VM>, Hadamard<H, SI>
+        VMT extends VectorMatrix<Q, VMT, ?, ?, VM>>
+        implements Value<Q>, ReadableVectorMatrix<Q>, Scalable<VM>, Additive<VM>, Hadamard<H, SI>
 {
     /** */
     private static final long serialVersionUID = 600L;
@@ -63,18 +64,6 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
         return this.displayUnit;
     }
 
-    /**
-     * Return the number of rows.
-     * @return the number of rows
-     */
-    public abstract int rows();
-
-    /**
-     * Return the number of columns.
-     * @return the number of columns
-     */
-    public abstract int cols();
-
     /**
      * Return a new vector or matrix with the given SI or BASE values.
      * @param siNew the values for the new vector or matrix in row-major format
@@ -93,17 +82,40 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
     public abstract SI instantiateSi(double[] siNew, SIUnit siUnit);
 
     /**
-     * Return a row-major array of SI-values for this matrix or vector. This is guaranteed to be a safe copy.
-     * @return the row-major array of SI-values (safe copy)
+     * Return the data grid with the SI values of this vector or matrix, or null when the values are not stored in a data grid.
+     * When both operands have a data grid, the element-wise operations and reductions are carried out by the data grid, so
+     * sparse data is not expanded to a dense array.
+     * @return the data grid with the SI values, or null when the values are not stored in a data grid
+     */
+    protected DataGridSi<?> dataGrid()
+    {
+        return null;
+    }
+
+    /**
+     * Return a new vector or matrix with the given data grid. The default implementation copies the SI values of the data grid
+     * into a new vector or matrix with {@link #instantiateSi(double[], UnitInterface)}.
+     * @param gridSi the data grid with the SI values for the new vector or matrix
+     * @param displayUnit the display unit to use for the vector or matrix
+     * @return a new vector or matrix with the given data grid
      */
-    public abstract double[] getSiArray();
+    @SuppressWarnings("checkstyle:hiddenfield")
+    protected VM instantiateGrid(final DataGridSi<?> gridSi, final UnitInterface<Q> displayUnit)
+    {
+        return instantiateSi(gridSi.unsafeSiArray(), displayUnit);
+    }
 
     /**
-     * Return a row-major possibly UNSAFE array of SI-values for this matrix or vector. The method might give access to the
-     * underlying data structure, so treat the data carefully.
-     * @return the row-major array of SI-values (safe copy)
+     * Return a new vector or matrix in SI-units with the given data grid. The default implementation copies the SI values of
+     * the data grid into a new vector or matrix with {@link #instantiateSi(double[], SIUnit)}.
+     * @param gridSi the data grid with the SI values for the new vector or matrix
+     * @param siUnit the new unit for the new vector or matrix
+     * @return a new vector or matrix with the given data grid
      */
-    public abstract double[] unsafeSiArray();
+    protected SI instantiateGrid(final DataGridSi<?> gridSi, final SIUnit siUnit)
+    {
+        return instantiateSi(gridSi.unsafeSiArray(), siUnit);
+    }
 
     /**
      * Return a transposed vector or matrix, where rows and columns have been swapped.
@@ -117,50 +129,44 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
         return getDisplayUnit().ofSi(0.0).isRelative();
     }
 
-    /**
-     * Return the mean value of the entries of the vector or matrix.
-     * @return the mean value of the entries of the vector or matrix
-     */
+    @Override
     public Q mean()
     {
-        double[] siArray = unsafeSiArray();
-        return getDisplayUnit().ofSi(Math2.sum(siArray) / siArray.length, getDisplayUnit());
+        if (dataGrid() != null)
+        {
+            return getDisplayUnit().ofSi(dataGrid().sum() / (rows() * cols()), getDisplayUnit());
+        }
+        return ReadableVectorMatrix.super.mean();
     }
 
-    /**
-     * Return the minimum value of the entries of the vector or matrix.
-     * @return the minimum value of the entries of the vector or matrix
-     */
+    @Override
     public Q min()
     {
-        return getDisplayUnit().ofSi(Math2.min(unsafeSiArray()), getDisplayUnit());
+        if (dataGrid() != null)
+        {
+            return getDisplayUnit().ofSi(dataGrid().min(), getDisplayUnit());
+        }
+        return ReadableVectorMatrix.super.min();
     }
 
-    /**
-     * Return the maximum value of the entries of the vector or matrix.
-     * @return the maximum value of the entries of the vector or matrix
-     */
+    @Override
     public Q max()
     {
-        return getDisplayUnit().ofSi(Math2.max(unsafeSiArray()), getDisplayUnit());
+        if (dataGrid() != null)
+        {
+            return getDisplayUnit().ofSi(dataGrid().max(), getDisplayUnit());
+        }
+        return ReadableVectorMatrix.super.max();
     }
 
-    /**
-     * Return the median value of the entries of the vector or matrix.
-     * @return the median value of the entries of the vector or matrix
-     */
-    public Q median()
-    {
-        return getDisplayUnit().ofSi(Math2.median(unsafeSiArray()), getDisplayUnit());
-    }
-
-    /**
-     * Return the sum of the values of the entries of the vector or matrix.
-     * @return the sum of the values of the entries of the vector or matrix
-     */
+    @Override
     public Q sum()
     {
-        return getDisplayUnit().ofSi(Math2.sum(unsafeSiArray()), getDisplayUnit());
+        if (dataGrid() != null)
+        {
+            return getDisplayUnit().ofSi(dataGrid().sum(), getDisplayUnit());
+        }
+        return ReadableVectorMatrix.super.sum();
     }
 
     /**
@@ -186,12 +192,20 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
     @Override
     public VM add(final VM other)
     {
+        if (dataGrid() != null && other.dataGrid() != null)
+        {
+            return instantiateGrid(dataGrid().add(other.dataGrid()), getDisplayUnit());
+        }
         return instantiateSi(ArrayMath.add(unsafeSiArray(), other.unsafeSiArray()), getDisplayUnit());
     }
 
     @Override
     public VM subtract(final VM other)
     {
+        if (dataGrid() != null && other.dataGrid() != null)
+        {
+            return instantiateGrid(dataGrid().subtract(other.dataGrid()), getDisplayUnit());
+        }
         return instantiateSi(ArrayMath.subtract(unsafeSiArray(), other.unsafeSiArray()), getDisplayUnit());
     }
 
@@ -204,32 +218,23 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
     @Override
     public VM abs()
     {
+        if (dataGrid() != null)
+        {
+            return instantiateGrid(dataGrid().abs(), getDisplayUnit());
+        }
         return instantiateSi(ArrayMath.abs(unsafeSiArray()), getDisplayUnit());
     }
 
     @Override
     public VM scaleBy(final double factor)
     {
+        if (dataGrid() != null)
+        {
+            return instantiateGrid(dataGrid().scaleBy(factor), getDisplayUnit());
+        }
         return instantiateSi(ArrayMath.scaleBy(unsafeSiArray(), factor), getDisplayUnit());
     }
 
-    /**
-     * Return the number of non-zero entries in the vector, matrix or table. Note that NaN and Infinity count as a non-zero
-     * element. The value -0.0 counts as 0.0.
-     * @return the number of non-zero entries in the vector, matrix or table
-     */
-    public abstract int nonZeroCount();
-
-    /**
-     * Return the number of non-zero entries in the vector, matrix or table. Note that NaN and Infinity count as a non-zero
-     * element. The value -0.0 counts as 0.0. the acronym 'nnz' stands for 'number of non-zero entries'.
-     * @return the number of non-zero entries in the vector, matrix or table
-     */
-    public int nnz()
-    {
-        return nonZeroCount();
-    }
-
     /**
      * Multiply the entries of this vector, matrix or table by the given quantity. This is actually a Hadamard operation, but
      * since it is equivalent to a scaleBy operation, it is included in this interface.
@@ -261,8 +266,12 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
     @Override
     public SI multiplyEntries(final H other)
     {
-        return (SI) instantiateSi(ArrayMath.multiply(unsafeSiArray(), other.unsafeSiArray()),
-                getDisplayUnit().siUnit().plus(other.getDisplayUnit().siUnit()));
+        SIUnit siUnit = getDisplayUnit().siUnit().plus(other.getDisplayUnit().siUnit());
+        if (dataGrid() != null && other.dataGrid() != null)
+        {
+            return instantiateGrid(dataGrid().multiplyEntries(other.dataGrid()), siUnit);
+        }
+        return (SI) instantiateSi(ArrayMath.multiply(unsafeSiArray(), other.unsafeSiArray()), siUnit);
     }
 
     @Override
@@ -275,8 +284,12 @@ public abstract class VectorMatrix<Q extends Quantity<Q>, VM extends VectorMatri
     @Override
     public SI multiplyEntries(final Quantity<?> quantity)
     {
-        return (SI) instantiateSi(ArrayMath.scaleBy(unsafeSiArray(), quantity.si()),
-                getDisplayUnit().siUnit().plus(quantity.getDisplayUnit().siUnit()));
+        SIUnit siUnit = getDisplayUnit().siUnit().plus(quantity.getDisplayUnit().siUnit());
+        if (dataGrid() != null)
+        {
+            return instantiateGrid(dataGrid().scaleBy(quantity.si()), siUnit);
+        }
+        return (SI) instantiateSi(ArrayMath.scaleBy(unsafeSiArray(), quantity.si()), siUnit);
     }
 
     // ------------------------------------ AS() METHODS ------------------------------------
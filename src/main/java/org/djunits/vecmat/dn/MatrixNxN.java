@@ -15,6 +15,7 @@ import org.djunits.vecmat.d3.Matrix3x3;
 import org.djunits.vecmat.def.SquareMatrix;
 import org.djunits.vecmat.storage.DataGridSi;
 import org.djunits.vecmat.storage.DenseDoubleDataSi;
+import org.djunits.vecmat.storage.SparseMatrixMath;
 import org.djutils.exceptions.Throw;
 
 /**
@@ -107,6 +108,24 @@ public class MatrixNxN<Q extends Quantity<Q>> extends SquareMatrix<Q, MatrixNxN<
         return new MatrixNxN<SIQuantity>(this.dataGridSi.instantiateNew(siNew), siUnit);
     }
 
+    @Override
+    protected DataGridSi<?> dataGrid()
+    {
+        return this.dataGridSi;
+    }
+
+    @Override
+    protected MatrixNxN<Q> instantiateGrid(final DataGridSi<?> gridSi, final UnitInterface<Q> displayUnit)
+    {
+        return new MatrixNxN<Q>(gridSi, displayUnit);
+    }
+
+    @Override
+    protected MatrixNxN<SIQuantity> instantiateGrid(final DataGridSi<?> gridSi, final SIUnit siUnit)
+    {
+        return new MatrixNxN<SIQuantity>(gridSi, siUnit);
+    }
+
     @Override
     public VectorN.Row<Q> getRowVector(final int row)
     {
@@ -187,8 +206,7 @@ public class MatrixNxN<Q extends Quantity<Q>> extends SquareMatrix<Q, MatrixNxN<
     public MatrixNxN<SIQuantity> multiplyEntries(final MatrixNxN<?> other)
     {
         SIUnit siUnit = SIUnit.add(getDisplayUnit().siUnit(), other.getDisplayUnit().siUnit());
-        return new MatrixNxN<SIQuantity>(
-                this.dataGridSi.instantiateNew(ArrayMath.multiply(unsafeSiArray(), other.unsafeSiArray())), siUnit);
+        return new MatrixNxN<SIQuantity>(this.dataGridSi.multiplyEntries(other.dataGridSi), siUnit);
     }
 
     @Override
@@ -203,8 +221,7 @@ public class MatrixNxN<Q extends Quantity<Q>> extends SquareMatrix<Q, MatrixNxN<
     public MatrixNxN<SIQuantity> multiplyEntries(final Quantity<?> quantity)
     {
         SIUnit siUnit = SIUnit.add(getDisplayUnit().siUnit(), quantity.getDisplayUnit().siUnit());
-        return new MatrixNxN<SIQuantity>(this.dataGridSi.instantiateNew(ArrayMath.scaleBy(unsafeSiArray(), quantity.si())),
-                siUnit);
+        return new MatrixNxN<SIQuantity>(this.dataGridSi.scaleBy(quantity.si()), siUnit);
     }
 
     @Override
@@ -234,12 +251,21 @@ public class MatrixNxN<Q extends Quantity<Q>> extends SquareMatrix<Q, MatrixNxN<
      * <p>
      * The unit of the result is the SI-unit “sum” of this matrix and the other matrix (i.e., {@code U.plus(V)} on the
      * underlying {@link SIUnit}s).
+     * <p>
+     * When one of the operands has sparse storage, the product only visits the stored values, and when both operands have
+     * float storage, the product is calculated on the float arrays; see {@link SparseMatrixMath}.
      * @param otherMat the right-hand matrix to multiply with
      * @return the product matrix with the correct SI unit
      */
     public MatrixNxN<SIQuantity> multiply(final MatrixNxN<?> otherMat)
     {
         checkMultiply(otherMat);
+        if (this.dataGridSi.isSparse() || otherMat.getDataGrid().isSparse()
+                || this.dataGridSi.isFloat() && otherMat.getDataGrid().isFloat())
+        {
+            return new MatrixNxN<SIQuantity>(SparseMatrixMath.multiply(this.dataGridSi, otherMat.getDataGrid()),
+                    getDisplayUnit().siUnit().plus(otherMat.getDisplayUnit().siUnit()));
+        }
         final int n = order();
         final double[] resultData = MatrixMath.multiply(unsafeSiArray(), otherMat.unsafeSiArray(), n, n, n);
         final SIUnit resultUnit = getDisplayUnit().siUnit().plus(otherMat.getDisplayUnit().siUnit());
@@ -251,6 +277,9 @@ public class MatrixNxN<Q extends Quantity<Q>> extends SquareMatrix<Q, MatrixNxN<
      * <p>
      * The unit of the result is the SI-unit “sum” of this matrix and the vector (i.e., {@code U.plus(V)} on the underlying
      * {@link SIUnit}s).
+     * <p>
+     * When one of the operands has sparse storage, the product only visits the stored values, and when both operands have
+     * float storage, the product is calculated on the float arrays; see {@link SparseMatrixMath}.
      * @param otherVec the column vector to multiply with (size {@code N})
      * @return the resulting column vector from the multiplication
      * @throws IllegalArgumentException if the vector size does not equal {@code order()}
@@ -258,6 +287,12 @@ public class MatrixNxN<Q extends Quantity<Q>> extends SquareMatrix<Q, MatrixNxN<
     public VectorN.Col<SIQuantity> multiply(final VectorN.Col<?> otherVec)
     {
         checkMultiply(otherVec);
+        if (this.dataGridSi.isSparse() || otherVec.getDataGrid().isSparse()
+                || this.dataGridSi.isFloat() && otherVec.getDataGrid().isFloat())
+        {
+            return new VectorN.Col<SIQuantity>(SparseMatrixMath.multiply(this.dataGridSi, otherVec.getDataGrid()),
+                    getDisplayUnit().siUnit().plus(otherVec.getDisplayUnit().siUnit()));
+        }
         final int n = order();
         final double[] resultData = MatrixMath.multiply(unsafeSiArray(), otherVec.unsafeSiArray(), n, n, 1);
         final SIUnit resultUnit = getDisplayUnit().siUnit().plus(otherVec.getDisplayUnit().siUnit());
@@ -0,0 +1,172 @@
+package org.djunits.vecmat.dn;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.util.MatrixMath;
+import org.djunits.vecmat.d3.MutableVector3;
+import org.djunits.vecmat.def.MutableSquareMatrix;
+import org.djunits.vecmat.storage.DenseDoubleDataSi;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableMatrixNxN implements a square matrix with NxN real-valued entries that can be changed in place. The values are stored
+ * densely in a row-major double array. Besides the element-wise in-place operations, the matrix can multiply another matrix or
+ * a vector into a caller-provided target, without allocating a new array. The method {@link #freeze()} returns an immutable
+ * {@link MatrixNxN} that shares the array until the next change of this matrix.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class MutableMatrixNxN<Q extends Quantity<Q>> extends MutableSquareMatrix<Q, MutableMatrixNxN<Q>, MatrixNxN<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /**
+     * Create a new MutableMatrixNxN that uses the given row-major array for its SI values. The array is NOT copied.
+     * @param dataSi the SI values in row-major order
+     * @param displayUnit the display unit to use
+     * @throws IllegalArgumentException when dataSi does not contain a square number of values, or is empty
+     */
+    protected MutableMatrixNxN(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        super(dataSi, displayUnit, MatrixNxN.checkSquare(dataSi.length));
+        Throw.when(dataSi.length == 0, IllegalArgumentException.class, "dataSi.length = 0");
+    }
+
+    /**
+     * Create a new MutableMatrixNxN with a copy of the given row-major SI values.
+     * @param dataSi the matrix values {a11, a12, 13, ..., aN1, aN2, ..., aNN} as an array using SI units
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableMatrixNxN with the given values
+     * @throws IllegalArgumentException when dataSi does not contain a square number of values, or is empty
+     */
+    public static <Q extends Quantity<Q>> MutableMatrixNxN<Q> ofSi(final double[] dataSi,
+            final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        return new MutableMatrixNxN<>(dataSi.clone(), displayUnit);
+    }
+
+    /**
+     * Create a new MutableMatrixNxN with row-major values expressed in a unit.
+     * @param dataInUnit the matrix values {a11, a12, 13, ..., aN1, aN2, ..., aNN} expressed in the unit
+     * @param unit the unit of the values, also used as the display unit
+     * @param <Q> the quantity type
+     * @return a new MutableMatrixNxN with the given values
+     * @throws IllegalArgumentException when dataInUnit does not contain a square number of values, or is empty
+     */
+    public static <Q extends Quantity<Q>> MutableMatrixNxN<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(dataInUnit, "dataInUnit");
+        Throw.whenNull(unit, "unit");
+        double[] dataSi = new double[dataInUnit.length];
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
+        return new MutableMatrixNxN<>(dataSi, unit);
+    }
+
+    /**
+     * Create a new MutableMatrixNxN with the values and display unit of an immutable NxN matrix.
+     * @param matrix the matrix to copy the values and display unit from
+     * @param <Q> the quantity type
+     * @return a new MutableMatrixNxN with the values of the matrix
+     */
+    public static <Q extends Quantity<Q>> MutableMatrixNxN<Q> of(final MatrixNxN<Q> matrix)
+    {
+        Throw.whenNull(matrix, "matrix");
+        return new MutableMatrixNxN<>(matrix.getSiArray(), matrix.getDisplayUnit());
+    }
+
+    /**
+     * Create a new MutableMatrixNxN with all values zero.
+     * @param order the number of rows and columns
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableMatrixNxN with all values zero
+     * @throws IllegalArgumentException when order is not positive
+     */
+    public static <Q extends Quantity<Q>> MutableMatrixNxN<Q> zero(final int order, final UnitInterface<Q> displayUnit)
+    {
+        Throw.when(order <= 0, IllegalArgumentException.class, "order <= 0");
+        return new MutableMatrixNxN<>(new double[order * order], displayUnit);
+    }
+
+    @Override
+    public MatrixNxN<Q> freeze()
+    {
+        return new MatrixNxN<Q>(new DenseDoubleDataSi(shareSiArray(), order(), order()), getDisplayUnit());
+    }
+
+    /**
+     * Multiply this matrix with another matrix, and store the product in the target matrix. The SI unit of the target has to
+     * be the SI-unit “sum” of this matrix and the other matrix (i.e., {@code U.plus(V)} on the underlying {@link SIUnit}s).
+     * The target cannot be this matrix or the other matrix.
+     * @param other the right-hand matrix to multiply with
+     * @param target the matrix to store the product in
+     * @param <T> the target matrix type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the orders of the matrices differ, when the SI unit of the target does not match,
+     *             or when the target is this matrix or the other matrix
+     */
+    public <T extends MutableMatrixNxN<?>> T multiplyInto(final MutableMatrixNxN<?> other, final T target)
+    {
+        return multiplyMatrixInto(other, target);
+    }
+
+    /**
+     * Multiply this matrix with a column vector, and store the product in the target vector. The SI unit of the target has to
+     * be the SI-unit “sum” of this matrix and the vector. The target cannot be the same vector as the vector to multiply with.
+     * @param vector the column vector to multiply with (size {@code N})
+     * @param target the vector to store the product in (size {@code N})
+     * @param <T> the target vector type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the sizes of the vectors do not equal the order, when the SI unit of the target
+     *             does not match, or when the target is the same vector as the vector to multiply with
+     */
+    public <T extends MutableVectorN<?>> T multiplyInto(final MutableVectorN<?> vector, final T target)
+    {
+        Throw.whenNull(vector, "vector");
+        Throw.whenNull(target, "target");
+        Throw.when(vector.size() != order() || target.size() != order(), IllegalArgumentException.class,
+                "vector size (%d) or target size (%d) != order (%d)", vector.size(), target.size(), order());
+        Throw.when(target == vector, IllegalArgumentException.class, "target of multiplyInto cannot be the vector");
+        checkProductUnit(getDisplayUnit().siUnit().plus(vector.getDisplayUnit().siUnit()), target);
+        final int n = order();
+        MatrixMath.multiplyInto(siArrayOf(this), siArrayOf(vector), n, n, 1, target.unsafeSiArray());
+        return target;
+    }
+
+    /**
+     * Multiply this 3x3 matrix with a 3-vector, and store the product in the target vector. The SI unit of the target has to be
+     * the SI-unit “sum” of this matrix and the vector. The target can be the same vector as the vector to multiply with.
+     * @param vector the column vector to multiply with
+     * @param target the vector to store the product in
+     * @param <T> the target vector type
+     * @return the target for method chaining
+     * @throws IllegalArgumentException when the order of this matrix is not 3, or when the SI unit of the target does not
+     *             match
+     */
+    public <T extends MutableVector3<?>> T multiplyInto(final MutableVector3<?> vector, final T target)
+    {
+        Throw.whenNull(vector, "vector");
+        Throw.whenNull(target, "target");
+        Throw.when(order() != 3, IllegalArgumentException.class, "multiplyInto(MutableVector3) for matrix of order %d",
+                order());
+        checkProductUnit(getDisplayUnit().siUnit().plus(vector.getDisplayUnit().siUnit()), target);
+        double[] m = siArrayOf(this);
+        double x = vector.xSi();
+        double y = vector.ySi();
+        double z = vector.zSi();
+        double[] t = target.unsafeSiArray();
+        t[0] = m[0] * x + m[1] * y + m[2] * z;
+        t[1] = m[3] * x + m[4] * y + m[5] * z;
+        t[2] = m[6] * x + m[7] * y + m[8] * z;
+        return target;
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.djunits.vecmat.dn;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.util.Math2;
+import org.djunits.vecmat.def.MutableVectorMatrix;
+import org.djunits.vecmat.storage.DenseDoubleDataSi;
+import org.djutils.exceptions.Throw;
+
+/**
+ * MutableVectorN implements a column vector with N real-valued entries that can be changed in place. The values are stored
+ * densely in a double array. The method {@link #freeze()} returns an immutable {@link VectorN.Col} that shares the array until
+ * the next change of this vector.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <Q> the quantity type
+ */
+public class MutableVectorN<Q extends Quantity<Q>> extends MutableVectorMatrix<Q, MutableVectorN<Q>, VectorN.Col<Q>>
+{
+    /** */
+    private static final long serialVersionUID = 600L;
+
+    /**
+     * Create a new MutableVectorN that uses the given array for its SI values. The array is NOT copied.
+     * @param dataSi the SI values
+     * @param displayUnit the display unit to use
+     * @throws IllegalArgumentException when dataSi is empty
+     */
+    protected MutableVectorN(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        super(dataSi, displayUnit);
+        Throw.when(dataSi.length == 0, IllegalArgumentException.class, "dataSi.length = 0");
+    }
+
+    /**
+     * Create a new MutableVectorN with a copy of the given SI values.
+     * @param dataSi the SI values
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableVectorN with the given values
+     * @throws IllegalArgumentException when dataSi is empty
+     */
+    public static <Q extends Quantity<Q>> MutableVectorN<Q> ofSi(final double[] dataSi, final UnitInterface<Q> displayUnit)
+    {
+        Throw.whenNull(dataSi, "dataSi");
+        return new MutableVectorN<>(dataSi.clone(), displayUnit);
+    }
+
+    /**
+     * Create a new MutableVectorN with values expressed in a unit.
+     * @param dataInUnit the values expressed in the unit
+     * @param unit the unit of the values, also used as the display unit
+     * @param <Q> the quantity type
+     * @return a new MutableVectorN with the given values
+     * @throws IllegalArgumentException when dataInUnit is empty
+     */
+    public static <Q extends Quantity<Q>> MutableVectorN<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
+    {
+        Throw.whenNull(dataInUnit, "dataInUnit");
+        Throw.whenNull(unit, "unit");
+        double[] dataSi = new double[dataInUnit.length];
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
+        return new MutableVectorN<>(dataSi, unit);
+    }
+
+    /**
+     * Create a new MutableVectorN with the values and display unit of an immutable N-vector.
+     * @param vector the vector to copy the values and display unit from
+     * @param <Q> the quantity type
+     * @return a new MutableVectorN with the values of the vector
+     */
+    public static <Q extends Quantity<Q>> MutableVectorN<Q> of(final VectorN<Q, ?, ?, ?, ?> vector)
+    {
+        Throw.whenNull(vector, "vector");
+        return new MutableVectorN<>(vector.getSiArray(), vector.getDisplayUnit());
+    }
+
+    /**
+     * Create a new MutableVectorN with all values zero.
+     * @param size the number of entries
+     * @param displayUnit the display unit to use
+     * @param <Q> the quantity type
+     * @return a new MutableVectorN with all values zero
+     * @throws IllegalArgumentException when size is not positive
+     */
+    public static <Q extends Quantity<Q>> MutableVectorN<Q> zero(final int size, final UnitInterface<Q> displayUnit)
+    {
+        Throw.when(size <= 0, IllegalArgumentException.class, "size <= 0");
+        return new MutableVectorN<>(new double[size], displayUnit);
+    }
+
+    @Override
+    public int rows()
+    {
+        return size();
+    }
+
+    @Override
+    public int cols()
+    {
+        return 1;
+    }
+
+    @Override
+    public VectorN.Col<Q> freeze()
+    {
+        return new VectorN.Col<Q>(new DenseDoubleDataSi(shareSiArray(), size(), 1), getDisplayUnit());
+    }
+
+    /**
+     * Return the Euclidean (L2) norm of the vector as a quantity with the display unit.
+     * @return the Euclidean norm of the vector
+     */
+    public Q normL2()
+    {
+        return getDisplayUnit().ofSi(Math.sqrt(Math2.sumSqr(siArrayOf(this))), getDisplayUnit());
+    }
+
+}
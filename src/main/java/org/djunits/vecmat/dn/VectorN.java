@@ -53,6 +53,21 @@ public abstract class VectorN<Q extends Quantity<Q>, V extends VectorN<Q, V, SI,
         this.dataSi = dataSi;
     }
 
+    @Override
+    protected DataGridSi<?> dataGrid()
+    {
+        return this.dataSi;
+    }
+
+    /**
+     * Return the internal datagrid object, so we can retrieve data from it.
+     * @return the internal datagrid object
+     */
+    public DataGridSi<?> getDataGrid()
+    {
+        return this.dataSi;
+    }
+
     @Override
     public Iterator<Q> iterator()
     {
@@ -214,6 +229,18 @@ public abstract class VectorN<Q extends Quantity<Q>, V extends VectorN<Q, V, SI,
             return new VectorN.Col<SIQuantity>(this.dataSi.instantiateNew(siNew), siUnit);
         }
 
+        @Override
+        protected VectorN.Col<Q> instantiateGrid(final DataGridSi<?> gridSi, final UnitInterface<Q> displayUnit)
+        {
+            return new VectorN.Col<Q>(gridSi, displayUnit);
+        }
+
+        @Override
+        protected VectorN.Col<SIQuantity> instantiateGrid(final DataGridSi<?> gridSi, final SIUnit siUnit)
+        {
+            return new VectorN.Col<SIQuantity>(gridSi, siUnit);
+        }
+
         @Override
         public boolean isColumnVector()
         {
@@ -282,10 +309,7 @@ public abstract class VectorN<Q extends Quantity<Q>, V extends VectorN<Q, V, SI,
         public static <Q extends Quantity<Q>> VectorN.Col<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
         {
             double[] dataSi = new double[dataInUnit.length];
-            for (int i = 0; i < dataInUnit.length; i++)
-            {
-                dataSi[i] = unit.toBaseValue(dataInUnit[i]);
-            }
+            unit.getScale().toIdentityScale(dataInUnit, dataSi);
             return ofSi(dataSi, unit);
         }
 
@@ -422,6 +446,18 @@ public abstract class VectorN<Q extends Quantity<Q>, V extends VectorN<Q, V, SI,
             return new VectorN.Row<SIQuantity>(this.dataSi.instantiateNew(siNew), siUnit);
         }
 
+        @Override
+        protected VectorN.Row<Q> instantiateGrid(final DataGridSi<?> gridSi, final UnitInterface<Q> displayUnit)
+        {
+            return new VectorN.Row<Q>(gridSi, displayUnit);
+        }
+
+        @Override
+        protected VectorN.Row<SIQuantity> instantiateGrid(final DataGridSi<?> gridSi, final SIUnit siUnit)
+        {
+            return new VectorN.Row<SIQuantity>(gridSi, siUnit);
+        }
+
         @Override
         public int size()
         {
@@ -484,10 +520,7 @@ public abstract class VectorN<Q extends Quantity<Q>, V extends VectorN<Q, V, SI,
         public static <Q extends Quantity<Q>> VectorN.Row<Q> of(final double[] dataInUnit, final UnitInterface<Q> unit)
         {
             double[] dataSi = new double[dataInUnit.length];
-            for (int i = 0; i < dataInUnit.length; i++)
-            {
-                dataSi[i] = unit.toBaseValue(dataInUnit[i]);
-            }
+            unit.getScale().toIdentityScale(dataInUnit, dataSi);
             return ofSi(dataSi, unit);
         }
 
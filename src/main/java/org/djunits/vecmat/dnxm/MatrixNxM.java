@@ -16,9 +16,12 @@ import org.djunits.vecmat.d3.Vector3;
 import org.djunits.vecmat.def.Matrix;
 import org.djunits.vecmat.dn.MatrixNxN;
 import org.djunits.vecmat.dn.VectorN;
+import org.djunits.vecmat.storage.CscDoubleDataSi;
+import org.djunits.vecmat.storage.CsrDoubleDataSi;
 import org.djunits.vecmat.storage.DataGridSi;
 import org.djunits.vecmat.storage.DenseDoubleDataSi;
 import org.djunits.vecmat.storage.DenseFloatDataSi;
+import org.djunits.vecmat.storage.SparseMatrixMath;
 import org.djutils.exceptions.Throw;
 
 /**
@@ -64,6 +67,24 @@ public class MatrixNxM<Q extends Quantity<Q>> extends Matrix<Q, MatrixNxM<Q>, Ma
         return new MatrixNxM<SIQuantity>(this.dataGridSi.instantiateNew(siNew), siUnit);
     }
 
+    @Override
+    protected DataGridSi<?> dataGrid()
+    {
+        return this.dataGridSi;
+    }
+
+    @Override
+    protected MatrixNxM<Q> instantiateGrid(final DataGridSi<?> gridSi, final UnitInterface<Q> displayUnit)
+    {
+        return new MatrixNxM<Q>(gridSi, displayUnit);
+    }
+
+    @Override
+    protected MatrixNxM<SIQuantity> instantiateGrid(final DataGridSi<?> gridSi, final SIUnit siUnit)
+    {
+        return new MatrixNxM<SIQuantity>(gridSi, siUnit);
+    }
+
     /**
      * Return the internal datagrid object, so we can retrieve data from it.
      * @return the internal datagrid object
@@ -157,6 +178,11 @@ public class MatrixNxM<Q extends Quantity<Q>> extends Matrix<Q, MatrixNxM<Q>, Ma
     @SuppressWarnings("checkstyle:needbraces")
     public MatrixNxM<Q> transpose()
     {
+        // compressed storage is transposed by swapping the roles of the rows and columns, without moving the values
+        if (this.dataGridSi instanceof CsrDoubleDataSi csr)
+            return new MatrixNxM<Q>(csr.transpose(), getDisplayUnit());
+        if (this.dataGridSi instanceof CscDoubleDataSi csc)
+            return new MatrixNxM<Q>(csc.transpose(), getDisplayUnit());
         double[] data = unsafeSiArray();
         double[] newSi = new double[data.length];
         int rows = rows();
@@ -241,6 +267,9 @@ public class MatrixNxM<Q extends Quantity<Q>> extends Matrix<Q, MatrixNxM<Q>, Ma
     /**
      * Multiply this vector or matrix with a MatrixNxM, resulting in a MatrixNxM. The multiplication is a (NxM) x (MxP) matrix
      * multiplication resulting in an (NxP) matrix.
+     * <p>
+     * When one of the operands has sparse storage, the product only visits the stored values, and when both operands have
+     * float storage, the product is calculated on the float arrays; see {@link SparseMatrixMath}.
      * @param matrix the matrix to multiply with
      * @return a MatrixNxM of an SIQuantity as the result of the matrix multiplication
      * @throws IllegalArgumentException when the number of columns of this matrix does not equal the number of rows of the
@@ -249,8 +278,13 @@ public class MatrixNxM<Q extends Quantity<Q>> extends Matrix<Q, MatrixNxM<Q>, Ma
     public MatrixNxM<SIQuantity> multiply(final MatrixNxN<?> matrix)
     {
         checkMultiply(matrix);
-        double[] result = MatrixMath.multiply(unsafeSiArray(), matrix.unsafeSiArray(), rows(), cols(), matrix.cols());
         SIUnit siUnit = getDisplayUnit().siUnit().plus(matrix.getDisplayUnit().siUnit());
+        if (this.dataGridSi.isSparse() || matrix.getDataGrid().isSparse()
+                || this.dataGridSi.isFloat() && matrix.getDataGrid().isFloat())
+        {
+            return new MatrixNxM<SIQuantity>(SparseMatrixMath.multiply(this.dataGridSi, matrix.getDataGrid()), siUnit);
+        }
+        double[] result = MatrixMath.multiply(unsafeSiArray(), matrix.unsafeSiArray(), rows(), cols(), matrix.cols());
         if (matrix.getDataGrid().isDouble())
         {
             return new MatrixNxM<SIQuantity>(new DenseDoubleDataSi(result, rows(), matrix.cols()), siUnit);
@@ -309,6 +343,9 @@ public class MatrixNxM<Q extends Quantity<Q>> extends Matrix<Q, MatrixNxM<Q>, Ma
     /**
      * Multiply this vector or matrix with a VectorN.Col, resulting in a VectorN.Col. The multiplication is a (MxN) x (Nx1)
      * matrix multiplication resulting in an (Mx1) column vector.
+     * <p>
+     * When one of the operands has sparse storage, the product only visits the stored values, and when both operands have
+     * float storage, the product is calculated on the float arrays; see {@link SparseMatrixMath}.
      * @param vector the vector to multiply with
      * @return a VectorN.Col of an SIQuantity as the result of the matrix multiplication
      * @throws IllegalArgumentException when the number of columns of this matrix does not equal the number of rows of the
@@ -317,8 +354,13 @@ public class MatrixNxM<Q extends Quantity<Q>> extends Matrix<Q, MatrixNxM<Q>, Ma
     public VectorN.Col<SIQuantity> multiply(final VectorN.Col<?> vector)
     {
         checkMultiply(vector);
-        double[] result = MatrixMath.multiply(unsafeSiArray(), vector.unsafeSiArray(), rows(), cols(), vector.cols());
         SIUnit siUnit = getDisplayUnit().siUnit().plus(vector.getDisplayUnit().siUnit());
+        if (this.dataGridSi.isSparse() || vector.getDataGrid().isSparse()
+                || this.dataGridSi.isFloat() && vector.getDataGrid().isFloat())
+        {
+            return new VectorN.Col<SIQuantity>(SparseMatrixMath.multiply(this.dataGridSi, vector.getDataGrid()), siUnit);
+        }
+        double[] result = MatrixMath.multiply(unsafeSiArray(), vector.unsafeSiArray(), rows(), cols(), vector.cols());
         return new VectorN.Col<SIQuantity>(new DenseDoubleDataSi(result, rows(), vector.cols()), siUnit);
     }
 
@@ -0,0 +1,774 @@
+package org.djunits.vecmat.storage;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+
+import org.djunits.util.Math2;
+import org.djutils.exceptions.Throw;
+
+/**
+ * CompressedDoubleDataSi is the base class for the compressed sparse row (CSR) and compressed sparse column (CSC) storage of an
+ * N x M grid with double values. The values are grouped per row (CSR) or per column (CSC), which is called the major dimension.
+ * For major index m, the stored values are <code>values[pointers[m]]</code> up to and excluding
+ * <code>values[pointers[m + 1]]</code>, and the minor index of each value (the column for CSR, the row for CSC) is stored at
+ * the same position in the <code>indexes</code> array, in strictly increasing order per major index. Any entry that is not
+ * stored has a value of 0. Signed zeros are not kept: an entry or a result of -0.0 is not stored, and reads back as 0.0. Use
+ * {@link #equals(DataGridSi, double)} with an epsilon of 0.0 to compare with dense data that may contain -0.0.
+ * <p>
+ * A row (CSR) or column (CSC) is extracted in O(nnz in the row or column), and the element-wise operations, reductions,
+ * equality and hash code only visit the stored values. Conversion between CSR and CSC takes O(nnz + N + M).
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ * @param <D> The datagrid type
+ */
+public abstract class CompressedDoubleDataSi<D extends CompressedDoubleDataSi<D>> implements DataGridSi<D>
+{
+    /** */
+    private static final long serialVersionUID = 601L;
+
+    /** The stored values, grouped per major index. */
+    @SuppressWarnings("checkstyle:visibilitymodifier")
+    protected double[] values;
+
+    /** The minor index of each stored value, strictly increasing per major index. */
+    @SuppressWarnings("checkstyle:visibilitymodifier")
+    protected int[] indexes;
+
+    /** The position of the first stored value per major index, with a last entry that is equal to the number of values. */
+    @SuppressWarnings("checkstyle:visibilitymodifier")
+    protected int[] pointers;
+
+    /** The number of rows. */
+    private final int rows;
+
+    /** the number of columns. */
+    private final int cols;
+
+    /** Whether the rows (CSR) rather than the columns (CSC) are the major dimension. */
+    private final boolean rowMajor;
+
+    /**
+     * Instantiate a compressed data object with the given arrays. Note that NO safe copy of the data is stored.
+     * @param values the stored values, grouped per major index
+     * @param indexes the minor index of each stored value, strictly increasing per major index
+     * @param pointers the position of the first stored value per major index, followed by the number of values
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param rowMajor whether the rows (CSR) rather than the columns (CSC) are the major dimension
+     * @throws IllegalArgumentException when the number of rows or columns is not positive, when the length of the arrays does
+     *             not match, when pointers is not non-decreasing, or when the indexes are not strictly increasing per major
+     *             index
+     * @throws IndexOutOfBoundsException when one of the entries in indexes is out of bounds
+     */
+    protected CompressedDoubleDataSi(final double[] values, final int[] indexes, final int[] pointers, final int rows,
+            final int cols, final boolean rowMajor)
+    {
+        this(rows, cols, rowMajor);
+        store(values, indexes, pointers);
+    }
+
+    /**
+     * Instantiate an empty compressed data object, for which the data still has to be stored.
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param rowMajor whether the rows (CSR) rather than the columns (CSC) are the major dimension
+     * @throws IllegalArgumentException when the number of rows or columns is not positive
+     */
+    protected CompressedDoubleDataSi(final int rows, final int cols, final boolean rowMajor)
+    {
+        Throw.when(rows <= 0, IllegalArgumentException.class, "Number of rows <= 0");
+        Throw.when(cols <= 0, IllegalArgumentException.class, "Number of columns <= 0");
+        this.rows = rows;
+        this.cols = cols;
+        this.rowMajor = rowMajor;
+        this.values = new double[0];
+        this.indexes = new int[0];
+        this.pointers = new int[majorSize() + 1];
+    }
+
+    /**
+     * Check and store the compressed arrays. Note that NO safe copy of the data is stored.
+     * @param newValues the stored values, grouped per major index
+     * @param newIndexes the minor index of each stored value, strictly increasing per major index
+     * @param newPointers the position of the first stored value per major index, followed by the number of values
+     * @throws IllegalArgumentException when the length of the arrays does not match, when pointers is not non-decreasing, or
+     *             when the indexes are not strictly increasing per major index
+     * @throws IndexOutOfBoundsException when one of the entries in indexes is out of bounds
+     */
+    protected final void store(final double[] newValues, final int[] newIndexes, final int[] newPointers)
+    {
+        Throw.whenNull(newValues, "values");
+        Throw.whenNull(newIndexes, "indexes");
+        Throw.whenNull(newPointers, "pointers");
+        Throw.when(newValues.length != newIndexes.length, IllegalArgumentException.class,
+                "values array (%d) has different length from indexes array (%d)", newValues.length, newIndexes.length);
+        int majorSize = majorSize();
+        int minorSize = minorSize();
+        Throw.when(newPointers.length != majorSize + 1, IllegalArgumentException.class,
+                "pointers array length (%d) != number of %s + 1 (%d)", newPointers.length, this.rowMajor ? "rows" : "columns",
+                majorSize + 1);
+        Throw.when(newPointers[0] != 0 || newPointers[majorSize] != newValues.length, IllegalArgumentException.class,
+                "pointers array should start with 0 and end with the number of values (%d)", newValues.length);
+        for (int m = 0; m < majorSize; m++)
+        {
+            if (newPointers[m + 1] < newPointers[m])
+            {
+                throw new IllegalArgumentException(
+                        "pointers[] must be non-decreasing, found " + newPointers[m] + " then " + newPointers[m + 1]);
+            }
+        }
+        for (int m = 0; m < majorSize; m++)
+        {
+            for (int p = newPointers[m]; p < newPointers[m + 1]; p++)
+            {
+                if (newIndexes[p] < 0 || newIndexes[p] >= minorSize)
+                {
+                    throw new IndexOutOfBoundsException(
+                            String.format("indexes[%d] = %d not in range 0..%d", p, newIndexes[p], minorSize - 1));
+                }
+                if (p > newPointers[m] && newIndexes[p] <= newIndexes[p - 1])
+                {
+                    throw new IllegalArgumentException("indexes[] must be strictly increasing per " + majorName() + ", found "
+                            + newIndexes[p - 1] + " then " + newIndexes[p]);
+                }
+            }
+        }
+        this.values = newValues;
+        this.indexes = newIndexes;
+        this.pointers = newPointers;
+    }
+
+    /**
+     * Store the non-zero values of dense data in row-major format.
+     * @param denseData the dense data in row-major format
+     * @throws IllegalArgumentException when the size of the data object is not equal to rows*cols
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    protected final void storeDense(final double[] denseData)
+    {
+        Throw.whenNull(denseData, "denseData");
+        Throw.when(denseData.length != this.rows * this.cols, IllegalArgumentException.class,
+                "denseData.length (%d) != rows x cols (%d x %d)", denseData.length, this.rows, this.cols);
+        int nonzero = 0;
+        for (int i = 0; i < denseData.length; i++)
+            if (denseData[i] != 0.0)
+                nonzero++;
+        double[] newValues = new double[nonzero];
+        int[] newIndexes = new int[nonzero];
+        int[] newPointers = new int[majorSize() + 1];
+        int k = 0;
+        for (int m = 0; m < majorSize(); m++)
+        {
+            for (int n = 0; n < minorSize(); n++)
+            {
+                double value = denseData[position(m, n)];
+                if (value != 0.0)
+                {
+                    newValues[k] = value;
+                    newIndexes[k++] = n;
+                }
+            }
+            newPointers[m + 1] = k;
+        }
+        this.values = newValues;
+        this.indexes = newIndexes;
+        this.pointers = newPointers;
+    }
+
+    /**
+     * Store the non-zero values of another datagrid of the same size. A compressed datagrid with the same major dimension is
+     * copied, a compressed datagrid with the other major dimension is converted in O(nnz + rows + cols), and the values of any
+     * other datagrid are retrieved per row or column.
+     * @param grid the datagrid to store the values of
+     * @throws IllegalArgumentException when the number of rows or columns of the datagrid is different
+     */
+    protected final void storeGrid(final DataGridSi<?> grid)
+    {
+        checkSize(grid);
+        DataGridSi<?> source = grid instanceof SparseDoubleDataSi sparse ? sparse.toCsr() : grid;
+        if (source instanceof CompressedDoubleDataSi<?> compressed)
+        {
+            if (compressed.rowMajor == this.rowMajor)
+            {
+                this.values = compressed.values.clone();
+                this.indexes = compressed.indexes.clone();
+                this.pointers = compressed.pointers.clone();
+            }
+            else
+            {
+                storeConverted(compressed);
+            }
+            return;
+        }
+        double[] newValues = new double[16];
+        int[] newIndexes = new int[16];
+        int[] newPointers = new int[majorSize() + 1];
+        int k = 0;
+        for (int m = 0; m < majorSize(); m++)
+        {
+            double[] major = this.rowMajor ? grid.getRowArray(m) : grid.getColArray(m);
+            for (int n = 0; n < major.length; n++)
+            {
+                if (major[n] != 0.0)
+                {
+                    if (k == newValues.length)
+                    {
+                        newValues = Arrays.copyOf(newValues, 2 * k);
+                        newIndexes = Arrays.copyOf(newIndexes, 2 * k);
+                    }
+                    newValues[k] = major[n];
+                    newIndexes[k++] = n;
+                }
+            }
+            newPointers[m + 1] = k;
+        }
+        this.values = Arrays.copyOf(newValues, k);
+        this.indexes = Arrays.copyOf(newIndexes, k);
+        this.pointers = newPointers;
+    }
+
+    /**
+     * Store the values of a compressed datagrid with the other major dimension, using a counting sort on the minor indexes of
+     * the source. This takes O(nnz + rows + cols).
+     * @param source the compressed datagrid with the other major dimension
+     */
+    private void storeConverted(final CompressedDoubleDataSi<?> source)
+    {
+        int nnz = source.values.length;
+        int majorSize = majorSize();
+        int[] newPointers = new int[majorSize + 1];
+        for (int p = 0; p < nnz; p++)
+        {
+            newPointers[source.indexes[p] + 1]++;
+        }
+        for (int m = 0; m < majorSize; m++)
+        {
+            newPointers[m + 1] += newPointers[m];
+        }
+        int[] next = Arrays.copyOf(newPointers, majorSize);
+        double[] newValues = new double[nnz];
+        int[] newIndexes = new int[nnz];
+        for (int sm = 0; sm < source.majorSize(); sm++)
+        {
+            for (int p = source.pointers[sm]; p < source.pointers[sm + 1]; p++)
+            {
+                int q = next[source.indexes[p]]++;
+                newValues[q] = source.values[p];
+                newIndexes[q] = sm;
+            }
+        }
+        this.values = newValues;
+        this.indexes = newIndexes;
+        this.pointers = newPointers;
+    }
+
+    /**
+     * Instantiate a new compressed datagrid of the same type and size with the given arrays.
+     * @param newValues the stored values, grouped per major index
+     * @param newIndexes the minor index of each stored value, strictly increasing per major index
+     * @param newPointers the position of the first stored value per major index, followed by the number of values
+     * @return a new compressed datagrid of the same type and size
+     */
+    protected abstract D instantiateCompressed(double[] newValues, int[] newIndexes, int[] newPointers);
+
+    /**
+     * Return the number of major indexes: the number of rows for CSR, and the number of columns for CSC.
+     * @return the number of major indexes
+     */
+    protected final int majorSize()
+    {
+        return this.rowMajor ? this.rows : this.cols;
+    }
+
+    /**
+     * Return the number of minor indexes: the number of columns for CSR, and the number of rows for CSC.
+     * @return the number of minor indexes
+     */
+    protected final int minorSize()
+    {
+        return this.rowMajor ? this.cols : this.rows;
+    }
+
+    /**
+     * Return the name of the major dimension.
+     * @return "row" for CSR, and "column" for CSC
+     */
+    private String majorName()
+    {
+        return this.rowMajor ? "row" : "column";
+    }
+
+    /**
+     * Return the position in the dense row-major array of a major and minor index.
+     * @param major the major index
+     * @param minor the minor index
+     * @return the position in the dense row-major array
+     */
+    protected final int position(final int major, final int minor)
+    {
+        return this.rowMajor ? major * this.cols + minor : minor * this.cols + major;
+    }
+
+    /**
+     * Return the number of stored values for a major index: the number of stored values in a row for CSR, and in a column for
+     * CSC. Note that stored values can be 0 when they were explicitly stored.
+     * @param major the major index (0-based)
+     * @return the number of stored values for the major index
+     * @throws IndexOutOfBoundsException when major is out of bounds
+     */
+    public int storedCount(final int major)
+    {
+        Throw.when(major < 0 || major >= majorSize(), IndexOutOfBoundsException.class, "%s %d not in range 0..%d",
+                majorName(), major, majorSize() - 1);
+        return this.pointers[major + 1] - this.pointers[major];
+    }
+
+    @Override
+    public int rows()
+    {
+        return this.rows;
+    }
+
+    @Override
+    public int cols()
+    {
+        return this.cols;
+    }
+
+    @Override
+    public boolean isDense()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean isDouble()
+    {
+        return true;
+    }
+
+    /**
+     * Check whether the row and column are within bounds.
+     * @param row the row number
+     * @param col the column number
+     * @throws IndexOutOfBoundsException when row &gt; rows() or col &gt; cols() or row &lt; 0 or col &lt; 0
+     */
+    private void checkRowCol(final int row, final int col) throws IndexOutOfBoundsException
+    {
+        Throw.when(row < 0 || row >= this.rows, IndexOutOfBoundsException.class, "row %d not in range 0..%d", row,
+                this.rows - 1);
+        Throw.when(col < 0 || col >= this.cols, IndexOutOfBoundsException.class, "column %d not in range 0..%d", col,
+                this.cols - 1);
+    }
+
+    /**
+     * Return the value for a major and minor index, using a binary search in the stored values of the major index.
+     * @param major the major index
+     * @param minor the minor index
+     * @return the value for the major and minor index
+     */
+    private double value(final int major, final int minor)
+    {
+        int pos = Arrays.binarySearch(this.indexes, this.pointers[major], this.pointers[major + 1], minor);
+        return pos >= 0 ? this.values[pos] : 0.0;
+    }
+
+    @Override
+    public double get(final int row, final int col)
+    {
+        checkRowCol(row, col);
+        return this.rowMajor ? value(row, col) : value(col, row);
+    }
+
+    @Override
+    public double[] getSiArray()
+    {
+        double[] denseData = new double[this.rows * this.cols];
+        for (int m = 0; m < majorSize(); m++)
+        {
+            for (int p = this.pointers[m]; p < this.pointers[m + 1]; p++)
+            {
+                denseData[position(m, this.indexes[p])] = this.values[p];
+            }
+        }
+        return denseData;
+    }
+
+    @Override
+    public double[] unsafeSiArray()
+    {
+        return getSiArray();
+    }
+
+    /**
+     * Return the values of a major index as a dense array, in O(nnz) of the major index.
+     * @param major the major index
+     * @return a dense array of length minorSize() with the values of the major index
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    private double[] majorArray(final int major)
+    {
+        double[] result = new double[minorSize()];
+        for (int p = this.pointers[major]; p < this.pointers[major + 1]; p++)
+            result[this.indexes[p]] = this.values[p];
+        return result;
+    }
+
+    /**
+     * Return the values of a minor index as a dense array, using a binary search per major index.
+     * @param minor the minor index
+     * @return a dense array of length majorSize() with the values of the minor index
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    private double[] minorArray(final int minor)
+    {
+        double[] result = new double[majorSize()];
+        for (int m = 0; m < result.length; m++)
+            result[m] = value(m, minor);
+        return result;
+    }
+
+    @Override
+    public double[] getRowArray(final int row)
+    {
+        Throw.when(row < 0 || row >= this.rows, IndexOutOfBoundsException.class, "row %d not in range 0..%d", row,
+                this.rows - 1);
+        return this.rowMajor ? majorArray(row) : minorArray(row);
+    }
+
+    @Override
+    public double[] getColArray(final int col)
+    {
+        Throw.when(col < 0 || col >= this.cols, IndexOutOfBoundsException.class, "column %d not in range 0..%d", col,
+                this.cols - 1);
+        return this.rowMajor ? minorArray(col) : majorArray(col);
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public int nonZeroCount()
+    {
+        int result = 0;
+        for (int i = 0; i < this.values.length; i++)
+            result += this.values[i] == 0.0 ? 0 : 1;
+        return result;
+    }
+
+    /**
+     * Return a compressed datagrid with the values of another compressed datagrid, with the same major dimension as this
+     * datagrid. The other datagrid is converted when its major dimension is different.
+     * @param other the other compressed datagrid
+     * @return a compressed datagrid with the same major dimension as this datagrid
+     */
+    private CompressedDoubleDataSi<?> aligned(final CompressedDoubleDataSi<?> other)
+    {
+        if (other.rowMajor == this.rowMajor)
+        {
+            return other;
+        }
+        CompressedDoubleDataSi<?> converted = instantiateCompressed(new double[0], new int[0], new int[majorSize() + 1]);
+        converted.storeConverted(other);
+        return converted;
+    }
+
+    /**
+     * Merge the stored values of this datagrid and another compressed datagrid with the same size and major dimension into a
+     * new compressed datagrid. Per major index, each minor index that is stored in at least one of the datagrids is visited
+     * once, in increasing order, where a missing value is 0. Results that are 0 are not stored.
+     * @param other the other compressed datagrid with the same major dimension
+     * @param op the operation to apply to the values of this datagrid and the other datagrid
+     * @return a new compressed datagrid with the results of the operation
+     */
+    private D merge(final CompressedDoubleDataSi<?> other, final DoubleBinaryOperator op)
+    {
+        double[] data = new double[this.values.length + other.values.length];
+        int[] index = new int[data.length];
+        int[] pointer = new int[majorSize() + 1];
+        int k = 0;
+        for (int m = 0; m < majorSize(); m++)
+        {
+            int i = this.pointers[m];
+            int j = other.pointers[m];
+            int n1 = this.pointers[m + 1];
+            int n2 = other.pointers[m + 1];
+            while (i < n1 || j < n2)
+            {
+                int minor;
+                double result;
+                if (j == n2 || i < n1 && this.indexes[i] < other.indexes[j])
+                {
+                    minor = this.indexes[i];
+                    result = op.applyAsDouble(this.values[i++], 0.0);
+                }
+                else if (i == n1 || other.indexes[j] < this.indexes[i])
+                {
+                    minor = other.indexes[j];
+                    result = op.applyAsDouble(0.0, other.values[j++]);
+                }
+                else
+                {
+                    minor = this.indexes[i];
+                    result = op.applyAsDouble(this.values[i++], other.values[j++]);
+                }
+                if (result != 0.0)
+                {
+                    data[k] = result;
+                    index[k++] = minor;
+                }
+            }
+            pointer[m + 1] = k;
+        }
+        return instantiateCompressed(Arrays.copyOf(data, k), Arrays.copyOf(index, k), pointer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a compressed datagrid, the stored values of both datagrids are merged, and the result stays
+     * sparse.
+     */
+    @Override
+    public D add(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof CompressedDoubleDataSi<?> compressed)
+        {
+            return merge(aligned(compressed), (a, b) -> a + b);
+        }
+        return DataGridSi.super.add(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a compressed datagrid, the stored values of both datagrids are merged, and the result stays
+     * sparse.
+     */
+    @Override
+    public D subtract(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof CompressedDoubleDataSi<?> compressed)
+        {
+            return merge(aligned(compressed), (a, b) -> a - b);
+        }
+        return DataGridSi.super.subtract(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a compressed datagrid, the stored values of both datagrids are merged, and the result stays
+     * sparse. Values that are stored in only one of the datagrids are multiplied by 0 as well, so a NaN or infinite value
+     * results in NaN, just as for dense data. A product of -0.0, e.g., of a value that is not stored and a negative value, is
+     * not stored and reads back as 0.0, also when the other datagrid is not compressed.
+     */
+    @Override
+    public D multiplyEntries(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof CompressedDoubleDataSi<?> compressed)
+        {
+            return merge(aligned(compressed), (a, b) -> a * b);
+        }
+        return DataGridSi.super.multiplyEntries(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For a finite factor, only the stored values are scaled, and the values that are not stored stay 0.0, also for a negative
+     * factor. For a NaN or infinite factor, the values that are not stored become NaN as well, so the result is calculated as
+     * for dense data.
+     */
+    @Override
+    public D scaleBy(final double factor)
+    {
+        if (!Double.isFinite(factor))
+        {
+            return DataGridSi.super.scaleBy(factor);
+        }
+        double[] data = new double[this.values.length];
+        int[] index = new int[this.values.length];
+        int[] pointer = new int[majorSize() + 1];
+        int k = 0;
+        for (int m = 0; m < majorSize(); m++)
+        {
+            for (int p = this.pointers[m]; p < this.pointers[m + 1]; p++)
+            {
+                double result = this.values[p] * factor;
+                if (result != 0.0)
+                {
+                    data[k] = result;
+                    index[k++] = this.indexes[p];
+                }
+            }
+            pointer[m + 1] = k;
+        }
+        return instantiateCompressed(Arrays.copyOf(data, k), Arrays.copyOf(index, k), pointer);
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public D abs()
+    {
+        double[] data = new double[this.values.length];
+        for (int i = 0; i < this.values.length; i++)
+            data[i] = Math.abs(this.values[i]);
+        return instantiateCompressed(data, this.indexes.clone(), this.pointers.clone());
+    }
+
+    @Override
+    public double sum()
+    {
+        return this.values.length == 0 ? 0.0 : Math2.sum(this.values);
+    }
+
+    @Override
+    public double min()
+    {
+        if (this.values.length == 0)
+        {
+            return 0.0;
+        }
+        double min = Math2.min(this.values);
+        return this.values.length < this.rows * this.cols ? Math.min(min, 0.0) : min;
+    }
+
+    @Override
+    public double max()
+    {
+        if (this.values.length == 0)
+        {
+            return 0.0;
+        }
+        double max = Math2.max(this.values);
+        return this.values.length < this.rows * this.cols ? Math.max(max, 0.0) : max;
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public boolean equals(final DataGridSi<?> other, final double epsilon)
+    {
+        Throw.when(epsilon < 0, IllegalArgumentException.class, "epsilon should be >= 0");
+        if (other == null)
+            return false;
+        if (this.rows != other.rows() || this.cols != other.cols())
+            return false;
+        if (other instanceof CompressedDoubleDataSi<?> compressed)
+            return equalsCompressed(aligned(compressed), epsilon);
+        for (int m = 0; m < majorSize(); m++)
+        {
+            double[] major = majorArray(m);
+            for (int n = 0; n < major.length; n++)
+            {
+                double o = this.rowMajor ? other.get(m, n) : other.get(n, m);
+                if (Math.abs(major[n] - o) > epsilon)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Test if this datagrid and another compressed datagrid with the same size and major dimension are equal to a maximum
+     * absolute error epsilon, visiting only the stored values of both datagrids.
+     * @param other the other compressed datagrid with the same major dimension
+     * @param epsilon the maximum absolute error for a value
+     * @return whether the two datagrids are equal to a maximum absolute error epsilon
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    private boolean equalsCompressed(final CompressedDoubleDataSi<?> other, final double epsilon)
+    {
+        for (int m = 0; m < majorSize(); m++)
+        {
+            int i = this.pointers[m];
+            int j = other.pointers[m];
+            int n1 = this.pointers[m + 1];
+            int n2 = other.pointers[m + 1];
+            while (i < n1 || j < n2)
+            {
+                double a;
+                double b;
+                if (j == n2 || i < n1 && this.indexes[i] < other.indexes[j])
+                {
+                    a = this.values[i++];
+                    b = 0.0;
+                }
+                else if (i == n1 || other.indexes[j] < this.indexes[i])
+                {
+                    a = 0.0;
+                    b = other.values[j++];
+                }
+                else
+                {
+                    a = this.values[i++];
+                    b = other.values[j++];
+                }
+                if (Math.abs(a - b) > epsilon)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The hash code is the same as the hash code of a dense datagrid with the same values, but it is calculated from the stored
+     * values only, using the fact that {@link Arrays#hashCode(double[])} for an array of length n is the sum of 31^n and the
+     * hash code of the value at position i times 31^(n-1-i).
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int n = this.rows * this.cols;
+        int arrayHash = Math2.pow(prime, n);
+        for (int m = 0; m < majorSize(); m++)
+        {
+            for (int p = this.pointers[m]; p < this.pointers[m + 1]; p++)
+            {
+                arrayHash += Double.hashCode(this.values[p]) * Math2.pow(prime, n - 1 - position(m, this.indexes[p]));
+            }
+        }
+        int result = 1;
+        result = prime * result + arrayHash;
+        result = prime * result + Objects.hash(this.cols, this.rows);
+        return result;
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (!(obj instanceof DataGridSi<?> dg))
+            return false;
+        if (this.cols != dg.cols() || this.rows != dg.rows())
+            return false;
+        if (getClass() == obj.getClass())
+        {
+            CompressedDoubleDataSi<?> other = (CompressedDoubleDataSi<?>) obj;
+            return Arrays.equals(this.values, other.values) && Arrays.equals(this.indexes, other.indexes)
+                    && Arrays.equals(this.pointers, other.pointers);
+        }
+        for (int r = 0; r < this.rows; r++)
+        {
+            for (int c = 0; c < this.cols; c++)
+            {
+                if (Double.doubleToLongBits(get(r, c)) != Double.doubleToLongBits(dg.get(r, c)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.djunits.vecmat.storage;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * CscDoubleDataSi implements a compressed sparse column (CSC) data grid for N x M matrices or N x 1 or 1 x N vectors with
+ * double values. The values are stored per column, with for each value its row index, and a pointer array with the position of
+ * the first value of each column. Any entry that is not stored has a value of 0. A column is extracted in O(nnz in the column),
+ * which makes CSC the format of choice for column-oriented access and for sparse matrix products with the sparse matrix on the
+ * right-hand side.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class CscDoubleDataSi extends CompressedDoubleDataSi<CscDoubleDataSi>
+{
+    /** */
+    private static final long serialVersionUID = 601L;
+
+    /**
+     * Instantiate a CSC data object with the compressed arrays. Note that NO safe copy of the data is stored. Also note that
+     * the row and column indexes are 0-based in this underlying class, whereas the Matrix.get(r, c) method is 1-based.
+     * @param values the stored values, grouped per column
+     * @param rowIndexes the row index of each stored value, strictly increasing per column (0-based)
+     * @param colPointers the position in values of the first value of each column, followed by the number of values; the
+     *            length is columns + 1
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IllegalArgumentException when the number of rows or columns is not positive, when the length of the arrays does
+     *             not match, when colPointers is not non-decreasing, or when rowIndexes is not strictly increasing per
+     *             column
+     * @throws IndexOutOfBoundsException when one of the entries in rowIndexes is out of bounds
+     */
+    public CscDoubleDataSi(final double[] values, final int[] rowIndexes, final int[] colPointers, final int rows,
+            final int cols)
+    {
+        super(values, rowIndexes, colPointers, rows, cols, false);
+    }
+
+    /**
+     * Instantiate a data object with one array in row-major format. A compressed, safe copy of the data is stored.
+     * @param denseData the dense data in row-major format
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IllegalArgumentException when the size of the data object is not equal to rows*cols, or when the number of rows
+     *             or columns is not positive
+     */
+    public CscDoubleDataSi(final double[] denseData, final int rows, final int cols)
+    {
+        super(rows, cols, false);
+        storeDense(denseData);
+    }
+
+    /**
+     * Instantiate a data object with a dense double[rows][cols]. A compressed, safe copy of the data is stored.
+     * @param denseData the data in row-major format as a double[][]
+     * @throws IllegalArgumentException when the matrix is ragged
+     */
+    public CscDoubleDataSi(final double[][] denseData)
+    {
+        this(flatten(denseData), denseData.length, denseData[0].length);
+    }
+
+    /**
+     * Instantiate a data object with the values of another datagrid. A compressed datagrid is copied or converted in
+     * O(nnz + rows + cols), and a SparseDoubleDataSi is converted in O(nnz + rows), without expanding it to a dense array.
+     * @param grid the datagrid with the values to store
+     */
+    public CscDoubleDataSi(final DataGridSi<?> grid)
+    {
+        super(checkGrid(grid).rows(), grid.cols(), false);
+        storeGrid(grid);
+    }
+
+    /**
+     * Check that the grid is not null.
+     * @param grid the grid to check
+     * @return the grid
+     * @throws NullPointerException when grid is null
+     */
+    private static DataGridSi<?> checkGrid(final DataGridSi<?> grid)
+    {
+        Throw.whenNull(grid, "grid");
+        return grid;
+    }
+
+    /**
+     * Flatten a dense double[rows][cols] into an array in row-major format.
+     * @param denseData the data in row-major format as a double[][]
+     * @return the data as an array in row-major format
+     * @throws IllegalArgumentException when the matrix is ragged
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    private static double[] flatten(final double[][] denseData)
+    {
+        Throw.whenNull(denseData, "denseData");
+        Throw.when(denseData.length == 0, IllegalArgumentException.class, "Number of rows in the data matrix = 0");
+        int cols = denseData[0].length;
+        double[] data = new double[denseData.length * cols];
+        for (int r = 0; r < denseData.length; r++)
+        {
+            Throw.when(denseData[r].length != cols, IllegalArgumentException.class,
+                    "Number of columns in row %d (%d) is not equal to number of columns in row 0 (%d)", r, denseData[r].length,
+                    cols);
+            System.arraycopy(denseData[r], 0, data, r * cols, cols);
+        }
+        return data;
+    }
+
+    /**
+     * Return a CSR datagrid with the same values. The conversion takes O(nnz + rows + cols).
+     * @return a CSR datagrid with the same values
+     */
+    public CsrDoubleDataSi toCsr()
+    {
+        return new CsrDoubleDataSi(this);
+    }
+
+    /**
+     * Return a CSR datagrid of the transposed matrix, which shares the arrays of this datagrid. Since the columns of this
+     * datagrid are the rows of the transposed matrix, the transposition does not move any values.
+     * @return a CSR datagrid of the transposed matrix
+     */
+    public CsrDoubleDataSi transpose()
+    {
+        return new CsrDoubleDataSi(this.values, this.indexes, this.pointers, cols(), rows());
+    }
+
+    @Override
+    protected CscDoubleDataSi instantiateCompressed(final double[] newValues, final int[] newIndexes, final int[] newPointers)
+    {
+        return new CscDoubleDataSi(newValues, newIndexes, newPointers, rows(), cols());
+    }
+
+    @Override
+    public CscDoubleDataSi copy()
+    {
+        return new CscDoubleDataSi(this.values.clone(), this.indexes.clone(), this.pointers.clone(), rows(), cols());
+    }
+
+    @Override
+    public CscDoubleDataSi instantiateNew(final double[] denseData)
+    {
+        Throw.when(denseData.length != rows() * cols(), IllegalArgumentException.class,
+                "Data object length != rows * cols, %d != %d * %d", denseData.length, rows(), cols());
+        return new CscDoubleDataSi(denseData, rows(), cols());
+    }
+
+    @Override
+    public CscDoubleDataSi instantiateNew(final double[] denseData, final int newRows, final int newCols)
+    {
+        Throw.when(denseData.length != newRows * newCols, IllegalArgumentException.class,
+                "Data object length != rows * cols, %d != %d * %d", denseData.length, newRows, newCols);
+        return new CscDoubleDataSi(denseData, newRows, newCols);
+    }
+
+}
@@ -0,0 +1,158 @@
+package org.djunits.vecmat.storage;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * CsrDoubleDataSi implements a compressed sparse row (CSR) data grid for N x M matrices or N x 1 or 1 x N vectors with double
+ * values. The values are stored per row, with for each value its column index, and a pointer array with the position of the
+ * first value of each row. Any entry that is not stored has a value of 0. A row is extracted in O(nnz in the row), which makes
+ * CSR the format of choice for row-oriented access and for sparse matrix products with the sparse matrix on the left-hand side.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class CsrDoubleDataSi extends CompressedDoubleDataSi<CsrDoubleDataSi>
+{
+    /** */
+    private static final long serialVersionUID = 601L;
+
+    /**
+     * Instantiate a CSR data object with the compressed arrays. Note that NO safe copy of the data is stored. Also note that
+     * the row and column indexes are 0-based in this underlying class, whereas the Matrix.get(r, c) method is 1-based.
+     * @param values the stored values, grouped per row
+     * @param columnIndexes the column index of each stored value, strictly increasing per row (0-based)
+     * @param rowPointers the position in values of the first value of each row, followed by the number of values; the
+     *            length is rows + 1
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IllegalArgumentException when the number of rows or columns is not positive, when the length of the arrays does
+     *             not match, when rowPointers is not non-decreasing, or when columnIndexes is not strictly increasing per
+     *             row
+     * @throws IndexOutOfBoundsException when one of the entries in columnIndexes is out of bounds
+     */
+    public CsrDoubleDataSi(final double[] values, final int[] columnIndexes, final int[] rowPointers, final int rows,
+            final int cols)
+    {
+        super(values, columnIndexes, rowPointers, rows, cols, true);
+    }
+
+    /**
+     * Instantiate a data object with one array in row-major format. A compressed, safe copy of the data is stored.
+     * @param denseData the dense data in row-major format
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IllegalArgumentException when the size of the data object is not equal to rows*cols, or when the number of rows
+     *             or columns is not positive
+     */
+    public CsrDoubleDataSi(final double[] denseData, final int rows, final int cols)
+    {
+        super(rows, cols, true);
+        storeDense(denseData);
+    }
+
+    /**
+     * Instantiate a data object with a dense double[rows][cols]. A compressed, safe copy of the data is stored.
+     * @param denseData the data in row-major format as a double[][]
+     * @throws IllegalArgumentException when the matrix is ragged
+     */
+    public CsrDoubleDataSi(final double[][] denseData)
+    {
+        this(flatten(denseData), denseData.length, denseData[0].length);
+    }
+
+    /**
+     * Instantiate a data object with the values of another datagrid. A compressed datagrid is copied or converted in
+     * O(nnz + rows + cols), and a SparseDoubleDataSi is converted in O(nnz + rows), without expanding it to a dense array.
+     * @param grid the datagrid with the values to store
+     */
+    public CsrDoubleDataSi(final DataGridSi<?> grid)
+    {
+        super(checkGrid(grid).rows(), grid.cols(), true);
+        storeGrid(grid);
+    }
+
+    /**
+     * Check that the grid is not null.
+     * @param grid the grid to check
+     * @return the grid
+     * @throws NullPointerException when grid is null
+     */
+    private static DataGridSi<?> checkGrid(final DataGridSi<?> grid)
+    {
+        Throw.whenNull(grid, "grid");
+        return grid;
+    }
+
+    /**
+     * Flatten a dense double[rows][cols] into an array in row-major format.
+     * @param denseData the data in row-major format as a double[][]
+     * @return the data as an array in row-major format
+     * @throws IllegalArgumentException when the matrix is ragged
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    private static double[] flatten(final double[][] denseData)
+    {
+        Throw.whenNull(denseData, "denseData");
+        Throw.when(denseData.length == 0, IllegalArgumentException.class, "Number of rows in the data matrix = 0");
+        int cols = denseData[0].length;
+        double[] data = new double[denseData.length * cols];
+        for (int r = 0; r < denseData.length; r++)
+        {
+            Throw.when(denseData[r].length != cols, IllegalArgumentException.class,
+                    "Number of columns in row %d (%d) is not equal to number of columns in row 0 (%d)", r, denseData[r].length,
+                    cols);
+            System.arraycopy(denseData[r], 0, data, r * cols, cols);
+        }
+        return data;
+    }
+
+    /**
+     * Return a CSC datagrid with the same values. The conversion takes O(nnz + rows + cols).
+     * @return a CSC datagrid with the same values
+     */
+    public CscDoubleDataSi toCsc()
+    {
+        return new CscDoubleDataSi(this);
+    }
+
+    /**
+     * Return a CSC datagrid of the transposed matrix, which shares the arrays of this datagrid. Since the rows of this
+     * datagrid are the columns of the transposed matrix, the transposition does not move any values.
+     * @return a CSC datagrid of the transposed matrix
+     */
+    public CscDoubleDataSi transpose()
+    {
+        return new CscDoubleDataSi(this.values, this.indexes, this.pointers, cols(), rows());
+    }
+
+    @Override
+    protected CsrDoubleDataSi instantiateCompressed(final double[] newValues, final int[] newIndexes, final int[] newPointers)
+    {
+        return new CsrDoubleDataSi(newValues, newIndexes, newPointers, rows(), cols());
+    }
+
+    @Override
+    public CsrDoubleDataSi copy()
+    {
+        return new CsrDoubleDataSi(this.values.clone(), this.indexes.clone(), this.pointers.clone(), rows(), cols());
+    }
+
+    @Override
+    public CsrDoubleDataSi instantiateNew(final double[] denseData)
+    {
+        Throw.when(denseData.length != rows() * cols(), IllegalArgumentException.class,
+                "Data object length != rows * cols, %d != %d * %d", denseData.length, rows(), cols());
+        return new CsrDoubleDataSi(denseData, rows(), cols());
+    }
+
+    @Override
+    public CsrDoubleDataSi instantiateNew(final double[] denseData, final int newRows, final int newCols)
+    {
+        Throw.when(denseData.length != newRows * newCols, IllegalArgumentException.class,
+                "Data object length != rows * cols, %d != %d * %d", denseData.length, newRows, newCols);
+        return new CsrDoubleDataSi(denseData, newRows, newCols);
+    }
+
+}
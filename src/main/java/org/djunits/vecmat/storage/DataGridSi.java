@@ -2,12 +2,16 @@ package org.djunits.vecmat.storage;
 
 import java.io.Serializable;
 
+import org.djunits.util.ArrayMath;
+import org.djunits.util.Math2;
 import org.djutils.exceptions.Throw;
 
 /**
  * DataGrid is an interface identifies the methods for storing and changing data for an N x M grid. Vectors are stored as a grid
  * with dimensions N x 1 or 1 x N. The DataGrid <i>communicates</i> as if it is a dense grid of double values, but underneath,
  * storage can be, e.g., sparse and/or float.
+ * Single precision datagrids can also be read and created with float arrays through {@link #unsafeFloatSiArray()} and
+ * {@link #instantiateNew(float[])}, so their operations do not have to widen the data to double.
  * <p>
  * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
  * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
@@ -51,6 +55,32 @@ public interface DataGridSi<D extends DataGridSi<D>> extends Serializable
      */
     double[] getSiArray();
 
+    /**
+     * Return the data in row-major format as a float array. For a single precision datagrid with the data available in the
+     * correct format, NO safe copy is made, and the values are not widened to double. For other datagrids, the values are
+     * narrowed to float.
+     * @return the data in row-major format as a float array
+     */
+    default float[] unsafeFloatSiArray()
+    {
+        return getFloatSiArray();
+    }
+
+    /**
+     * Return a safe copy of the data in row-major format as a float array. For a double precision datagrid, the values are
+     * narrowed to float.
+     * @return the data in row-major format as a float array
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    default float[] getFloatSiArray()
+    {
+        double[] doubleData = unsafeSiArray();
+        float[] floatData = new float[doubleData.length];
+        for (int i = 0; i < floatData.length; i++)
+            floatData[i] = (float) doubleData[i];
+        return floatData;
+    }
+
     /**
      * Return a deep copy of the DataGrid object.
      * @return a deep copy of the DataGrid object
@@ -90,6 +120,21 @@ public interface DataGridSi<D extends DataGridSi<D>> extends Serializable
      */
     D instantiateNew(double[] data, int newRows, int newCols);
 
+    /**
+     * Instantiate a new version of the DataGrid object with the given float data and the same number of rows and columns. A
+     * single precision datagrid stores the float values directly; other datagrids widen the values to double.
+     * @param data the data in row-major format
+     * @return a new version of the DataGrid object with the given data, same number of rows and columns
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    default D instantiateNew(final float[] data)
+    {
+        double[] doubleData = new double[data.length];
+        for (int i = 0; i < doubleData.length; i++)
+            doubleData[i] = data[i];
+        return instantiateNew(doubleData);
+    }
+
     /**
      * Return whether the data is dense.
      * @return whether the data is dense
@@ -154,6 +199,101 @@ public interface DataGridSi<D extends DataGridSi<D>> extends Serializable
         return result;
     }
 
+    /**
+     * Check whether another datagrid has the same number of rows and columns as this datagrid.
+     * @param other the other datagrid
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when the number of rows or columns of the other datagrid is different
+     */
+    default void checkSize(final DataGridSi<?> other)
+    {
+        Throw.whenNull(other, "other");
+        Throw.when(rows() != other.rows() || cols() != other.cols(), IllegalArgumentException.class,
+                "datagrid sizes differ: %d x %d versus %d x %d", rows(), cols(), other.rows(), other.cols());
+    }
+
+    /**
+     * Return a new datagrid of the same type with the element-wise sum of this datagrid and another datagrid.
+     * @param other the datagrid to add
+     * @return a new datagrid with the element-wise sum
+     * @throws IllegalArgumentException when the number of rows or columns of the other datagrid is different
+     */
+    default D add(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        return instantiateNew(ArrayMath.add(unsafeSiArray(), other.unsafeSiArray()));
+    }
+
+    /**
+     * Return a new datagrid of the same type with the element-wise difference of this datagrid and another datagrid.
+     * @param other the datagrid to subtract
+     * @return a new datagrid with the element-wise difference
+     * @throws IllegalArgumentException when the number of rows or columns of the other datagrid is different
+     */
+    default D subtract(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        return instantiateNew(ArrayMath.subtract(unsafeSiArray(), other.unsafeSiArray()));
+    }
+
+    /**
+     * Return a new datagrid of the same type with the element-wise (Hadamard) product of this datagrid and another datagrid.
+     * @param other the datagrid to multiply with
+     * @return a new datagrid with the element-wise product
+     * @throws IllegalArgumentException when the number of rows or columns of the other datagrid is different
+     */
+    default D multiplyEntries(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        return instantiateNew(ArrayMath.multiply(unsafeSiArray(), other.unsafeSiArray()));
+    }
+
+    /**
+     * Return a new datagrid of the same type where all values have been multiplied by a factor.
+     * @param factor the factor to multiply the values with
+     * @return a new datagrid with the scaled values
+     */
+    default D scaleBy(final double factor)
+    {
+        return instantiateNew(ArrayMath.scaleBy(unsafeSiArray(), factor));
+    }
+
+    /**
+     * Return a new datagrid of the same type with the absolute values of this datagrid.
+     * @return a new datagrid with the absolute values
+     */
+    default D abs()
+    {
+        return instantiateNew(ArrayMath.abs(unsafeSiArray()));
+    }
+
+    /**
+     * Return the sum of all values in the datagrid.
+     * @return the sum of all values in the datagrid
+     */
+    default double sum()
+    {
+        return Math2.sum(unsafeSiArray());
+    }
+
+    /**
+     * Return the minimum of all values in the datagrid.
+     * @return the minimum of all values in the datagrid
+     */
+    default double min()
+    {
+        return Math2.min(unsafeSiArray());
+    }
+
+    /**
+     * Return the maximum of all values in the datagrid.
+     * @return the maximum of all values in the datagrid
+     */
+    default double max()
+    {
+        return Math2.max(unsafeSiArray());
+    }
+
     /**
      * Test if two datagrids are equal to a maximum absolute error epsilon. The number of rows and columns is also compared.
      * @param other the other datagrid to compare to
@@ -168,6 +308,8 @@ public interface DataGridSi<D extends DataGridSi<D>> extends Serializable
             return false;
         if (rows() != other.rows() || cols() != other.cols())
             return false;
+        if (other.isSparse() && isDense())
+            return other.equals(this, epsilon); // let the sparse datagrid iterate over its stored values
         double[] da1 = unsafeSiArray();
         double[] da2 = other.unsafeSiArray();
         for (int i = 0; i < da1.length; i++)
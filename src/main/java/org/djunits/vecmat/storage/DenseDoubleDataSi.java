@@ -87,10 +87,7 @@ public class DenseDoubleDataSi implements DataGridSi<DenseDoubleDataSi>
         Throw.whenNull(dataInUnit, "dataInUnit");
         Throw.whenNull(unit, "unit");
         double[] dataSi = new double[dataInUnit.length];
-        for (int i = 0; i < dataInUnit.length; i++)
-        {
-            dataSi[i] = unit.toBaseValue(dataInUnit[i]);
-        }
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
         return new DenseDoubleDataSi(dataSi, rows, cols);
     }
 
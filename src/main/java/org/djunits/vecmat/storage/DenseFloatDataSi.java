@@ -5,6 +5,8 @@ import java.util.Objects;
 
 import org.djunits.quantity.def.Quantity;
 import org.djunits.unit.UnitInterface;
+import org.djunits.util.ArrayMath;
+import org.djunits.util.Math2;
 import org.djutils.exceptions.Throw;
 
 /**
@@ -52,6 +54,21 @@ public class DenseFloatDataSi implements DataGridSi<DenseFloatDataSi>
         this.cols = cols;
     }
 
+    /**
+     * Instantiate a data object with the result of a float calculation, without a safe copy and without checks, since the
+     * calculation already made a new array of the correct length.
+     * @param dataSi the data with SI-values in row-major format
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param calculated marker to distinguish this constructor from the public constructor; always true
+     */
+    private DenseFloatDataSi(final float[] dataSi, final int rows, final int cols, final boolean calculated)
+    {
+        this.data = dataSi;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
     /**
      * Instantiate a data object with one array in row-major format. A safe copy of the data is stored, since the data has to be
      * transferred from double format to float format.
@@ -122,10 +139,7 @@ public class DenseFloatDataSi implements DataGridSi<DenseFloatDataSi>
         Throw.whenNull(dataInUnit, "dataInUnit");
         Throw.whenNull(unit, "unit");
         float[] dataSi = new float[dataInUnit.length];
-        for (int i = 0; i < dataInUnit.length; i++)
-        {
-            dataSi[i] = (float) unit.toBaseValue(dataInUnit[i]);
-        }
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
         return new DenseFloatDataSi(dataSi, rows, cols);
     }
 
@@ -146,10 +160,7 @@ public class DenseFloatDataSi implements DataGridSi<DenseFloatDataSi>
         Throw.whenNull(dataInUnit, "dataInUnit");
         Throw.whenNull(unit, "unit");
         float[] dataSi = new float[dataInUnit.length];
-        for (int i = 0; i < dataInUnit.length; i++)
-        {
-            dataSi[i] = (float) unit.toBaseValue(dataInUnit[i]);
-        }
+        unit.getScale().toIdentityScale(dataInUnit, dataSi);
         return new DenseFloatDataSi(dataSi, rows, cols);
     }
 
@@ -383,6 +394,18 @@ public class DenseFloatDataSi implements DataGridSi<DenseFloatDataSi>
         return getSiArray();
     }
 
+    @Override
+    public float[] unsafeFloatSiArray()
+    {
+        return this.data;
+    }
+
+    @Override
+    public float[] getFloatSiArray()
+    {
+        return this.data.clone();
+    }
+
     @Override
     public DenseFloatDataSi copy()
     {
@@ -408,7 +431,7 @@ public class DenseFloatDataSi implements DataGridSi<DenseFloatDataSi>
         float[] floatData = new float[newData.length];
         for (int i = 0; i < floatData.length; i++)
             floatData[i] = (float) newData[i];
-        return new DenseFloatDataSi(floatData, rows(), cols());
+        return new DenseFloatDataSi(floatData, rows(), cols(), true);
     }
 
     @SuppressWarnings("checkstyle:needbraces")
@@ -420,7 +443,113 @@ public class DenseFloatDataSi implements DataGridSi<DenseFloatDataSi>
         float[] floatData = new float[newData.length];
         for (int i = 0; i < floatData.length; i++)
             floatData[i] = (float) newData[i];
-        return new DenseFloatDataSi(floatData, newRows, newCols);
+        return new DenseFloatDataSi(floatData, newRows, newCols, true);
+    }
+
+    @Override
+    public DenseFloatDataSi instantiateNew(final float[] newData)
+    {
+        Throw.when(newData.length != rows() * cols(), IllegalArgumentException.class,
+                "Data object length != rows * cols, %d != %d * %d", newData.length, rows(), cols());
+        return new DenseFloatDataSi(newData.clone(), rows(), cols(), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is single precision as well, the sum is calculated on the float arrays. Since the sum of two
+     * float values is exact in double precision, the result is identical to the sum of the widened values.
+     */
+    @Override
+    public DenseFloatDataSi add(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other.isFloat())
+        {
+            return new DenseFloatDataSi(ArrayMath.add(this.data, other.unsafeFloatSiArray()), this.rows, this.cols, true);
+        }
+        return DataGridSi.super.add(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is single precision as well, the difference is calculated on the float arrays, with the same
+     * result as for the widened values.
+     */
+    @Override
+    public DenseFloatDataSi subtract(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other.isFloat())
+        {
+            return new DenseFloatDataSi(ArrayMath.subtract(this.data, other.unsafeFloatSiArray()), this.rows, this.cols,
+                    true);
+        }
+        return DataGridSi.super.subtract(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is single precision as well, the product is calculated on the float arrays, with the same result
+     * as for the widened values.
+     */
+    @Override
+    public DenseFloatDataSi multiplyEntries(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other.isFloat())
+        {
+            return new DenseFloatDataSi(ArrayMath.multiply(this.data, other.unsafeFloatSiArray()), this.rows, this.cols,
+                    true);
+        }
+        return DataGridSi.super.multiplyEntries(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the factor can be represented exactly as a float, the values are scaled on the float array, with the same result as
+     * for the widened values.
+     */
+    @Override
+    public DenseFloatDataSi scaleBy(final double factor)
+    {
+        if ((float) factor == factor)
+        {
+            return new DenseFloatDataSi(ArrayMath.scaleBy(this.data, (float) factor), this.rows, this.cols, true);
+        }
+        return DataGridSi.super.scaleBy(factor);
+    }
+
+    @Override
+    public DenseFloatDataSi abs()
+    {
+        return new DenseFloatDataSi(ArrayMath.abs(this.data), this.rows, this.cols, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are added in double precision, without widening the float array.
+     */
+    @Override
+    public double sum()
+    {
+        return Math2.sum(this.data);
+    }
+
+    @Override
+    public double min()
+    {
+        return Math2.min(this.data);
+    }
+
+    @Override
+    public double max()
+    {
+        return Math2.max(this.data);
     }
 
     @Override
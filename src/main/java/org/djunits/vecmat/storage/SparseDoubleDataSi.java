@@ -3,14 +3,18 @@ package org.djunits.vecmat.storage;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.util.Math2;
 import org.djutils.exceptions.Throw;
 
 /**
  * SparseDoubleData implements a sparse data grid for N x M matrices or N x 1 or 1 x N vectors with double values. The sparse
  * grid is implemented with an index array that indicates the position of the data values in the dense array. Any index that is
- * missing indicates a data value of 0.
+ * missing indicates a data value of 0. The element-wise operations, reductions, equality and hash code only visit the stored
+ * values, so the data is never expanded to a dense array of rows x cols values for them. A large sparse grid can be
+ * assembled entry by entry with a {@link SparseGridBuilder}.
  * <p>
  * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
  * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
@@ -388,6 +392,27 @@ public class SparseDoubleDataSi implements DataGridSi<SparseDoubleDataSi>
         return getSiArray();
     }
 
+    /**
+     * Return a CSR datagrid with the same values. Since the values are stored in row-major order, the conversion takes O(nnz +
+     * rows) and does not expand the data to a dense array.
+     * @return a CSR datagrid with the same values
+     */
+    public CsrDoubleDataSi toCsr()
+    {
+        int[] columnIndexes = new int[this.indexes.length];
+        int[] rowPointers = new int[this.rows + 1];
+        for (int i = 0; i < this.indexes.length; i++)
+        {
+            columnIndexes[i] = this.indexes[i] % this.cols;
+            rowPointers[this.indexes[i] / this.cols + 1]++;
+        }
+        for (int r = 0; r < this.rows; r++)
+        {
+            rowPointers[r + 1] += rowPointers[r];
+        }
+        return new CsrDoubleDataSi(this.sparseData.clone(), columnIndexes, rowPointers, this.rows, this.cols);
+    }
+
     @Override
     public SparseDoubleDataSi copy()
     {
@@ -420,12 +445,264 @@ public class SparseDoubleDataSi implements DataGridSi<SparseDoubleDataSi>
         return new SparseDoubleDataSi(denseData, newRows, newCols);
     }
 
+    /**
+     * Merge the stored values of this datagrid and another sparse datagrid of the same size into a new sparse datagrid. Each
+     * index that is stored in at least one of the datagrids is visited once, in increasing order, where a missing value is 0.
+     * Results that are 0 are not stored.
+     * @param other the other sparse datagrid
+     * @param op the operation to apply to the values of this datagrid and the other datagrid
+     * @return a new sparse datagrid with the results of the operation
+     */
+    private SparseDoubleDataSi merge(final SparseDoubleDataSi other, final DoubleBinaryOperator op)
+    {
+        int n1 = this.indexes.length;
+        int n2 = other.indexes.length;
+        double[] data = new double[n1 + n2];
+        int[] index = new int[n1 + n2];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < n1 || j < n2)
+        {
+            int pos;
+            double result;
+            if (j == n2 || i < n1 && this.indexes[i] < other.indexes[j])
+            {
+                pos = this.indexes[i];
+                result = op.applyAsDouble(this.sparseData[i++], 0.0);
+            }
+            else if (i == n1 || other.indexes[j] < this.indexes[i])
+            {
+                pos = other.indexes[j];
+                result = op.applyAsDouble(0.0, other.sparseData[j++]);
+            }
+            else
+            {
+                pos = this.indexes[i];
+                result = op.applyAsDouble(this.sparseData[i++], other.sparseData[j++]);
+            }
+            if (result != 0.0)
+            {
+                data[k] = result;
+                index[k++] = pos;
+            }
+        }
+        return new SparseDoubleDataSi(Arrays.copyOf(data, k), Arrays.copyOf(index, k), this.rows, this.cols);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a SparseDoubleDataSi, the stored values of both datagrids are merged, and the result stays
+     * sparse.
+     */
+    @Override
+    public SparseDoubleDataSi add(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof SparseDoubleDataSi sparse)
+        {
+            return merge(sparse, (a, b) -> a + b);
+        }
+        return DataGridSi.super.add(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a SparseDoubleDataSi, the stored values of both datagrids are merged, and the result stays
+     * sparse.
+     */
+    @Override
+    public SparseDoubleDataSi subtract(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof SparseDoubleDataSi sparse)
+        {
+            return merge(sparse, (a, b) -> a - b);
+        }
+        return DataGridSi.super.subtract(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a SparseDoubleDataSi, the stored values of both datagrids are merged, and the result stays
+     * sparse. Values that are stored in only one of the datagrids are multiplied by 0 as well, so a NaN or infinite value
+     * results in NaN, just as for dense data.
+     */
+    @Override
+    public SparseDoubleDataSi multiplyEntries(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof SparseDoubleDataSi sparse)
+        {
+            return merge(sparse, (a, b) -> a * b);
+        }
+        return DataGridSi.super.multiplyEntries(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For a finite factor, only the stored values are scaled. For a NaN or infinite factor, the values that are not stored
+     * become NaN as well, so the result is calculated as for dense data.
+     */
+    @Override
+    public SparseDoubleDataSi scaleBy(final double factor)
+    {
+        if (!Double.isFinite(factor))
+        {
+            return DataGridSi.super.scaleBy(factor);
+        }
+        double[] data = new double[this.sparseData.length];
+        int[] index = new int[this.indexes.length];
+        int k = 0;
+        for (int i = 0; i < this.sparseData.length; i++)
+        {
+            double result = this.sparseData[i] * factor;
+            if (result != 0.0)
+            {
+                data[k] = result;
+                index[k++] = this.indexes[i];
+            }
+        }
+        return new SparseDoubleDataSi(Arrays.copyOf(data, k), Arrays.copyOf(index, k), this.rows, this.cols);
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public SparseDoubleDataSi abs()
+    {
+        double[] data = new double[this.sparseData.length];
+        for (int i = 0; i < this.sparseData.length; i++)
+            data[i] = Math.abs(this.sparseData[i]);
+        return new SparseDoubleDataSi(data, this.indexes.clone(), this.rows, this.cols);
+    }
+
+    @Override
+    public double sum()
+    {
+        return this.sparseData.length == 0 ? 0.0 : Math2.sum(this.sparseData);
+    }
+
+    @Override
+    public double min()
+    {
+        if (this.sparseData.length == 0)
+        {
+            return 0.0;
+        }
+        double min = Math2.min(this.sparseData);
+        return this.sparseData.length < this.rows * this.cols ? Math.min(min, 0.0) : min;
+    }
+
+    @Override
+    public double max()
+    {
+        if (this.sparseData.length == 0)
+        {
+            return 0.0;
+        }
+        double max = Math2.max(this.sparseData);
+        return this.sparseData.length < this.rows * this.cols ? Math.max(max, 0.0) : max;
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public boolean equals(final DataGridSi<?> other, final double epsilon)
+    {
+        Throw.when(epsilon < 0, IllegalArgumentException.class, "epsilon should be >= 0");
+        if (other == null)
+            return false;
+        if (this.rows != other.rows() || this.cols != other.cols())
+            return false;
+        if (other instanceof SparseDoubleDataSi sparse)
+        {
+            int n1 = this.indexes.length;
+            int n2 = sparse.indexes.length;
+            int i = 0;
+            int j = 0;
+            while (i < n1 || j < n2)
+            {
+                double a;
+                double b;
+                if (j == n2 || i < n1 && this.indexes[i] < sparse.indexes[j])
+                {
+                    a = this.sparseData[i++];
+                    b = 0.0;
+                }
+                else if (i == n1 || sparse.indexes[j] < this.indexes[i])
+                {
+                    a = 0.0;
+                    b = sparse.sparseData[j++];
+                }
+                else
+                {
+                    a = this.sparseData[i++];
+                    b = sparse.sparseData[j++];
+                }
+                if (Math.abs(a - b) > epsilon)
+                    return false;
+            }
+            return true;
+        }
+        int i = 0;
+        for (int r = 0; r < this.rows; r++)
+        {
+            for (int c = 0; c < this.cols; c++)
+            {
+                double a = i < this.indexes.length && this.indexes[i] == r * this.cols + c ? this.sparseData[i++] : 0.0;
+                if (Math.abs(a - other.get(r, c)) > epsilon)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return whether the values of this datagrid are equal to the values of another datagrid of the same size, using the same
+     * comparison of values as {@link Arrays#equals(double[], double[])}, without expanding this datagrid to a dense array.
+     * @param other the other datagrid
+     * @return whether all values are equal
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    private boolean valuesEqual(final DataGridSi<?> other)
+    {
+        int i = 0;
+        for (int r = 0; r < this.rows; r++)
+        {
+            for (int c = 0; c < this.cols; c++)
+            {
+                double a = i < this.indexes.length && this.indexes[i] == r * this.cols + c ? this.sparseData[i++] : 0.0;
+                if (Double.doubleToLongBits(a) != Double.doubleToLongBits(other.get(r, c)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The hash code is the same as the hash code of a dense datagrid with the same values, but it is calculated from the stored
+     * values only: a value 0 at a position does not change the hash code, apart from the factor 31 by which the hash code is
+     * multiplied for each position, as in {@link Arrays#hashCode(double[])}.
+     */
     @Override
     public int hashCode()
     {
         final int prime = 31;
+        int arrayHash = 1;
+        int next = 0;
+        for (int i = 0; i < this.sparseData.length; i++)
+        {
+            arrayHash = arrayHash * Math2.pow(prime, this.indexes[i] - next + 1) + Double.hashCode(this.sparseData[i]);
+            next = this.indexes[i] + 1;
+        }
+        arrayHash *= Math2.pow(prime, this.rows * this.cols - next);
         int result = 1;
-        result = prime * result + Arrays.hashCode(unsafeSiArray());
+        result = prime * result + arrayHash;
         result = prime * result + Objects.hash(this.cols, this.rows);
         return result;
     }
@@ -441,7 +718,7 @@ public class SparseDoubleDataSi implements DataGridSi<SparseDoubleDataSi>
         if (getClass() != obj.getClass())
         {
             if (obj instanceof DataGridSi dg)
-                return this.cols == dg.cols() && this.rows == dg.rows() && Arrays.equals(unsafeSiArray(), dg.unsafeSiArray());
+                return this.cols == dg.cols() && this.rows == dg.rows() && valuesEqual(dg);
             return false;
         }
         SparseDoubleDataSi other = (SparseDoubleDataSi) obj;
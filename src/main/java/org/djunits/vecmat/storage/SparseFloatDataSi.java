@@ -3,8 +3,10 @@ package org.djunits.vecmat.storage;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
 
 import org.djunits.quantity.def.Quantity;
+import org.djunits.util.Math2;
 import org.djutils.exceptions.Throw;
 
 /**
@@ -475,6 +477,16 @@ public class SparseFloatDataSi implements DataGridSi<SparseFloatDataSi>
         return getSiArray();
     }
 
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public float[] getFloatSiArray()
+    {
+        float[] denseData = new float[rows() * cols()];
+        for (int i = 0; i < this.sparseData.length; i++)
+            denseData[this.indexes[i]] = this.sparseData[i];
+        return denseData;
+    }
+
     @Override
     public SparseFloatDataSi copy()
     {
@@ -507,6 +519,184 @@ public class SparseFloatDataSi implements DataGridSi<SparseFloatDataSi>
         return new SparseFloatDataSi(denseData, newRows, newCols);
     }
 
+    @Override
+    public SparseFloatDataSi instantiateNew(final float[] denseData)
+    {
+        Throw.when(denseData.length != rows() * cols(), IllegalArgumentException.class,
+                "Data object length != rows * cols, %d != %d * %d", denseData.length, rows(), cols());
+        return new SparseFloatDataSi(denseData, rows(), cols());
+    }
+
+    /**
+     * Merge the stored values of this datagrid and another sparse float datagrid of the same size into a new sparse datagrid.
+     * Each index that is stored in at least one of the datagrids is visited once, in increasing order, where a missing value
+     * is 0. The operation is applied to the widened values and the result is narrowed to float, which gives the same result
+     * as the float operation for addition, subtraction and multiplication. Results that are 0 are not stored.
+     * @param other the other sparse float datagrid
+     * @param op the operation to apply to the values of this datagrid and the other datagrid
+     * @return a new sparse datagrid with the results of the operation
+     */
+    private SparseFloatDataSi merge(final SparseFloatDataSi other, final DoubleBinaryOperator op)
+    {
+        int n1 = this.indexes.length;
+        int n2 = other.indexes.length;
+        float[] data = new float[n1 + n2];
+        int[] index = new int[n1 + n2];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < n1 || j < n2)
+        {
+            int pos;
+            float result;
+            if (j == n2 || i < n1 && this.indexes[i] < other.indexes[j])
+            {
+                pos = this.indexes[i];
+                result = (float) op.applyAsDouble(this.sparseData[i++], 0.0);
+            }
+            else if (i == n1 || other.indexes[j] < this.indexes[i])
+            {
+                pos = other.indexes[j];
+                result = (float) op.applyAsDouble(0.0, other.sparseData[j++]);
+            }
+            else
+            {
+                pos = this.indexes[i];
+                result = (float) op.applyAsDouble(this.sparseData[i++], other.sparseData[j++]);
+            }
+            if (result != 0.0f)
+            {
+                data[k] = result;
+                index[k++] = pos;
+            }
+        }
+        return new SparseFloatDataSi(Arrays.copyOf(data, k), Arrays.copyOf(index, k), this.rows, this.cols);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a SparseFloatDataSi, the stored values of both datagrids are merged, and the result stays
+     * sparse and single precision.
+     */
+    @Override
+    public SparseFloatDataSi add(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof SparseFloatDataSi sparse)
+        {
+            return merge(sparse, (a, b) -> a + b);
+        }
+        return DataGridSi.super.add(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a SparseFloatDataSi, the stored values of both datagrids are merged, and the result stays
+     * sparse and single precision.
+     */
+    @Override
+    public SparseFloatDataSi subtract(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof SparseFloatDataSi sparse)
+        {
+            return merge(sparse, (a, b) -> a - b);
+        }
+        return DataGridSi.super.subtract(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other datagrid is a SparseFloatDataSi, the stored values of both datagrids are merged, and the result stays
+     * sparse and single precision. Values that are stored in only one of the datagrids are multiplied by 0 as well, so a NaN
+     * or infinite value results in NaN, just as for dense data.
+     */
+    @Override
+    public SparseFloatDataSi multiplyEntries(final DataGridSi<?> other)
+    {
+        checkSize(other);
+        if (other instanceof SparseFloatDataSi sparse)
+        {
+            return merge(sparse, (a, b) -> a * b);
+        }
+        return DataGridSi.super.multiplyEntries(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For a finite factor that can be represented exactly as a float, only the stored values are scaled. For other factors,
+     * the result is calculated as for dense data.
+     */
+    @Override
+    public SparseFloatDataSi scaleBy(final double factor)
+    {
+        if (!Double.isFinite(factor) || (float) factor != factor)
+        {
+            return DataGridSi.super.scaleBy(factor);
+        }
+        float floatFactor = (float) factor;
+        float[] data = new float[this.sparseData.length];
+        int[] index = new int[this.indexes.length];
+        int k = 0;
+        for (int i = 0; i < this.sparseData.length; i++)
+        {
+            float result = this.sparseData[i] * floatFactor;
+            if (result != 0.0f)
+            {
+                data[k] = result;
+                index[k++] = this.indexes[i];
+            }
+        }
+        return new SparseFloatDataSi(Arrays.copyOf(data, k), Arrays.copyOf(index, k), this.rows, this.cols);
+    }
+
+    @SuppressWarnings("checkstyle:needbraces")
+    @Override
+    public SparseFloatDataSi abs()
+    {
+        float[] data = new float[this.sparseData.length];
+        for (int i = 0; i < this.sparseData.length; i++)
+            data[i] = Math.abs(this.sparseData[i]);
+        return new SparseFloatDataSi(data, this.indexes.clone(), this.rows, this.cols);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the stored values are added, in double precision.
+     */
+    @Override
+    public double sum()
+    {
+        return this.sparseData.length == 0 ? 0.0 : Math2.sum(this.sparseData);
+    }
+
+    @Override
+    public double min()
+    {
+        if (this.sparseData.length == 0)
+        {
+            return 0.0;
+        }
+        double min = Math2.min(this.sparseData);
+        return this.sparseData.length < this.rows * this.cols ? Math.min(min, 0.0) : min;
+    }
+
+    @Override
+    public double max()
+    {
+        if (this.sparseData.length == 0)
+        {
+            return 0.0;
+        }
+        double max = Math2.max(this.sparseData);
+        return this.sparseData.length < this.rows * this.cols ? Math.max(max, 0.0) : max;
+    }
+
     @Override
     public int hashCode()
     {
@@ -0,0 +1,292 @@
+package org.djunits.vecmat.storage;
+
+import java.util.Arrays;
+
+import org.djutils.exceptions.Throw;
+
+/**
+ * SparseGridBuilder assembles a sparse N x M grid from individual entries in coordinate (COO) format. The entries are stored
+ * in growable primitive arrays, so no object is created per entry. An entry either sets the value of a cell with
+ * {@link #set(int, int, double)}, or adds to the value of a cell with {@link #add(int, int, double)}; the entries for a cell
+ * are applied in the order in which they were appended. The entries are only sorted and combined when the builder is
+ * compacted, which takes O(entries + rows + cols) with a stable two-pass counting sort. Cells with a resulting value of 0 are
+ * not stored.
+ * <p>
+ * The builder compacts itself when its arrays are full and the number of entries is at least rows + cols, so assembling a
+ * matrix with many duplicate entries, such as a finite element or network matrix, does not keep every duplicate in memory.
+ * After {@link #build()} or {@link #buildCsr()}, the builder can be used to append further entries and to build again.
+ * A builder is not thread-safe.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class SparseGridBuilder
+{
+    /** The default initial capacity of the arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The number of rows. */
+    private final int rows;
+
+    /** The number of columns. */
+    private final int cols;
+
+    /** The row index of each entry. */
+    private int[] rowIndexes;
+
+    /** The column index of each entry. */
+    private int[] colIndexes;
+
+    /** The SI value of each entry. */
+    private double[] values;
+
+    /** Whether each entry replaces the value of the cell (set) or adds to it (add). */
+    private boolean[] replace;
+
+    /** The number of entries. */
+    private int size = 0;
+
+    /** The number of entries at the start of the arrays that are sorted, unique and non-zero. */
+    private int compactedSize = 0;
+
+    /**
+     * Create a builder for a sparse grid with the given number of rows and columns.
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IllegalArgumentException when the number of rows or columns is not positive
+     */
+    public SparseGridBuilder(final int rows, final int cols)
+    {
+        this(rows, cols, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a builder for a sparse grid with the given number of rows and columns, and an initial capacity for the entries.
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param initialCapacity the expected number of entries
+     * @throws IllegalArgumentException when the number of rows or columns is not positive, or when the initial capacity is
+     *             negative
+     */
+    public SparseGridBuilder(final int rows, final int cols, final int initialCapacity)
+    {
+        Throw.when(rows <= 0, IllegalArgumentException.class, "Number of rows <= 0");
+        Throw.when(cols <= 0, IllegalArgumentException.class, "Number of columns <= 0");
+        Throw.when(initialCapacity < 0, IllegalArgumentException.class, "initialCapacity < 0");
+        this.rows = rows;
+        this.cols = cols;
+        this.rowIndexes = new int[initialCapacity];
+        this.colIndexes = new int[initialCapacity];
+        this.values = new double[initialCapacity];
+        this.replace = new boolean[initialCapacity];
+    }
+
+    /**
+     * Return the number of rows of the grid.
+     * @return the number of rows of the grid
+     */
+    public int rows()
+    {
+        return this.rows;
+    }
+
+    /**
+     * Return the number of columns of the grid.
+     * @return the number of columns of the grid
+     */
+    public int cols()
+    {
+        return this.cols;
+    }
+
+    /**
+     * Return the number of entries in the builder. Before compaction, this includes the duplicate entries for a cell.
+     * @return the number of entries in the builder
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Set the value of a cell, replacing the value of earlier entries for the cell.
+     * @param row the row (0-based)
+     * @param col the column (0-based)
+     * @param si the SI value of the cell
+     * @return this builder for method chaining
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    public SparseGridBuilder set(final int row, final int col, final double si)
+    {
+        append(row, col, si, true);
+        return this;
+    }
+
+    /**
+     * Add a value to a cell, summing it with the value of earlier entries for the cell.
+     * @param row the row (0-based)
+     * @param col the column (0-based)
+     * @param si the SI value to add to the cell
+     * @return this builder for method chaining
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    public SparseGridBuilder add(final int row, final int col, final double si)
+    {
+        append(row, col, si, false);
+        return this;
+    }
+
+    /**
+     * Remove all entries from the builder.
+     * @return this builder for method chaining
+     */
+    public SparseGridBuilder clear()
+    {
+        this.size = 0;
+        this.compactedSize = 0;
+        return this;
+    }
+
+    /**
+     * Append an entry to the arrays, compacting or growing the arrays when they are full.
+     * @param row the row (0-based)
+     * @param col the column (0-based)
+     * @param si the SI value
+     * @param replaceValue whether the entry replaces the value of the cell
+     * @throws IndexOutOfBoundsException when row or col is out of bounds
+     */
+    private void append(final int row, final int col, final double si, final boolean replaceValue)
+    {
+        Throw.when(row < 0 || row >= this.rows, IndexOutOfBoundsException.class, "row %d not in range 0..%d", row,
+                this.rows - 1);
+        Throw.when(col < 0 || col >= this.cols, IndexOutOfBoundsException.class, "column %d not in range 0..%d", col,
+                this.cols - 1);
+        if (this.size == this.values.length)
+        {
+            if (this.size > this.compactedSize && this.size >= (long) this.rows + this.cols)
+            {
+                compact();
+            }
+            if (this.size >= this.values.length * 3 / 4)
+            {
+                int capacity = Math.max(DEFAULT_CAPACITY, this.values.length * 2);
+                this.rowIndexes = Arrays.copyOf(this.rowIndexes, capacity);
+                this.colIndexes = Arrays.copyOf(this.colIndexes, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+                this.replace = Arrays.copyOf(this.replace, capacity);
+            }
+        }
+        this.rowIndexes[this.size] = row;
+        this.colIndexes[this.size] = col;
+        this.values[this.size] = si;
+        this.replace[this.size++] = replaceValue;
+    }
+
+    /**
+     * Sort the entries on row and column, combine the entries for the same cell in the order in which they were appended, and
+     * remove the cells with a value of 0. The sort is a stable counting sort on the column, followed by a stable counting
+     * sort on the row, which takes O(entries + rows + cols) without creating an object per entry. After compaction, the
+     * entries are unique and in row-major order.
+     * @return this builder for method chaining
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public SparseGridBuilder compact()
+    {
+        if (this.size == this.compactedSize)
+            return this;
+        int n = this.size;
+
+        // stable counting sort on the column
+        int[] start = new int[this.cols + 1];
+        for (int i = 0; i < n; i++)
+            start[this.colIndexes[i] + 1]++;
+        for (int c = 0; c < this.cols; c++)
+            start[c + 1] += start[c];
+        int[] byCol = new int[n];
+        for (int i = 0; i < n; i++)
+            byCol[start[this.colIndexes[i]]++] = i;
+
+        // stable counting sort on the row, keeping the column order and the order of appending per cell
+        start = new int[this.rows + 1];
+        for (int i = 0; i < n; i++)
+            start[this.rowIndexes[i] + 1]++;
+        for (int r = 0; r < this.rows; r++)
+            start[r + 1] += start[r];
+        int[] order = new int[n];
+        for (int i : byCol)
+            order[start[this.rowIndexes[i]]++] = i;
+
+        // combine the entries per cell
+        int[] newRows = new int[this.rowIndexes.length];
+        int[] newCols = new int[this.colIndexes.length];
+        double[] newValues = new double[this.values.length];
+        int k = 0;
+        int p = 0;
+        while (p < n)
+        {
+            int row = this.rowIndexes[order[p]];
+            int col = this.colIndexes[order[p]];
+            double value = 0.0;
+            for (; p < n && this.rowIndexes[order[p]] == row && this.colIndexes[order[p]] == col; p++)
+                value = this.replace[order[p]] ? this.values[order[p]] : value + this.values[order[p]];
+            if (value != 0.0)
+            {
+                newRows[k] = row;
+                newCols[k] = col;
+                newValues[k++] = value;
+            }
+        }
+        this.rowIndexes = newRows;
+        this.colIndexes = newCols;
+        this.values = newValues;
+        Arrays.fill(this.replace, 0, k, true);
+        this.size = k;
+        this.compactedSize = k;
+        return this;
+    }
+
+    /**
+     * Build a sparse datagrid in the sorted-index format of {@link SparseDoubleDataSi} with the combined entries. The
+     * builder keeps its entries, so further entries can be appended for a next build.
+     * @return a sparse datagrid with the combined entries
+     * @throws IllegalArgumentException when rows * cols does not fit in an int
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public SparseDoubleDataSi build()
+    {
+        Throw.when((long) this.rows * this.cols > Integer.MAX_VALUE, IllegalArgumentException.class,
+                "Grid of %d x %d is too large for SparseDoubleDataSi; use buildCsr()", this.rows, this.cols);
+        compact();
+        int[] indexes = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+            indexes[i] = this.rowIndexes[i] * this.cols + this.colIndexes[i];
+        return new SparseDoubleDataSi(Arrays.copyOf(this.values, this.size), indexes, this.rows, this.cols);
+    }
+
+    /**
+     * Build a compressed sparse row (CSR) datagrid with the combined entries. The builder keeps its entries, so further entries
+     * can be appended for a next build.
+     * @return a CSR datagrid with the combined entries
+     */
+    @SuppressWarnings("checkstyle:needbraces")
+    public CsrDoubleDataSi buildCsr()
+    {
+        compact();
+        int[] rowPointers = new int[this.rows + 1];
+        for (int i = 0; i < this.size; i++)
+            rowPointers[this.rowIndexes[i] + 1]++;
+        for (int r = 0; r < this.rows; r++)
+            rowPointers[r + 1] += rowPointers[r];
+        return new CsrDoubleDataSi(Arrays.copyOf(this.values, this.size), Arrays.copyOf(this.colIndexes, this.size),
+                rowPointers, this.rows, this.cols);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SparseGridBuilder [rows=" + this.rows + ", cols=" + this.cols + ", size=" + this.size + "]";
+    }
+
+}
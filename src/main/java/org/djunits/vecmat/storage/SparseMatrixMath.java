@@ -0,0 +1,413 @@
+package org.djunits.vecmat.storage;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+import org.djunits.util.MatrixMath;
+import org.djunits.util.ParallelPolicy;
+import org.djutils.exceptions.Throw;
+
+/**
+ * SparseMatrixMath implements the matrix product of two datagrids, taking the storage of the operands into account. When
+ * neither operand is sparse, the dense product of {@link MatrixMath#multiply(double[], double[], int, int, int)} is used, or
+ * {@link MatrixMath#multiply(float[], float[], int, int, int)} resulting in a dense float datagrid when both operands have
+ * float storage. When one or both operands are sparse, the sparse operand is used in compressed sparse row (CSR) format, and
+ * only its stored values are visited:
+ * <ul>
+ * <li>sparse x dense (e.g., a sparse matrix times a column vector) takes O(nnz(A) * p) and results in a dense datagrid;</li>
+ * <li>dense x sparse takes O(m * n + m * nnz(B)) and results in a dense datagrid;</li>
+ * <li>sparse x sparse uses Gustavson's row-by-row algorithm, takes O(m + flops), where flops is the number of multiplications
+ * of stored values, and results in a CSR datagrid.</li>
+ * </ul>
+ * The implicit zeros of a sparse operand are not multiplied, so an infinite or NaN value in the other operand only propagates
+ * through the stored values, as is usual for sparse matrix products. Values that cancel to exactly zero in a sparse x sparse
+ * product are not stored. The rows of the result are independent, so the products are carried out row-parallel when the
+ * {@link ParallelPolicy} allows it for the number of multiplications. Each row is computed in the same order in both cases, so
+ * the parallel result is identical to the sequential result.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+@SuppressWarnings({"checkstyle:needbraces", "checkstyle:localvariablename"})
+public final class SparseMatrixMath
+{
+    /** */
+    private SparseMatrixMath()
+    {
+    }
+
+    /**
+     * Multiply two datagrids with matrix multiplication, using the default {@link ParallelPolicy}.
+     * @param a the left-hand datagrid with size m x n
+     * @param b the right-hand datagrid with size n x p
+     * @return the product with size m x p; a CSR datagrid when both operands are sparse, a dense datagrid otherwise
+     * @throws NullPointerException when a or b is null
+     * @throws IllegalArgumentException when the number of columns of a is not equal to the number of rows of b
+     */
+    public static DataGridSi<?> multiply(final DataGridSi<?> a, final DataGridSi<?> b)
+    {
+        return multiply(a, b, ParallelPolicy.getDefault());
+    }
+
+    /**
+     * Multiply two datagrids with matrix multiplication, using the given {@link ParallelPolicy} for a sparse product.
+     * @param a the left-hand datagrid with size m x n
+     * @param b the right-hand datagrid with size n x p
+     * @param policy the policy that determines whether the rows of a sparse product are computed in parallel
+     * @return the product with size m x p; a CSR datagrid when both operands are sparse, a dense datagrid otherwise
+     * @throws NullPointerException when a, b or policy is null
+     * @throws IllegalArgumentException when the number of columns of a is not equal to the number of rows of b
+     */
+    public static DataGridSi<?> multiply(final DataGridSi<?> a, final DataGridSi<?> b, final ParallelPolicy policy)
+    {
+        Throw.whenNull(a, "a");
+        Throw.whenNull(b, "b");
+        Throw.whenNull(policy, "policy");
+        Throw.when(a.cols() != b.rows(), IllegalArgumentException.class,
+                "Matrix multiplication (M x N) x (N x P): cols of left matrix (%d) != rows of right matrix (%d)", a.cols(),
+                b.rows());
+        if (a.isSparse() && b.isSparse())
+        {
+            return multiplySparseSparse(toCsr(a), toCsr(b), policy);
+        }
+        if (a.isSparse())
+        {
+            if (b.cols() == 1)
+            {
+                return multiplySparseVector(toCsr(a), b.unsafeSiArray(), policy);
+            }
+            return multiplySparseDense(toCsr(a), b.unsafeSiArray(), b.cols(), policy);
+        }
+        if (b.isSparse())
+        {
+            return multiplyDenseSparse(a.unsafeSiArray(), a.rows(), toCsr(b), policy);
+        }
+        if (a.isFloat() && b.isFloat())
+        {
+            return new DenseFloatDataSi(
+                    MatrixMath.multiply(a.unsafeFloatSiArray(), b.unsafeFloatSiArray(), a.rows(), a.cols(), b.cols()), a.rows(),
+                    b.cols());
+        }
+        return new DenseDoubleDataSi(MatrixMath.multiply(a.unsafeSiArray(), b.unsafeSiArray(), a.rows(), a.cols(), b.cols()),
+                a.rows(), b.cols());
+    }
+
+    /**
+     * Return a CSR datagrid with the values of the given datagrid, without a copy when it already is a CSR datagrid.
+     * @param grid the datagrid
+     * @return a CSR datagrid with the values of the given datagrid
+     */
+    private static CsrDoubleDataSi toCsr(final DataGridSi<?> grid)
+    {
+        if (grid instanceof CsrDoubleDataSi csr)
+            return csr;
+        if (grid instanceof CscDoubleDataSi csc)
+            return csc.toCsr();
+        if (grid instanceof SparseDoubleDataSi sparse)
+            return sparse.toCsr();
+        return new CsrDoubleDataSi(grid);
+    }
+
+    /**
+     * Multiply a CSR matrix with a dense column vector (SpMV) in O(nnz(A)).
+     * @param a the CSR matrix with size m x n
+     * @param x the vector with length n
+     * @param policy the policy that determines whether the rows are computed in parallel
+     * @return the dense column vector with length m
+     */
+    private static DenseDoubleDataSi multiplySparseVector(final CsrDoubleDataSi a, final double[] x,
+            final ParallelPolicy policy)
+    {
+        final double[] av = a.values;
+        final int[] ai = a.indexes;
+        final int[] ap = a.pointers;
+        final double[] y = new double[a.rows()];
+        forRows(a.rows(), av.length, policy, (from, to) ->
+        {
+            for (int i = from; i < to; i++)
+            {
+                double sum = 0.0;
+                for (int q = ap[i]; q < ap[i + 1]; q++)
+                    sum += av[q] * x[ai[q]];
+                y[i] = sum;
+            }
+        });
+        return new DenseDoubleDataSi(y, a.rows(), 1);
+    }
+
+    /**
+     * Multiply a CSR matrix with a dense matrix in O(nnz(A) * p).
+     * @param a the CSR matrix with size m x n
+     * @param b the dense matrix with size n x p in row-major format
+     * @param p the number of columns of b
+     * @param policy the policy that determines whether the rows are computed in parallel
+     * @return the dense product with size m x p
+     */
+    private static DenseDoubleDataSi multiplySparseDense(final CsrDoubleDataSi a, final double[] b, final int p,
+            final ParallelPolicy policy)
+    {
+        final double[] av = a.values;
+        final int[] ai = a.indexes;
+        final int[] ap = a.pointers;
+        final double[] c = new double[a.rows() * p];
+        forRows(a.rows(), (long) av.length * p, policy, (from, to) ->
+        {
+            for (int i = from; i < to; i++)
+            {
+                int cRow = i * p;
+                for (int q = ap[i]; q < ap[i + 1]; q++)
+                {
+                    double aik = av[q];
+                    int bRow = ai[q] * p;
+                    for (int j = 0; j < p; j++)
+                        c[cRow + j] += aik * b[bRow + j];
+                }
+            }
+        });
+        return new DenseDoubleDataSi(c, a.rows(), p);
+    }
+
+    /**
+     * Multiply a dense matrix with a CSR matrix in O(m * n + m * nnz(B)).
+     * @param a the dense matrix with size m x n in row-major format
+     * @param m the number of rows of a
+     * @param b the CSR matrix with size n x p
+     * @param policy the policy that determines whether the rows are computed in parallel
+     * @return the dense product with size m x p
+     */
+    private static DenseDoubleDataSi multiplyDenseSparse(final double[] a, final int m, final CsrDoubleDataSi b,
+            final ParallelPolicy policy)
+    {
+        final double[] bv = b.values;
+        final int[] bi = b.indexes;
+        final int[] bp = b.pointers;
+        final int n = b.rows();
+        final int p = b.cols();
+        final double[] c = new double[m * p];
+        forRows(m, (long) m * (n + bv.length), policy, (from, to) ->
+        {
+            for (int i = from; i < to; i++)
+            {
+                int aRow = i * n;
+                int cRow = i * p;
+                for (int k = 0; k < n; k++)
+                {
+                    double aik = a[aRow + k];
+                    for (int q = bp[k]; q < bp[k + 1]; q++)
+                        c[cRow + bi[q]] += aik * bv[q];
+                }
+            }
+        });
+        return new DenseDoubleDataSi(c, m, p);
+    }
+
+    /**
+     * Multiply two CSR matrices (SpGEMM) with Gustavson's algorithm. A symbolic pass counts the number of entries per row of
+     * the result, after which a numeric pass accumulates each row in a dense accumulator and stores its entries in column
+     * order. Both passes take O(m + flops) plus the sorting of the column indexes per row.
+     * @param a the CSR matrix with size m x n
+     * @param b the CSR matrix with size n x p
+     * @param policy the policy that determines whether the rows are computed in parallel
+     * @return the CSR product with size m x p
+     */
+    private static CsrDoubleDataSi multiplySparseSparse(final CsrDoubleDataSi a, final CsrDoubleDataSi b,
+            final ParallelPolicy policy)
+    {
+        final double[] av = a.values;
+        final int[] ai = a.indexes;
+        final int[] ap = a.pointers;
+        final double[] bv = b.values;
+        final int[] bi = b.indexes;
+        final int[] bp = b.pointers;
+        final int m = a.rows();
+        final int p = b.cols();
+        long flops = 0;
+        for (int q = 0; q < av.length; q++)
+            flops += bp[ai[q] + 1] - bp[ai[q]];
+
+        // symbolic pass: the number of entries per row of the result
+        final int[] cp = new int[m + 1];
+        forRows(m, flops, policy, (from, to) ->
+        {
+            int[] marker = new int[p];
+            Arrays.fill(marker, -1);
+            for (int i = from; i < to; i++)
+            {
+                int count = 0;
+                for (int q = ap[i]; q < ap[i + 1]; q++)
+                {
+                    int k = ai[q];
+                    for (int r = bp[k]; r < bp[k + 1]; r++)
+                    {
+                        if (marker[bi[r]] != i)
+                        {
+                            marker[bi[r]] = i;
+                            count++;
+                        }
+                    }
+                }
+                cp[i + 1] = count;
+            }
+        });
+        for (int i = 0; i < m; i++)
+            cp[i + 1] += cp[i];
+
+        // numeric pass: accumulate each row and store it in column order
+        final double[] cv = new double[cp[m]];
+        final int[] ci = new int[cp[m]];
+        forRows(m, flops, policy, (from, to) ->
+        {
+            int[] marker = new int[p];
+            Arrays.fill(marker, -1);
+            double[] accumulator = new double[p];
+            for (int i = from; i < to; i++)
+            {
+                int end = cp[i];
+                for (int q = ap[i]; q < ap[i + 1]; q++)
+                {
+                    double aik = av[q];
+                    int k = ai[q];
+                    for (int r = bp[k]; r < bp[k + 1]; r++)
+                    {
+                        int j = bi[r];
+                        if (marker[j] != i)
+                        {
+                            marker[j] = i;
+                            accumulator[j] = aik * bv[r];
+                            ci[end++] = j;
+                        }
+                        else
+                        {
+                            accumulator[j] += aik * bv[r];
+                        }
+                    }
+                }
+                Arrays.sort(ci, cp[i], end);
+                for (int r = cp[i]; r < end; r++)
+                    cv[r] = accumulator[ci[r]];
+            }
+        });
+        return compact(cv, ci, cp, m, p);
+    }
+
+    /**
+     * Remove the values that cancelled to exactly zero from the arrays of a CSR product, and return the CSR datagrid.
+     * @param cv the values of the product
+     * @param ci the column indexes of the product
+     * @param cp the row pointers of the product
+     * @param m the number of rows
+     * @param p the number of columns
+     * @return the CSR datagrid with only the non-zero values
+     */
+    private static CsrDoubleDataSi compact(final double[] cv, final int[] ci, final int[] cp, final int m, final int p)
+    {
+        int zeros = 0;
+        for (double v : cv)
+            if (v == 0.0)
+                zeros++;
+        if (zeros == 0)
+            return new CsrDoubleDataSi(cv, ci, cp, m, p);
+        double[] values = new double[cv.length - zeros];
+        int[] indexes = new int[values.length];
+        int[] pointers = new int[m + 1];
+        int k = 0;
+        for (int i = 0; i < m; i++)
+        {
+            for (int r = cp[i]; r < cp[i + 1]; r++)
+            {
+                if (cv[r] != 0.0)
+                {
+                    values[k] = cv[r];
+                    indexes[k++] = ci[r];
+                }
+            }
+            pointers[i + 1] = k;
+        }
+        return new CsrDoubleDataSi(values, indexes, pointers, m, p);
+    }
+
+    /**
+     * Process the rows of a product, split over the threads of the pool of the policy when the policy allows parallel execution
+     * for the amount of work. The rows are split recursively into ranges with an amount of work of about the chunk size.
+     * @param rows the number of rows
+     * @param work the estimated number of multiplications for all rows
+     * @param policy the policy that determines whether the rows are processed in parallel
+     * @param body the operation on a range of rows
+     */
+    private static void forRows(final int rows, final long work, final ParallelPolicy policy, final RowBody body)
+    {
+        if (rows < 2 || !policy.isParallel((int) Math.min(Integer.MAX_VALUE, work)))
+        {
+            body.apply(0, rows);
+            return;
+        }
+        int rowChunk = (int) Math.max(1L, Math.min(rows, policy.getChunkSize() * (long) rows / Math.max(1L, work)));
+        policy.getPool().invoke(new RowAction(0, rows, rowChunk, body));
+    }
+
+    /**
+     * The operation on a range of rows of a product.
+     */
+    @FunctionalInterface
+    private interface RowBody
+    {
+        /**
+         * Process a range of rows.
+         * @param from the first row (inclusive)
+         * @param to the last row (exclusive)
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Task that processes a range of rows, or splits it into two halves that are processed in parallel.
+     */
+    private static final class RowAction extends RecursiveAction
+    {
+        /** */
+        private static final long serialVersionUID = 601L;
+
+        /** The first row (inclusive). */
+        private final int from;
+
+        /** The last row (exclusive). */
+        private final int to;
+
+        /** The maximum number of rows of a part. */
+        private final int rowChunk;
+
+        /** The operation on a range of rows. */
+        private final transient RowBody body;
+
+        /**
+         * Create a task for a range of rows.
+         * @param from the first row (inclusive)
+         * @param to the last row (exclusive)
+         * @param rowChunk the maximum number of rows of a part
+         * @param body the operation on a range of rows
+         */
+        RowAction(final int from, final int to, final int rowChunk, final RowBody body)
+        {
+            this.from = from;
+            this.to = to;
+            this.rowChunk = rowChunk;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (this.to - this.from <= this.rowChunk)
+            {
+                this.body.apply(this.from, this.to);
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new RowAction(this.from, mid, this.rowChunk, this.body),
+                    new RowAction(mid, this.to, this.rowChunk, this.body));
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.djunits.vecmat.table;
 
+import java.io.IOException;
+
 import org.djunits.formatter.TableFormat;
 import org.djunits.formatter.TableFormatter;
 import org.djunits.quantity.def.AbsQuantity;
@@ -262,7 +264,7 @@ public class AbsQuantityTable<A extends AbsQuantity<A, Q, ?>, Q extends Quantity
     @Override
     public String format()
     {
-        return format(TableFormat.instance());
+        return format(TableFormat.defaults());
     }
 
     /**
@@ -275,6 +277,31 @@ public class AbsQuantityTable<A extends AbsQuantity<A, Q, ?>, Q extends Quantity
         return TableFormatter.format(this, format);
     }
 
+    /**
+     * Append the representation of this quantity table after applying the format to a string builder, without creating
+     * intermediate strings.
+     * @param s the string builder to append the formatted quantity table to
+     * @param format the format to apply for the quantity table
+     * @return the string builder, to allow chaining
+     */
+    public StringBuilder formatTo(final StringBuilder s, final TableFormat format)
+    {
+        return TableFormatter.formatTo(s, this, format);
+    }
+
+    /**
+     * Append the representation of this quantity table after applying the format to an appendable, such as a Writer.
+     * @param appendable the appendable to append the formatted quantity table to
+     * @param format the format to apply for the quantity table
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public <A extends Appendable> A formatTo(final A appendable, final TableFormat format) throws IOException
+    {
+        return TableFormatter.formatTo(appendable, this, format);
+    }
+
     /**
      * String representation of this quantity table, expressed in the specified unit.
      * @param targetUnit the unit into which the values of the quantity table are converted for display
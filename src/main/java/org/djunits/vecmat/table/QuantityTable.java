@@ -1,5 +1,6 @@
 package org.djunits.vecmat.table;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.djunits.formatter.TableFormat;
@@ -10,6 +11,8 @@ import org.djunits.unit.UnitInterface;
 import org.djunits.unit.si.SIUnit;
 import org.djunits.vecmat.def.Table;
 import org.djunits.vecmat.dn.VectorN;
+import org.djunits.vecmat.storage.CscDoubleDataSi;
+import org.djunits.vecmat.storage.CsrDoubleDataSi;
 import org.djunits.vecmat.storage.DataGridSi;
 import org.djunits.vecmat.storage.DenseDoubleDataSi;
 import org.djutils.exceptions.Throw;
@@ -58,6 +61,24 @@ public class QuantityTable<Q extends Quantity<Q>>
         return new QuantityTable<SIQuantity>(this.dataGridSi.instantiateNew(siNew), siUnit);
     }
 
+    @Override
+    protected DataGridSi<?> dataGrid()
+    {
+        return this.dataGridSi;
+    }
+
+    @Override
+    protected QuantityTable<Q> instantiateGrid(final DataGridSi<?> gridSi, final UnitInterface<Q> displayUnit)
+    {
+        return new QuantityTable<Q>(gridSi, displayUnit);
+    }
+
+    @Override
+    protected QuantityTable<SIQuantity> instantiateGrid(final DataGridSi<?> gridSi, final SIUnit siUnit)
+    {
+        return new QuantityTable<SIQuantity>(gridSi, siUnit);
+    }
+
     /**
      * Return the internal datagrid object, so we can retrieve data from it.
      * @return the internal datagrid object
@@ -151,6 +172,11 @@ public class QuantityTable<Q extends Quantity<Q>>
     @SuppressWarnings("checkstyle:needbraces")
     public QuantityTable<Q> transpose()
     {
+        // compressed storage is transposed by swapping the roles of the rows and columns, without moving the values
+        if (this.dataGridSi instanceof CsrDoubleDataSi csr)
+            return new QuantityTable<Q>(csr.transpose(), getDisplayUnit());
+        if (this.dataGridSi instanceof CscDoubleDataSi csc)
+            return new QuantityTable<Q>(csc.transpose(), getDisplayUnit());
         double[] data = unsafeSiArray();
         double[] newSi = new double[data.length];
         int rows = rows();
@@ -309,7 +335,7 @@ public class QuantityTable<Q extends Quantity<Q>>
     @Override
     public String format()
     {
-        return format(TableFormat.instance());
+        return format(TableFormat.defaults());
     }
 
     /**
@@ -322,6 +348,31 @@ public class QuantityTable<Q extends Quantity<Q>>
         return TableFormatter.format(this, format);
     }
 
+    /**
+     * Append the representation of this quantity table after applying the format to a string builder, without creating
+     * intermediate strings.
+     * @param s the string builder to append the formatted quantity table to
+     * @param format the format to apply for the quantity table
+     * @return the string builder, to allow chaining
+     */
+    public StringBuilder formatTo(final StringBuilder s, final TableFormat format)
+    {
+        return TableFormatter.formatTo(s, this, format);
+    }
+
+    /**
+     * Append the representation of this quantity table after applying the format to an appendable, such as a Writer.
+     * @param appendable the appendable to append the formatted quantity table to
+     * @param format the format to apply for the quantity table
+     * @return the appendable, to allow chaining
+     * @param <A> the type of appendable
+     * @throws IOException when appending to the appendable fails
+     */
+    public <A extends Appendable> A formatTo(final A appendable, final TableFormat format) throws IOException
+    {
+        return TableFormatter.formatTo(appendable, this, format);
+    }
+
     /**
      * String representation of this quantity table, expressed in the specified unit.
      * @param targetUnit the unit into which the values of the quantity table are converted for display
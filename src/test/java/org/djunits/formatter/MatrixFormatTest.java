@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 import org.djunits.quantity.Angle;
@@ -232,4 +234,29 @@ public class MatrixFormatTest
         }
     }
 
+    /**
+     * Test that formatTo appends the same text as format to a StringBuilder and to another Appendable.
+     * @throws IOException on error writing to the StringWriter
+     */
+    @Test
+    public void testFormatTo() throws IOException
+    {
+        Matrix3x3<Energy> v =
+                Matrix3x3.of(new double[][] {{1200.345, 123.456, 5432.104}, {1, 2, 3}, {4, 5, 6}}, Energy.Unit.J);
+        AbsMatrix3x3<Direction, Angle> a = AbsMatrix3x3.of(new double[][] {{30, 40, 50}, {10, 11, 12}, {40, 50, 60}},
+                Angle.Unit.deg, Direction.Reference.NORTH);
+        MatrixFormat format = MatrixFormat.instance().setFixedFloat().setDecimals(2);
+        MatrixFormat refFormat = MatrixFormat.instance().setPrintReference();
+
+        String expected = v.format(format);
+        StringBuilder sb = new StringBuilder("start;");
+        assertEquals("start;" + expected, v.formatTo(sb, format).toString());
+        assertEquals("start;" + expected + expected, MatrixFormatter.formatTo(sb, v, format).toString());
+
+        String expectedAbs = a.format(refFormat);
+        assertTrue(expectedAbs.endsWith(" (NORTH)"));
+        assertEquals(expectedAbs, a.formatTo(new StringWriter(), refFormat).toString());
+        assertEquals("x" + expectedAbs, MatrixFormatter.formatTo(new StringBuilder("x"), a, refFormat).toString());
+    }
+
 }
@@ -2,11 +2,23 @@ package org.djunits.formatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.djunits.quantity.Duration;
 import org.djunits.quantity.Length;
+import org.djunits.quantity.Power;
 import org.djunits.quantity.Speed;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -259,6 +271,91 @@ public class NumberFormatTest
         assertEquals("       0.000 m", l0.format(QuantityFormat.instance().setFixedWithEngFallback()));
     }
 
+    /**
+     * Test that variable-length formatting gives the same results as formatting with BigDecimal and DecimalFormat, also for
+     * values where Double.toString does not give the shortest decimal digits before Java 19.
+     */
+    @Test
+    public void testVariableLengthReference()
+    {
+        Random random = new Random(11L);
+        Locale[] locales = {Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.forLanguageTag("th-TH-u-nu-thai"),
+                Locale.forLanguageTag("ar-EG")};
+        double[] special = {1.0, -1.0, 999.9999999999999, 9.99999999999e20, 0.001, 1.0E-3, 123456789.0, 1E23, -4.9E-324,
+                Double.MAX_VALUE, 0.5, 1234.5678, 9.9999999995, 99999.99999999, 28248277009715328.0, -1.485773452741064960E18,
+                2.0E-3};
+        for (int i = 0; i < 20_000; i++)
+        {
+            double v = i < special.length ? special[i] : random.nextBoolean() ? Double.longBitsToDouble(random.nextLong())
+                    : (random.nextDouble() - 0.3) * Math.pow(10.0, random.nextInt(40) - 20);
+            if (!Double.isFinite(v) || v == 0.0)
+            {
+                continue;
+            }
+            int maxSigDigits = 1 + random.nextInt(20);
+            int sciThreshold = -1 - random.nextInt(6);
+            boolean grouping = random.nextBoolean();
+            boolean upperE = random.nextBoolean();
+            Locale locale = locales[random.nextInt(locales.length)];
+            QuantityFormat format = QuantityFormat.instance().setVariableLength().setMaxSigDigits(maxSigDigits)
+                    .setSciThreshold(sciThreshold).setGroupingSeparator(grouping).setUpperE(upperE).setLocale(locale);
+            String expected = referenceVariableLength(v, maxSigDigits, sciThreshold, grouping, upperE, locale) + " m";
+            assertEquals(expected, Length.ofSi(v).format(format), Double.toString(v));
+        }
+    }
+
+    /**
+     * Test variable-length formatting of values for which Double.toString does not give the shortest decimal digits before
+     * Java 19, and of negative values in a locale with a bidirectional formatting mark before the minus sign.
+     */
+    @Test
+    public void testVariableLengthToStringDigits()
+    {
+        QuantityFormat format = QuantityFormat.instance().setVariableLength().setMaxSigDigits(17).setSciThreshold(-20);
+        assertEquals(referenceVariableLength(28248277009715328.0, 17, -20, false, true, Locale.US) + " m",
+                Length.ofSi(28248277009715328.0).format(format));
+        format = QuantityFormat.instance().setVariableLength().setMaxSigDigits(15);
+        assertEquals(referenceVariableLength(-1.485773452741064960E18, 15, -3, false, true, Locale.US) + " m",
+                Length.ofSi(-1.485773452741064960E18).format(format));
+
+        Locale arabic = Locale.forLanguageTag("ar-EG");
+        format = QuantityFormat.instance().setVariableLength().setLocale(arabic);
+        String formatted = Length.ofSi(-12.5).format(format);
+        DecimalFormat df = new DecimalFormat("#,##0.#", DecimalFormatSymbols.getInstance(arabic));
+        assertTrue(formatted.startsWith(df.format(-12.5) + " "), formatted);
+        assertTrue(formatted.startsWith(df.getNegativePrefix()), formatted);
+    }
+
+    /**
+     * The variable-length formatting with BigDecimal and DecimalFormat, as it was before the shortest decimal digit generator.
+     * @param val the value to format
+     * @param maxSigDigits the maximum number of significant digits
+     * @param sciThreshold the threshold for scientific notation
+     * @param grouping whether to use the grouping separator
+     * @param upperE whether to use E or e
+     * @param locale the locale
+     * @return the formatted value
+     */
+    private static String referenceVariableLength(final double val, final int maxSigDigits, final int sciThreshold,
+            final boolean grouping, final boolean upperE, final Locale locale)
+    {
+        int exponent = (int) Math.floor(Math.log10(Math.abs(val)));
+        BigDecimal bd = BigDecimal.valueOf(val).round(new MathContext(maxSigDigits, RoundingMode.HALF_UP));
+        boolean useScientific = exponent >= maxSigDigits || exponent < sciThreshold;
+        DecimalFormat df = new DecimalFormat("#,##0.#", DecimalFormatSymbols.getInstance(locale));
+        df.setGroupingUsed(grouping);
+        df.setMaximumFractionDigits(340);
+        df.setMinimumFractionDigits(0);
+        df.setMinimumIntegerDigits(1);
+        if (!useScientific)
+        {
+            return df.format(bd);
+        }
+        BigDecimal mantissa =
+                bd.movePointLeft(exponent).round(new MathContext(maxSigDigits, RoundingMode.HALF_UP)).stripTrailingZeros();
+        return df.format(mantissa) + (upperE ? "E" : "e") + String.format(locale, "%+03d", exponent);
+    }
+
     /**
      * Test format string.
      */
@@ -270,4 +367,99 @@ public class NumberFormatTest
         assertEquals(" 90.00 km/h", s);
     }
 
+    /**
+     * Test that the locale of the format is used for the number and the unit, without changing the default locale.
+     */
+    @Test
+    public void testLocale()
+    {
+        Length length = new Length(1234.5678, Length.Unit.m);
+        QuantityFormat german =
+                QuantityFormat.instance().setVariableLength().setGroupingSeparator(true).setLocale(Locale.GERMANY);
+        assertEquals("1.234,5678 m", length.format(german));
+        assertSame(Locale.US, Locale.getDefault());
+        assertEquals("1,234.5678 m",
+                length.format(QuantityFormat.instance().setVariableLength().setGroupingSeparator(true)));
+        assertEquals("1234,57 m", length.format(QuantityFormat.instance().setFormatString("%.2f").setLocale(Locale.GERMANY)));
+        assertEquals("   1,235E+03 m", length.format(QuantityFormat.instance().setScientific().setLocale(Locale.GERMANY)));
+
+        // the unit is localized with the locale of the format as well
+        Power power = new Power(2.0, Power.Unit.hp_M);
+        assertEquals("2 PS", power.format(QuantityFormat.instance().setVariableLength().setLocale(Locale.GERMANY)));
+        assertEquals("2 hp(M)", power.format(QuantityFormat.instance().setVariableLength()));
+        assertSame(Locale.US, Locale.getDefault());
+    }
+
+    /**
+     * Test that the display unit is applied when the default locale is not US, both with and without an explicit locale of
+     * the format. The display unit and the unit string are resolved with the locale of the format.
+     */
+    @Test
+    public void testDisplayUnitDefaultLocale()
+    {
+        Locale.setDefault(Locale.GERMANY);
+        try
+        {
+            Length length = new Length(1500.0, Length.Unit.m);
+            assertEquals("1,5 km", length.format(QuantityFormat.instance().setVariableLength().setDisplayUnit(Length.Unit.km)));
+            assertEquals("1,5 km", length.format(QuantityFormat.instance().setVariableLength().setDisplayUnit("km")));
+            assertEquals("1.5 km",
+                    length.format(QuantityFormat.instance().setVariableLength().setDisplayUnit("km").setLocale(Locale.US)));
+            assertEquals("150000 cm", length.format(QuantityFormat.instance().setVariableLength().setDisplayUnit("cm")
+                    .setLocale(new Locale("nl", "NL"))));
+            Duration duration = new Duration(172800.0, Duration.Unit.s);
+            assertEquals("2 Tag", duration.format(QuantityFormat.instance().setVariableLength().setDisplayUnit("day")));
+            assertEquals("2 day",
+                    duration.format(QuantityFormat.instance().setVariableLength().setDisplayUnit("day").setLocale(Locale.US)));
+            assertEquals(Locale.GERMANY, Locale.getDefault());
+        }
+        finally
+        {
+            Locale.setDefault(Locale.US);
+        }
+    }
+
+    /**
+     * Test that formatting with different locales from several threads at the same time gives the same results as formatting
+     * from one thread.
+     * @throws InterruptedException when a thread is interrupted
+     */
+    @Test
+    public void testLocaleConcurrent() throws InterruptedException
+    {
+        Locale[] locales = {Locale.US, Locale.GERMANY, Locale.FRANCE, Locale.UK};
+        Length length = new Length(1234567.125, Length.Unit.m);
+        String[] expected = new String[locales.length];
+        for (int i = 0; i < locales.length; i++)
+        {
+            expected[i] = length.format(QuantityFormat.instance().setGroupingSeparator(true).setLocale(locales[i]));
+        }
+        AtomicReference<String> error = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++)
+        {
+            final int index = t % locales.length;
+            QuantityFormat format = QuantityFormat.instance().setGroupingSeparator(true).setLocale(locales[index]);
+            Thread thread = new Thread(() ->
+            {
+                for (int i = 0; i < 2000; i++)
+                {
+                    String s = length.format(format);
+                    if (!expected[index].equals(s))
+                    {
+                        error.compareAndSet(null, locales[index] + ": " + s + " instead of " + expected[index]);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        assertEquals(null, error.get());
+        assertSame(Locale.US, Locale.getDefault());
+    }
+
 }
@@ -1,13 +1,23 @@
 package org.djunits.formatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.djunits.quantity.Angle;
 import org.djunits.quantity.Direction;
 import org.djunits.quantity.Energy;
+import org.djunits.quantity.Length;
 import org.djunits.quantity.LinearObjectDensity;
 import org.djunits.quantity.Mass;
 import org.djunits.quantity.SIQuantity;
@@ -614,4 +624,145 @@ public class QuantityFormatTest
             QuantityFormat.resetDefaults();
         }
     }
+
+    /**
+     * Test that formatTo appends the same text as format to a StringBuilder and to another Appendable, for all number formats.
+     * @throws IOException on error writing to the StringWriter
+     */
+    @Test
+    public void testFormatTo() throws IOException
+    {
+        QuantityFormat[] formats = {QuantityFormat.instance().setVariableLength(), QuantityFormat.instance().setFixedFloat(),
+                QuantityFormat.instance().setScientific().setUpperE(false), QuantityFormat.instance().setEngineering(),
+                QuantityFormat.instance().setFixedWithSciFallback(), QuantityFormat.instance().setFixedWithEngFallback(),
+                QuantityFormat.instance().setFormatString("%.2f"), QuantityFormat.instance().setLocale(Locale.GERMANY)};
+        double[] values = {0.0, 1.5, -12345.678, 0.000123, 1.0E22, -9.87E-10};
+        StringBuilder sb = new StringBuilder("start");
+        StringWriter writer = new StringWriter();
+        for (QuantityFormat format : formats)
+        {
+            for (double v : values)
+            {
+                Length length = new Length(v, Length.Unit.m);
+                String expected = length.format(format);
+                int start = sb.length();
+                assertSame(sb, length.formatTo(sb, format));
+                assertEquals(expected, sb.substring(start));
+                assertSame(sb, QuantityFormatter.formatTo(sb, length, format));
+                assertEquals(expected + expected, sb.substring(start));
+                writer.getBuffer().setLength(0);
+                assertSame(writer, length.formatTo(writer, format));
+                assertEquals(expected, writer.toString());
+            }
+        }
+        assertTrue(sb.toString().startsWith("start"));
+
+        // the number emitters of the formatter
+        assertEquals("  12.345E+03 m", new Length(12345.0, Length.Unit.m)
+                .format(QuantityFormat.instance().setEngineering().setWidth(12).setDecimals(3)));
+        assertEquals("1.230e-04 m", new Length(0.000123, Length.Unit.m)
+                .format(QuantityFormat.instance().setFixedWithSciFallback().setWidth(1).setDecimals(3).setUpperE(false)));
+        assertEquals("1.230E+102 m", new Length(1.23E102, Length.Unit.m)
+                .format(QuantityFormat.instance().setEngineering().setDecimals(3).setWidth(1)));
+
+        // absolute quantities with a reference
+        Direction dir = new Direction(30.0, Angle.Unit.deg, Direction.Reference.NORTH, false);
+        QuantityFormat format = QuantityFormat.instance().setPrintReference().setReferencePrefix(" (").setReferencePostfix(")");
+        assertEquals("x" + dir.format(format), dir.formatTo(new StringBuilder("x"), format).toString());
+        assertEquals(dir.format(format), dir.formatTo(new StringWriter(), format).toString());
+        assertTrue(dir.format(format).endsWith("(NORTH)"));
+        assertThrows(NullPointerException.class, () -> dir.formatTo((StringBuilder) null, format));
+        assertThrows(NullPointerException.class, () -> dir.formatTo((StringWriter) null, format));
+    }
+
+    /**
+     * Test frozen formats, modifiable copies, and the atomically replaced defaults.
+     * @throws InterruptedException when a thread is interrupted
+     */
+    @Test
+    public void testFrozen() throws InterruptedException
+    {
+        QuantityFormat builder = QuantityFormat.instance().setFixedFloat().setDecimals(2).setWidth(8);
+        QuantityFormat frozen = builder.freeze();
+        assertFalse(builder.isFrozen());
+        assertTrue(frozen.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        Energy e = new Energy(1234.5678, Energy.Unit.J);
+        assertEquals(" 1234.57 J", e.format(frozen));
+        assertThrows(IllegalStateException.class, () -> frozen.setDecimals(3));
+        assertThrows(IllegalStateException.class, () -> frozen.setAutoSiPrefix());
+        assertEquals(" 1234.57 J", e.format(frozen));
+
+        // changing the builder does not change the frozen format
+        builder.setDecimals(1);
+        assertEquals("  1234.6 J", e.format(builder));
+        assertEquals(" 1234.57 J", e.format(frozen));
+
+        // a copy is modifiable and independent
+        QuantityFormat copy = frozen.copy().setDecimals(3);
+        assertFalse(copy.isFrozen());
+        assertEquals("1234.568 J", e.format(copy));
+        assertEquals(" 1234.57 J", e.format(frozen));
+
+        // the frozen defaults are replaced when the defaults change
+        try
+        {
+            QuantityFormat defaults = QuantityFormat.defaults();
+            assertTrue(defaults.isFrozen());
+            assertThrows(IllegalStateException.class, () -> defaults.setScientific());
+            assertEquals("1234.5678 J", e.format(defaults));
+            QuantityFormat.changeDefaults().setFixedFloat().setDecimals(1);
+            assertEquals("1234.5678 J", e.format(defaults));
+            assertEquals("      1234.6 J", e.format(QuantityFormat.defaults()));
+            assertEquals("      1234.6 J", e.toString());
+            assertFalse(QuantityFormat.instance().isFrozen());
+
+            // builders of the defaults only publish the settings they change, and do not undo a reset
+            QuantityFormat widthBuilder = QuantityFormat.changeDefaults();
+            QuantityFormat decimalsBuilder = QuantityFormat.changeDefaults();
+            widthBuilder.setWidth(14);
+            decimalsBuilder.setDecimals(2);
+            assertEquals("       1234.57 J", e.format(QuantityFormat.defaults()));
+            QuantityFormat.resetDefaults();
+            widthBuilder.setUpperE(false);
+            assertEquals("1234.5678 J", e.format(QuantityFormat.defaults()));
+            assertEquals("  1234.6 J", e.format(widthBuilder.setWidth(8)));
+        }
+        finally
+        {
+            QuantityFormat.resetDefaults();
+        }
+        assertEquals("1234.5678 J", e.toString());
+
+        // a frozen format with automatic SI prefixes is shared between threads
+        QuantityFormat si = QuantityFormat.instance().setAutoSiPrefix().setLocale(Locale.US).freeze();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++)
+        {
+            Thread thread = new Thread(() ->
+            {
+                try
+                {
+                    for (int i = 0; i < 1000; i++)
+                    {
+                        assertEquals("1.5 kJ", new Energy(1500.0, Energy.Unit.J).format(si));
+                        assertEquals("2.5 mJ", new Energy(0.0025, Energy.Unit.J).format(si));
+                    }
+                }
+                catch (Throwable throwable)
+                {
+                    error.set(throwable);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        assertNull(error.get());
+    }
+
 }
@@ -0,0 +1,176 @@
+package org.djunits.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ShortestDecimal} digit generator.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class ShortestDecimalTest
+{
+    /**
+     * Test that the digits are the shortest digits that parse back to the same double, and that they are never longer than the
+     * digits of Double.toString.
+     */
+    @Test
+    public void testShortest()
+    {
+        ShortestDecimal decimal = new ShortestDecimal();
+        double[] values = {1.0, 0.1, 0.3, 123.456, 1E23, 2E23, 9007199254740993.0, 4.9E-324, Double.MIN_NORMAL,
+                Double.MAX_VALUE, 1.0E-5, 2.0E-3, 5E-324, 1E-323, 1.7976931348623157E308, Math.PI, 100.0, 1E22, 1E16};
+        for (double v : values)
+        {
+            check(decimal, v);
+        }
+        assertDigits(decimal, 123.456, "123456", 2);
+        assertDigits(decimal, 0.001, "1", -3);
+        assertDigits(decimal, 1200.0, "12", 3);
+        assertDigits(decimal, -2.5, "25", 0);
+        assertDigits(decimal, Double.MIN_VALUE, "49", -324);
+        assertDigits(decimal, 2 * Double.MIN_VALUE, "99", -324);
+
+        Random random = new Random(42L);
+        for (int i = 0; i < 200_000; i++)
+        {
+            double v = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(v) && v != 0.0)
+            {
+                check(decimal, v);
+            }
+            check(decimal, random.nextDouble() * Math.pow(10.0, random.nextInt(40) - 20));
+            check(decimal, random.nextInt(1_000_000) / 1000.0);
+        }
+    }
+
+    /**
+     * Test the rounding to significant digits against BigDecimal.
+     */
+    @Test
+    public void testRound()
+    {
+        ShortestDecimal decimal = new ShortestDecimal();
+        Random random = new Random(7L);
+        for (int i = 0; i < 100_000; i++)
+        {
+            double v = random.nextBoolean() ? random.nextDouble() * Math.pow(10.0, random.nextInt(20) - 10)
+                    : random.nextInt(100_000) / 1000.0 + 0.0005;
+            int precision = random.nextInt(18);
+            decimal.set(v);
+            decimal.round(precision);
+            BigDecimal expected =
+                    BigDecimal.valueOf(v).round(new MathContext(precision, RoundingMode.HALF_UP)).stripTrailingZeros();
+            assertEquals(expected, toBigDecimal(decimal), v + " with precision " + precision);
+        }
+        decimal.set(9.9996);
+        decimal.round(4);
+        assertEquals(0, new BigDecimal("10").compareTo(toBigDecimal(decimal)));
+        assertThrows(IllegalArgumentException.class, () -> decimal.round(-1));
+    }
+
+    /**
+     * Test that the digits of Double.toString are the digits of BigDecimal.valueOf, also before Java 19 when Double.toString
+     * does not always return the shortest digits.
+     */
+    @Test
+    public void testToStringDigits()
+    {
+        ShortestDecimal decimal = new ShortestDecimal();
+        double[] values = {28248277009715328.0, -1.485773452741064960E18, 2.0E-3, 1.0E-5, 0.001, -123.456, 1E23, 100.0,
+                4.9E-324, Double.MAX_VALUE};
+        for (double v : values)
+        {
+            decimal.setToStringDigits(v);
+            assertEquals(BigDecimal.valueOf(Math.abs(v)).stripTrailingZeros(), toBigDecimal(decimal), Double.toString(v));
+            decimal.parse(Double.toString(v));
+            assertEquals(BigDecimal.valueOf(Math.abs(v)).stripTrailingZeros(), toBigDecimal(decimal), Double.toString(v));
+        }
+        decimal.parse("0.0020");
+        assertEquals(new BigDecimal("0.002"), toBigDecimal(decimal));
+        decimal.parse("-1.250E-7");
+        assertEquals(new BigDecimal("1.25E-7"), toBigDecimal(decimal));
+
+        Random random = new Random(3L);
+        for (int i = 0; i < 100_000; i++)
+        {
+            double v = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(v) && v != 0.0)
+            {
+                decimal.setToStringDigits(v);
+                assertEquals(BigDecimal.valueOf(Math.abs(v)).stripTrailingZeros(), toBigDecimal(decimal), Double.toString(v));
+            }
+        }
+    }
+
+    /**
+     * Check that the digits for a value are the shortest digits that round to the value.
+     * @param decimal the digit generator
+     * @param v the value
+     */
+    private static void check(final ShortestDecimal decimal, final double v)
+    {
+        decimal.set(v);
+        BigDecimal bd = toBigDecimal(decimal);
+        assertEquals(Math.abs(v), bd.doubleValue(), 0.0, Double.toString(v));
+        assertTrue(decimal.digits[decimal.length - 1] != 0, Double.toString(v));
+        if (Math.abs(v) < Double.MIN_NORMAL)
+        {
+            return; // the smallest subnormal values always get 2 digits, e.g., 9.9E-324 rather than 1.0E-323
+        }
+        BigDecimal jdk = new BigDecimal(Double.toString(Math.abs(v))).stripTrailingZeros();
+        assertTrue(decimal.length <= jdk.precision(), Double.toString(v));
+        if (decimal.length > 1)
+        {
+            // one digit less does not round to the same value
+            BigDecimal shorter = bd.round(new MathContext(decimal.length - 1, RoundingMode.HALF_EVEN));
+            assertTrue(shorter.doubleValue() != Math.abs(v) || shorter.compareTo(bd) == 0, Double.toString(v));
+        }
+    }
+
+    /**
+     * Assert the digits and exponent for a value.
+     * @param decimal the digit generator
+     * @param v the value
+     * @param digits the expected digits
+     * @param exponent the expected exponent
+     */
+    private static void assertDigits(final ShortestDecimal decimal, final double v, final String digits, final int exponent)
+    {
+        decimal.set(v);
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < decimal.length; i++)
+        {
+            s.append(decimal.digits[i]);
+        }
+        assertEquals(digits, s.toString());
+        assertEquals(exponent, decimal.exponent);
+    }
+
+    /**
+     * Return the value of the digits as a BigDecimal.
+     * @param decimal the digit generator
+     * @return the value of the digits
+     */
+    private static BigDecimal toBigDecimal(final ShortestDecimal decimal)
+    {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < decimal.length; i++)
+        {
+            s.append(decimal.digits[i]);
+        }
+        return new BigDecimal(s.toString()).scaleByPowerOfTen(decimal.exponent - decimal.length + 1).stripTrailingZeros();
+    }
+
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 import org.djunits.quantity.Angle;
@@ -242,4 +244,29 @@ public class TableFormatTest
         }
     }
 
+    /**
+     * Test that formatTo appends the same text as format to a StringBuilder and to another Appendable.
+     * @throws IOException on error writing to the StringWriter
+     */
+    @Test
+    public void testFormatTo() throws IOException
+    {
+        QuantityTable<Energy> v =
+                QuantityTable.of(new double[][] {{1200.345, 123.456, 5432.104}, {1, 2, 3}, {4, 5, 6}}, Energy.Unit.J);
+        AbsQuantityTable<Direction, Angle> a = AbsQuantityTable.of(new double[][] {{30, 40, 50}, {10, 11, 12}, {40, 50, 60}},
+                Angle.Unit.deg, Direction.Reference.NORTH);
+        TableFormat format = TableFormat.instance().setFixedFloat().setDecimals(2);
+        TableFormat refFormat = TableFormat.instance().setPrintReference();
+
+        String expected = v.format(format);
+        StringBuilder sb = new StringBuilder("start;");
+        assertEquals("start;" + expected, v.formatTo(sb, format).toString());
+        assertEquals("start;" + expected + expected, TableFormatter.formatTo(sb, v, format).toString());
+
+        String expectedAbs = a.format(refFormat);
+        assertTrue(expectedAbs.endsWith(" (NORTH)"));
+        assertEquals(expectedAbs, a.formatTo(new StringWriter(), refFormat).toString());
+        assertEquals("x" + expectedAbs, TableFormatter.formatTo(new StringBuilder("x"), a, refFormat).toString());
+    }
+
 }
@@ -8,6 +8,7 @@ import org.djunits.quantity.Area;
 import org.djunits.quantity.Energy;
 import org.djunits.quantity.Temperature;
 import org.djunits.quantity.TemperatureDifference;
+import org.djunits.unit.Units;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +58,23 @@ public class UnitFormatTest
         String s5 = energy.format(QuantityFormat.instance().setDisplayUnit(Area.Unit.m2));
         assertTrue(s5.contains("1200"));
         assertTrue(s5.endsWith(" J"));
+
+        // the units that a frozen format has resolved are not used anymore after a change of the registry
+        QuantityFormat exa = QuantityFormat.instance().setDisplayUnit("EJ").freeze();
+        assertTrue(energy.format(exa).endsWith(" EJ"));
+        Energy.Unit ej = Units.resolve(Energy.Unit.class, "EJ");
+        Units.unregister(ej);
+        try
+        {
+            String s6 = energy.format(exa);
+            assertTrue(s6.contains("1200"));
+            assertTrue(s6.endsWith(" J"));
+        }
+        finally
+        {
+            Units.register(ej);
+        }
+        assertTrue(energy.format(exa).endsWith(" EJ"));
     }
 
     /**
@@ -1,8 +1,11 @@
 package org.djunits.formatter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 import org.djunits.quantity.Angle;
@@ -513,4 +516,28 @@ public class VectorFormatTest
         }
     }
 
+    /**
+     * Test that formatTo appends the same text as format to a StringBuilder and to another Appendable.
+     * @throws IOException on error writing to the StringWriter
+     */
+    @Test
+    public void testFormatTo() throws IOException
+    {
+        Vector3.Row<Energy> v = Vector3.Row.of(new double[] {1200.345, 123.456, 5432.104}, Energy.Unit.J);
+        AbsVector3.Col<Direction, Angle> a =
+                AbsVector3.Col.of(new double[] {30, 40, 50}, Angle.Unit.deg, Direction.Reference.NORTH);
+        VectorFormat.Row rowFormat = VectorFormat.Row.instance().setFixedFloat().setDecimals(2);
+        VectorFormat.Col colFormat = VectorFormat.Col.instance().setPrintReference();
+
+        String expected = v.format(rowFormat);
+        StringBuilder sb = new StringBuilder("start;");
+        assertEquals("start;" + expected, v.formatTo(sb, rowFormat).toString());
+        assertEquals("start;" + expected + expected, VectorFormatter.formatTo(sb, v, rowFormat).toString());
+
+        String expectedAbs = a.format(colFormat);
+        assertTrue(expectedAbs.endsWith(" (NORTH)"));
+        assertEquals(expectedAbs, a.formatTo(new StringWriter(), colFormat).toString());
+        assertEquals("x" + expectedAbs, VectorFormatter.formatTo(new StringBuilder("x"), a, colFormat).toString());
+    }
+
 }
@@ -0,0 +1,109 @@
+package org.djunits.quantity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.UnitInterface;
+import org.djunits.unit.Unitless;
+import org.djunits.unit.si.SIUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QuantityRegistry} and the typed multiplication and division of quantities.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class QuantityRegistryTest
+{
+    /**
+     * Test the lookup of base units, including the precedence for quantities with the same dimensions.
+     */
+    @Test
+    public void testBaseUnit()
+    {
+        assertSame(Force.Unit.SI, QuantityRegistry.baseUnit(Force.Unit.SI_UNIT));
+        assertSame(Length.Unit.SI, QuantityRegistry.baseUnit(SIUnit.of("m")));
+        assertSame(Unitless.BASE, QuantityRegistry.baseUnit(SIUnit.DIMLESS));
+        assertSame(Temperature.Unit.SI, QuantityRegistry.baseUnit(SIUnit.of("K")));
+        assertSame(Energy.Unit.SI, QuantityRegistry.baseUnit(Torque.Unit.SI_UNIT));
+        assertSame(Frequency.Unit.SI, QuantityRegistry.baseUnit(RadioActivity.Unit.SI_UNIT));
+        assertNull(QuantityRegistry.baseUnit(AbsorbedDose.Unit.SI_UNIT));
+        assertFalse(QuantityRegistry.isRegistered(SIUnit.of("m5")));
+        assertTrue(QuantityRegistry.isRegistered(Pressure.Unit.SI_UNIT));
+        assertThrows(NullPointerException.class, () -> QuantityRegistry.baseUnit(null));
+
+        for (var entry : QuantityRegistry.registeredQuantities().entrySet())
+        {
+            assertEquals(entry.getKey(), entry.getValue().siUnit());
+        }
+        assertThrows(UnsupportedOperationException.class,
+                () -> QuantityRegistry.registeredQuantities().put(SIUnit.of("m5"), Length.Unit.SI));
+    }
+
+    /**
+     * Test instantiation of typed quantities from an SI value and SI unit.
+     */
+    @Test
+    public void testOfSi()
+    {
+        Quantity<?> q = QuantityRegistry.ofSi(3.0, SIUnit.of("kgm/s2"));
+        assertInstanceOf(Force.class, q);
+        assertEquals(3.0, q.si(), 0.0);
+        assertSame(Force.Unit.SI, q.getDisplayUnit());
+
+        Quantity<?> dim = QuantityRegistry.ofSi(0.5, SIUnit.DIMLESS);
+        assertInstanceOf(Dimensionless.class, dim);
+
+        Quantity<?> other = QuantityRegistry.ofSi(2.0, SIUnit.of("m5"));
+        assertInstanceOf(SIQuantity.class, other);
+        assertEquals(2.0, other.si(), 0.0);
+        assertEquals(SIUnit.of("m5"), other.siUnit());
+    }
+
+    /**
+     * Test Quantity.multiplyTyped and Quantity.divideTyped.
+     */
+    @Test
+    public void testMultiplyDivideTyped()
+    {
+        Mass mass = Mass.of(2.0, Mass.Unit.kg);
+        Acceleration acc = Acceleration.of(3.0, Acceleration.Unit.m_s2);
+        Force force = (Force) mass.multiplyTyped(acc);
+        assertEquals(6.0, force.si(), 1E-12);
+        assertSame(Force.Unit.SI, force.getDisplayUnit());
+
+        Energy energy = (Energy) force.multiplyTyped(Length.of(2.0, Length.Unit.km));
+        assertEquals(12000.0, energy.si(), 1E-9);
+
+        Speed speed = (Speed) Length.of(100.0, Length.Unit.m).divideTyped(Duration.of(10.0, Duration.Unit.s));
+        assertEquals(10.0, speed.si(), 1E-12);
+
+        Dimensionless ratio = (Dimensionless) Length.of(1.0, Length.Unit.km).divideTyped(Length.of(500.0, Length.Unit.m));
+        assertEquals(2.0, ratio.si(), 1E-12);
+
+        Frequency freq = (Frequency) Dimensionless.ONE.divideTyped(Duration.of(0.5, Duration.Unit.s));
+        assertEquals(2.0, freq.si(), 1E-12);
+
+        Quantity<?> v2 = speed.multiplyTyped(speed);
+        assertInstanceOf(SIQuantity.class, v2);
+        assertEquals(100.0, v2.si(), 1E-9);
+
+        // the untyped operations keep returning an SIQuantity
+        Quantity<?> length = Length.of(2.0, Length.Unit.km);
+        assertInstanceOf(SIQuantity.class, force.multiply(length));
+        assertEquals(energy, force.multiply(length).as(Energy.Unit.SI));
+
+        UnitInterface<?> unit = QuantityRegistry.baseUnit(force.multiply(length).siUnit());
+        assertSame(Energy.Unit.SI, unit);
+    }
+
+}
@@ -0,0 +1,219 @@
+package org.djunits.quantity.def;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.djunits.quantity.Area;
+import org.djunits.quantity.Duration;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.SIQuantity;
+import org.djunits.quantity.Speed;
+import org.djunits.vecmat.dn.VectorN;
+import org.djunits.vecmat.storage.DenseDoubleDataSi;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QuantityArray} and {@link QuantityArrayBuilder}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class QuantityArrayTest
+{
+    /** Tolerance for floating point comparisons. */
+    private static final double EPS = 1e-9;
+
+    /**
+     * Test the factory methods and element access.
+     */
+    @Test
+    public void testOfAndAccess()
+    {
+        double[] si = {1000.0, 2000.0, 500.0};
+        QuantityArray<Length> la = Length.ofSi(si, Length.Unit.km);
+        si[0] = 0.0; // safe copy
+        assertEquals(3, la.size());
+        assertFalse(la.isEmpty());
+        assertEquals(1000.0, la.si(0), EPS);
+        assertEquals(1.0, la.getInUnit(0), EPS);
+        assertEquals(100000.0, la.getInUnit(0, Length.Unit.cm), EPS);
+        assertEquals(Length.of(2.0, Length.Unit.km), la.get(1));
+        assertEquals(Length.Unit.km, la.get(2).getDisplayUnit());
+        assertSame(Length.Unit.km, la.getDisplayUnit());
+        assertEquals(Length.Unit.SI_UNIT, la.siUnit());
+        assertArrayEquals(new double[] {1.0, 2.0, 0.5}, la.getInUnitArray(), EPS);
+        assertArrayEquals(new double[] {1000.0, 2000.0, 500.0}, la.getSiArray(), EPS);
+        assertTrue(la.isRelative());
+        assertThrows(IndexOutOfBoundsException.class, () -> la.si(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> la.get(-1));
+
+        QuantityArray<Length> lb = QuantityArray.of(new double[] {1.0, 2.0, 0.5}, Length.Unit.km);
+        assertEquals(la, lb);
+        assertEquals(la.hashCode(), lb.hashCode());
+        assertNotEquals(la, lb.setDisplayUnit(Length.Unit.m));
+        assertEquals(la, QuantityArray.of(new Length[] {Length.of(1.0, Length.Unit.km), Length.of(2.0, Length.Unit.km),
+                Length.of(0.5, Length.Unit.km)}));
+        assertEquals(la, QuantityArray.of(List.of(Length.of(1.0, Length.Unit.km), Length.of(2.0, Length.Unit.km),
+                Length.of(0.5, Length.Unit.km))));
+
+        Length[] scalars = la.getScalarArray();
+        assertEquals(3, scalars.length);
+        assertEquals(Length.of(0.5, Length.Unit.km), scalars[2]);
+
+        assertThrows(NullPointerException.class, () -> QuantityArray.ofSi(null, Length.Unit.m));
+        assertThrows(NullPointerException.class, () -> QuantityArray.ofSi(new double[] {1.0}, null));
+        assertThrows(IllegalArgumentException.class, () -> QuantityArray.of(new Length[0]));
+        assertThrows(IllegalStateException.class, () -> Length.ofSi(new double[0], Length.Unit.m).getScalarArray());
+    }
+
+    /**
+     * Test the iterator.
+     */
+    @Test
+    public void testIterator()
+    {
+        QuantityArray<Duration> da = Duration.ofSi(new double[] {1.0, 60.0}, Duration.Unit.min);
+        Iterator<Duration> it = da.iterator();
+        assertTrue(it.hasNext());
+        assertEquals(Duration.of(1.0 / 60.0, Duration.Unit.min).si(), it.next().si(), EPS);
+        assertEquals(Duration.of(1.0, Duration.Unit.min), it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> it.next());
+    }
+
+    /**
+     * Test the arithmetic operations.
+     */
+    @Test
+    public void testArithmetic()
+    {
+        QuantityArray<Length> la = Length.ofSi(new double[] {1.0, 2.0, 3.0}, Length.Unit.m);
+        QuantityArray<Length> lb = Length.ofSi(new double[] {4.0, -5.0, 6.0}, Length.Unit.m);
+        assertArrayEquals(new double[] {5.0, -3.0, 9.0}, la.add(lb).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {-3.0, 7.0, -3.0}, la.subtract(lb).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {3.0, 4.0, 5.0}, la.add(Length.ofSi(2.0)).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {-1.0, 0.0, 1.0}, la.subtract(Length.ofSi(2.0)).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {2.0, 4.0, 6.0}, la.scaleBy(2.0).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {0.5, 1.0, 1.5}, la.divideBy(2.0).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {-1.0, -2.0, -3.0}, la.negate().unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {4.0, 5.0, 6.0}, lb.abs().unsafeSiArray(), EPS);
+        assertEquals(Length.Unit.m, la.add(lb).getDisplayUnit());
+
+        QuantityArray<SIQuantity> area = la.multiply(lb);
+        assertArrayEquals(new double[] {4.0, -10.0, 18.0}, area.unsafeSiArray(), EPS);
+        assertEquals(Area.Unit.SI_UNIT, area.siUnit());
+        QuantityArray<Area> typedArea = area.as(Area.Unit.m2);
+        assertEquals(Area.ofSi(18.0), typedArea.get(2));
+        assertThrows(IllegalArgumentException.class, () -> area.as(Length.Unit.m));
+
+        QuantityArray<Duration> da = Duration.ofSi(new double[] {1.0, 2.0, 4.0}, Duration.Unit.s);
+        QuantityArray<SIQuantity> speed = la.divide(da);
+        assertArrayEquals(new double[] {1.0, 1.0, 0.75}, speed.unsafeSiArray(), EPS);
+        assertEquals(Speed.Unit.SI_UNIT, speed.siUnit());
+        assertArrayEquals(new double[] {2.0, 4.0, 6.0}, la.multiply(Duration.ofSi(2.0)).unsafeSiArray(), EPS);
+        assertArrayEquals(new double[] {0.5, 1.0, 1.5}, la.divide(Duration.ofSi(2.0)).unsafeSiArray(), EPS);
+        assertEquals(Speed.Unit.SI_UNIT, la.divide(Duration.ofSi(2.0)).siUnit());
+        assertArrayEquals(new double[] {1.0, 0.5, 0.25}, da.reciprocal().unsafeSiArray(), EPS);
+
+        QuantityArray<Length> lc = Length.ofSi(new double[] {1.0}, Length.Unit.m);
+        assertThrows(IllegalArgumentException.class, () -> la.add(lc));
+        assertThrows(IllegalArgumentException.class, () -> la.multiply(lc));
+        assertThrows(NullPointerException.class, () -> la.add((QuantityArray<Length>) null));
+    }
+
+    /**
+     * Test the statistics.
+     */
+    @Test
+    public void testStatistics()
+    {
+        QuantityArray<Length> la = Length.ofSi(new double[] {1.0, -2.0, 7.0}, Length.Unit.km);
+        assertEquals(6.0, la.sum().si(), EPS);
+        assertEquals(2.0, la.mean().si(), EPS);
+        assertEquals(-2.0, la.min().si(), EPS);
+        assertEquals(7.0, la.max().si(), EPS);
+        assertEquals(Length.Unit.km, la.sum().getDisplayUnit());
+    }
+
+    /**
+     * Test the zero-copy bridges to vectors and data grids.
+     */
+    @Test
+    public void testBridges()
+    {
+        QuantityArray<Speed> sa = Speed.ofSi(new double[] {10.0, 20.0, 30.0}, Speed.Unit.km_h);
+        DenseDoubleDataSi grid = sa.asDataGridSi();
+        assertSame(sa.unsafeSiArray(), grid.unsafeSiArray());
+        assertEquals(3, grid.rows());
+        assertEquals(1, grid.cols());
+
+        VectorN.Col<Speed> col = sa.asVectorNCol();
+        assertSame(sa.unsafeSiArray(), col.unsafeSiArray());
+        assertEquals(Speed.Unit.km_h, col.getDisplayUnit());
+        assertEquals(20.0, col.si(1), EPS);
+
+        QuantityArray<Speed> back = QuantityArray.of(col);
+        assertSame(col.unsafeSiArray(), back.unsafeSiArray());
+        assertEquals(sa, back);
+        QuantityArray<Speed> fromRow = QuantityArray.of(col.transpose());
+        assertEquals(sa, fromRow);
+
+        assertThrows(IllegalArgumentException.class, () -> Speed.ofSi(new double[0], Speed.Unit.SI).asVectorNCol());
+        assertTrue(sa.toString().contains("km/h"));
+        assertTrue(sa.format(Speed.Unit.m_s).contains("m/s"));
+        assertTrue(Speed.ofSi(new double[0], Speed.Unit.SI).format().startsWith("[]"));
+    }
+
+    /**
+     * Test the builder.
+     */
+    @Test
+    public void testBuilder()
+    {
+        QuantityArrayBuilder<Length> builder = new QuantityArrayBuilder<>(Length.Unit.km, 1);
+        assertEquals(0, builder.size());
+        assertEquals(Length.Unit.km, builder.getDisplayUnit());
+        builder.add(1.0).addSi(500.0).add(Length.of(2.0, Length.Unit.m));
+        assertEquals(3, builder.size());
+        assertEquals(1000.0, builder.si(0), EPS);
+        builder.addAllSi(new double[] {7.0, 8.0});
+        builder.addAll(Length.ofSi(new double[] {9.0}, Length.Unit.m));
+        builder.setSi(1, 600.0);
+        QuantityArray<Length> la = builder.build();
+        assertArrayEquals(new double[] {1000.0, 600.0, 2.0, 7.0, 8.0, 9.0}, la.unsafeSiArray(), EPS);
+        assertEquals(Length.Unit.km, la.getDisplayUnit());
+
+        // the builder can be reused, and built arrays are not affected
+        builder.clear().addSi(1.0);
+        assertEquals(1, builder.build().size());
+        assertEquals(6, la.size());
+        assertEquals(1000.0, la.si(0), EPS);
+
+        for (int i = 0; i < 1000; i++)
+        {
+            builder.addSi(i);
+        }
+        assertEquals(1001, builder.build().size());
+        assertEquals(999.0, builder.si(1000), EPS);
+        assertTrue(builder.toString().contains("1001"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.si(1001));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.setSi(-1, 0.0));
+        assertThrows(NullPointerException.class, () -> builder.add((Length) null));
+        assertThrows(NullPointerException.class, () -> new QuantityArrayBuilder<Length>(null));
+        assertThrows(IllegalArgumentException.class, () -> new QuantityArrayBuilder<>(Length.Unit.m, -1));
+        assertEquals(0, new QuantityArrayBuilder<>(Length.Unit.m, 0).addSi(1.0).clear().build().size());
+    }
+
+}
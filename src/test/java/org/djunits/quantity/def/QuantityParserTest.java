@@ -0,0 +1,164 @@
+package org.djunits.quantity.def;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.CharBuffer;
+import java.util.Locale;
+import java.util.Random;
+
+import org.djunits.quantity.Dimensionless;
+import org.djunits.quantity.Energy;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.Power;
+import org.djunits.quantity.Speed;
+import org.djunits.unit.Unitless;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link QuantityParser}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class QuantityParserTest
+{
+    /**
+     * Test parsing of values with units.
+     */
+    @Test
+    public void testParse()
+    {
+        QuantityParser<Length> parser = new QuantityParser<>(Length.ZERO, Locale.US);
+        assertEquals(QuantityParser.OK, parser.parse("12.5 km"));
+        assertTrue(parser.isOk());
+        assertEquals(12.5, parser.getValue(), 0.0);
+        assertEquals(12500.0, parser.si(), 1E-9);
+        assertSame(Length.Unit.km, parser.getUnit());
+        assertEquals(-1, parser.getErrorIndex());
+        assertEquals(Length.of(12.5, "km"), parser.quantity());
+
+        assertEquals(QuantityParser.OK, parser.parse("  -3.0E2m  "));
+        assertEquals(-300.0, parser.si(), 0.0);
+        assertSame(Length.Unit.m, parser.getUnit());
+        assertEquals(QuantityParser.OK, parser.parse("+.5 mm"));
+        assertEquals(0.0005, parser.si(), 1E-15);
+        assertEquals(QuantityParser.OK, parser.parse("5. ft"));
+        assertEquals(5.0, parser.getValue(), 0.0);
+        assertEquals(QuantityParser.OK, parser.parse("-0 m"));
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(parser.getValue()));
+        assertEquals(QuantityParser.OK, parser.parse("1e-3km"));
+        assertEquals(1.0, parser.si(), 1E-12);
+
+        // an 'e' that is not followed by an exponent is part of the unit
+        QuantityParser<Energy> energyParser = new QuantityParser<>(Energy.ZERO, Locale.US);
+        assertEquals(QuantityParser.OK, energyParser.parse("5eV"));
+        assertEquals(5.0, energyParser.getValue(), 0.0);
+        assertSame(Energy.Unit.eV, energyParser.getUnit());
+        assertEquals(QuantityParser.OK, energyParser.parse("5e2eV"));
+        assertEquals(500.0, energyParser.getValue(), 0.0);
+
+        // regions of other CharSequences
+        StringBuilder sb = new StringBuilder("x;7.25 km/h;y");
+        QuantityParser<Speed> speedParser = new QuantityParser<>(Speed.ZERO);
+        assertEquals(QuantityParser.OK, speedParser.parse(sb, 2, 9));
+        assertEquals(7.25 / 3.6, speedParser.si(), 1E-12);
+        assertEquals(QuantityParser.OK, speedParser.parse(CharBuffer.wrap("100 km/h")));
+        assertEquals(100.0 / 3.6, speedParser.si(), 1E-12);
+        assertThrows(IndexOutOfBoundsException.class, () -> speedParser.parse(sb, 10, 5));
+        assertThrows(NullPointerException.class, () -> speedParser.parse(null));
+        assertThrows(NullPointerException.class, () -> new QuantityParser<Length>(null));
+        assertThrows(NullPointerException.class, () -> new QuantityParser<>(Length.ZERO, null));
+        assertTrue(speedParser.toString().contains("Speed"));
+    }
+
+    /**
+     * Test the status codes for texts that cannot be parsed.
+     */
+    @Test
+    public void testErrors()
+    {
+        QuantityParser<Length> parser = new QuantityParser<>(Length.ZERO, Locale.US);
+        assertEquals(QuantityParser.ERROR_EMPTY, parser.parse(""));
+        assertEquals(QuantityParser.ERROR_EMPTY, parser.parse("   "));
+        assertEquals(QuantityParser.ERROR_NUMBER, parser.parse("abc m"));
+        assertEquals(QuantityParser.ERROR_NUMBER, parser.parse("- m"));
+        assertEquals(QuantityParser.ERROR_NUMBER, parser.parse(". m"));
+        assertEquals(QuantityParser.ERROR_MISSING_UNIT, parser.parse("12.5"));
+        assertEquals(QuantityParser.ERROR_UNKNOWN_UNIT, parser.parse(" 12.5 xyz"));
+        assertEquals(6, parser.getErrorIndex());
+        assertFalse(parser.isOk());
+        assertEquals(QuantityParser.ERROR_UNKNOWN_UNIT, parser.getStatus());
+        assertTrue(Double.isNaN(parser.si()));
+        assertTrue(Double.isNaN(parser.getValue()));
+        assertNull(parser.getUnit());
+        assertThrows(IllegalStateException.class, () -> parser.quantity());
+        assertEquals(QuantityParser.ERROR_UNKNOWN_UNIT, parser.parse("1,5 m"));
+
+        // a dimensionless quantity does not need a unit
+        QuantityParser<Dimensionless> dimless = new QuantityParser<>(Dimensionless.ONE);
+        assertEquals(QuantityParser.OK, dimless.parse("0.25"));
+        assertSame(Unitless.BASE, dimless.getUnit());
+        assertEquals(0.25, dimless.quantity().si(), 0.0);
+    }
+
+    /**
+     * Test the caching of the last unit, and the localized unit abbreviations.
+     */
+    @Test
+    public void testUnitCacheAndLocale()
+    {
+        QuantityParser<Power> parser = new QuantityParser<>(Power.ZERO, Locale.GERMANY);
+        assertSame(Locale.GERMANY, parser.getLocale());
+        assertEquals(QuantityParser.OK, parser.parse("2 PS"));
+        assertSame(Power.Unit.hp_M, parser.getUnit());
+        assertEquals(QuantityParser.OK, parser.parse("3 PS"));
+        assertSame(Power.Unit.hp_M, parser.getUnit());
+        assertEquals(3.0 * 735.49875, parser.si(), 1E-9);
+        assertEquals(QuantityParser.OK, parser.parse("4 kW"));
+        assertSame(Power.Unit.kW, parser.getUnit());
+        assertEquals(QuantityParser.OK, parser.parse("5 hp(M)"));
+        assertSame(Power.Unit.hp_M, parser.getUnit());
+        assertEquals(QuantityParser.ERROR_UNKNOWN_UNIT, new QuantityParser<>(Power.ZERO, Locale.US).parse("2 PS"));
+
+        // a unit token that is longer than the cache buffer
+        QuantityParser<Length> lengthParser = new QuantityParser<>(Length.ZERO, Locale.US);
+        assertEquals(QuantityParser.ERROR_UNKNOWN_UNIT, lengthParser.parse("1 abcdefghijklmnopqrstuvwxyz"));
+        assertEquals(QuantityParser.OK, lengthParser.parse("1 m"));
+        assertEquals(QuantityParser.ERROR_UNKNOWN_UNIT, lengthParser.parse("1 q"));
+    }
+
+    /**
+     * Test that the parsed numbers are equal to the numbers parsed by Double.parseDouble, both for the exact fast path and for
+     * the fallback.
+     */
+    @Test
+    public void testNumberPrecision()
+    {
+        QuantityParser<Length> parser = new QuantityParser<>(Length.ZERO, Locale.US);
+        String[] numbers = {"0.1", "0.3", "1.7976931348623157E308", "4.9E-324", "123456789012345678901234567890",
+                "0.000000000000000000000000000001", "9007199254740993",
+                "1.00000000000000011102230246251565404236316680908203125", "2.2250738585072014E-308", "1E23", "8.41E21",
+                "1e400", "-1e-400"};
+        for (String number : numbers)
+        {
+            assertEquals(QuantityParser.OK, parser.parse(number + " m"), number);
+            assertEquals(Double.parseDouble(number), parser.getValue(), 0.0, number);
+        }
+        Random random = new Random(42L);
+        for (int i = 0; i < 10000; i++)
+        {
+            double d = random.nextDouble() * Math.pow(10.0, random.nextInt(40) - 20);
+            String number = random.nextBoolean() ? Double.toString(d) : String.format(Locale.US, "%.6f", d);
+            assertEquals(QuantityParser.OK, parser.parse(number + "m"), number);
+            assertEquals(Double.parseDouble(number), parser.getValue(), 0.0, number);
+        }
+    }
+
+}
@@ -0,0 +1,313 @@
+package org.djunits.unit;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.djunits.unit.scale.LinearScale;
+import org.djunits.unit.si.PrefixType;
+import org.djunits.unit.system.UnitSystem;
+
+/**
+ * GenerateUnitTableData generates the source file <code>UnitTableData.java</code> with the {@link UnitTable}s of all built-in
+ * quantities. The program initializes all unit classes in the <code>org.djunits.quantity</code> package, and writes the units
+ * that the classes define, without the units with SI prefixes that are only created on demand. Run the program from the root
+ * of the project after units or quantities have been added or changed; <code>UnitTableTest</code> fails as long as the
+ * generated file is not up to date. An optional argument gives the path of the file to write.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class GenerateUnitTableData
+{
+    /** The default path of the generated file. */
+    static final String DEFAULT_PATH = "src/main/java/org/djunits/unit/UnitTableData.java";
+
+    /** The source directory of the quantities. */
+    static final String QUANTITY_DIR = "src/main/java/org/djunits/quantity";
+
+    /** The maximum line length of the generated code. */
+    private static final int MAX_LINE = 128;
+
+    /** The indentation of continuation lines. */
+    private static final String INDENT = "                ";
+
+    /** */
+    private GenerateUnitTableData()
+    {
+        // utility class
+    }
+
+    /**
+     * Return the unit classes of the built-in quantities, in alphabetical order of the quantity, with {@link Unitless} first.
+     * The quantities are found as the source files in the quantity directory that define a nested Unit class.
+     * @return the unit classes of the built-in quantities
+     * @throws IOException when the quantity directory cannot be read
+     * @throws ClassNotFoundException when a unit class cannot be found
+     */
+    static List<Class<?>> unitClasses() throws IOException, ClassNotFoundException
+    {
+        List<Class<?>> result = new ArrayList<>();
+        result.add(Unitless.class);
+        try (Stream<Path> files = Files.list(Path.of(QUANTITY_DIR)))
+        {
+            List<Path> sorted = files.filter(p -> p.toString().endsWith(".java")).sorted().toList();
+            for (Path file : sorted)
+            {
+                if (Files.readString(file, StandardCharsets.UTF_8).contains("public static class Unit "))
+                {
+                    String name = file.getFileName().toString().replace(".java", "");
+                    result.add(Class.forName("org.djunits.quantity." + name + "$Unit"));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the units of each built-in quantity that are created when the unit classes are initialized, in registration order.
+     * @param unitClasses the unit classes of the built-in quantities
+     * @return the units of each built-in quantity, keyed on the quantity name
+     * @throws ClassNotFoundException when a unit class cannot be initialized
+     */
+    static Map<String, List<UnitInterface<?>>> builtInUnits(final List<Class<?>> unitClasses) throws ClassNotFoundException
+    {
+        for (Class<?> unitClass : unitClasses)
+        {
+            Class.forName(unitClass.getName(), true, unitClass.getClassLoader());
+        }
+        Map<String, Map<String, UnitInterface<?>>> created = Units.createdUnits();
+        Map<String, List<UnitInterface<?>>> result = new LinkedHashMap<>();
+        for (Class<?> unitClass : unitClasses)
+        {
+            String quantityName = Units.quantityName(unitClass);
+            result.put(quantityName, new ArrayList<>(created.get(quantityName).values()));
+        }
+        return result;
+    }
+
+    /**
+     * Return the types of SI prefixes that units accept, keyed on the unit.
+     * @return the types of SI prefixes that units accept
+     */
+    static Map<UnitInterface<?>, PrefixType> siPrefixTypes()
+    {
+        Map<UnitInterface<?>, PrefixType> result = new LinkedHashMap<>();
+        for (Units.SiPrefixBase base : Units.siPrefixBases())
+        {
+            result.put(base.getUnit(), base.getPrefixType());
+        }
+        return result;
+    }
+
+    /**
+     * Return the Java expression for a unit system constant.
+     * @param unitSystem the unit system
+     * @return the Java expression for the unit system constant, e.g., "UnitSystem.SI_BASE"
+     * @throws IllegalAccessException when the constant cannot be read
+     */
+    static String unitSystemExpression(final UnitSystem unitSystem) throws IllegalAccessException
+    {
+        for (Field field : UnitSystem.class.getFields())
+        {
+            if (Modifier.isStatic(field.getModifiers()) && field.get(null) == unitSystem)
+            {
+                return "UnitSystem." + field.getName();
+            }
+        }
+        throw new IllegalArgumentException("Unit system " + unitSystem + " is not a constant of UnitSystem");
+    }
+
+    /**
+     * Return a Java string literal, where non-ASCII characters are escaped.
+     * @param s the string
+     * @return the Java string literal
+     */
+    static String literal(final String s)
+    {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray())
+        {
+            if (c == '"' || c == '\\')
+            {
+                sb.append('\\').append(c);
+            }
+            else if (c < 0x20 || c > 0x7E)
+            {
+                sb.append(String.format("\\u%04X", (int) c));
+            }
+            else
+            {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Append an array initializer to the source, wrapped at the maximum line length.
+     * @param sb the source to append to
+     * @param type the array type, e.g., "String[]"
+     * @param elements the Java expressions of the elements
+     * @param last whether this is the last argument
+     */
+    private static void appendArray(final StringBuilder sb, final String type, final List<String> elements,
+            final boolean last)
+    {
+        StringBuilder line = new StringBuilder(INDENT + "new " + type + " {");
+        for (int i = 0; i < elements.size(); i++)
+        {
+            String element = elements.get(i) + (i < elements.size() - 1 ? "," : "}" + (last ? ");" : ","));
+            if (line.length() + element.length() + 1 > MAX_LINE)
+            {
+                sb.append(line.toString().stripTrailing()).append('\n');
+                line = new StringBuilder(INDENT + "        ");
+            }
+            line.append(element).append(' ');
+        }
+        sb.append(line.toString().stripTrailing()).append('\n');
+    }
+
+    /**
+     * Generate the source of <code>UnitTableData.java</code>.
+     * @return the source of <code>UnitTableData.java</code>
+     * @throws Exception when the unit classes cannot be read
+     */
+    static String generate() throws Exception
+    {
+        List<Class<?>> unitClasses = unitClasses();
+        Map<String, List<UnitInterface<?>>> units = builtInUnits(unitClasses);
+        Map<UnitInterface<?>, PrefixType> prefixTypes = siPrefixTypes();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("package org.djunits.unit;\n\n");
+        sb.append("import java.util.List;\n\n");
+        for (Class<?> unitClass : unitClasses)
+        {
+            if (unitClass.getEnclosingClass() != null)
+            {
+                sb.append("import ").append(unitClass.getEnclosingClass().getName()).append(";\n");
+            }
+        }
+        sb.append("import org.djunits.unit.si.PrefixType;\n");
+        sb.append("import org.djunits.unit.system.UnitSystem;\n\n");
+        sb.append("/**\n");
+        sb.append(" * UnitTableData contains the {@link UnitTable}s of the built-in quantities. ");
+        sb.append("This file is generated by the\n");
+        sb.append(" * <code>GenerateUnitTableData</code> program in the test sources, and should not be edited by hand.\n");
+        sb.append(" * <p>\n");
+        sb.append(" * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. ");
+        sb.append("All rights reserved. See\n");
+        sb.append(" * for project information <a href=\"https://djunits.org\" target=\"_blank\">https://djunits.org</a>. ");
+        sb.append("The DJUNITS project is\n");
+        sb.append(" * distributed under a <a href=\"https://djunits.org/docs/license.html\" target=\"_blank\">three-clause ");
+        sb.append("BSD-style license</a>.\n");
+        sb.append(" * @author Alexander Verbraeck\n");
+        sb.append(" */\n");
+        sb.append("final class UnitTableData\n{\n");
+        sb.append("    /** */\n    private UnitTableData()\n    {\n        // utility class\n    }\n\n");
+
+        sb.append("    /**\n     * Return the tables of the built-in quantities, in a predictable order.\n");
+        sb.append("     * @return the tables of the built-in quantities\n     */\n");
+        sb.append("    static List<UnitTable> tables()\n    {\n");
+        List<String> methods = new ArrayList<>();
+        for (String quantityName : units.keySet())
+        {
+            methods.add(Character.toLowerCase(quantityName.charAt(0)) + quantityName.substring(1) + "()");
+        }
+        StringBuilder line = new StringBuilder("        return List.of(");
+        for (int i = 0; i < methods.size(); i++)
+        {
+            String element = methods.get(i) + (i < methods.size() - 1 ? "," : ");");
+            if (line.length() + element.length() + 1 > MAX_LINE)
+            {
+                sb.append(line.toString().stripTrailing()).append('\n');
+                line = new StringBuilder(INDENT);
+            }
+            line.append(element).append(' ');
+        }
+        sb.append(line.toString().stripTrailing()).append("\n    }\n\n");
+
+        sb.append("    /**\n");
+        sb.append("     * Initialize the unit class of a built-in quantity without reflection, ");
+        sb.append("and return its SI or base unit.\n");
+        sb.append("     * @param quantityName the simple class name of the quantity\n");
+        sb.append("     * @return the SI or base unit of the quantity, or null when the quantity is not a ");
+        sb.append("built-in quantity, ");
+        sb.append("or when the\n");
+        sb.append("     *         unit class is being initialized by the current thread\n     */\n");
+        sb.append("    static UnitInterface<?> initialize(final String quantityName)\n    {\n");
+        sb.append("        switch (quantityName)\n        {\n");
+        for (Class<?> unitClass : unitClasses)
+        {
+            String expression = unitClass.getEnclosingClass() == null ? unitClass.getSimpleName() + ".BASE"
+                    : unitClass.getEnclosingClass().getSimpleName() + ".Unit.SI";
+            sb.append("            case \"").append(Units.quantityName(unitClass)).append("\":\n");
+            sb.append("                return ").append(expression).append(";\n\n");
+        }
+        sb.append("            default:\n                return null;\n        }\n    }\n");
+
+        for (var entry : units.entrySet())
+        {
+            String quantityName = entry.getKey();
+            List<UnitInterface<?>> quantityUnits = entry.getValue();
+            List<String> ids = new ArrayList<>();
+            List<String> displays = new ArrayList<>();
+            List<String> factors = new ArrayList<>();
+            List<String> types = new ArrayList<>();
+            List<String> systems = new ArrayList<>();
+            for (UnitInterface<?> unit : quantityUnits)
+            {
+                ids.add(literal(unit.getStoredTextualAbbreviation()));
+                displays.add(literal(unit.getStoredDisplayAbbreviation()));
+                factors.add(unit.getScale() instanceof LinearScale scale ? Double.toString(scale.getScaleFactorToBaseUnit())
+                        : "Double.NaN");
+                PrefixType prefixType = prefixTypes.get(unit);
+                types.add(prefixType == null ? "null" : "PrefixType." + prefixType.name());
+                systems.add(unitSystemExpression(unit.getUnitSystem()));
+            }
+            List<String> dimensions = new ArrayList<>();
+            for (int d : quantityUnits.get(0).siUnit().siDimensions())
+            {
+                dimensions.add(Integer.toString(d));
+            }
+            String method = Character.toLowerCase(quantityName.charAt(0)) + quantityName.substring(1);
+            sb.append("\n    /**\n     * Return the table of the built-in units of ").append(quantityName).append(".\n");
+            sb.append("     * @return the table of the built-in units of ").append(quantityName).append("\n     */\n");
+            sb.append("    private static UnitTable ").append(method).append("()\n    {\n");
+            sb.append("        return new UnitTable(\"").append(quantityName).append("\", new int[] {")
+                    .append(String.join(", ", dimensions)).append("},\n");
+            appendArray(sb, "String[]", ids, false);
+            appendArray(sb, "String[]", displays, false);
+            appendArray(sb, "double[]", factors, false);
+            appendArray(sb, "PrefixType[]", types, false);
+            appendArray(sb, "UnitSystem[]", systems, true);
+            sb.append("    }\n");
+        }
+        sb.append("\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Generate <code>UnitTableData.java</code>.
+     * @param args optional path of the file to write
+     * @throws Exception when the unit classes cannot be read, or the file cannot be written
+     */
+    public static void main(final String[] args) throws Exception
+    {
+        Path path = Path.of(args.length > 0 ? args[0] : DEFAULT_PATH);
+        Files.writeString(path, generate(), StandardCharsets.UTF_8);
+        System.out.println("Written " + path.toAbsolutePath());
+    }
+
+}
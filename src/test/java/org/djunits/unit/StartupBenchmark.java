@@ -0,0 +1,83 @@
+package org.djunits.unit;
+
+import org.djunits.quantity.Length;
+
+/**
+ * StartupBenchmark measures the time to initialize the unit classes. The benchmark is only meaningful in a fresh JVM, so it is
+ * a main program rather than a unit test, and every measurement needs its own JVM. The argument selects the measurement:
+ * <ul>
+ * <li><code>km</code> (default): the time until the first <code>Length.of(1, "km")</code> has been created;</li>
+ * <li><code>all</code>: the time to initialize the unit classes of all built-in quantities;</li>
+ * <li><code>units</code>: the time to initialize all unit classes and to create all units with SI prefixes, which is the
+ * work that was done at startup before the units with SI prefixes were created lazily.</li>
+ * </ul>
+ * Each measurement also reports the number of units that have been created, e.g.:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; org.djunits.unit.StartupBenchmark all
+ * </pre>
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public final class StartupBenchmark
+{
+    /** */
+    private StartupBenchmark()
+    {
+        // utility class
+    }
+
+    /**
+     * Return the number of units that have been created and registered so far.
+     * @return the number of units that have been created and registered so far
+     */
+    private static int unitCount()
+    {
+        return Units.createdUnits().values().stream().mapToInt(m -> m.size()).sum();
+    }
+
+    /**
+     * Initialize the unit classes of all built-in quantities, through the generated unit tables.
+     */
+    private static void initializeAllQuantities()
+    {
+        for (UnitTable table : UnitTableData.tables())
+        {
+            UnitTableData.initialize(table.getQuantityName());
+        }
+    }
+
+    /**
+     * Run the benchmark.
+     * @param args optional measurement: "km" (default), "all" or "units"
+     */
+    public static void main(final String[] args)
+    {
+        String mode = args.length > 0 ? args[0] : "km";
+        long t0 = System.nanoTime();
+        switch (mode)
+        {
+            case "km":
+                Length.of(1.0, "km");
+                break;
+
+            case "all":
+                initializeAllQuantities();
+                break;
+
+            case "units":
+                initializeAllQuantities();
+                Units.registeredUnits();
+                break;
+
+            default:
+                throw new IllegalArgumentException("unknown measurement " + mode + ", use km, all or units");
+        }
+        long t1 = System.nanoTime();
+        System.out.printf("%s: %.1f ms, %d units created%n", mode, (t1 - t0) / 1.0E6, unitCount());
+    }
+
+}
@@ -0,0 +1,186 @@
+package org.djunits.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.djunits.quantity.Angle;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.SIQuantity;
+import org.djunits.quantity.Speed;
+import org.djunits.unit.si.SIUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link UnitConverter} and {@link Units#converter(UnitInterface, UnitInterface)}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class UnitConverterTest
+{
+    /**
+     * Test linear conversion of single values and caching of converters.
+     */
+    @Test
+    public void testLinear()
+    {
+        UnitConverter<Speed> kmhToMs = Units.converter(Speed.Unit.km_h, Speed.Unit.m_s);
+        assertSame(kmhToMs, Units.converter(Speed.Unit.km_h, Speed.Unit.m_s));
+        assertTrue(kmhToMs.isLinear());
+        assertFalse(kmhToMs.isIdentity());
+        assertEquals(1.0 / 3.6, kmhToMs.getFactor(), 1E-15);
+        assertEquals(10.0, kmhToMs.convert(36.0), 1E-12);
+        assertSame(Speed.Unit.km_h, kmhToMs.getFromUnit());
+        assertSame(Speed.Unit.m_s, kmhToMs.getToUnit());
+        assertTrue(kmhToMs.toString().contains("km/h"));
+
+        UnitConverter<Length> kmToMi = Units.converter(Length.Unit.km, Length.Unit.mi);
+        for (double v : new double[] {0.0, 1.0, -3.5, 1E6, 1E-6})
+        {
+            assertEquals(Length.of(v, Length.Unit.km).getInUnit(Length.Unit.mi), kmToMi.convert(v), Math.abs(v) * 1E-15);
+        }
+
+        UnitConverter<Length> identity = Units.converter(Length.Unit.m, Length.Unit.m);
+        assertTrue(identity.isIdentity());
+        assertEquals(12.5, identity.convert(12.5), 0.0);
+    }
+
+    /**
+     * Test conversion of arrays and array ranges.
+     */
+    @Test
+    public void testArrays()
+    {
+        UnitConverter<Speed> kmhToMs = Units.converter(Speed.Unit.km_h, Speed.Unit.m_s);
+        double[] in = {0.0, 36.0, 72.0, 108.0};
+        double[] out = new double[5];
+        kmhToMs.convert(in, out);
+        assertArrayEquals(new double[] {0.0, 10.0, 20.0, 30.0, 0.0}, out, 1E-12);
+
+        double[] values = in.clone();
+        kmhToMs.convert(values, 1, 2);
+        assertArrayEquals(new double[] {0.0, 10.0, 20.0, 108.0}, values, 1E-12);
+        kmhToMs.convert(values, values);
+        assertArrayEquals(new double[] {0.0, 10.0 / 3.6, 20.0 / 3.6, 30.0}, values, 1E-12);
+
+        UnitConverter<Speed> identity = Units.converter(Speed.Unit.m_s, Speed.Unit.m_s);
+        double[] copy = new double[4];
+        identity.convert(in, copy);
+        assertArrayEquals(in, copy, 0.0);
+        identity.convert(copy, 0, 4);
+        assertArrayEquals(in, copy, 0.0);
+
+        assertThrows(IllegalArgumentException.class, () -> kmhToMs.convert(in, new double[3]));
+        assertThrows(NullPointerException.class, () -> kmhToMs.convert(null, out));
+        assertThrows(NullPointerException.class, () -> kmhToMs.convert(in, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> kmhToMs.convert(in, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> kmhToMs.convert(in, 3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> kmhToMs.convert(in, 0, -1));
+        kmhToMs.convert(in, 4, 0); // empty range at the end is allowed
+    }
+
+    /**
+     * Test conversion with a non-linear scale.
+     */
+    @Test
+    public void testNonLinear()
+    {
+        UnitConverter<Angle> pctToDeg = Units.converter(Angle.Unit.percent, Angle.Unit.deg);
+        assertFalse(pctToDeg.isLinear());
+        assertFalse(pctToDeg.isIdentity());
+        assertTrue(Double.isNaN(pctToDeg.getFactor()));
+        assertEquals(45.0, pctToDeg.convert(100.0), 1E-12);
+        double[] out = new double[2];
+        pctToDeg.convert(new double[] {0.0, 100.0}, out);
+        assertArrayEquals(new double[] {0.0, 45.0}, out, 1E-12);
+        assertTrue(pctToDeg.toString().contains("non-linear"));
+    }
+
+    /**
+     * Test that the cache of converters is bounded, and that the converters of an unregistered unit are removed.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void testCache()
+    {
+        Units.clearConverterCache();
+        try
+        {
+            assertEquals(0, Units.converterCacheSize());
+            UnitConverter<Length> kmToM = Units.converter(Length.Unit.km, Length.Unit.m);
+            assertEquals(1, Units.converterCacheSize());
+
+            // unregistering a unit removes the converters from and to the unit
+            Length.Unit ym = Units.resolve(Length.Unit.class, "ym");
+            UnitConverter<Length> ymToKm = Units.converter(ym, Length.Unit.km);
+            Units.converter(Length.Unit.km, ym);
+            assertEquals(3, Units.converterCacheSize());
+            Units.unregister(ym);
+            try
+            {
+                assertEquals(1, Units.converterCacheSize());
+                assertSame(kmToM, Units.converter(Length.Unit.km, Length.Unit.m));
+            }
+            finally
+            {
+                Units.register(ym);
+            }
+            assertNotSame(ymToKm, Units.converter(ym, Length.Unit.km));
+
+            // the cache does not grow beyond its maximum size
+            Units.clearConverterCache();
+            UnitInterface from = null;
+            UnitInterface to = null;
+            fill: for (Map<String, UnitInterface<?>> units : Units.registeredUnits().values())
+            {
+                for (UnitInterface<?> f : units.values())
+                {
+                    for (UnitInterface<?> t : units.values())
+                    {
+                        if (Units.converterCacheSize() == Units.MAX_CONVERTER_CACHE_SIZE)
+                        {
+                            from = f;
+                            to = t;
+                            break fill;
+                        }
+                        Units.converter((UnitInterface) f, (UnitInterface) t);
+                    }
+                }
+            }
+            assertNotNull(from);
+            UnitConverter<?> uncached = Units.converter(from, to);
+            assertNotSame(uncached, Units.converter(from, to));
+            assertEquals(uncached.getFactor(), Units.converter(from, to).getFactor(), 0.0);
+            assertEquals(Units.MAX_CONVERTER_CACHE_SIZE, Units.converterCacheSize());
+        }
+        finally
+        {
+            Units.clearConverterCache();
+        }
+    }
+
+    /**
+     * Test the error conditions when creating a converter.
+     */
+    @Test
+    public void testErrors()
+    {
+        assertThrows(NullPointerException.class, () -> Units.converter(null, Length.Unit.m));
+        assertThrows(NullPointerException.class, () -> Units.converter(Length.Unit.m, null));
+        UnitInterface<SIQuantity> m = SIUnit.of("m");
+        UnitInterface<SIQuantity> s = SIUnit.of("s");
+        assertThrows(IllegalArgumentException.class, () -> Units.converter(m, s));
+        assertTrue(Units.converter(m, SIUnit.of("m")).isIdentity());
+    }
+
+}
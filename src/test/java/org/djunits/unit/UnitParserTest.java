@@ -0,0 +1,179 @@
+package org.djunits.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.djunits.quantity.Acceleration;
+import org.djunits.quantity.Force;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.SIQuantity;
+import org.djunits.quantity.Speed;
+import org.djunits.quantity.def.Quantity;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.unit.system.UnitSystem;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link UnitParser} and {@link ParsedUnit}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class UnitParserTest
+{
+    /**
+     * Assert that a unit string parses to the given scale factor and SI unit.
+     * @param text the unit string
+     * @param factor the expected scale factor
+     * @param siString the expected SI unit as a string
+     */
+    private static void assertParse(final String text, final double factor, final String siString)
+    {
+        ParsedUnit pu = UnitParser.parse(text);
+        assertEquals(factor, pu.getScaleFactor(), Math.abs(factor) * 1E-12, text);
+        assertSame(SIUnit.of(siString), pu.siUnit(), text);
+        assertEquals(text, pu.getText());
+    }
+
+    /**
+     * Test parsing of single and compound units.
+     */
+    @Test
+    public void testParse()
+    {
+        assertParse("m", 1.0, "m");
+        assertParse("km", 1000.0, "m");
+        assertParse("kN.m", 1000.0, "kgm2/s2");
+        assertParse("kN*m", 1000.0, "kgm2/s2");
+        assertParse("kN·m", 1000.0, "kgm2/s2");
+        assertParse("km/h", 1000.0 / 3600.0, "m/s");
+        assertParse("km/h^2", 1000.0 / 3600.0 / 3600.0, "m/s2");
+        assertParse("km/h2", 1000.0 / 3600.0 / 3600.0, "m/s2");
+        assertParse("km/h.s", 1000.0 / 3600.0, "m/s2");
+        assertParse("MJ/kg", 1.0E6, "m2/s2");
+        assertParse("m/s2", 1.0, "m/s2");
+        assertParse("kg.m/s^2", 1.0, "kgm/s2");
+        assertParse("kg.m.s^-2", 1.0, "kgm/s2");
+        assertParse("m/s/s", 1.0, "m/s2");
+        assertParse("W/m2.K", 1.0, "kg/s3K");
+        assertParse("1/s", 1.0, "1/s");
+        assertParse("m^-1", 1.0, "1/m");
+        assertParse("mm^+2", 1.0E-6, "m2");
+        assertParse("km2", 1.0E6, "m2");
+        assertParse("km^2", 1.0E6, "m2");
+        assertParse("m^12/m^10", 1.0, "m2");
+        assertParse("μm", 1.0E-6, "m");
+        assertParse("mum", 1.0E-6, "m");
+        assertParse("mg", 1.0E-6, "kg");
+        assertParse("mA", 1.0E-3, "A");
+        assertParse("g/cm3", 1000.0, "kg/m3");
+        assertParse("F/m", 1.0, "s4A2/kgm3");
+        assertParse("eV", 1.602176634E-19, "kgm2/s2");
+        assertParse("kWh/km", 3.6E6 / 1000.0, "kgm/s2");
+        assertParse("mi/h", Speed.Unit.mi_h.getScale().toIdentityScale(1.0), "m/s");
+        assertParse("ft/s2", Acceleration.Unit.ft_s2.getScale().toIdentityScale(1.0), "m/s2");
+
+        // micro sign, leading division sign, and SI prefixes for the liter and the radian
+        assertParse("\u00B5m", 1.0E-6, "m");
+        assertParse("\u00B5m/s", 1.0E-6, "m/s");
+        assertParse("/s", 1.0, "1/s");
+        assertParse("/s^2", 1.0, "1/s2");
+        assertParse("/km", 1.0E-3, "1/m");
+        assertParse("mL", 1.0E-6, "m3");
+        assertParse("ml", 1.0E-6, "m3");
+        assertParse("l", 1.0E-3, "m3");
+        assertParse("hL/h", 0.1 / 3600.0, "m3/s");
+        assertParse("mrad", 1.0E-3, "rad");
+        assertParse("mrad/s", 1.0E-3, "rad/s");
+    }
+
+    /**
+     * Test the errors for strings that cannot be parsed.
+     */
+    @Test
+    public void testParseErrors()
+    {
+        assertThrows(NullPointerException.class, () -> UnitParser.parse(null));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse(""));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("xyz"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m/kg/s"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m//s"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m."));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m^"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m^-"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m^100"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("m s"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("kgms-2"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("/"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("/s/s"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("//s"));
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("kin"));
+    }
+
+    /**
+     * Test the caching of parsed units, and the recompilation after a change of the registry.
+     */
+    @Test
+    public void testCacheAndRegistryChanges()
+    {
+        ParsedUnit kNm = UnitParser.parse("kN.m");
+        assertSame(kNm, UnitParser.parse("kN.m"));
+        UnitParser.clearCache();
+        ParsedUnit kNm2 = UnitParser.parse("kN.m");
+        assertEquals(kNm, kNm2);
+        assertEquals(kNm.hashCode(), kNm2.hashCode());
+        assertNotEquals(kNm, UnitParser.parse("N.m"));
+        assertTrue(kNm.toString().contains("kN.m"));
+
+        // a prefixed unit that is not registered is decomposed into an SI prefix and a unit that accepts SI prefixes
+        Units.unregister(Length.Unit.km);
+        try
+        {
+            assertParse("km", 1000.0, "m");
+            assertParse("km/h", 1000.0 / 3600.0, "m/s");
+        }
+        finally
+        {
+            Units.register(Length.Unit.km);
+        }
+
+        // a newly registered unit can be parsed
+        Length.Unit furlong = (Length.Unit) Length.Unit.m.deriveUnit("fur", "furlong", 201.168, UnitSystem.IMPERIAL);
+        try
+        {
+            assertParse("fur/s", 201.168, "m/s");
+            // a unit without prefixed variants does not accept an SI prefix
+            assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("kfur"));
+        }
+        finally
+        {
+            Units.unregister(furlong);
+        }
+        assertThrows(UnitRuntimeException.class, () -> UnitParser.parse("fur/s"));
+    }
+
+    /**
+     * Test the conversions and quantities of a parsed unit.
+     */
+    @Test
+    public void testParsedUnit()
+    {
+        ParsedUnit kN = UnitParser.parse("kN");
+        assertEquals(2000.0, kN.toSi(2.0), 1E-9);
+        assertEquals(2.0, kN.fromSi(2000.0), 1E-12);
+        Quantity<?> force = kN.quantity(2.0);
+        assertTrue(force instanceof Force);
+        assertEquals(2000.0, force.si(), 1E-9);
+        Quantity<?> q = UnitParser.parse("kg.m3").quantity(1.0);
+        assertTrue(q instanceof SIQuantity);
+        assertEquals(1.0, q.si(), 0.0);
+        assertThrows(NullPointerException.class, () -> new ParsedUnit(null, 1.0, SIUnit.DIMLESS));
+        assertThrows(NullPointerException.class, () -> new ParsedUnit("x", 1.0, null));
+    }
+
+}
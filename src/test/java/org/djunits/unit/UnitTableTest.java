@@ -0,0 +1,116 @@
+package org.djunits.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.djunits.quantity.Length;
+import org.djunits.quantity.Mass;
+import org.djunits.unit.scale.LinearScale;
+import org.djunits.unit.si.PrefixType;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.unit.system.UnitSystem;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the generated {@link UnitTable}s. The tests fail when the generated tables are not up to date with the unit
+ * classes; in that case, run <code>GenerateUnitTableData</code> from the root of the project.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class UnitTableTest
+{
+    /**
+     * Test that the generated tables contain the same information as the unit classes.
+     * @throws Exception when the unit classes cannot be read
+     */
+    @Test
+    public void testTablesUpToDate() throws Exception
+    {
+        List<Class<?>> unitClasses = GenerateUnitTableData.unitClasses();
+        assertEquals(unitClasses.size(), UnitTable.tables().size(), "run GenerateUnitTableData to update the unit tables");
+        Map<UnitInterface<?>, PrefixType> prefixTypes = new HashMap<>();
+        for (Units.SiPrefixBase base : Units.siPrefixBases())
+        {
+            prefixTypes.put(base.getUnit(), base.getPrefixType());
+        }
+        for (Class<?> unitClass : unitClasses)
+        {
+            String quantityName = Units.quantityName(unitClass);
+            UnitTable table = UnitTable.of(quantityName);
+            assertNotNull(table, "run GenerateUnitTableData to add the unit table for " + quantityName);
+            UnitInterface<?> siUnit = UnitTableData.initialize(quantityName);
+            assertSame(unitClass, siUnit.getClass());
+            assertSame(siUnit.siUnit(), table.siUnit());
+
+            // every unit in the table is a unit of the unit class with the same properties
+            for (int i = 0; i < table.size(); i++)
+            {
+                String id = table.getId(i);
+                @SuppressWarnings("unchecked")
+                UnitInterface<?> unit = Units.resolve((Class<UnitInterface<?>>) unitClass, id);
+                String message = quantityName + "." + id + ": run GenerateUnitTableData to update the unit tables";
+                assertEquals(unit.getStoredDisplayAbbreviation(), table.getDisplayAbbreviation(i), message);
+                double factor = unit.getScale() instanceof LinearScale scale ? scale.getScaleFactorToBaseUnit() : Double.NaN;
+                assertEquals(factor, table.getScaleFactor(i), 0.0, message);
+                assertSame(unit.getUnitSystem(), table.getUnitSystem(i), message);
+                assertSame(prefixTypes.get(unit), table.getSiPrefixType(i), message);
+            }
+
+            // every unit constant of the unit class is in the table
+            for (Field field : unitClass.getFields())
+            {
+                if (Modifier.isStatic(field.getModifiers()) && unitClass.isAssignableFrom(field.getType()))
+                {
+                    UnitInterface<?> unit = (UnitInterface<?>) field.get(null);
+                    assertTrue(table.indexOf(unit.getStoredTextualAbbreviation()) >= 0,
+                            quantityName + "." + field.getName() + ": run GenerateUnitTableData to update the unit tables");
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the access to the tables and the initialization of the unit classes.
+     */
+    @Test
+    public void testTableAccess()
+    {
+        UnitTable length = UnitTable.of("Length");
+        assertEquals("Length", length.getQuantityName());
+        assertSame(SIUnit.of("m"), length.siUnit());
+        int km = length.indexOf("km");
+        assertEquals(1000.0, length.getScaleFactor(km), 0.0);
+        assertEquals("km", length.getDisplayAbbreviation(km));
+        assertSame(UnitSystem.SI_BASE, length.getUnitSystem(km));
+        assertNull(length.getSiPrefixType(km));
+        assertSame(PrefixType.UNIT, length.getSiPrefixType(length.indexOf("m")));
+        assertEquals(-1, length.indexOf("xyz"));
+        assertTrue(length.toString().contains("Length"));
+        assertSame(PrefixType.KILO, UnitTable.of("Mass").getSiPrefixType(UnitTable.of("Mass").indexOf("kg")));
+        assertNull(UnitTable.of("NoQuantity"));
+        assertThrows(IndexOutOfBoundsException.class, () -> length.getId(length.size()));
+        assertThrows(UnsupportedOperationException.class, () -> UnitTable.tables().clear());
+
+        assertSame(Length.Unit.SI, UnitTableData.initialize("Length"));
+        assertSame(Mass.Unit.SI, UnitTableData.initialize("Mass"));
+        assertSame(Unitless.BASE, UnitTableData.initialize("Unitless"));
+        assertNull(UnitTableData.initialize("NoQuantity"));
+
+        assertThrows(IllegalArgumentException.class, () -> new UnitTable("X", new int[9], new String[] {"x"},
+                new String[0], new double[] {1.0}, new PrefixType[] {null}, new UnitSystem[] {UnitSystem.OTHER}));
+    }
+
+}
@@ -1,17 +1,28 @@
 package org.djunits.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.djunits.quantity.Frequency;
 import org.djunits.quantity.Length;
+import org.djunits.quantity.LinearObjectDensity;
+import org.djunits.quantity.Mass;
 import org.djunits.quantity.Power;
 import org.djunits.quantity.Speed;
 import org.djunits.quantity.def.Quantity;
@@ -23,7 +34,7 @@ import org.junit.jupiter.api.Test;
 
 /**
  * Unit tests for the {@link Units} utility covering US parsing, localization lookups, bundle loading, nested-class naming, and
- * safe-copy behavior.
+ * registry snapshots.
  * <p>
  * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
  * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
@@ -115,6 +126,52 @@ public class UnitsTest
         }
     }
 
+    /**
+     * Verify resolution against an explicit locale, independent of the default locale, also from concurrent threads.
+     * @throws Exception on error in one of the threads
+     */
+    @Test
+    public void testResolveWithLocale() throws Exception
+    {
+        assertSame(Power.Unit.hp_M, Units.resolve(Power.Unit.class, "PS", Locale.GERMANY));
+        assertSame(Power.Unit.hp_M, Units.resolve(Power.Unit.class, "hp(M)", Locale.GERMANY));
+        assertSame(Power.Unit.hp_M, Units.resolve(Power.Unit.class, "hp(M)", Locale.US));
+        assertThrows(UnitRuntimeException.class, () -> Units.resolve(Power.Unit.class, "PS", Locale.US));
+        assertSame(Frequency.Unit.rpm, Units.resolve(Frequency.Unit.class, "tr/min", Locale.FRANCE));
+        assertSame(Length.Unit.km, Units.resolve(Length.Unit.class, "km", new Locale("xx", "XX")));
+        assertThrows(NullPointerException.class, () -> Units.resolve(Power.Unit.class, "PS", null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++)
+            {
+                final Locale locale = t % 2 == 0 ? Locale.GERMANY : Locale.US;
+                final String abbreviation = t % 2 == 0 ? "PS" : "hp(M)";
+                futures.add(executor.submit(() ->
+                {
+                    for (int i = 0; i < 1000; i++)
+                    {
+                        assertSame(Power.Unit.hp_M, Units.resolve(Power.Unit.class, abbreviation, locale));
+                        if (i % 100 == 0)
+                        {
+                            Units.clearLocalizationCache();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Verify localized display and name lookup and fallback behavior. - Present localized display (e.g., DE Ångström has
      * display U+212B) - Fallback to stored display/name when not present in the bundle.
@@ -186,20 +243,202 @@ public class UnitsTest
     }
 
     /**
-     * Verify {@link Units#registeredUnits()} returns a safe top-level copy: mutating the returned map does not affect the
-     * internal UNIT_MAP.
+     * Verify that the cached localized strings follow a change of the default locale, and match the resource bundles.
      */
     @Test
-    public void testRegisteredUnitsSafeTopLevelCopy()
+    public void testLocalizationCache()
+    {
+        Locale original = Locale.getDefault();
+        try
+        {
+            Locale.setDefault(Locale.GERMANY);
+            ResourceBundle de = Units.bundle(Locale.GERMANY);
+            assertEquals(de.getString("unit.Power.hp(M).abbr"), Power.Unit.hp_M.getTextualAbbreviation());
+            assertEquals("\u212B", Length.Unit.A.getDisplayAbbreviation());
+            String nameDe = Length.Unit.cm.getName();
+            assertEquals(nameDe, Length.Unit.cm.getName());
+
+            Locale.setDefault(Locale.US);
+            assertEquals("hp(M)", Power.Unit.hp_M.getTextualAbbreviation());
+            assertEquals(Length.Unit.cm.getStoredName(), Length.Unit.cm.getName());
+
+            Units.clearLocalizationCache();
+            Locale.setDefault(Locale.GERMANY);
+            assertEquals(nameDe, Length.Unit.cm.getName());
+            assertEquals("\u212B", Length.Unit.A.getDisplayAbbreviation());
+
+            // Missing keys fall back to the stored value, or to the key itself for unknown quantities.
+            assertEquals("NonExistingQuantity", Units.localizedQuantityName(Locale.GERMANY, "NonExistingQuantity"));
+            assertEquals("yy", Units.localizedUnitName(Locale.GERMANY, "xx", "yy"));
+        }
+        finally
+        {
+            Locale.setDefault(original);
+        }
+    }
+
+    /**
+     * Verify {@link Units#registeredUnits()} returns an immutable snapshot that is only rebuilt when the registry changes.
+     */
+    @Test
+    public void testRegisteredUnitsSnapshot()
     {
         Map<String, Map<String, UnitInterface<?>>> snapshot = Units.registeredUnits();
         assertNotNull(snapshot);
         assertNotEquals(0, snapshot.size());
+        assertSame(snapshot, Units.registeredUnits());
+        assertSame(Length.Unit.m, snapshot.get("Length").get("m"));
+
+        // The snapshot cannot be changed, neither at the top level nor per quantity.
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.put("BogusQuantity", new LinkedHashMap<>()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get("Length").remove("m"));
+        assertNotNull(Units.resolve(Length.Unit.class, "m"));
+
+        // Registering a unit results in a new snapshot, and leaves the old snapshot unchanged.
+        Length.Unit lu = (Length.Unit) Length.Unit.m.deriveUnit("three", "three", 3.0, UnitSystem.OTHER);
+        try
+        {
+            Map<String, Map<String, UnitInterface<?>>> snapshot2 = Units.registeredUnits();
+            assertNotSame(snapshot, snapshot2);
+            assertSame(lu, snapshot2.get("Length").get("three"));
+            assertFalse(snapshot.get("Length").containsKey("three"));
+        }
+        finally
+        {
+            Units.unregister(lu);
+        }
+        assertFalse(Units.registeredUnits().get("Length").containsKey("three"));
+    }
+
+    /**
+     * Verify that units can be registered and resolved concurrently from many threads.
+     * @throws Exception on error or interruption
+     */
+    @Test
+    public void testConcurrentRegisterAndResolve() throws Exception
+    {
+        int nThreads = 8;
+        int nUnits = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        List<Length.Unit> units = Collections.synchronizedList(new ArrayList<>());
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < nThreads; t++)
+            {
+                final int thread = t;
+                futures.add(executor.submit(() ->
+                {
+                    for (int i = 0; i < nUnits; i++)
+                    {
+                        String id = "conc" + thread + "_" + i;
+                        Length.Unit unit = (Length.Unit) Length.Unit.m.deriveUnit(id, id, 1.0 + i, UnitSystem.OTHER);
+                        units.add(unit);
+                        assertSame(unit, Units.resolve(Length.Unit.class, id));
+                        assertSame(Length.Unit.km, Units.resolve(Length.Unit.class, "km"));
+                        assertNotNull(Units.registeredUnits().get("Length"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+            Map<String, UnitInterface<?>> lengthUnits = Units.registeredUnits().get("Length");
+            for (Length.Unit unit : units)
+            {
+                assertSame(unit, lengthUnits.get(unit.getStoredTextualAbbreviation()));
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            for (Length.Unit unit : units)
+            {
+                Units.unregister(unit);
+            }
+        }
+        assertEquals(nThreads * nUnits, units.size());
+        assertThrows(UnitRuntimeException.class, () -> Units.resolve(Length.Unit.class, "conc0_0"));
+    }
+
+    /**
+     * Test the creation of the units with SI prefixes when they are resolved for the first time.
+     */
+    @Test
+    public void testLazySiPrefixedUnits()
+    {
+        Length.Unit qm = Units.resolve(Length.Unit.class, "Qm");
+        assertEquals("Qm", qm.getStoredTextualAbbreviation());
+        assertEquals("quettameter", qm.getStoredName());
+        assertEquals(1.0E30, qm.getScale().toIdentityScale(1.0), 1.0E18);
+        assertEquals("Q", qm.getSiPrefix().getDefaultTextualPrefix());
+        assertSame(qm, Units.resolve(Length.Unit.class, "Qm"));
+        assertSame(Length.Unit.km, Units.resolve(Length.Unit.class, "km"));
+        assertSame(qm, Units.registeredUnits().get("Length").get("Qm"));
+
+        Mass.Unit mg = Units.resolve(Mass.Unit.class, "mg");
+        assertEquals("milligram", mg.getStoredName());
+        assertEquals(1.0E-6, mg.getScale().toIdentityScale(1.0), 1.0E-20);
+        assertEquals(1.0E-3, Units.resolve(Mass.Unit.class, "g").getScale().toIdentityScale(1.0), 1.0E-15);
+        assertThrows(UnitRuntimeException.class, () -> Units.resolve(Mass.Unit.class, "kkg"));
+
+        LinearObjectDensity.Unit perMm = Units.resolve(LinearObjectDensity.Unit.class, "/mm");
+        assertEquals("per millimeter", perMm.getStoredName());
+        assertEquals(1000.0, perMm.getScale().toIdentityScale(1.0), 1.0E-9);
+
+        // all units with SI prefixes are part of the registered units
+        Map<String, Map<String, UnitInterface<?>>> registered = Units.registeredUnits();
+        assertNotNull(registered.get("Length").get("ym"));
+        assertNotNull(registered.get("Mass").get("Gg"));
+        assertNotNull(registered.get("LinearObjectDensity").get("/km"));
+        assertSame(registered, Units.registeredUnits());
+        assertThrows(UnitRuntimeException.class, () -> Units.resolve(Length.Unit.class, "xm"));
+    }
 
-        // Mutate the top-level map and verify internal state continues to resolve known entries.
-        snapshot.put("BogusQuantity", new LinkedHashMap<>());
-        UnitInterface<?> meter = Units.resolve(Length.Unit.class, "m");
-        assertNotNull(meter);
+    /**
+     * Verify that concurrent first lookups of a unit with an SI prefix return one instance, and that a unit with an SI prefix
+     * that has been unregistered is not created again.
+     * @throws Exception when a thread fails
+     */
+    @Test
+    public void testLazySiPrefixedUnitsConcurrent() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Mass.Unit> units = Collections.synchronizedList(new ArrayList<>());
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++)
+            {
+                futures.add(executor.submit(() -> units.add(Units.resolve(Mass.Unit.class, "Zg"))));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertEquals(8, units.size());
+        for (Mass.Unit unit : units)
+        {
+            assertSame(units.get(0), unit);
+        }
+
+        Units.unregister(units.get(0));
+        try
+        {
+            assertThrows(UnitRuntimeException.class, () -> Units.resolve(Mass.Unit.class, "Zg"));
+            assertSame(Length.Unit.km, Units.resolve(Length.Unit.class, "km"));
+        }
+        finally
+        {
+            Units.register(units.get(0));
+        }
+        assertSame(units.get(0), Units.resolve(Mass.Unit.class, "Zg"));
     }
 
     /**
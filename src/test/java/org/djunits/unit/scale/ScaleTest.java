@@ -295,4 +295,104 @@ public class ScaleTest
         assertFalse(new GradeScale(1.0).isIdentityScale());
     }
 
+    /**
+     * The array conversions must give exactly the same results as the scalar conversions, for the specialized implementations
+     * and for the default implementation in the Scale interface.
+     */
+    @Test
+    public void testArrayConversion()
+    {
+        Scale plain = new Scale()
+        {
+            /** */
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public double toIdentityScale(final double value)
+            {
+                return value * 3.0;
+            }
+
+            @Override
+            public double fromIdentityScale(final double value)
+            {
+                return value / 3.0;
+            }
+
+            @Override
+            public boolean isIdentityScale()
+            {
+                return false;
+            }
+        };
+        double[] values = {0.0, 1.0, -2.5, 0.1, 1.0E10, 1.0E-10, 3.0 / 7.0};
+        float[] floats = {0.0f, 1.0f, -2.5f, 0.1f, 1.0E10f, 1.0E-10f, 3.0f / 7.0f};
+        for (Scale scale : new Scale[] {IdentityScale.SCALE, new LinearScale(1000.0, 3600.0), new GradeScale(0.01), plain})
+        {
+            double[] dd = new double[values.length];
+            scale.toIdentityScale(values, dd);
+            for (int i = 0; i < values.length; i++)
+            {
+                assertEquals(scale.toIdentityScale(values[i]), dd[i], 0.0, scale.toString());
+            }
+            scale.fromIdentityScale(values, dd);
+            for (int i = 0; i < values.length; i++)
+            {
+                assertEquals(scale.fromIdentityScale(values[i]), dd[i], 0.0, scale.toString());
+            }
+
+            float[] ff = new float[floats.length];
+            scale.toIdentityScale(floats, ff);
+            for (int i = 0; i < floats.length; i++)
+            {
+                assertEquals((float) scale.toIdentityScale(floats[i]), ff[i], 0.0f, scale.toString());
+            }
+            scale.fromIdentityScale(floats, ff);
+            for (int i = 0; i < floats.length; i++)
+            {
+                assertEquals((float) scale.fromIdentityScale(floats[i]), ff[i], 0.0f, scale.toString());
+            }
+            scale.toIdentityScale(values, ff);
+            for (int i = 0; i < values.length; i++)
+            {
+                assertEquals((float) scale.toIdentityScale(values[i]), ff[i], 0.0f, scale.toString());
+            }
+            scale.fromIdentityScale(values, ff);
+            for (int i = 0; i < values.length; i++)
+            {
+                assertEquals((float) scale.fromIdentityScale(values[i]), ff[i], 0.0f, scale.toString());
+            }
+
+            // in place, and a longer destination array
+            double[] inPlace = values.clone();
+            scale.toIdentityScale(inPlace, inPlace);
+            double[] longer = new double[values.length + 2];
+            scale.toIdentityScale(values, longer);
+            for (int i = 0; i < values.length; i++)
+            {
+                assertEquals(scale.toIdentityScale(values[i]), inPlace[i], 0.0);
+                assertEquals(scale.toIdentityScale(values[i]), longer[i], 0.0);
+            }
+            float[] inPlaceF = floats.clone();
+            scale.fromIdentityScale(inPlaceF, inPlaceF);
+            for (int i = 0; i < floats.length; i++)
+            {
+                assertEquals((float) scale.fromIdentityScale(floats[i]), inPlaceF[i], 0.0f);
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> scale.toIdentityScale(values, new double[2]));
+            assertThrows(IllegalArgumentException.class, () -> scale.fromIdentityScale(values, new double[2]));
+            assertThrows(IllegalArgumentException.class, () -> scale.toIdentityScale(floats, new float[2]));
+            assertThrows(IllegalArgumentException.class, () -> scale.fromIdentityScale(floats, new float[2]));
+            assertThrows(IllegalArgumentException.class, () -> scale.toIdentityScale(values, new float[2]));
+            assertThrows(IllegalArgumentException.class, () -> scale.fromIdentityScale(values, new float[2]));
+            assertThrows(NullPointerException.class, () -> scale.toIdentityScale((double[]) null, dd));
+            assertThrows(NullPointerException.class, () -> scale.fromIdentityScale(values, (double[]) null));
+            assertThrows(NullPointerException.class, () -> scale.toIdentityScale((float[]) null, ff));
+            assertThrows(NullPointerException.class, () -> scale.fromIdentityScale(floats, (float[]) null));
+            assertThrows(NullPointerException.class, () -> scale.toIdentityScale(values, (float[]) null));
+            assertThrows(NullPointerException.class, () -> scale.fromIdentityScale((double[]) null, ff));
+        }
+    }
+
 }
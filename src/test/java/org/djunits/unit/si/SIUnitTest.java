@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -190,6 +191,65 @@ public final class SIUnitTest
         assertEquals(si9, si9b);
         assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9]", si9.toArrayString());
         assertEquals("radsr2kg3m4s5A6K7mol8cd9", si9.toString());
+
+        // Multi-digit and negative dimensions
+        assertEquals("[0, 0, 0, 12, -10, 0, 0, 0, 0]", SIUnit.of("m12s-10").toArrayString());
+        assertEquals("[0, 0, 0, 12, -10, 0, 0, 0, 0]", SIUnit.of("m^12 / s^10").toArrayString());
+        assertEquals("[0, 0, 0, -3, 2, 0, 0, 0, 0]", SIUnit.of("m2/m5s-2").toArrayString());
+        assertEquals("[0, 0, 0, " + SIUnit.MAX_EXPONENT + ", 0, 0, 0, 0, 0]",
+                SIUnit.of("m" + SIUnit.MAX_EXPONENT).toArrayString());
+        assertEquals("[0, 0, 0, " + SIUnit.MIN_EXPONENT + ", 0, 0, 0, 0, 0]",
+                SIUnit.of("1/m" + -SIUnit.MIN_EXPONENT).toArrayString());
+        assertEquals(SIUnit.DIMLESS, SIUnit.of("m0"));
+        illegal("m" + (SIUnit.MAX_EXPONENT + 1)); // out of range
+        illegal("m99999999999999999999"); // out of range, no int overflow
+        illegal("m60/m-60"); // sum out of range
+        illegal("m0m"); // duplicate, also with a zero dimension
+        illegal("1m"); // "1" must be the whole numerator
+        illegal("11");
+        illegal("kg--2");
+        illegal("kgx");
+    }
+
+    /**
+     * Parsing the same strings again returns the interned instances from the cache, and the cache does not grow beyond its
+     * capacity. The shared cache is cleared afterwards, so later tests in the same JVM still use the cache.
+     */
+    @Test
+    @DisplayName("Parsing cache returns interned instances")
+    public void testParsingCache()
+    {
+        try
+        {
+            SIUnit.clearParseCache();
+            assertEquals(0, SIUnit.parseCacheSize());
+            SIUnit power = SIUnit.of("kgm2/s3");
+            assertSame(power, SIUnit.of("kgm2/s3"));
+            assertSame(power, SIUnit.of(new String("kgm2/s3")));
+            assertSame(power, SIUnit.of("kg.m^2.s^-3"));
+            assertEquals(2, SIUnit.parseCacheSize());
+            illegal("kgm2/s3/");
+            illegal("kgm2/s3/"); // failures are not cached
+            assertEquals(2, SIUnit.parseCacheSize());
+
+            // many different strings for a small number of dimensionalities fill the cache up to its capacity
+            for (int i = 0; i < SIUnit.MAX_PARSE_CACHE_SIZE + 10; i++)
+            {
+                String s = "m" + (i % 12) + "." + "s-" + (i % 5) + " ".repeat(i / 60);
+                assertEquals(i % 12, SIUnit.of(s).siDimensions()[3], s);
+                assertSame(SIUnit.of(s), SIUnit.of(s));
+            }
+            assertEquals(SIUnit.MAX_PARSE_CACHE_SIZE, SIUnit.parseCacheSize());
+            assertSame(power, SIUnit.of("kg m2 s-3"), "strings that are not cached still return the interned instance");
+            assertEquals(SIUnit.MAX_PARSE_CACHE_SIZE, SIUnit.parseCacheSize());
+        }
+        finally
+        {
+            SIUnit.clearParseCache();
+        }
+        assertEquals(0, SIUnit.parseCacheSize());
+        SIUnit.of("kgm2/s3");
+        assertEquals(1, SIUnit.parseCacheSize(), "after clearing, the cache accepts entries again");
     }
 
     /**
@@ -387,6 +447,89 @@ public final class SIUnitTest
         assertNotEquals(si1.hashCode(), SIUnit.of("kg").hashCode());
     }
 
+    /**
+     * Interning: parsing, the int-based factory and the unit algebra return the canonical instance, and the packed key encodes
+     * the exponents.
+     */
+    @Test
+    @DisplayName("Interned instances and packed key")
+    public void testIntern()
+    {
+        SIUnit newton = SIUnit.of("kgm/s2");
+        assertSame(newton, SIUnit.of("kgms-2"));
+        assertSame(newton, SIUnit.of(0, 0, 1, 1, -2, 0, 0, 0, 0));
+        assertSame(newton, new SIUnit(0, 0, 1, 1, -2, 0, 0, 0, 0).intern());
+        assertNotSame(newton, new SIUnit(0, 0, 1, 1, -2, 0, 0, 0, 0));
+        assertEquals(newton.getKey(), new SIUnit(0, 0, 1, 1, -2, 0, 0, 0, 0).getKey());
+        assertNotEquals(newton.getKey(), SIUnit.of("kgm/s").getKey());
+
+        SIUnit length = SIUnit.of("m");
+        SIUnit time = SIUnit.of("s");
+        SIUnit speed = SIUnit.of("m/s");
+        assertSame(speed, length.minus(time));
+        assertSame(speed, SIUnit.subtract(length, time));
+        assertSame(length, speed.plus(time));
+        assertSame(length, SIUnit.add(speed, time));
+        assertSame(SIUnit.of("s/m"), speed.invert());
+        assertSame(SIUnit.of("m2/s2"), speed.pow(2));
+        assertSame(SIUnit.DIMLESS, speed.pow(0));
+        assertSame(SIUnit.DIMLESS, SIUnit.of(""));
+
+        // extreme exponents survive packing, and out-of-range exponents are rejected
+        SIUnit extreme = SIUnit.of(SIUnit.MIN_EXPONENT, SIUnit.MAX_EXPONENT, 0, 0, 0, 0, 0, 0, -1);
+        assertArrayEquals(new int[] {SIUnit.MIN_EXPONENT, SIUnit.MAX_EXPONENT, 0, 0, 0, 0, 0, 0, -1},
+                extreme.siDimensions());
+        assertThrows(IllegalArgumentException.class, () -> SIUnit.of(SIUnit.MAX_EXPONENT + 1, 0, 0, 0, 0, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SIUnit(0, 0, 0, SIUnit.MIN_EXPONENT - 1, 0, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> SIUnit.of(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> extreme.pow(2));
+        assertThrows(IllegalArgumentException.class, () -> extreme.plus(extreme));
+
+        // many different units force the intern table to grow
+        for (int i = -20; i <= 20; i++)
+        {
+            for (int j = -5; j <= 5; j++)
+            {
+                SIUnit u = SIUnit.of(0, 0, 0, i, j, 0, 0, 0, 0);
+                assertSame(u, new SIUnit(0, 0, 0, i, j, 0, 0, 0, 0).intern());
+                assertEquals(i, u.siDimensions()[3]);
+                assertEquals(j, u.siDimensions()[4]);
+            }
+        }
+        assertSame(newton, SIUnit.of("kgm/s2"));
+        assertTrue(SIUnit.internedCount() <= SIUnit.MAX_INTERN_SIZE);
+    }
+
+    /**
+     * The intern table is bounded: a full table refuses new units, and lookups still find the units in the table. The test
+     * uses a separate, small table, so the shared table of SIUnit is not filled.
+     */
+    @Test
+    @DisplayName("Intern table has a maximum size")
+    public void testInternTableMaxSize()
+    {
+        SIUnit.InternTable table = new SIUnit.InternTable(2, 5);
+        for (int i = 0; i < 5; i++)
+        {
+            assertFalse(table.isFull());
+            table = table.with(new SIUnit(0, 0, 0, i, 0, 0, 0, 0, 0));
+            assertEquals(i + 1, table.size());
+        }
+        assertTrue(table.isFull());
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals(i, table.get(new SIUnit(0, 0, 0, i, 0, 0, 0, 0, 0).getKey()).siDimensions()[3]);
+        }
+        assertNull(table.get(new SIUnit(0, 0, 0, 5, 0, 0, 0, 0, 0).getKey()));
+        SIUnit.InternTable full = table;
+        assertThrows(IllegalStateException.class, () -> full.with(SIUnit.DIMLESS));
+
+        // a unit that is not interned is still equal to the interned instance with the same dimensions
+        SIUnit notInterned = new SIUnit(0, 0, 0, 1, -1, 0, 0, 0, 0);
+        assertEquals(SIUnit.of("m/s"), notInterned);
+        assertEquals(SIUnit.of("m/s").hashCode(), notInterned.hashCode());
+    }
+
     /**
      * Immutability: calling the various renderers must not mutate internal state.
      */
@@ -0,0 +1,299 @@
+package org.djunits.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ArrayKernels} implementations. The active kernels of {@link ArrayMath#kernels()} are compared with
+ * the {@link ScalarArrayKernels}; when the JVM runs with the <code>jdk.incubator.vector</code> module, this compares the Vector
+ * API implementation with the scalar implementation. The Maven profile <code>simd</code> builds the Vector API kernels, runs
+ * the tests with the module, and sets the system property {@value #SIMD_EXPECTED_PROPERTY}, so the tests fail when the Vector
+ * API kernels cannot be used. The array lengths are chosen to cover arrays that are shorter than one vector, arrays that fill
+ * a whole number of vectors, and arrays with a remainder.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class ArrayKernelsTest
+{
+    /** The array lengths to test. */
+    private static final int[] LENGTHS = {1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 32, 33, 64, 100, 1001};
+
+    /** The system property that the simd build profile sets to true, so the Vector API kernels have to be present. */
+    private static final String SIMD_EXPECTED_PROPERTY = "djunits.simd.expected";
+
+    /**
+     * Return whether the build expects the Vector API kernels to be compiled and the <code>jdk.incubator.vector</code> module
+     * to be present.
+     * @return whether the Vector API kernels are expected to be available
+     */
+    private static boolean simdExpected()
+    {
+        return Boolean.getBoolean(SIMD_EXPECTED_PROPERTY);
+    }
+
+    /**
+     * Return the kernels to compare with the scalar kernels: the active kernels, and the Vector API kernels when they can be
+     * loaded. When the build expects the Vector API kernels, failing to load them fails the test instead of skipping them.
+     * @return the kernels to compare with the scalar kernels
+     */
+    private static List<ArrayKernels> kernelsUnderTest()
+    {
+        List<ArrayKernels> result = new ArrayList<>();
+        result.add(ArrayMath.kernels());
+        try
+        {
+            result.add((ArrayKernels) Class.forName("org.djunits.util.VectorApiArrayKernels").getDeclaredConstructor()
+                    .newInstance());
+        }
+        catch (ReflectiveOperationException | LinkageError exception)
+        {
+            if (simdExpected())
+            {
+                fail("Vector API kernels expected but not available: " + exception, exception);
+            }
+            // Vector API not built or not available in this JVM; only the active kernels are tested
+        }
+        return result;
+    }
+
+    /**
+     * Test the selection of the kernels.
+     */
+    @Test
+    public void testSelection()
+    {
+        ArrayKernels kernels = ArrayMath.kernels();
+        assertNotNull(kernels);
+        assertSame(kernels, ArrayMath.kernels());
+        assertEquals("scalar", ScalarArrayKernels.INSTANCE.getName());
+        if (simdExpected())
+        {
+            assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+                    "simd profile, but the JVM runs without --add-modules jdk.incubator.vector");
+            assertTrue(kernels.getName().startsWith("vector-api"), "simd profile, but active kernels are " + kernels.getName());
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()
+                || !Boolean.parseBoolean(System.getProperty(ArrayMath.SIMD_PROPERTY, "true")))
+        {
+            assertSame(ScalarArrayKernels.INSTANCE, kernels);
+        }
+        else
+        {
+            assertTrue(kernels.getName().startsWith("vector-api"));
+        }
+    }
+
+    /**
+     * Compare the double kernels with the scalar kernels.
+     */
+    @Test
+    public void testDoubleKernels()
+    {
+        ScalarArrayKernels sc = ScalarArrayKernels.INSTANCE;
+        Random random = new Random(12);
+        for (ArrayKernels k : kernelsUnderTest())
+        {
+            for (int n : LENGTHS)
+            {
+                double[] a = new double[n];
+                double[] b = new double[n];
+                for (int i = 0; i < n; i++)
+                {
+                    a[i] = random.nextGaussian() * 100.0;
+                    b[i] = random.nextGaussian() * 10.0 + 0.5;
+                }
+                double[] expected = new double[n];
+                double[] actual = new double[n];
+                String msg = k.getName() + " n=" + n;
+
+                sc.add(a, b, expected);
+                k.add(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.subtract(a, b, expected);
+                k.subtract(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.multiply(a, b, expected);
+                k.multiply(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.divide(a, b, expected);
+                k.divide(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.addScalar(a, 2.5, expected);
+                k.addScalar(a, 2.5, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.scale(a, -3.25, expected);
+                k.scale(a, -3.25, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.axpy(a, b, 0.75, expected);
+                k.axpy(a, b, 0.75, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.abs(a, expected);
+                k.abs(a, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+                sc.reciprocal(b, expected);
+                k.reciprocal(b, actual);
+                assertArrayEquals(expected, actual, 0.0, msg);
+
+                double tolerance = 1E-12 * n * 1000.0;
+                assertEquals(sc.sum(a), k.sum(a), tolerance, msg);
+                assertEquals(sc.sumAbs(a), k.sumAbs(a), tolerance, msg);
+                assertEquals(sc.sumSqr(a), k.sumSqr(a), tolerance * 100.0, msg);
+                assertEquals(sc.min(a), k.min(a), 0.0, msg);
+                assertEquals(sc.max(a), k.max(a), 0.0, msg);
+                assertEquals(sc.minAbs(a), k.minAbs(a), 0.0, msg);
+                assertEquals(sc.maxAbs(a), k.maxAbs(a), 0.0, msg);
+
+                // in place
+                double[] c = a.clone();
+                k.add(c, b, c);
+                sc.add(a, b, expected);
+                assertArrayEquals(expected, c, 0.0, msg);
+            }
+        }
+    }
+
+    /**
+     * Compare the float kernels with the scalar kernels.
+     */
+    @Test
+    public void testFloatKernels()
+    {
+        ScalarArrayKernels sc = ScalarArrayKernels.INSTANCE;
+        Random random = new Random(34);
+        for (ArrayKernels k : kernelsUnderTest())
+        {
+            for (int n : LENGTHS)
+            {
+                float[] a = new float[n];
+                float[] b = new float[n];
+                for (int i = 0; i < n; i++)
+                {
+                    a[i] = (float) (random.nextGaussian() * 100.0);
+                    b[i] = (float) (random.nextGaussian() * 10.0 + 0.5);
+                }
+                float[] expected = new float[n];
+                float[] actual = new float[n];
+                String msg = k.getName() + " n=" + n;
+
+                sc.add(a, b, expected);
+                k.add(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.subtract(a, b, expected);
+                k.subtract(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.multiply(a, b, expected);
+                k.multiply(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.divide(a, b, expected);
+                k.divide(a, b, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.addScalar(a, 2.5f, expected);
+                k.addScalar(a, 2.5f, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.scale(a, -3.25f, expected);
+                k.scale(a, -3.25f, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.axpy(a, b, 0.75f, expected);
+                k.axpy(a, b, 0.75f, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.abs(a, expected);
+                k.abs(a, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+                sc.reciprocal(b, expected);
+                k.reciprocal(b, actual);
+                assertArrayEquals(expected, actual, 0.0f, msg);
+
+                float tolerance = 1E-5f * n * 100.0f;
+                assertEquals(sc.sum(a), k.sum(a), tolerance, msg);
+                assertEquals(sc.sumAbs(a), k.sumAbs(a), tolerance, msg);
+                assertEquals(sc.sumSqr(a), k.sumSqr(a), tolerance * 100.0f, msg);
+                assertEquals(sc.min(a), k.min(a), 0.0f, msg);
+                assertEquals(sc.max(a), k.max(a), 0.0f, msg);
+                assertEquals(sc.minAbs(a), k.minAbs(a), 0.0f, msg);
+                assertEquals(sc.maxAbs(a), k.maxAbs(a), 0.0f, msg);
+            }
+        }
+    }
+
+    /**
+     * Test that the range variants of the kernels only process the given range.
+     */
+    @Test
+    public void testRanges()
+    {
+        ScalarArrayKernels sc = ScalarArrayKernels.INSTANCE;
+        for (ArrayKernels k : kernelsUnderTest())
+        {
+            double[] a = new double[40];
+            for (int i = 0; i < a.length; i++)
+            {
+                a[i] = i - 20.0;
+            }
+            double[] out = new double[40];
+            k.scale(a, 2.0, out, 5, 33);
+            for (int i = 0; i < out.length; i++)
+            {
+                assertEquals(i >= 5 && i < 33 ? 2.0 * a[i] : 0.0, out[i], 0.0, k.getName() + " i=" + i);
+            }
+            assertEquals(sc.sum(a, 5, 33), k.sum(a, 5, 33), 1E-12);
+            assertEquals(-15.0, k.min(a, 5, 33), 0.0);
+            assertEquals(12.0, k.max(a, 5, 33), 0.0);
+            assertEquals(0.0, k.minAbs(a, 5, 33), 0.0);
+            assertEquals(15.0, k.maxAbs(a, 5, 33), 0.0);
+            assertEquals(-7.0, k.max(a, 12, 14), 0.0);
+
+            float[] f = new float[40];
+            for (int i = 0; i < f.length; i++)
+            {
+                f[i] = i - 20.0f;
+            }
+            assertEquals(sc.sumSqr(f, 3, 37), k.sumSqr(f, 3, 37), 1E-3f);
+            assertEquals(16.0f, k.max(f, 3, 37), 0.0f);
+        }
+    }
+
+    /**
+     * Test the scalar kernels against straightforward calculations, including NaN propagation in min and max.
+     */
+    @Test
+    public void testScalarKernels()
+    {
+        ScalarArrayKernels sc = ScalarArrayKernels.INSTANCE;
+        double[] a = {1.0, -2.0, 3.0};
+        assertEquals(2.0, sc.sum(a), 0.0);
+        assertEquals(6.0, sc.sumAbs(a), 0.0);
+        assertEquals(14.0, sc.sumSqr(a), 0.0);
+        assertEquals(-2.0, sc.min(a), 0.0);
+        assertEquals(3.0, sc.max(a), 0.0);
+        assertEquals(1.0, sc.minAbs(a), 0.0);
+        assertEquals(3.0, sc.maxAbs(a), 0.0);
+        double[] nan = {1.0, Double.NaN, 3.0};
+        for (ArrayKernels k : kernelsUnderTest())
+        {
+            assertTrue(Double.isNaN(k.min(nan)));
+            assertTrue(Double.isNaN(k.max(nan)));
+            assertTrue(Double.isNaN(k.sum(nan)));
+        }
+        float[] f = {1.0f, -2.0f, 3.0f};
+        assertEquals(2.0f, sc.sum(f), 0.0f);
+        assertEquals(-2.0f, sc.min(f), 0.0f);
+        assertEquals(3.0f, sc.maxAbs(f), 0.0f);
+        float[] out = new float[3];
+        sc.reciprocal(new float[] {2.0f, 4.0f, -0.5f}, out);
+        assertArrayEquals(new float[] {0.5f, 0.25f, -2.0f}, out, 0.0f);
+    }
+
+}
@@ -138,7 +138,34 @@ public class ArrayMathTest
         double[] out = ArrayMath.abs(a);
         assertEquals(0.0, out[0], EPS, "abs(-0.0) should be +0.0");
         assertArrayClose(new double[] {0.0, 2.5, 3.0, Double.NaN}, out);
-        assertThrows(NullPointerException.class, () -> ArrayMath.abs(null));
+        assertThrows(NullPointerException.class, () -> ArrayMath.abs((double[]) null));
+    }
+
+    /**
+     * Verifies the float[] variants of {@code add}, {@code subtract}, {@code multiply}, {@code scaleBy} and {@code abs}: the
+     * results are identical to the float operations per element, and the preconditions are checked.
+     */
+    @Test
+    void floatFunctional()
+    {
+        float[] a = {1.5f, -2.0f, 0.1f};
+        float[] b = {0.25f, 4.0f, 0.2f};
+        assertArrayEquals(new float[] {1.5f + 0.25f, -2.0f + 4.0f, 0.1f + 0.2f}, ArrayMath.add(a, b), 0.0f);
+        assertArrayEquals(new float[] {1.5f - 0.25f, -2.0f - 4.0f, 0.1f - 0.2f}, ArrayMath.subtract(a, b), 0.0f);
+        assertArrayEquals(new float[] {1.5f * 0.25f, -2.0f * 4.0f, 0.1f * 0.2f}, ArrayMath.multiply(a, b), 0.0f);
+        assertArrayEquals(new float[] {3.0f, -4.0f, 0.1f * 2.0f}, ArrayMath.scaleBy(a, 2.0f), 0.0f);
+        assertArrayEquals(new float[] {1.5f, 2.0f, 0.1f}, ArrayMath.abs(a), 0.0f);
+        assertEquals(0, ArrayMath.add(new float[0], new float[0]).length);
+
+        float[] c = {1.0f};
+        assertThrows(NullPointerException.class, () -> ArrayMath.add(null, c));
+        assertThrows(NullPointerException.class, () -> ArrayMath.subtract(c, null));
+        assertThrows(NullPointerException.class, () -> ArrayMath.multiply((float[]) null, c));
+        assertThrows(NullPointerException.class, () -> ArrayMath.scaleBy((float[]) null, 2.0f));
+        assertThrows(NullPointerException.class, () -> ArrayMath.abs((float[]) null));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMath.add(a, c));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMath.subtract(a, c));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMath.multiply(a, c));
     }
 
     /**
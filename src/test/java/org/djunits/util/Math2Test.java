@@ -161,6 +161,33 @@ public class Math2Test
         assertTrue(Double.isNaN(Math2.sumSqr()));
     }
 
+    /**
+     * Verifies the float[] variants of {@link Math2#max(float[])}, {@link Math2#min(float[])}, {@link Math2#sum(float[])},
+     * {@link Math2#sumAbs(float[])} and {@link Math2#sumSqr(float[])}, which accumulate in double precision.
+     */
+    @Test
+    void floatValues()
+    {
+        float[] f = {1.0f, -2.0f, 3.0f};
+        assertEquals(3.0, Math2.max(f), EPS);
+        assertEquals(-2.0, Math2.min(f), EPS);
+        assertEquals(2.0, Math2.sum(f), EPS);
+        assertEquals(6.0, Math2.sumAbs(f), EPS);
+        assertEquals(14.0, Math2.sumSqr(f), EPS);
+
+        // the sum is not rounded to float: 2^24 + 1 is not representable as a float
+        assertEquals(16_777_217.0, Math2.sum(new float[] {16_777_216.0f, 1.0f}), 0.0);
+
+        for (float[] empty : new float[][] {null, new float[0]})
+        {
+            assertTrue(Double.isNaN(Math2.max(empty)));
+            assertTrue(Double.isNaN(Math2.min(empty)));
+            assertTrue(Double.isNaN(Math2.sum(empty)));
+            assertTrue(Double.isNaN(Math2.sumAbs(empty)));
+            assertTrue(Double.isNaN(Math2.sumSqr(empty)));
+        }
+    }
+
     // ---------------------------------------------------------------------
     // median
     // ---------------------------------------------------------------------
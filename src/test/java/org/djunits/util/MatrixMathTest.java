@@ -132,6 +132,35 @@ public class MatrixMathTest
         assertThrows(IllegalArgumentException.class, () -> MatrixMath.multiply(A, new double[] {5}, 2, 2, 1));
     }
 
+    /**
+     * Verifies the float multiplication against the double multiplication of the widened matrices, and the length-mismatch
+     * precondition errors.
+     */
+    @Test
+    void multiplyFloat()
+    {
+        // A (2x3) · B (3x2) = C (2x2)
+        float[] A = {1.1f, -2.0f, 0.3f, 4.0f, 0.5f, -6.0f};
+        float[] B = {0.7f, 8.0f, -9.0f, 1.0f, 2.5f, 0.1f};
+        double[] Ad = new double[A.length];
+        double[] Bd = new double[B.length];
+        for (int i = 0; i < A.length; i++)
+        {
+            Ad[i] = A[i];
+            Bd[i] = B[i];
+        }
+        double[] Cd = MatrixMath.multiply(Ad, Bd, 2, 3, 2);
+        float[] C = MatrixMath.multiply(A, B, 2, 3, 2);
+        assertEquals(4, C.length);
+        for (int i = 0; i < C.length; i++)
+        {
+            assertEquals((float) Cd[i], C[i], 0.0f, "float product rounds the double product once");
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixMath.multiply(new float[] {1, 2, 3}, B, 2, 3, 2));
+        assertThrows(IllegalArgumentException.class, () -> MatrixMath.multiply(A, new float[] {5}, 2, 3, 2));
+    }
+
     // ---------------------------------------------------------------------
     // Basic invariants: trace, symmetry
     // ---------------------------------------------------------------------
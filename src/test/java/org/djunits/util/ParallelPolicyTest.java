@@ -0,0 +1,235 @@
+package org.djunits.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ParallelPolicy} and the parallel execution of the array kernels.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class ParallelPolicyTest
+{
+    /**
+     * Create an array with random values.
+     * @param n the length of the array
+     * @param seed the seed of the random generator
+     * @return an array with random values
+     */
+    private static double[] randomArray(final int n, final long seed)
+    {
+        Random random = new Random(seed);
+        double[] a = new double[n];
+        for (int i = 0; i < n; i++)
+        {
+            a[i] = random.nextGaussian() * 1000.0;
+        }
+        return a;
+    }
+
+    /**
+     * Test the creation and settings of policies.
+     */
+    @Test
+    public void testPolicy()
+    {
+        assertFalse(ParallelPolicy.SEQUENTIAL.isEnabled());
+        assertFalse(ParallelPolicy.SEQUENTIAL.isParallel(Integer.MAX_VALUE));
+        assertSame(ArrayMath.kernels(), ParallelPolicy.SEQUENTIAL.kernels());
+        assertTrue(ParallelPolicy.SEQUENTIAL.toString().contains("SEQUENTIAL"));
+
+        ParallelPolicy policy = ParallelPolicy.of(1000, 100, null);
+        assertTrue(policy.isEnabled());
+        assertTrue(policy.isParallel(1000));
+        assertFalse(policy.isParallel(999));
+        assertEquals(1000, policy.getThreshold());
+        assertEquals(100, policy.getChunkSize());
+        assertSame(ForkJoinPool.commonPool(), policy.getPool());
+        assertNotSame(ArrayMath.kernels(), policy.kernels());
+        assertTrue(policy.kernels().getName().endsWith("-parallel"));
+        assertTrue(policy.toString().contains("1000"));
+
+        assertEquals(50, policy.withThreshold(50).getThreshold());
+        assertEquals(100, policy.withThreshold(50).getChunkSize());
+        assertEquals(10, policy.withChunkSize(10).getChunkSize());
+        assertTrue(ParallelPolicy.SEQUENTIAL.withChunkSize(10).isEnabled());
+        assertEquals(ParallelPolicy.DEFAULT_THRESHOLD, ParallelPolicy.SEQUENTIAL.withPool(null).getThreshold());
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try
+        {
+            assertSame(pool, policy.withPool(pool).getPool());
+            assertSame(pool, ParallelPolicy.of(pool).getPool());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> ParallelPolicy.of(0, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> ParallelPolicy.of(10, 0, null));
+        assertThrows(NullPointerException.class, () -> ParallelPolicy.of(null));
+        assertThrows(NullPointerException.class, () -> ParallelPolicy.setDefault(null));
+    }
+
+    /**
+     * Test that parallel execution is opt-in: without the system property, the default policy is sequential, and the scalar
+     * kernels add the values of a large array in index order, also when the Vector API kernels are active.
+     */
+    @Test
+    public void testSequentialDefault()
+    {
+        if (!Boolean.getBoolean(ParallelPolicy.PARALLEL_PROPERTY))
+        {
+            assertSame(ParallelPolicy.SEQUENTIAL, ParallelPolicy.getDefault());
+        }
+        double[] a = randomArray(ParallelPolicy.DEFAULT_THRESHOLD * 2, 7L);
+        double sum = 0.0;
+        for (double v : a)
+        {
+            sum += v;
+        }
+        assertEquals(Double.doubleToLongBits(sum), Double.doubleToLongBits(ArrayMath.scalarKernels().sum(a)));
+        if (ParallelPolicy.getDefault() == ParallelPolicy.SEQUENTIAL && ArrayMath.kernels() == ScalarArrayKernels.INSTANCE)
+        {
+            assertEquals(Double.doubleToLongBits(sum), Double.doubleToLongBits(Math2.sum(a)));
+        }
+    }
+
+    /**
+     * Test that parallel element-wise operations give exactly the same results as sequential operations.
+     */
+    @Test
+    public void testElementWise()
+    {
+        ParallelPolicy policy = ParallelPolicy.of(100, 37, null);
+        ArrayKernels seq = ArrayMath.kernels();
+        ArrayKernels par = policy.kernels();
+        for (int n : new int[] {10, 99, 100, 101, 1000, 12345})
+        {
+            double[] a = randomArray(n, n);
+            double[] b = randomArray(n, n + 1);
+            double[] expected = new double[n];
+            double[] actual = new double[n];
+            seq.add(a, b, expected);
+            par.add(a, b, actual);
+            assertArrayEquals(expected, actual, 0.0);
+            seq.axpy(a, b, 0.3, expected);
+            par.axpy(a, b, 0.3, actual);
+            assertArrayEquals(expected, actual, 0.0);
+            seq.abs(a, expected);
+            par.abs(a, actual);
+            assertArrayEquals(expected, actual, 0.0);
+            seq.scale(a, 2.5, expected);
+            par.scale(a, 2.5, actual);
+            assertArrayEquals(expected, actual, 0.0);
+
+            float[] fa = new float[n];
+            float[] fb = new float[n];
+            for (int i = 0; i < n; i++)
+            {
+                fa[i] = (float) a[i];
+                fb[i] = (float) b[i];
+            }
+            float[] fexpected = new float[n];
+            float[] factual = new float[n];
+            seq.divide(fa, fb, fexpected);
+            par.divide(fa, fb, factual);
+            assertArrayEquals(fexpected, factual, 0.0f);
+        }
+    }
+
+    /**
+     * Test that parallel reductions are deterministic, independent of the pool, and close to the sequential reductions.
+     */
+    @Test
+    public void testReductions()
+    {
+        double[] a = randomArray(100_003, 5L);
+        ArrayKernels seq = ArrayMath.kernels();
+        ForkJoinPool pool1 = new ForkJoinPool(1);
+        ForkJoinPool pool4 = new ForkJoinPool(4);
+        try
+        {
+            ArrayKernels common = ParallelPolicy.of(1000, 500, null).kernels();
+            ArrayKernels par1 = ParallelPolicy.of(1000, 500, pool1).kernels();
+            ArrayKernels par4 = ParallelPolicy.of(1000, 500, pool4).kernels();
+            double sum = common.sum(a);
+            for (int run = 0; run < 5; run++)
+            {
+                assertEquals(Double.doubleToLongBits(sum), Double.doubleToLongBits(common.sum(a)));
+                assertEquals(Double.doubleToLongBits(sum), Double.doubleToLongBits(par1.sum(a)));
+                assertEquals(Double.doubleToLongBits(sum), Double.doubleToLongBits(par4.sum(a)));
+                assertEquals(Double.doubleToLongBits(common.sumSqr(a)), Double.doubleToLongBits(par4.sumSqr(a)));
+            }
+            assertEquals(seq.sum(a), sum, 1E-6);
+            assertEquals(seq.sumAbs(a), par4.sumAbs(a), 1E-4);
+            assertEquals(seq.sumSqr(a), par4.sumSqr(a), 1E-1);
+            assertEquals(seq.min(a), par4.min(a), 0.0);
+            assertEquals(seq.max(a), par4.max(a), 0.0);
+            assertEquals(seq.minAbs(a), par4.minAbs(a), 0.0);
+            assertEquals(seq.maxAbs(a), par4.maxAbs(a), 0.0);
+
+            double[] nan = a.clone();
+            nan[77_777] = Double.NaN;
+            assertTrue(Double.isNaN(par4.min(nan)));
+            assertTrue(Double.isNaN(par4.sum(nan)));
+
+            float[] f = new float[a.length];
+            for (int i = 0; i < f.length; i++)
+            {
+                f[i] = (float) a[i];
+            }
+            assertEquals(Double.doubleToLongBits(par1.sum(f)), Double.doubleToLongBits(par4.sum(f)));
+            assertEquals(seq.max(f), par4.max(f), 0.0f);
+        }
+        finally
+        {
+            pool1.shutdown();
+            pool4.shutdown();
+        }
+    }
+
+    /**
+     * Test that ArrayMath and Math2 use the default policy.
+     */
+    @Test
+    public void testDefault()
+    {
+        ParallelPolicy original = ParallelPolicy.getDefault();
+        try
+        {
+            double[] a = randomArray(5000, 9L);
+            double[] b = randomArray(5000, 10L);
+            ParallelPolicy.setDefault(ParallelPolicy.SEQUENTIAL);
+            double sequentialSum = Math2.sum(a);
+            double[] sequentialAdd = ArrayMath.add(a, b);
+            assertEquals(ArrayMath.kernels().sum(a), sequentialSum, 0.0);
+
+            ParallelPolicy policy = ParallelPolicy.of(1000, 100, null);
+            ParallelPolicy.setDefault(policy);
+            assertSame(policy, ParallelPolicy.getDefault());
+            assertEquals(policy.kernels().sum(a), Math2.sum(a), 0.0);
+            assertEquals(sequentialSum, Math2.sum(a), 1E-6);
+            assertArrayEquals(sequentialAdd, ArrayMath.add(a, b), 0.0);
+            assertEquals(ArrayMath.kernels().max(a), Math2.max(a), 0.0);
+        }
+        finally
+        {
+            ParallelPolicy.setDefault(original);
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.djunits.vecmat.d1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.djunits.quantity.Dimensionless;
+import org.djunits.quantity.Length;
+import org.djunits.unit.Unitless;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableMatrix1x1}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableMatrix1x1Test
+{
+    /**
+     * Test construction, element access, freezing and multiplication.
+     */
+    @Test
+    public void testMatrix1x1()
+    {
+        MutableMatrix1x1<Length> m = MutableMatrix1x1.of(new double[] {2.0}, Length.Unit.km);
+        assertEquals(1, m.order());
+        assertEquals(2000.0, m.si(0, 0), 1E-9);
+        assertEquals(2000.0, m.si(0), 1E-9);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.si(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> MutableMatrix1x1.ofSi(new double[2], Length.Unit.m));
+
+        Matrix1x1<Length> frozen = m.freeze();
+        m.setSi(0, 0, 5.0).transposeInPlace();
+        assertEquals(5.0, m.si(0), 0.0);
+        assertEquals(2000.0, frozen.si(0), 1E-9);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+        assertEquals(2000.0, MutableMatrix1x1.of(frozen).si(0), 1E-9);
+
+        MutableMatrix1x1<Dimensionless> gain = MutableMatrix1x1.ofSi(new double[] {3.0}, Unitless.BASE);
+        MutableMatrix1x1<Length> target = MutableMatrix1x1.zero(Length.Unit.m);
+        assertSame(target, gain.multiplyInto(m, target));
+        assertEquals(15.0, target.si(0), 0.0);
+        MutableVector1<Length> v = new MutableVector1<>(2.0, Length.Unit.m);
+        assertSame(v, gain.multiplyInto(v, v));
+        assertEquals(6.0, v.xSi(), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> gain.multiplyInto(v, MutableVector1.zero(Unitless.BASE)));
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.djunits.vecmat.d1;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.djunits.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableVector1}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableVector1Test
+{
+    /**
+     * Test construction and the read methods.
+     */
+    @Test
+    public void testConstructionAndRead()
+    {
+        MutableVector1<Length> v = MutableVector1.of(-2.0, Length.Unit.km);
+        assertEquals(-2000.0, v.xSi(), 1E-9);
+        assertEquals(Length.of(-2.0, Length.Unit.km), v.x());
+        assertEquals(1, v.rows());
+        assertEquals(1, v.cols());
+        assertEquals(1, v.size());
+        assertSame(Length.Unit.km, v.getDisplayUnit());
+        assertEquals(-2000.0, v.sum().si(), 1E-9);
+        assertEquals(-2000.0, v.mean().si(), 1E-9);
+        assertEquals(-2000.0, v.min().si(), 1E-9);
+        assertEquals(-2000.0, v.max().si(), 1E-9);
+        assertEquals(-2000.0, v.median().si(), 1E-9);
+        assertEquals(2000.0, v.norm().si(), 1E-9);
+        assertEquals(1, v.nnz());
+        assertEquals(-2000.0, v.get(0).si(), 1E-9);
+        assertArrayEquals(new double[] {-2000.0}, v.getSiArray(), 1E-9);
+        assertThrows(IndexOutOfBoundsException.class, () -> v.si(1));
+        assertTrue(v.toString().contains("MutableVector1"));
+
+        MutableVector1<Length> w = MutableVector1.of(Vector1.of(5.0, Length.Unit.m));
+        assertEquals(5.0, w.xSi(), 0.0);
+        assertSame(Length.Unit.m, w.getDisplayUnit());
+        assertEquals(0, MutableVector1.zero(Length.Unit.m).nnz());
+    }
+
+    /**
+     * Test the in-place operations.
+     */
+    @Test
+    public void testInPlace()
+    {
+        MutableVector1<Length> pos = new MutableVector1<>(1.0, Length.Unit.m);
+        MutableVector1<Length> step = new MutableVector1<>(0.5, Length.Unit.m);
+        assertSame(pos, pos.addInPlace(step));
+        assertEquals(1.5, pos.xSi(), 0.0);
+        pos.subtractInPlace(step);
+        assertEquals(1.0, pos.xSi(), 0.0);
+        pos.axpyInPlace(-4.0, step);
+        assertEquals(-1.0, pos.xSi(), 0.0);
+        pos.scaleInPlace(3.0);
+        assertEquals(-3.0, pos.xSi(), 0.0);
+        pos.absInPlace().negateInPlace();
+        assertEquals(-3.0, pos.xSi(), 0.0);
+        pos.addInPlace(Length.of(1.0, Length.Unit.m)).subtractInPlace(Length.of(0.5, Length.Unit.m));
+        assertEquals(-2.5, pos.xSi(), 0.0);
+        pos.setSi(7.0);
+        assertEquals(7.0, pos.xSi(), 0.0);
+        pos.set(Vector1.of(2.0, Length.Unit.m));
+        assertEquals(2.0, pos.xSi(), 0.0);
+        pos.set(step);
+        assertEquals(0.5, pos.xSi(), 0.0);
+        pos.clear();
+        assertEquals(0, pos.nnz());
+        assertThrows(NullPointerException.class, () -> pos.addInPlace((MutableVector1<Length>) null));
+    }
+
+    /**
+     * Test that frozen snapshots are not affected by later changes.
+     */
+    @Test
+    public void testFreeze()
+    {
+        MutableVector1<Length> v = new MutableVector1<>(1.0, Length.Unit.km);
+        Vector1<Length> frozen = v.freeze();
+        assertEquals(Vector1.ofSi(1.0, Length.Unit.km), frozen);
+        v.scaleInPlace(10.0);
+        assertEquals(1.0, frozen.xSi(), 0.0);
+        assertEquals(10.0, v.xSi(), 0.0);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -280,6 +281,7 @@ public class Matrix2x2Test
         // det = a*d - b*c = 1*4 - 2*3 = -2
         assertEquals(-2.0, m.determinantSi(), EPS, "determinantScalar");
         assertEquals(-2.0, m.determinant().si(), EPS, "determinant quantity SI value");
+        assertSame(SIUnit.of("m2"), m.determinant().getDisplayUnit(), "determinant unit is the interned m2");
         // trace = a + d = 1 + 4 = 5
         assertEquals(5.0, m.trace().si(), EPS, "trace");
     }
@@ -0,0 +1,76 @@
+package org.djunits.vecmat.d2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.djunits.quantity.Dimensionless;
+import org.djunits.quantity.Length;
+import org.djunits.unit.Unitless;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableMatrix2x2}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableMatrix2x2Test
+{
+    /**
+     * Test construction, element access and freezing.
+     */
+    @Test
+    public void testConstructionAndFreeze()
+    {
+        MutableMatrix2x2<Length> m = MutableMatrix2x2.of(new double[] {1, 2, 3, 4}, Length.Unit.km);
+        assertEquals(2, m.order());
+        assertEquals(4, m.size());
+        assertEquals(3000.0, m.si(1, 0), 1E-9);
+        assertEquals(10000.0, m.sum().si(), 1E-9);
+        m.setSi(0, 1, -5.0);
+        assertEquals(-5.0, m.si(1), 0.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.si(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> MutableMatrix2x2.ofSi(new double[9], Length.Unit.m));
+
+        Matrix2x2<Length> frozen = m.freeze();
+        m.transposeInPlace();
+        assertEquals(-5.0, m.si(1, 0), 0.0);
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        assertEquals(-5.0, frozen.si(1), 0.0);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+
+        MutableMatrix2x2<Length> copy = MutableMatrix2x2.of(frozen);
+        assertArrayEquals(frozen.getSiArray(), copy.getSiArray(), 0.0);
+        copy.set(m);
+        assertArrayEquals(m.getSiArray(), copy.getSiArray(), 0.0);
+        assertEquals(0, MutableMatrix2x2.zero(Length.Unit.m).nnz());
+    }
+
+    /**
+     * Test multiplication into a target matrix and vector.
+     */
+    @Test
+    public void testMultiplyInto()
+    {
+        MutableMatrix2x2<Dimensionless> a = MutableMatrix2x2.ofSi(new double[] {1, 2, 3, 4}, Unitless.BASE);
+        MutableMatrix2x2<Length> b = MutableMatrix2x2.ofSi(new double[] {5, 6, 7, 8}, Length.Unit.m);
+        MutableMatrix2x2<Length> c = MutableMatrix2x2.zero(Length.Unit.m);
+        assertSame(c, a.multiplyInto(b, c));
+        assertArrayEquals(new double[] {19, 22, 43, 50}, c.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> b.multiplyInto(b, c));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(b, b));
+
+        MutableVector2<Length> v = new MutableVector2<>(1.0, 1.0, Length.Unit.m);
+        MutableVector2<Length> t = MutableVector2.zero(Length.Unit.m);
+        assertSame(t, a.multiplyInto(v, t));
+        assertArrayEquals(new double[] {3, 7}, t.getSiArray(), 1E-12);
+        a.multiplyInto(v, v);
+        assertArrayEquals(new double[] {3, 7}, v.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(v, MutableVector2.zero(Unitless.BASE)));
+    }
+
+}
@@ -0,0 +1,144 @@
+package org.djunits.vecmat.d2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.djunits.quantity.Length;
+import org.djunits.vecmat.def.ReadableVectorMatrix;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableVector2}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableVector2Test
+{
+    /**
+     * Test construction and the read methods.
+     */
+    @Test
+    public void testConstructionAndRead()
+    {
+        MutableVector2<Length> v = MutableVector2.of(3.0, 4.0, Length.Unit.km);
+        assertEquals(3000.0, v.xSi(), 1E-9);
+        assertEquals(4000.0, v.ySi(), 1E-9);
+        assertEquals(Length.of(3.0, Length.Unit.km), v.x());
+        assertEquals(Length.of(4.0, Length.Unit.km), v.y());
+        assertEquals(2, v.rows());
+        assertEquals(1, v.cols());
+        assertEquals(2, v.size());
+        assertSame(Length.Unit.km, v.getDisplayUnit());
+        assertEquals(7000.0, v.sum().si(), 1E-9);
+        assertEquals(3500.0, v.mean().si(), 1E-9);
+        assertEquals(3000.0, v.min().si(), 1E-9);
+        assertEquals(4000.0, v.max().si(), 1E-9);
+        assertEquals(3500.0, v.median().si(), 1E-9);
+        assertEquals(5000.0, v.norm().si(), 1E-9);
+        assertEquals(2, v.nnz());
+        assertEquals(4000.0, v.get(1).si(), 1E-9);
+        assertArrayEquals(new double[] {3000.0, 4000.0}, v.getSiArray(), 1E-9);
+        assertThrows(IndexOutOfBoundsException.class, () -> v.si(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> v.si(-1));
+        assertTrue(v.toString().contains("MutableVector2"));
+
+        Vector2.Col<Length> col = Vector2.Col.of(4.0, 5.0, Length.Unit.m);
+        MutableVector2<Length> w = MutableVector2.of(col);
+        assertEquals(5.0, w.ySi(), 0.0);
+        assertSame(Length.Unit.m, w.getDisplayUnit());
+        assertEquals(0, MutableVector2.zero(Length.Unit.m).nnz());
+    }
+
+    /**
+     * Test the in-place operations.
+     */
+    @Test
+    public void testInPlace()
+    {
+        MutableVector2<Length> pos = new MutableVector2<>(1.0, 2.0, Length.Unit.m);
+        MutableVector2<Length> step = new MutableVector2<>(0.5, -1.0, Length.Unit.m);
+        assertSame(pos, pos.addInPlace(step));
+        assertArrayEquals(new double[] {1.5, 1.0}, pos.getSiArray(), 0.0);
+        pos.subtractInPlace(step);
+        assertArrayEquals(new double[] {1.0, 2.0}, pos.getSiArray(), 0.0);
+        pos.axpyInPlace(2.0, step);
+        assertArrayEquals(new double[] {2.0, 0.0}, pos.getSiArray(), 0.0);
+        pos.scaleInPlace(0.5);
+        assertArrayEquals(new double[] {1.0, 0.0}, pos.getSiArray(), 0.0);
+        pos.negateInPlace().absInPlace();
+        assertArrayEquals(new double[] {1.0, 0.0}, pos.getSiArray(), 0.0);
+        pos.addInPlace(Length.of(1.0, Length.Unit.m)).subtractInPlace(Length.of(0.5, Length.Unit.m));
+        assertArrayEquals(new double[] {1.5, 0.5}, pos.getSiArray(), 0.0);
+        pos.setSi(7.0, 8.0).setSi(1, -8.0);
+        assertArrayEquals(new double[] {7.0, -8.0}, pos.getSiArray(), 0.0);
+        pos.set(0, Length.of(1.0, Length.Unit.km));
+        assertEquals(1000.0, pos.xSi(), 1E-9);
+        pos.set(Vector2.Col.of(1.0, 1.0, Length.Unit.m));
+        assertArrayEquals(new double[] {1.0, 1.0}, pos.getSiArray(), 0.0);
+        pos.set(step);
+        assertArrayEquals(step.getSiArray(), pos.getSiArray(), 0.0);
+        pos.clear();
+        assertEquals(0, pos.nnz());
+        assertThrows(NullPointerException.class, () -> pos.addInPlace((MutableVector2<Length>) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> pos.set((ReadableVectorMatrix<Length>) Vector2.Row.of(1.0, 1.0, Length.Unit.m)));
+    }
+
+    /**
+     * Test that frozen snapshots are not affected by later changes.
+     */
+    @Test
+    public void testFreeze()
+    {
+        MutableVector2<Length> v = new MutableVector2<>(1.0, 2.0, Length.Unit.km);
+        Vector2.Col<Length> frozen = v.freeze();
+        assertEquals(Vector2.Col.ofSi(1.0, 2.0, Length.Unit.km), frozen);
+        v.scaleInPlace(10.0);
+        assertEquals(1.0, frozen.xSi(), 0.0);
+        assertEquals(10.0, v.xSi(), 0.0);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+    }
+
+    /**
+     * Test that a mutable vector and its frozen snapshot can both be read through the common read interface.
+     */
+    @Test
+    public void testReadableVectorMatrix()
+    {
+        MutableVector2<Length> v = new MutableVector2<>(1.0, 3.0, Length.Unit.m);
+        Vector2.Col<Length> frozen = v.freeze();
+        assertEquals(4.0, sumOfEntries(v), 0.0);
+        assertEquals(4.0, sumOfEntries(frozen), 0.0);
+        assertEquals(frozen.mean(), v.mean());
+        assertEquals(frozen.median(), v.median());
+        assertEquals(frozen.nnz(), v.nnz());
+        v.clear().set(frozen);
+        assertArrayEquals(frozen.getSiArray(), v.getSiArray(), 0.0);
+        MutableVector2<Length> w = MutableVector2.zero(Length.Unit.m);
+        ReadableVectorMatrix<Length> readable = v;
+        w.set(readable);
+        assertArrayEquals(v.getSiArray(), w.getSiArray(), 0.0);
+    }
+
+    /**
+     * Sum the entries of a mutable or immutable vector or matrix, using the read methods only.
+     * @param vm the vector or matrix
+     * @return the sum of the SI values of the entries
+     */
+    private static double sumOfEntries(final ReadableVectorMatrix<Length> vm)
+    {
+        double sum = 0.0;
+        for (int i = 0; i < vm.rows() * vm.cols(); i++)
+        {
+            sum += vm.si(i);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.djunits.vecmat.d3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.djunits.quantity.Dimensionless;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.SIQuantity;
+import org.djunits.unit.Unitless;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.vecmat.def.ReadableVectorMatrix;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableMatrix3x3}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableMatrix3x3Test
+{
+    /**
+     * Test construction, element access and freezing.
+     */
+    @Test
+    public void testConstructionAndFreeze()
+    {
+        MutableMatrix3x3<Length> m = MutableMatrix3x3.of(new double[] {1, 2, 3, 4, 5, 6, 7, 8, 9}, Length.Unit.km);
+        assertEquals(3, m.order());
+        assertEquals(3, m.rows());
+        assertEquals(3, m.cols());
+        assertEquals(9, m.size());
+        assertEquals(4000.0, m.si(1, 0), 1E-9);
+        assertEquals(Length.of(6.0, Length.Unit.km), m.get(1, 2));
+        assertEquals(45000.0, m.sum().si(), 1E-9);
+        assertEquals(5000.0, m.median().si(), 1E-9);
+        m.setSi(0, 1, -5.0);
+        assertEquals(-5.0, m.si(1), 0.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.si(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.si(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.setSi(0, -1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> MutableMatrix3x3.ofSi(new double[4], Length.Unit.m));
+        assertThrows(NullPointerException.class, () -> MutableMatrix3x3.ofSi(null, Length.Unit.m));
+
+        Matrix3x3<Length> frozen = m.freeze();
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        m.transposeInPlace();
+        assertEquals(-5.0, m.si(1, 0), 0.0);
+        assertEquals(4000.0, m.si(0, 1), 1E-9);
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+
+        MutableMatrix3x3<Length> copy = MutableMatrix3x3.of(frozen);
+        assertArrayEquals(frozen.getSiArray(), copy.getSiArray(), 0.0);
+        copy.clear();
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        assertEquals(0, copy.nnz());
+        assertEquals(0, MutableMatrix3x3.zero(Length.Unit.m).nnz());
+    }
+
+    /**
+     * Test multiplication into a target matrix and vector.
+     */
+    @Test
+    public void testMultiplyInto()
+    {
+        MutableMatrix3x3<Dimensionless> a =
+                MutableMatrix3x3.ofSi(new double[] {1, 2, 0, 0, 1, 0, 0, 0, 2}, Unitless.BASE);
+        MutableMatrix3x3<Length> b = MutableMatrix3x3.ofSi(new double[] {1, 2, 3, 4, 5, 6, 7, 8, 9}, Length.Unit.m);
+        MutableMatrix3x3<Length> c = MutableMatrix3x3.zero(Length.Unit.m);
+        assertSame(c, a.multiplyInto(b, c));
+        assertArrayEquals(a.freeze().multiply(b.freeze()).getSiArray(), c.getSiArray(), 1E-12);
+        // the result should be overwritten, not accumulated
+        a.multiplyInto(b, c);
+        assertArrayEquals(new double[] {9, 12, 15, 4, 5, 6, 14, 16, 18}, c.getSiArray(), 1E-12);
+
+        MutableMatrix3x3<SIQuantity> area = MutableMatrix3x3.zero(SIUnit.of("m2"));
+        b.multiplyInto(b, area);
+        assertArrayEquals(b.freeze().multiply(b.freeze()).getSiArray(), area.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> b.multiplyInto(b, c));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(b, b));
+
+        MutableMatrix3x3<Dimensionless> rot =
+                MutableMatrix3x3.ofSi(new double[] {0, -1, 0, 1, 0, 0, 0, 0, 1}, Unitless.BASE);
+        MutableVector3<Length> p = new MutableVector3<>(1.0, 2.0, 3.0, Length.Unit.m);
+        MutableVector3<Length> t = MutableVector3.zero(Length.Unit.m);
+        assertSame(t, rot.multiplyInto(p, t));
+        assertArrayEquals(new double[] {-2.0, 1.0, 3.0}, t.getSiArray(), 1E-12);
+        rot.multiplyInto(p, p);
+        assertArrayEquals(new double[] {-2.0, 1.0, 3.0}, p.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> rot.multiplyInto(p, MutableVector3.zero(Unitless.BASE)));
+    }
+
+    /**
+     * Test that a mutable matrix and its frozen snapshot can both be read through the common read interface.
+     */
+    @Test
+    public void testReadableVectorMatrix()
+    {
+        MutableMatrix3x3<Length> m = MutableMatrix3x3.ofSi(new double[] {1, 0, 3, 0, 5, 0, 7, 0, 9}, Length.Unit.m);
+        Matrix3x3<Length> frozen = m.freeze();
+        for (int i = 0; i < 9; i++)
+        {
+            assertEquals(m.si(i), frozen.si(i), 0.0);
+            assertEquals(m.get(i), frozen.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> frozen.si(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> frozen.si(-1));
+        assertEquals(15.0, trace(m), 0.0);
+        assertEquals(15.0, trace(frozen), 0.0);
+        assertEquals(frozen.mean(), m.mean());
+        assertEquals(frozen.min(), m.min());
+        assertEquals(frozen.max(), m.max());
+        assertEquals(frozen.nnz(), m.nnz());
+
+        MutableMatrix3x3<Length> copy = MutableMatrix3x3.zero(Length.Unit.m);
+        copy.set(frozen);
+        assertArrayEquals(frozen.getSiArray(), copy.getSiArray(), 0.0);
+        ReadableVectorMatrix<Length> readable = m;
+        copy.clear().set(readable);
+        assertArrayEquals(m.getSiArray(), copy.getSiArray(), 0.0);
+        assertThrows(IllegalArgumentException.class,
+                () -> copy.set((ReadableVectorMatrix<Length>) Vector3.Col.of(1.0, 2.0, 3.0, Length.Unit.m)));
+    }
+
+    /**
+     * Return the trace of a mutable or immutable square matrix, using the read methods only.
+     * @param vm the square matrix
+     * @return the sum of the SI values on the diagonal
+     */
+    private static double trace(final ReadableVectorMatrix<Length> vm)
+    {
+        double sum = 0.0;
+        for (int i = 0; i < vm.rows(); i++)
+        {
+            sum += vm.si(i * vm.cols() + i);
+        }
+        return sum;
+    }
+
+}
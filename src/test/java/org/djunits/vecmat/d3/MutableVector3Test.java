@@ -0,0 +1,104 @@
+package org.djunits.vecmat.d3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.djunits.quantity.Length;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableVector3}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableVector3Test
+{
+    /**
+     * Test construction and the read methods.
+     */
+    @Test
+    public void testConstructionAndRead()
+    {
+        MutableVector3<Length> v = MutableVector3.of(1.0, 2.0, 3.0, Length.Unit.km);
+        assertEquals(1000.0, v.xSi(), 1E-9);
+        assertEquals(2000.0, v.ySi(), 1E-9);
+        assertEquals(3000.0, v.zSi(), 1E-9);
+        assertEquals(Length.of(2.0, Length.Unit.km), v.y());
+        assertEquals(3, v.rows());
+        assertEquals(1, v.cols());
+        assertEquals(3, v.size());
+        assertSame(Length.Unit.km, v.getDisplayUnit());
+        assertEquals(6000.0, v.sum().si(), 1E-9);
+        assertEquals(2000.0, v.mean().si(), 1E-9);
+        assertEquals(1000.0, v.min().si(), 1E-9);
+        assertEquals(3000.0, v.max().si(), 1E-9);
+        assertEquals(2000.0, v.median().si(), 1E-9);
+        assertEquals(Math.sqrt(14.0) * 1000.0, v.norm().si(), 1E-9);
+        assertEquals(3, v.nnz());
+        assertEquals(3000.0, v.get(2).si(), 1E-9);
+        assertArrayEquals(new double[] {1000.0, 2000.0, 3000.0}, v.getSiArray(), 1E-9);
+        assertThrows(IndexOutOfBoundsException.class, () -> v.si(3));
+        assertTrue(v.toString().contains("MutableVector3"));
+
+        Vector3.Col<Length> col = Vector3.Col.of(4.0, 5.0, 6.0, Length.Unit.m);
+        MutableVector3<Length> w = MutableVector3.of(col);
+        assertEquals(5.0, w.ySi(), 0.0);
+        assertSame(Length.Unit.m, w.getDisplayUnit());
+        assertEquals(0, MutableVector3.zero(Length.Unit.m).nnz());
+    }
+
+    /**
+     * Test the in-place operations.
+     */
+    @Test
+    public void testInPlace()
+    {
+        MutableVector3<Length> pos = new MutableVector3<>(1.0, 2.0, 3.0, Length.Unit.m);
+        MutableVector3<Length> step = new MutableVector3<>(0.5, -1.0, 2.0, Length.Unit.m);
+        assertSame(pos, pos.addInPlace(step));
+        assertArrayEquals(new double[] {1.5, 1.0, 5.0}, pos.getSiArray(), 0.0);
+        pos.subtractInPlace(step);
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, pos.getSiArray(), 0.0);
+        pos.axpyInPlace(2.0, step);
+        assertArrayEquals(new double[] {2.0, 0.0, 7.0}, pos.getSiArray(), 0.0);
+        pos.scaleInPlace(0.5);
+        assertArrayEquals(new double[] {1.0, 0.0, 3.5}, pos.getSiArray(), 0.0);
+        pos.negateInPlace().absInPlace();
+        assertArrayEquals(new double[] {1.0, 0.0, 3.5}, pos.getSiArray(), 0.0);
+        pos.addInPlace(Length.of(1.0, Length.Unit.m)).subtractInPlace(Length.of(0.5, Length.Unit.m));
+        assertArrayEquals(new double[] {1.5, 0.5, 4.0}, pos.getSiArray(), 0.0);
+        pos.setSi(7.0, 8.0, 9.0).setSi(1, -8.0);
+        assertArrayEquals(new double[] {7.0, -8.0, 9.0}, pos.getSiArray(), 0.0);
+        pos.set(0, Length.of(1.0, Length.Unit.km));
+        assertEquals(1000.0, pos.xSi(), 1E-9);
+        pos.set(Vector3.Col.of(1.0, 1.0, 1.0, Length.Unit.m));
+        assertArrayEquals(new double[] {1.0, 1.0, 1.0}, pos.getSiArray(), 0.0);
+        pos.set(step);
+        assertArrayEquals(step.getSiArray(), pos.getSiArray(), 0.0);
+        pos.clear();
+        assertEquals(0, pos.nnz());
+        assertThrows(NullPointerException.class, () -> pos.addInPlace((MutableVector3<Length>) null));
+    }
+
+    /**
+     * Test that frozen snapshots are not affected by later changes.
+     */
+    @Test
+    public void testFreeze()
+    {
+        MutableVector3<Length> v = new MutableVector3<>(1.0, 2.0, 3.0, Length.Unit.km);
+        Vector3.Col<Length> frozen = v.freeze();
+        assertEquals(Vector3.Col.ofSi(1.0, 2.0, 3.0, Length.Unit.km), frozen);
+        v.scaleInPlace(10.0);
+        assertEquals(1.0, frozen.xSi(), 0.0);
+        assertEquals(10.0, v.xSi(), 0.0);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+    }
+
+}
@@ -0,0 +1,106 @@
+package org.djunits.vecmat.dn;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.djunits.quantity.Dimensionless;
+import org.djunits.quantity.Length;
+import org.djunits.quantity.SIQuantity;
+import org.djunits.unit.Unitless;
+import org.djunits.unit.si.SIUnit;
+import org.djunits.vecmat.d3.MutableVector3;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableMatrixNxN}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableMatrixNxNTest
+{
+    /**
+     * Test construction, element access and freezing.
+     */
+    @Test
+    public void testConstructionAndFreeze()
+    {
+        MutableMatrixNxN<Length> m = MutableMatrixNxN.of(new double[] {1, 2, 3, 4}, Length.Unit.km);
+        assertEquals(2, m.order());
+        assertEquals(2, m.rows());
+        assertEquals(2, m.cols());
+        assertEquals(4, m.size());
+        assertEquals(3000.0, m.si(1, 0), 1E-9);
+        assertEquals(10000.0, m.sum().si(), 1E-9);
+        m.setSi(0, 1, -5.0);
+        assertEquals(-5.0, m.si(1), 0.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> m.si(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.setSi(0, -1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> MutableMatrixNxN.ofSi(new double[3], Length.Unit.m));
+        assertThrows(IllegalArgumentException.class, () -> MutableMatrixNxN.ofSi(new double[0], Length.Unit.m));
+        assertThrows(IllegalArgumentException.class, () -> MutableMatrixNxN.zero(0, Length.Unit.m));
+
+        MatrixNxN<Length> frozen = m.freeze();
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        m.transposeInPlace();
+        assertEquals(-5.0, m.si(1, 0), 0.0);
+        assertEquals(3000.0, m.si(0, 1), 1E-9);
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        assertSame(Length.Unit.km, frozen.getDisplayUnit());
+
+        MutableMatrixNxN<Length> copy = MutableMatrixNxN.of(frozen);
+        assertArrayEquals(frozen.getSiArray(), copy.getSiArray(), 0.0);
+        copy.clear();
+        assertEquals(-5.0, frozen.si(0, 1), 0.0);
+        assertEquals(0, copy.nnz());
+    }
+
+    /**
+     * Test multiplication into a target matrix and vectors.
+     */
+    @Test
+    public void testMultiplyInto()
+    {
+        MutableMatrixNxN<Dimensionless> a = MutableMatrixNxN.ofSi(new double[] {1, 2, 3, 4}, Unitless.BASE);
+        MutableMatrixNxN<Length> b = MutableMatrixNxN.ofSi(new double[] {5, 6, 7, 8}, Length.Unit.m);
+        MutableMatrixNxN<Length> c = MutableMatrixNxN.zero(2, Length.Unit.m);
+        assertSame(c, a.multiplyInto(b, c));
+        assertArrayEquals(new double[] {19, 22, 43, 50}, c.getSiArray(), 1E-12);
+        // the result should be overwritten, not accumulated
+        a.multiplyInto(b, c);
+        assertArrayEquals(new double[] {19, 22, 43, 50}, c.getSiArray(), 1E-12);
+        assertArrayEquals(b.freeze().getSiArray(), c.freeze().getSiArray(), 100.0);
+
+        MutableMatrixNxN<SIQuantity> area = MutableMatrixNxN.zero(2, SIUnit.of("m2"));
+        b.multiplyInto(b, area);
+        assertArrayEquals(MatrixNxN.ofSi(new double[] {5, 6, 7, 8}, Length.Unit.m)
+                .multiply(MatrixNxN.ofSi(new double[] {5, 6, 7, 8}, Length.Unit.m)).getSiArray(), area.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> b.multiplyInto(b, c));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(b, b));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(b, MutableMatrixNxN.zero(3, Length.Unit.m)));
+
+        MutableVectorN<Length> v = MutableVectorN.ofSi(new double[] {1, 1}, Length.Unit.m);
+        MutableVectorN<Length> t = MutableVectorN.zero(2, Length.Unit.m);
+        assertSame(t, a.multiplyInto(v, t));
+        assertArrayEquals(new double[] {3, 7}, t.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(v, v));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(v, MutableVectorN.zero(3, Length.Unit.m)));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(v, MutableVectorN.zero(2, Unitless.BASE)));
+
+        MutableMatrixNxN<Dimensionless> rot = MutableMatrixNxN.ofSi(new double[] {0, -1, 0, 1, 0, 0, 0, 0, 1}, Unitless.BASE);
+        MutableVector3<Length> p = new MutableVector3<>(1.0, 2.0, 3.0, Length.Unit.m);
+        rot.multiplyInto(p, p);
+        assertArrayEquals(new double[] {-2.0, 1.0, 3.0}, p.getSiArray(), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(p, p));
+        assertThrows(IllegalArgumentException.class, () -> rot.multiplyInto(p, MutableVector3.zero(Unitless.BASE)));
+
+        MutableMatrixNxN<Length> big = MutableMatrixNxN.ofSi(new double[] {1, 0, 0, 0, 1, 0, 0, 0, 1}, Length.Unit.m);
+        big.addInPlace(big).scaleInPlace(0.5);
+        assertEquals(3.0, big.sum().si(), 1E-12);
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.djunits.vecmat.dn;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.djunits.quantity.Length;
+import org.djunits.quantity.Speed;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MutableVectorN}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class MutableVectorNTest
+{
+    /**
+     * Test construction and the read methods.
+     */
+    @Test
+    public void testConstructionAndRead()
+    {
+        MutableVectorN<Length> v = MutableVectorN.of(new double[] {1.0, 2.0, 3.0, 4.0}, Length.Unit.km);
+        assertEquals(4, v.size());
+        assertEquals(4, v.rows());
+        assertEquals(1, v.cols());
+        assertEquals(3000.0, v.si(2), 1E-9);
+        assertEquals(10000.0, v.sum().si(), 1E-9);
+        assertEquals(2500.0, v.mean().si(), 1E-9);
+        assertEquals(2500.0, v.median().si(), 1E-9);
+        assertEquals(Math.sqrt(30.0) * 1000.0, v.normL2().si(), 1E-9);
+        assertSame(Length.Unit.km, v.getDisplayUnit());
+
+        double[] si = {1.0, 2.0};
+        MutableVectorN<Length> w = MutableVectorN.ofSi(si, Length.Unit.m);
+        si[0] = 100.0;
+        assertEquals(1.0, w.si(0), 0.0);
+
+        VectorN.Col<Length> col = VectorN.Col.ofSi(new double[] {5.0, 6.0, 7.0}, Length.Unit.m);
+        MutableVectorN<Length> fromCol = MutableVectorN.of(col);
+        fromCol.setSi(0, 50.0);
+        assertEquals(5.0, col.si(0), 0.0);
+        assertEquals(50.0, fromCol.si(0), 0.0);
+
+        assertEquals(0, MutableVectorN.zero(5, Length.Unit.m).nnz());
+        assertThrows(IllegalArgumentException.class, () -> MutableVectorN.zero(0, Length.Unit.m));
+        assertThrows(IllegalArgumentException.class, () -> MutableVectorN.ofSi(new double[0], Length.Unit.m));
+        assertThrows(NullPointerException.class, () -> MutableVectorN.ofSi(si, null));
+    }
+
+    /**
+     * Test the in-place operations, including the operations on large vectors that go through the array kernels.
+     */
+    @Test
+    public void testInPlace()
+    {
+        MutableVectorN<Speed> v = MutableVectorN.ofSi(new double[] {1.0, 2.0, 3.0}, Speed.Unit.m_s);
+        MutableVectorN<Speed> a = MutableVectorN.ofSi(new double[] {0.5, 0.5, -1.0}, Speed.Unit.km_h);
+        assertSame(v, v.addInPlace(a));
+        assertArrayEquals(new double[] {1.5, 2.5, 2.0}, v.getSiArray(), 0.0);
+        v.subtractInPlace(a).axpyInPlace(-2.0, a).scaleInPlace(2.0);
+        assertArrayEquals(new double[] {0.0, 2.0, 10.0}, v.getSiArray(), 1E-12);
+        v.addInPlace(Speed.of(1.0, Speed.Unit.m_s)).subtractInPlace(Speed.of(2.0, Speed.Unit.m_s)).negateInPlace();
+        assertArrayEquals(new double[] {1.0, -1.0, -9.0}, v.getSiArray(), 1E-12);
+        v.absInPlace();
+        assertArrayEquals(new double[] {1.0, 1.0, 9.0}, v.getSiArray(), 1E-12);
+        v.setSi(new double[] {4.0, 5.0, 6.0});
+        assertArrayEquals(new double[] {4.0, 5.0, 6.0}, v.getSiArray(), 0.0);
+        v.set(a);
+        assertArrayEquals(a.getSiArray(), v.getSiArray(), 0.0);
+        v.set(VectorN.Col.ofSi(new double[] {7.0, 8.0, 9.0}, Speed.Unit.m_s));
+        assertArrayEquals(new double[] {7.0, 8.0, 9.0}, v.getSiArray(), 0.0);
+
+        MutableVectorN<Speed> b = MutableVectorN.zero(4, Speed.Unit.m_s);
+        assertThrows(IllegalArgumentException.class, () -> v.addInPlace(b));
+        assertThrows(IllegalArgumentException.class, () -> v.setSi(new double[4]));
+        assertThrows(IllegalArgumentException.class,
+                () -> v.set(VectorN.Row.ofSi(new double[] {7.0, 8.0, 9.0}, Speed.Unit.m_s)));
+        assertThrows(IndexOutOfBoundsException.class, () -> v.setSi(3, 1.0));
+
+        int n = 300_000;
+        double[] big = new double[n];
+        for (int i = 0; i < n; i++)
+        {
+            big[i] = i;
+        }
+        MutableVectorN<Speed> large = MutableVectorN.ofSi(big, Speed.Unit.m_s);
+        large.scaleInPlace(2.0).addInPlace(large);
+        assertEquals(4.0 * (n - 1), large.si(n - 1), 0.0);
+        assertEquals(4.0 * (n - 1) / 2.0, large.mean().si(), 1E-6);
+    }
+
+    /**
+     * Test that freezing shares the array until the next change, and that snapshots are not affected by later changes.
+     */
+    @Test
+    public void testFreeze()
+    {
+        MutableVectorN<Length> v = MutableVectorN.ofSi(new double[] {1.0, 2.0, 3.0}, Length.Unit.m);
+        VectorN.Col<Length> frozen1 = v.freeze();
+        assertSame(v.unsafeSiArray(), v.unsafeSiArray());
+        VectorN.Col<Length> frozen2 = v.freeze();
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, frozen2.getSiArray(), 0.0);
+        v.scaleInPlace(2.0);
+        v.setSi(0, -1.0);
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, frozen1.getSiArray(), 0.0);
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, frozen2.getSiArray(), 0.0);
+        assertArrayEquals(new double[] {-1.0, 4.0, 6.0}, v.getSiArray(), 0.0);
+        VectorN.Col<Length> frozen3 = v.freeze();
+        assertNotSame(frozen1.unsafeSiArray(), frozen3.unsafeSiArray());
+        v.unsafeSiArray()[1] = 99.0;
+        assertEquals(4.0, frozen3.si(1), 0.0);
+        assertEquals(99.0, v.si(1), 0.0);
+        assertEquals(3, frozen3.size());
+    }
+
+}
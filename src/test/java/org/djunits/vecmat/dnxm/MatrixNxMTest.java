@@ -15,6 +15,7 @@ import org.djunits.quantity.Speed;
 import org.djunits.quantity.def.Quantity;
 import org.djunits.unit.UnitInterface;
 import org.djunits.unit.si.SIUnit;
+import org.djunits.util.MatrixMath;
 import org.djunits.vecmat.d1.Matrix1x1;
 import org.djunits.vecmat.d1.Vector1;
 import org.djunits.vecmat.d2.Matrix2x2;
@@ -23,6 +24,8 @@ import org.djunits.vecmat.d3.Matrix3x3;
 import org.djunits.vecmat.d3.Vector3;
 import org.djunits.vecmat.dn.MatrixNxN;
 import org.djunits.vecmat.dn.VectorN;
+import org.djunits.vecmat.storage.CscDoubleDataSi;
+import org.djunits.vecmat.storage.CsrDoubleDataSi;
 import org.djunits.vecmat.storage.DenseDoubleDataSi;
 import org.djunits.vecmat.storage.DenseFloatDataSi;
 import org.djunits.vecmat.storage.SparseDoubleDataSi;
@@ -1599,4 +1602,74 @@ public class MatrixNxMTest
         assertEquals(0.004, m.si(1, 1), EPS);
     }
 
+    /**
+     * Test that the element-wise operations and reductions on sparse matrices keep the data sparse.
+     */
+    @Test
+    @DisplayName("sparse matrices stay sparse for element-wise operations and reductions")
+    public void testSparseOperations()
+    {
+        double[] sa = {1.0, 0.0, 0.0, 0.0, 0.0, 2.0};
+        double[] sb = {0.0, 0.0, 3.0, 0.0, 0.0, -2.0};
+        MatrixNxM<Length> a = new MatrixNxM<>(new SparseDoubleDataSi(sa, 2, 3), Length.Unit.m);
+        MatrixNxM<Length> b = new MatrixNxM<>(new SparseDoubleDataSi(sb, 2, 3), Length.Unit.km);
+
+        MatrixNxM<Length> sum = a.add(b);
+        assertTrue(sum.getDataGrid() instanceof SparseDoubleDataSi);
+        assertArrayEquals(new double[] {1.0, 0.0, 3.0, 0.0, 0.0, 0.0}, sum.getSiArray(), EPS);
+        assertEquals(2, sum.nnz());
+        assertEquals(Length.Unit.m, sum.getDisplayUnit());
+        assertArrayEquals(new double[] {1.0, 0.0, -3.0, 0.0, 0.0, 4.0}, a.subtract(b).getSiArray(), EPS);
+        assertTrue(a.scaleBy(2.0).getDataGrid() instanceof SparseDoubleDataSi);
+        assertArrayEquals(new double[] {-1.0, 0.0, 0.0, 0.0, 0.0, -2.0}, a.negate().getSiArray(), EPS);
+        assertArrayEquals(new double[] {0.0, 0.0, 3.0, 0.0, 0.0, 2.0}, b.abs().getSiArray(), EPS);
+
+        MatrixNxM<SIQuantity> product = a.multiplyEntries(b);
+        assertTrue(product.getDataGrid() instanceof SparseDoubleDataSi);
+        assertArrayEquals(new double[] {0.0, 0.0, 0.0, 0.0, 0.0, -4.0}, product.getSiArray(), EPS);
+        assertEquals(SIUnit.of("m2"), product.getDisplayUnit().siUnit());
+        assertArrayEquals(new double[] {2.0, 0.0, 0.0, 0.0, 0.0, 4.0},
+                a.multiplyEntries(Length.of(2.0, "m")).getSiArray(), EPS);
+
+        assertEquals(3.0, a.sum().si(), EPS);
+        assertEquals(0.5, a.mean().si(), EPS);
+        assertEquals(0.0, a.min().si(), EPS);
+        assertEquals(2.0, a.max().si(), EPS);
+        assertEquals(-2.0, b.min().si(), EPS);
+
+        // mixed sparse and dense operands give the same values
+        MatrixNxM<Length> dense = new MatrixNxM<>(new DenseDoubleDataSi(sb.clone(), 2, 3), Length.Unit.m);
+        assertArrayEquals(sum.getSiArray(), a.add(dense).getSiArray(), EPS);
+        assertEquals(a.add(b), a.add(dense));
+        assertEquals(a.add(b).hashCode(), a.add(dense).hashCode());
+
+        // compressed storage is transposed without expanding the data
+        MatrixNxM<Length> csr = new MatrixNxM<>(new CsrDoubleDataSi(sa, 2, 3), Length.Unit.m);
+        MatrixNxM<Length> transposed = csr.transpose();
+        assertTrue(transposed.getDataGrid() instanceof CscDoubleDataSi);
+        assertArrayEquals(a.transpose().getSiArray(), transposed.getSiArray(), EPS);
+        assertTrue(transposed.transpose().getDataGrid() instanceof CsrDoubleDataSi);
+        assertArrayEquals(new double[] {0.0, 0.0, 2.0}, csr.getRowSi(1), EPS);
+
+        // matrix products with a sparse operand only visit the stored values and keep the SI unit
+        MatrixNxN<Duration> square = new MatrixNxN<>(new CsrDoubleDataSi(new double[] {0, 2, 0, 0, 0, 1, 3, 0, 0}, 3, 3),
+                Duration.Unit.s);
+        MatrixNxM<SIQuantity> speedTime = a.multiply(square);
+        assertArrayEquals(MatrixMath.multiply(sa, square.getSiArray(), 2, 3, 3), speedTime.getSiArray(), EPS);
+        assertTrue(speedTime.getDataGrid() instanceof CsrDoubleDataSi);
+        assertEquals(SIUnit.of("m.s"), speedTime.getDisplayUnit().siUnit());
+        VectorN.Col<Length> v = VectorN.Col.of(new double[] {1.0, 2.0, 3.0}, Length.Unit.m);
+        VectorN.Col<SIQuantity> av = a.multiply(v);
+        assertArrayEquals(new double[] {1.0, 6.0}, av.getSiArray(), EPS);
+        assertEquals(SIUnit.of("m2"), av.getDisplayUnit().siUnit());
+        assertArrayEquals(new double[] {4.0, 3.0, 3.0}, square.multiply(v).getSiArray(), EPS);
+        assertArrayEquals(MatrixMath.multiply(square.getSiArray(), square.getSiArray(), 3, 3, 3),
+                square.multiply(square).getSiArray(), EPS);
+        assertTrue(square.multiply(square).getDataGrid() instanceof CsrDoubleDataSi);
+        MatrixNxM<Length> denseA = new MatrixNxM<>(new DenseDoubleDataSi(sa.clone(), 2, 3), Length.Unit.m);
+        assertArrayEquals(denseA.multiply(square).getSiArray(), speedTime.getSiArray(), EPS);
+        MatrixNxM<Length> tall = new MatrixNxM<>(new SparseDoubleDataSi(sb.clone(), 3, 2), Length.Unit.m);
+        assertArrayEquals(MatrixMath.multiply(sa, sb, 2, 3, 2), denseA.multiply(tall).getSiArray(), EPS);
+    }
+
 }
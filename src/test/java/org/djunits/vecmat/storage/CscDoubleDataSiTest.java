@@ -0,0 +1,79 @@
+package org.djunits.vecmat.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CscDoubleDataSi}. The implementation that is shared with {@link CsrDoubleDataSi} is tested in
+ * {@link CsrDoubleDataSiTest}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class CscDoubleDataSiTest
+{
+    /**
+     * Helper: produce a dense matrix (3x4) for easy reuse.
+     * @return array {{1,0,2,0},{0,0,0,0},{0,3,0,4}} in row-major format
+     */
+    private static double[] dense3x4()
+    {
+        return new double[] {1.0, 0.0, 2.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 3.0, 0.0, 4.0};
+    }
+
+    /**
+     * Test the constructors and the column-major layout of the arrays.
+     */
+    @Test
+    @DisplayName("constructors: values are stored per column")
+    public void testConstructors()
+    {
+        CscDoubleDataSi csc =
+                new CscDoubleDataSi(new double[] {1, 3, 2, 4}, new int[] {0, 2, 0, 2}, new int[] {0, 1, 2, 3, 4}, 3, 4);
+        assertArrayEquals(dense3x4(), csc.getSiArray());
+        assertEquals(csc, new CscDoubleDataSi(dense3x4(), 3, 4));
+        assertEquals(csc, new CscDoubleDataSi(new double[][] {{1, 0, 2, 0}, {0, 0, 0, 0}, {0, 3, 0, 4}}));
+        assertEquals(csc, new CscDoubleDataSi(new SparseDoubleDataSi(dense3x4(), 3, 4)));
+        assertEquals(csc, new CscDoubleDataSi(new DenseDoubleDataSi(dense3x4(), 3, 4)));
+        assertEquals(csc, csc.copy());
+        assertEquals(1, csc.storedCount(1));
+        assertEquals(1, csc.storedCount(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> csc.storedCount(4));
+
+        // the pointers have length cols + 1, and the row indexes are in range 0..rows-1
+        assertThrows(IllegalArgumentException.class,
+                () -> new CscDoubleDataSi(new double[] {1}, new int[] {0}, new int[] {0, 1, 1, 1}, 3, 4));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new CscDoubleDataSi(new double[] {1}, new int[] {3}, new int[] {0, 1, 1, 1, 1}, 3, 4));
+    }
+
+    /**
+     * Test get, and the extraction of rows and columns.
+     */
+    @Test
+    @DisplayName("get, getRowArray, getColArray, transpose")
+    public void testAccess()
+    {
+        CscDoubleDataSi csc = new CscDoubleDataSi(dense3x4(), 3, 4);
+        assertEquals(3.0, csc.get(2, 1), 0.0);
+        assertEquals(0.0, csc.get(1, 1), 0.0);
+        assertArrayEquals(new double[] {0, 0, 3}, csc.getColArray(1));
+        assertArrayEquals(new double[] {1, 0, 0}, csc.getColArray(0));
+        assertArrayEquals(new double[] {0, 3, 0, 4}, csc.getRowArray(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> csc.getColArray(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> csc.getRowArray(-1));
+
+        CsrDoubleDataSi transposed = csc.transpose();
+        assertEquals(4, transposed.rows());
+        assertArrayEquals(new double[] {0, 0, 3}, transposed.getRowArray(1));
+        assertEquals(csc, transposed.transpose());
+        assertArrayEquals(csc.getSiArray(), csc.instantiateNew(csc.getSiArray()).getSiArray());
+    }
+
+}
@@ -0,0 +1,247 @@
+package org.djunits.vecmat.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CsrDoubleDataSi} and the shared implementation in {@link CompressedDoubleDataSi}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class CsrDoubleDataSiTest
+{
+    /**
+     * Helper: produce a dense matrix (3x4) for easy reuse.
+     * @return array {{1,0,2,0},{0,0,0,0},{0,3,0,4}} in row-major format
+     */
+    private static double[] dense3x4()
+    {
+        return new double[] {1.0, 0.0, 2.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 3.0, 0.0, 4.0};
+    }
+
+    /**
+     * Test the constructor with compressed arrays, including the validation of the arrays.
+     */
+    @Test
+    @DisplayName("ctor(values, columnIndexes, rowPointers, r, c): validates arrays")
+    public void testArrayConstructor()
+    {
+        CsrDoubleDataSi csr =
+                new CsrDoubleDataSi(new double[] {1, 2, 3, 4}, new int[] {0, 2, 1, 3}, new int[] {0, 2, 2, 4}, 3, 4);
+        assertEquals(3, csr.rows());
+        assertEquals(4, csr.cols());
+        assertArrayEquals(dense3x4(), csr.getSiArray());
+        assertTrue(csr.isSparse());
+        assertTrue(csr.isDouble());
+        assertEquals(4, csr.nnz());
+        assertEquals(2, csr.storedCount(0));
+        assertEquals(0, csr.storedCount(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> csr.storedCount(3));
+
+        assertThrows(IllegalArgumentException.class, () -> new CsrDoubleDataSi(new double[0], new int[0], new int[1], 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CsrDoubleDataSi(new double[0], new int[0], new int[4], 3, 0));
+        assertThrows(NullPointerException.class, () -> new CsrDoubleDataSi(null, new int[0], new int[4], 3, 4));
+        // values and indexes of different length
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrDoubleDataSi(new double[] {1}, new int[] {0, 1}, new int[] {0, 1, 1, 1}, 3, 4));
+        // wrong length of the pointers
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrDoubleDataSi(new double[] {1}, new int[] {0}, new int[] {0, 1, 1}, 3, 4));
+        // pointers do not end with the number of values
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrDoubleDataSi(new double[] {1}, new int[] {0}, new int[] {0, 1, 1, 2}, 3, 4));
+        // decreasing pointers
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrDoubleDataSi(new double[] {1, 2}, new int[] {0, 1}, new int[] {0, 2, 1, 2}, 3, 4));
+        // column index out of bounds
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new CsrDoubleDataSi(new double[] {1}, new int[] {4}, new int[] {0, 1, 1, 1}, 3, 4));
+        // column indexes not increasing within a row
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsrDoubleDataSi(new double[] {1, 2}, new int[] {2, 1}, new int[] {0, 2, 2, 2}, 3, 4));
+        // column indexes may decrease from one row to the next
+        new CsrDoubleDataSi(new double[] {1, 2}, new int[] {2, 1}, new int[] {0, 1, 2, 2}, 3, 4);
+    }
+
+    /**
+     * Test the constructors with dense data and with another datagrid.
+     */
+    @Test
+    @DisplayName("ctor(dense), ctor(double[][]), ctor(DataGridSi)")
+    public void testDenseAndGridConstructors()
+    {
+        CsrDoubleDataSi csr = new CsrDoubleDataSi(dense3x4(), 3, 4);
+        assertArrayEquals(dense3x4(), csr.getSiArray());
+        assertEquals(csr, new CsrDoubleDataSi(new double[][] {{1, 0, 2, 0}, {0, 0, 0, 0}, {0, 3, 0, 4}}));
+        assertThrows(IllegalArgumentException.class, () -> new CsrDoubleDataSi(dense3x4(), 4, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CsrDoubleDataSi(new double[][] {{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> new CsrDoubleDataSi(new double[][] {}));
+        assertThrows(NullPointerException.class, () -> new CsrDoubleDataSi((double[][]) null));
+
+        assertEquals(csr, new CsrDoubleDataSi(new DenseDoubleDataSi(dense3x4(), 3, 4)));
+        assertEquals(csr, new CsrDoubleDataSi(new SparseDoubleDataSi(dense3x4(), 3, 4)));
+        assertEquals(csr, new SparseDoubleDataSi(dense3x4(), 3, 4).toCsr());
+        assertEquals(csr, new CsrDoubleDataSi(new CscDoubleDataSi(dense3x4(), 3, 4)));
+        assertEquals(csr, new CsrDoubleDataSi(csr));
+        assertEquals(csr, new CsrDoubleDataSi(new DenseFloatDataSi(dense3x4(), 3, 4)));
+        assertThrows(NullPointerException.class, () -> new CsrDoubleDataSi((DataGridSi<?>) null));
+
+        CsrDoubleDataSi copy = csr.copy();
+        assertEquals(csr, copy);
+        assertNotSame(csr, copy);
+        assertArrayEquals(dense3x4(), csr.instantiateNew(dense3x4()).getSiArray());
+        assertEquals(4, csr.instantiateNew(dense3x4(), 4, 3).rows());
+        assertThrows(IllegalArgumentException.class, () -> csr.instantiateNew(new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> csr.instantiateNew(new double[3], 2, 2));
+    }
+
+    /**
+     * Test get, and the extraction of rows and columns.
+     */
+    @Test
+    @DisplayName("get, getRowArray, getColArray")
+    public void testAccess()
+    {
+        CsrDoubleDataSi csr = new CsrDoubleDataSi(dense3x4(), 3, 4);
+        double[] dense = dense3x4();
+        for (int r = 0; r < 3; r++)
+        {
+            for (int c = 0; c < 4; c++)
+            {
+                assertEquals(dense[r * 4 + c], csr.get(r, c), 0.0);
+            }
+        }
+        assertArrayEquals(new double[] {0, 3, 0, 4}, csr.getRowArray(2));
+        assertArrayEquals(new double[] {0, 0, 0, 0}, csr.getRowArray(1));
+        assertArrayEquals(new double[] {2, 0, 0}, csr.getColArray(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> csr.get(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> csr.get(0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> csr.getRowArray(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> csr.getColArray(4));
+    }
+
+    /**
+     * Test the conversion to CSC and the transposition.
+     */
+    @Test
+    @DisplayName("toCsc, transpose")
+    public void testConversion()
+    {
+        CsrDoubleDataSi csr = new CsrDoubleDataSi(dense3x4(), 3, 4);
+        CscDoubleDataSi csc = csr.toCsc();
+        assertArrayEquals(dense3x4(), csc.getSiArray());
+        assertEquals(csr, csc.toCsr());
+
+        CscDoubleDataSi transposed = csr.transpose();
+        assertEquals(4, transposed.rows());
+        assertEquals(3, transposed.cols());
+        for (int r = 0; r < 3; r++)
+        {
+            for (int c = 0; c < 4; c++)
+            {
+                assertEquals(csr.get(r, c), transposed.get(c, r), 0.0);
+            }
+        }
+        assertEquals(csr, transposed.transpose());
+    }
+
+    /**
+     * Test the element-wise operations and reductions, which should give the same results as for dense data.
+     */
+    @Test
+    @DisplayName("add/subtract/multiplyEntries/scaleBy/abs/sum/min/max")
+    public void testOperations()
+    {
+        double[] db = {0.0, 5.0, -2.0, 0.0, 0.0, 0.0, 0.0, -3.0, 0.0, Double.POSITIVE_INFINITY, 0.0, 0.0};
+        CsrDoubleDataSi a = new CsrDoubleDataSi(dense3x4(), 3, 4);
+        CsrDoubleDataSi b = new CsrDoubleDataSi(db, 3, 4);
+        CscDoubleDataSi bCsc = new CscDoubleDataSi(db, 3, 4);
+        DenseDoubleDataSi denseA = new DenseDoubleDataSi(dense3x4(), 3, 4);
+        DenseDoubleDataSi denseB = new DenseDoubleDataSi(db, 3, 4);
+
+        assertArrayEquals(denseA.add(denseB).getSiArray(), a.add(b).getSiArray());
+        assertArrayEquals(denseA.add(denseB).getSiArray(), a.add(bCsc).getSiArray());
+        assertArrayEquals(denseA.add(denseB).getSiArray(), a.add(denseB).getSiArray());
+        assertArrayEquals(denseA.subtract(denseB).getSiArray(), a.subtract(b).getSiArray());
+        assertArrayEquals(denseA.subtract(denseB).getSiArray(), a.subtract(denseB).getSiArray());
+        // signed zeros are not kept in compressed storage, so the dense product is -0.0 where the sparse product is 0.0
+        DenseDoubleDataSi denseProduct = denseA.multiplyEntries(denseB);
+        assertEquals(-0.0, denseProduct.get(1, 3));
+        assertEquals(0.0, a.multiplyEntries(bCsc).get(1, 3));
+        assertTrue(a.multiplyEntries(bCsc).equals(denseProduct, 0.0));
+        assertTrue(a.multiplyEntries(denseB).equals(denseProduct, 0.0));
+        assertTrue(denseProduct.equals(a.multiplyEntries(denseB), 0.0));
+        assertEquals(5, a.add(b).nnz());
+        assertEquals(2, a.add(b).storedCount(0));
+
+        assertTrue(a.scaleBy(-2.0).equals(denseA.scaleBy(-2.0), 0.0));
+        assertEquals(0, a.scaleBy(0.0).values.length);
+        assertArrayEquals(denseA.scaleBy(Double.NaN).getSiArray(), a.scaleBy(Double.NaN).getSiArray());
+        assertArrayEquals(denseB.abs().getSiArray(), b.abs().getSiArray());
+
+        assertEquals(10.0, a.sum(), 1E-12);
+        assertEquals(0.0, a.min(), 0.0);
+        assertEquals(4.0, a.max(), 0.0);
+        assertEquals(-3.0, b.min(), 0.0);
+        assertEquals(1.0, new CsrDoubleDataSi(new double[] {1, 2, 3, 4}, 2, 2).min(), 0.0);
+        assertEquals(-1.0, new CsrDoubleDataSi(new double[] {-1, -2, -3, -4}, 2, 2).max(), 0.0);
+        CsrDoubleDataSi empty = new CsrDoubleDataSi(new double[4], 2, 2);
+        assertEquals(0.0, empty.sum(), 0.0);
+        assertEquals(0.0, empty.min(), 0.0);
+        assertEquals(0.0, empty.max(), 0.0);
+
+        assertThrows(IllegalArgumentException.class, () -> a.add(new CsrDoubleDataSi(dense3x4(), 4, 3)));
+    }
+
+    /**
+     * Test equals, equals with epsilon, and hashCode, also against other storage types.
+     */
+    @Test
+    @DisplayName("equals/hashCode: consistent with dense data")
+    public void testEqualsHashCode()
+    {
+        CsrDoubleDataSi a = new CsrDoubleDataSi(dense3x4(), 3, 4);
+        DenseDoubleDataSi dense = new DenseDoubleDataSi(dense3x4(), 3, 4);
+        CscDoubleDataSi csc = new CscDoubleDataSi(dense3x4(), 3, 4);
+        assertEquals(a, a);
+        assertEquals(a, dense);
+        assertEquals(dense, a);
+        assertEquals(a, csc);
+        assertEquals(csc, a);
+        assertEquals(a, new SparseDoubleDataSi(dense3x4(), 3, 4));
+        assertEquals(dense.hashCode(), a.hashCode());
+        assertEquals(dense.hashCode(), csc.hashCode());
+        assertNotEquals(a, new CsrDoubleDataSi(dense3x4(), 4, 3));
+        assertNotEquals(a, new CsrDoubleDataSi(new double[12], 3, 4));
+        assertNotEquals(a, new DenseDoubleDataSi(new double[12], 3, 4));
+        assertNotEquals(a, null);
+        assertNotEquals(a, "string");
+
+        double[] close = dense3x4();
+        close[5] = 0.01;
+        close[11] = 4.01;
+        CscDoubleDataSi b = new CscDoubleDataSi(close, 3, 4);
+        assertTrue(a.equals(b, 0.1));
+        assertFalse(a.equals(b, 0.001));
+        assertTrue(b.equals(a, 0.1));
+        assertFalse(b.equals(a, 0.001));
+        assertTrue(a.equals(new DenseDoubleDataSi(close, 3, 4), 0.1));
+        assertFalse(a.equals(new DenseDoubleDataSi(close, 3, 4), 0.001));
+        assertFalse(new DenseDoubleDataSi(close, 3, 4).equals(a, 0.001));
+        assertFalse(a.equals(new CsrDoubleDataSi(dense3x4(), 4, 3), 0.1));
+        assertFalse(a.equals(null, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> a.equals(b, -1.0));
+    }
+
+}
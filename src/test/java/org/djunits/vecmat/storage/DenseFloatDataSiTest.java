@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.djunits.quantity.Length;
@@ -27,6 +28,8 @@ import org.junit.jupiter.api.Test;
  * <li>Equality and hashCode</li>
  * <li>SI-conversion correctness for Q[][] (using Length)</li>
  * <li>Float → double copying correctness in {@code getSiArray()}</li>
+ * <li>Operations that stay on the float array: {@code add}, {@code subtract}, {@code multiplyEntries}, {@code scaleBy},
+ * {@code abs}, and the reductions</li>
  * </ul>
  * <br>
  * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
@@ -604,4 +607,51 @@ public class DenseFloatDataSiTest
         assertArrayEquals(new double[] {1000, 2, 0.03, 0.004}, d.getSiArray(), EPS);
     }
 
+    // -------------------------------------------------------------------------
+    // float compute path
+    // -------------------------------------------------------------------------
+
+    /**
+     * Test the float access methods, and that operations on two float grids stay on the float arrays.
+     */
+    @Test
+    @DisplayName("float path: float arrays, float results, double fallback")
+    public void testFloatPath()
+    {
+        DenseFloatDataSi a = new DenseFloatDataSi(new float[] {1.5f, -2.0f, 0.1f, 4.0f, 0.0f, -6.0f}, 2, 3);
+        DenseFloatDataSi b = new DenseFloatDataSi(new float[] {0.25f, 4.0f, 0.2f, 1.0f, 2.0f, 3.0f}, 2, 3);
+        assertSame(a.unsafeFloatSiArray(), a.unsafeFloatSiArray());
+        assertNotSame(a.unsafeFloatSiArray(), a.getFloatSiArray());
+        assertArrayEquals(a.unsafeFloatSiArray(), a.getFloatSiArray(), 0.0f);
+
+        // float op float: float result, identical to the float operation per element
+        assertArrayEquals(new float[] {1.5f + 0.25f, 2.0f, 0.1f + 0.2f, 5.0f, 2.0f, -3.0f},
+                a.add(b).unsafeFloatSiArray(), 0.0f);
+        assertArrayEquals(new float[] {1.5f - 0.25f, -6.0f, 0.1f - 0.2f, 3.0f, -2.0f, -9.0f},
+                a.subtract(b).unsafeFloatSiArray(), 0.0f);
+        assertArrayEquals(new float[] {1.5f * 0.25f, -8.0f, 0.1f * 0.2f, 4.0f, 0.0f, -18.0f},
+                a.multiplyEntries(b).unsafeFloatSiArray(), 0.0f);
+        assertArrayEquals(new float[] {3.0f, -4.0f, 0.1f * 2.0f, 8.0f, 0.0f, -12.0f}, a.scaleBy(2.0).unsafeFloatSiArray(),
+                0.0f);
+        assertArrayEquals(new float[] {1.5f, 2.0f, 0.1f, 4.0f, 0.0f, 6.0f}, a.abs().unsafeFloatSiArray(), 0.0f);
+
+        // float op double and a factor that is not a float: calculated in double, stored as float
+        DenseDoubleDataSi d = new DenseDoubleDataSi(new double[] {1, 1, 1, 1, 1, 1}, 2, 3);
+        assertArrayEquals(new double[] {2.5, -1.0, 1.1, 5.0, 1.0, -5.0}, a.add(d).getSiArray(), EPS);
+        assertArrayEquals(new double[] {0.15, -0.2, 0.01, 0.4, 0.0, -0.6}, a.scaleBy(0.1).getSiArray(), EPS);
+        assertThrows(IllegalArgumentException.class, () -> a.add(new DenseFloatDataSi(new float[] {1, 2}, 1, 2)));
+
+        // reductions in double precision
+        assertEquals(1.5 - 2.0 + 0.1f + 4.0 - 6.0, a.sum(), EPS);
+        assertEquals(-6.0, a.min(), 0.0);
+        assertEquals(4.0, a.max(), 0.0);
+
+        // instantiateNew(float[]) copies the array and checks the length
+        float[] f = {1, 2, 3, 4, 5, 6};
+        DenseFloatDataSi n = a.instantiateNew(f);
+        assertNotSame(f, n.unsafeFloatSiArray());
+        assertArrayEquals(f, n.unsafeFloatSiArray(), 0.0f);
+        assertThrows(IllegalArgumentException.class, () -> a.instantiateNew(new float[] {1, 2}));
+    }
+
 }
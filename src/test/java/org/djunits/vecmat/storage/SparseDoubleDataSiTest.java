@@ -2,10 +2,12 @@ package org.djunits.vecmat.storage;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -459,4 +461,106 @@ public class SparseDoubleDataSiTest
         assertNotEquals(a, null);
         assertNotEquals(a, "string");
     }
+
+    // ----------------------------------------------------------------------
+    // sparse element-wise operations, reductions, equality and hashing
+    // ----------------------------------------------------------------------
+
+    /**
+     * Test the element-wise operations on two sparse datagrids, which should stay sparse and give the dense results.
+     */
+    @Test
+    @DisplayName("add/subtract/multiplyEntries/scaleBy/abs: sparse results equal to dense results")
+    public void testSparseOperations()
+    {
+        double[] da = {1.0, 0.0, 2.0, 0.0, -3.0, 0.0};
+        double[] db = {0.0, 5.0, -2.0, 0.0, 1.0, Double.POSITIVE_INFINITY};
+        SparseDoubleDataSi a = new SparseDoubleDataSi(da, 2, 3);
+        SparseDoubleDataSi b = new SparseDoubleDataSi(db, 2, 3);
+        DenseDoubleDataSi dense = new DenseDoubleDataSi(db, 2, 3);
+
+        SparseDoubleDataSi sum = a.add(b);
+        assertArrayEquals(new double[] {1.0, 5.0, 0.0, 0.0, -2.0, Double.POSITIVE_INFINITY}, sum.getSiArray());
+        assertEquals(4, sum.nonZeroCount());
+        assertEquals(new SparseDoubleDataSi(sum.getSiArray(), 2, 3), sum);
+        assertArrayEquals(sum.getSiArray(), a.add(dense).getSiArray());
+
+        SparseDoubleDataSi diff = a.subtract(b);
+        assertArrayEquals(new double[] {1.0, -5.0, 4.0, 0.0, -4.0, Double.NEGATIVE_INFINITY}, diff.getSiArray());
+        assertArrayEquals(diff.getSiArray(), a.subtract(dense).getSiArray());
+
+        // 0 * infinity is NaN, just as for dense data
+        SparseDoubleDataSi product = a.multiplyEntries(b);
+        assertArrayEquals(new double[] {0.0, 0.0, -4.0, 0.0, -3.0, Double.NaN}, product.getSiArray());
+        assertArrayEquals(product.getSiArray(), a.multiplyEntries(dense).getSiArray());
+
+        assertArrayEquals(new double[] {2.0, 0.0, 4.0, 0.0, -6.0, 0.0}, a.scaleBy(2.0).getSiArray());
+        assertEquals(0, a.scaleBy(0.0).nonZeroCount());
+        assertArrayEquals(new double[] {Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN},
+                a.scaleBy(Double.NaN).getSiArray());
+        assertArrayEquals(new double[] {1.0, 0.0, 2.0, 0.0, 3.0, 0.0}, a.abs().getSiArray());
+
+        assertThrows(IllegalArgumentException.class, () -> a.add(new SparseDoubleDataSi(da, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyEntries(new DenseDoubleDataSi(da, 3, 2)));
+        assertThrows(NullPointerException.class, () -> a.subtract(null));
+    }
+
+    /**
+     * Test the reductions, which should only visit the stored values and take the implicit zeros into account.
+     */
+    @Test
+    @DisplayName("sum/min/max: implicit zeros are taken into account")
+    public void testSparseReductions()
+    {
+        SparseDoubleDataSi a = new SparseDoubleDataSi(new double[] {1.0, 0.0, 2.0, 0.0, 3.0, 4.0}, 2, 3);
+        assertEquals(10.0, a.sum(), 1E-12);
+        assertEquals(0.0, a.min(), 0.0);
+        assertEquals(4.0, a.max(), 0.0);
+
+        SparseDoubleDataSi full = new SparseDoubleDataSi(new double[] {1.0, 2.0, 3.0, 4.0}, 2, 2);
+        assertEquals(1.0, full.min(), 0.0);
+        assertEquals(4.0, full.max(), 0.0);
+
+        SparseDoubleDataSi negative = new SparseDoubleDataSi(new double[] {-1.0, 0.0, -2.0, 0.0}, 2, 2);
+        assertEquals(-2.0, negative.min(), 0.0);
+        assertEquals(0.0, negative.max(), 0.0);
+
+        SparseDoubleDataSi empty = new SparseDoubleDataSi(new double[4], 2, 2);
+        assertEquals(0.0, empty.sum(), 0.0);
+        assertEquals(0.0, empty.min(), 0.0);
+        assertEquals(0.0, empty.max(), 0.0);
+    }
+
+    /**
+     * Test equals with epsilon and hashCode against dense datagrids with the same values.
+     */
+    @Test
+    @DisplayName("equals(epsilon)/hashCode: consistent with dense data")
+    public void testSparseEqualsHashCode()
+    {
+        double[] da = {1.0, 0.0, 2.0, 0.0, 3.0, 4.0};
+        SparseDoubleDataSi a = new SparseDoubleDataSi(da, 2, 3);
+        DenseDoubleDataSi dense = new DenseDoubleDataSi(da.clone(), 2, 3);
+        assertEquals(dense.hashCode(), a.hashCode());
+        assertEquals(a, dense);
+        assertEquals(dense, a);
+        assertEquals(new DenseDoubleDataSi(new double[6], 2, 3).hashCode(),
+                new SparseDoubleDataSi(new double[6], 2, 3).hashCode());
+        assertNotEquals(a, new DenseDoubleDataSi(new double[] {1.0, 0.0, 2.0, 0.0, 3.0, 5.0}, 2, 3));
+
+        SparseDoubleDataSi b = new SparseDoubleDataSi(new double[] {1.0, 0.0, 2.01, 0.0, 3.0, 4.0}, 2, 3);
+        SparseDoubleDataSi c = new SparseDoubleDataSi(new double[] {1.0, 0.01, 2.0, 0.0, 3.0, 4.0}, 2, 3);
+        assertTrue(a.equals(b, 0.1));
+        assertFalse(a.equals(b, 0.001));
+        assertTrue(a.equals(c, 0.1));
+        assertFalse(a.equals(c, 0.001));
+        assertTrue(c.equals(a, 0.1));
+        assertFalse(c.equals(a, 0.001));
+        assertTrue(a.equals(dense, 0.0));
+        assertTrue(dense.equals(a, 0.0));
+        assertFalse(new DenseDoubleDataSi(c.getSiArray(), 2, 3).equals(a, 0.001));
+        assertFalse(a.equals(new SparseDoubleDataSi(da, 3, 2), 0.1));
+        assertFalse(a.equals(null, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> a.equals(b, -1.0));
+    }
 }
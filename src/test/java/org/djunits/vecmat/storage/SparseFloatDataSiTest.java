@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.Test;
  * <li>copy(), instantiateNew(), cardinality()</li>
  * <li>SI conversion using Length</li>
  * <li>equals and hashCode</li>
+ * <li>Operations that keep the float data sparse, and the reductions that include the implicit zeros</li>
  * </ul>
  * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
  * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
@@ -522,4 +524,54 @@ public class SparseFloatDataSiTest
         assertNotEquals(a, null);
         assertNotEquals(a, "string");
     }
+
+    // ----------------------------------------------------------------------
+    // float compute path
+    // ----------------------------------------------------------------------
+
+    /**
+     * Test that operations on two sparse float grids stay sparse and float, and that the reductions include the implicit 0.
+     */
+    @Test
+    @DisplayName("float path: sparse float results and reductions")
+    public void testFloatPath()
+    {
+        SparseFloatDataSi a = new SparseFloatDataSi(dense2x3Float(), 2, 3);
+        SparseFloatDataSi b = new SparseFloatDataSi(new float[] {-1.0f, 0.0f, 0.0f, 0.5f, 0.0f, 2.0f}, 2, 3);
+        assertArrayEquals(dense2x3Float(), a.getFloatSiArray(), 0.0f);
+
+        SparseFloatDataSi sum = a.add(b);
+        assertArrayEquals(new float[] {0.0f, 0.0f, 2.0f, 0.5f, 3.0f, 6.0f}, sum.getFloatSiArray(), 0.0f);
+        assertEquals(4, sum.nonZeroCount(), "the cancelled cell is not stored");
+        assertArrayEquals(new float[] {2.0f, 0.0f, 2.0f, -0.5f, 3.0f, 2.0f}, a.subtract(b).getFloatSiArray(), 0.0f);
+        SparseFloatDataSi product = a.multiplyEntries(b);
+        assertArrayEquals(new float[] {-1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 8.0f}, product.getFloatSiArray(), 0.0f);
+        assertEquals(2, product.nonZeroCount());
+        assertArrayEquals(new float[] {-2.0f, 0.0f, -4.0f, 0.0f, -6.0f, -8.0f}, a.scaleBy(-2.0).getFloatSiArray(), 0.0f);
+        assertEquals(0, a.scaleBy(0.0).nonZeroCount());
+        assertArrayEquals(new float[] {1.0f, 0.0f, 0.0f, 0.5f, 0.0f, 2.0f}, b.abs().getFloatSiArray(), 0.0f);
+
+        // a factor that is not a float, and a dense operand, take the general path
+        assertArrayEquals(new double[] {0.1, 0.0, 0.2, 0.0, 0.3, 0.4}, a.scaleBy(0.1).getSiArray(), 1E-6);
+        assertTrue(Double.isNaN(a.scaleBy(Double.NaN).get(0, 1)));
+        assertArrayEquals(new double[] {2, 1, 3, 1, 4, 5},
+                a.add(new DenseDoubleDataSi(new double[] {1, 1, 1, 1, 1, 1}, 2, 3)).getSiArray(), 1E-6);
+
+        // reductions include the implicit 0
+        assertEquals(10.0, a.sum(), 0.0);
+        assertEquals(0.0, a.min(), 0.0);
+        assertEquals(4.0, a.max(), 0.0);
+        assertEquals(1.5, b.sum(), 0.0);
+        assertEquals(-1.0, b.min(), 0.0);
+        SparseFloatDataSi full = new SparseFloatDataSi(new float[] {-1, -2, -3, -4, -5, -6}, 2, 3);
+        assertEquals(-1.0, full.max(), 0.0, "no implicit 0 when all cells are stored");
+        assertEquals(1.0, full.abs().min(), 0.0);
+        SparseFloatDataSi empty = new SparseFloatDataSi(new float[6], 2, 3);
+        assertEquals(0.0, empty.sum(), 0.0);
+        assertEquals(0.0, empty.min(), 0.0);
+        assertEquals(0.0, empty.max(), 0.0);
+
+        assertArrayEquals(dense2x3Float(), empty.instantiateNew(dense2x3Float()).getFloatSiArray(), 0.0f);
+        assertThrows(IllegalArgumentException.class, () -> a.instantiateNew(new float[] {1, 2}));
+    }
 }
@@ -0,0 +1,100 @@
+package org.djunits.vecmat.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SparseGridBuilder}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class SparseGridBuilderTest
+{
+    /**
+     * Test set and add, the order of the entries per cell, and the removal of zero cells.
+     */
+    @Test
+    @DisplayName("set and add are combined per cell in the order of appending")
+    public void testSetAdd()
+    {
+        SparseGridBuilder builder = new SparseGridBuilder(3, 4);
+        assertEquals(3, builder.rows());
+        assertEquals(4, builder.cols());
+        builder.add(2, 3, 4.0).add(0, 0, 1.0).add(2, 3, 1.0).set(1, 2, 7.0).add(1, 2, 1.0);
+        builder.set(0, 1, 3.0).add(0, 1, -3.0); // cancels, not stored
+        builder.add(2, 0, 5.0).set(2, 0, 2.0); // set replaces earlier adds
+        assertEquals(9, builder.size());
+
+        double[] expected = {1, 0, 0, 0, 0, 0, 8, 0, 2, 0, 0, 5};
+        SparseDoubleDataSi sparse = builder.build();
+        assertArrayEquals(expected, sparse.getSiArray(), 0.0);
+        assertEquals(4, sparse.nonZeroCount());
+        assertEquals(4, builder.size());
+        CsrDoubleDataSi csr = builder.buildCsr();
+        assertArrayEquals(expected, csr.getSiArray(), 0.0);
+        assertEquals(1, csr.storedCount(0));
+        assertEquals(2, csr.storedCount(2));
+
+        // incremental appends after a build
+        builder.add(0, 0, 1.0).set(2, 3, 0.0).add(1, 1, 6.0);
+        assertArrayEquals(new double[] {2, 0, 0, 0, 0, 6, 8, 0, 2, 0, 0, 0}, builder.build().getSiArray(), 0.0);
+        assertEquals(sparse, new SparseDoubleDataSi(expected, 3, 4)); // earlier build is not changed
+        assertEquals(0, builder.clear().size());
+        assertEquals(0, builder.buildCsr().nonZeroCount());
+        assertTrue(builder.toString().startsWith("SparseGridBuilder"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.set(3, 0, 1.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.add(0, -1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGridBuilder(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGridBuilder(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGridBuilder(3, 4, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGridBuilder(100000, 100000).build());
+        assertEquals(100000, new SparseGridBuilder(100000, 100000).add(99999, 5, 1.0).buildCsr().rows());
+    }
+
+    /**
+     * Test many duplicate entries, which triggers the automatic compaction, against a dense accumulation.
+     */
+    @Test
+    @DisplayName("automatic compaction keeps the result of many duplicate entries")
+    public void testCompaction()
+    {
+        Random random = new Random(11);
+        int rows = 20;
+        int cols = 30;
+        double[] dense = new double[rows * cols];
+        SparseGridBuilder builder = new SparseGridBuilder(rows, cols, 0);
+        for (int i = 0; i < 20000; i++)
+        {
+            int r = random.nextInt(rows);
+            int c = random.nextInt(cols / 3);
+            double value = random.nextInt(7) - 3;
+            if (random.nextInt(10) == 0)
+            {
+                builder.set(r, c, value);
+                dense[r * cols + c] = value;
+            }
+            else
+            {
+                builder.add(r, c, value);
+                dense[r * cols + c] += value;
+            }
+        }
+        // the duplicates were compacted along the way, so far fewer entries than appended are kept
+        assertTrue(builder.size() < 2000, "size = " + builder.size());
+        assertArrayEquals(dense, builder.build().getSiArray(), 0.0);
+        assertArrayEquals(dense, builder.buildCsr().getSiArray(), 0.0);
+        assertEquals(builder.compact().size(), builder.build().nonZeroCount());
+    }
+
+}
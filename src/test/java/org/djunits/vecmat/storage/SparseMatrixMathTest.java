@@ -0,0 +1,182 @@
+package org.djunits.vecmat.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.djunits.util.MatrixMath;
+import org.djunits.util.ParallelPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SparseMatrixMath}. The sparse products are compared with the dense product of {@link MatrixMath}.
+ * <p>
+ * Copyright (c) 2025-2026 Delft University of Technology, Jaffalaan 5, 2628 BX Delft, the Netherlands. All rights reserved. See
+ * for project information <a href="https://djunits.org" target="_blank">https://djunits.org</a>. The DJUNITS project is
+ * distributed under a <a href="https://djunits.org/docs/license.html" target="_blank">three-clause BSD-style license</a>.
+ * @author Alexander Verbraeck
+ */
+public class SparseMatrixMathTest
+{
+    /** Tolerance for the comparison with the dense product. */
+    private static final double EPS = 1e-12;
+
+    /**
+     * Helper: produce a random matrix in row-major format where about the given fraction of the entries is non-zero.
+     * @param random the random generator
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param fraction the fraction of non-zero entries
+     * @return a random matrix in row-major format
+     */
+    private static double[] randomSparse(final Random random, final int rows, final int cols, final double fraction)
+    {
+        double[] data = new double[rows * cols];
+        for (int i = 0; i < data.length; i++)
+        {
+            if (random.nextDouble() < fraction)
+            {
+                data[i] = random.nextInt(19) - 9;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Test all combinations of sparse and dense operands against the dense product.
+     */
+    @Test
+    @DisplayName("sparse x dense, dense x sparse and sparse x sparse equal the dense product")
+    public void testProducts()
+    {
+        Random random = new Random(23);
+        double[] a = randomSparse(random, 7, 5, 0.3);
+        double[] b = randomSparse(random, 5, 4, 0.3);
+        double[] x = randomSparse(random, 5, 1, 1.0);
+        double[] expected = MatrixMath.multiply(a, b, 7, 5, 4);
+        double[] expectedVector = MatrixMath.multiply(a, x, 7, 5, 1);
+
+        DataGridSi<?> denseA = new DenseDoubleDataSi(a, 7, 5);
+        DataGridSi<?> denseB = new DenseDoubleDataSi(b, 5, 4);
+        DataGridSi<?>[] sparseA = {new SparseDoubleDataSi(a, 7, 5), new CsrDoubleDataSi(a, 7, 5),
+                new CscDoubleDataSi(a, 7, 5), new SparseFloatDataSi(a, 7, 5)};
+        DataGridSi<?>[] sparseB = {new SparseDoubleDataSi(b, 5, 4), new CsrDoubleDataSi(b, 5, 4),
+                new CscDoubleDataSi(b, 5, 4)};
+
+        assertArrayEquals(expected, SparseMatrixMath.multiply(denseA, denseB).getSiArray(), EPS);
+        assertTrue(SparseMatrixMath.multiply(denseA, denseB) instanceof DenseDoubleDataSi);
+        for (DataGridSi<?> sa : sparseA)
+        {
+            DataGridSi<?> sd = SparseMatrixMath.multiply(sa, denseB);
+            assertTrue(sd instanceof DenseDoubleDataSi);
+            assertArrayEquals(expected, sd.getSiArray(), 1e-5);
+            DataGridSi<?> y = SparseMatrixMath.multiply(sa, new DenseDoubleDataSi(x, 5, 1));
+            assertEquals(7, y.rows());
+            assertEquals(1, y.cols());
+            assertArrayEquals(expectedVector, y.getSiArray(), 1e-5);
+            for (DataGridSi<?> sb : sparseB)
+            {
+                DataGridSi<?> ss = SparseMatrixMath.multiply(sa, sb);
+                assertTrue(ss instanceof CsrDoubleDataSi);
+                assertArrayEquals(expected, ss.getSiArray(), 1e-5);
+            }
+        }
+        for (DataGridSi<?> sb : sparseB)
+        {
+            DataGridSi<?> ds = SparseMatrixMath.multiply(denseA, sb);
+            assertTrue(ds instanceof DenseDoubleDataSi);
+            assertArrayEquals(expected, ds.getSiArray(), EPS);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrixMath.multiply(denseA, denseA));
+        assertThrows(NullPointerException.class, () -> SparseMatrixMath.multiply(null, denseB));
+        assertThrows(NullPointerException.class, () -> SparseMatrixMath.multiply(denseA, null));
+        assertThrows(NullPointerException.class, () -> SparseMatrixMath.multiply(denseA, denseB, null));
+    }
+
+    /**
+     * Test that the product of two sparse matrices stays sparse, and that cancelled values are not stored.
+     */
+    @Test
+    @DisplayName("sparse x sparse: result is CSR, cancellations are dropped")
+    public void testSparseResult()
+    {
+        // incidence matrix of a path 0 - 1 - 2 with two links, times its transpose gives the graph Laplacian
+        CsrDoubleDataSi incidence = new CsrDoubleDataSi(new double[] {1, 0, -1, 1, 0, -1}, 3, 2);
+        CsrDoubleDataSi laplacian = (CsrDoubleDataSi) SparseMatrixMath.multiply(incidence, incidence.toCsc().transpose());
+        assertArrayEquals(new double[] {1, -1, 0, -1, 2, -1, 0, -1, 1}, laplacian.getSiArray(), 0.0);
+        assertEquals(7, laplacian.nonZeroCount());
+
+        // the product of the transpose and the incidence matrix: [2, ...], the row 0 x col 1 term cancels
+        CsrDoubleDataSi a = new CsrDoubleDataSi(new double[] {1, 1, 0, 0}, 2, 2);
+        CsrDoubleDataSi b = new CsrDoubleDataSi(new double[] {1, 1, 1, -1}, 2, 2);
+        CsrDoubleDataSi product = (CsrDoubleDataSi) SparseMatrixMath.multiply(a, b);
+        assertArrayEquals(new double[] {2, 0, 0, 0}, product.getSiArray(), 0.0);
+        assertEquals(1, product.nonZeroCount());
+        assertEquals(1, product.storedCount(0));
+        assertEquals(0, product.storedCount(1));
+    }
+
+    /**
+     * Test that the row-parallel products give the same result as the sequential products.
+     */
+    @Test
+    @DisplayName("row-parallel products are identical to sequential products")
+    public void testParallel()
+    {
+        Random random = new Random(37);
+        double[] a = randomSparse(random, 60, 50, 0.1);
+        double[] b = randomSparse(random, 50, 40, 0.1);
+        double[] x = randomSparse(random, 50, 1, 1.0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            ParallelPolicy parallel = ParallelPolicy.of(1, 16, pool);
+            ParallelPolicy sequential = ParallelPolicy.SEQUENTIAL;
+            DataGridSi<?> sa = new CsrDoubleDataSi(a, 60, 50);
+            DataGridSi<?> sb = new CscDoubleDataSi(b, 50, 40);
+            DataGridSi<?> da = new DenseDoubleDataSi(a, 60, 50);
+            DataGridSi<?> db = new DenseDoubleDataSi(b, 50, 40);
+            DataGridSi<?> dx = new DenseDoubleDataSi(x, 50, 1);
+            assertEquals(SparseMatrixMath.multiply(sa, sb, sequential), SparseMatrixMath.multiply(sa, sb, parallel));
+            assertArrayEquals(SparseMatrixMath.multiply(sa, db, sequential).getSiArray(),
+                    SparseMatrixMath.multiply(sa, db, parallel).getSiArray(), 0.0);
+            assertArrayEquals(SparseMatrixMath.multiply(da, sb, sequential).getSiArray(),
+                    SparseMatrixMath.multiply(da, sb, parallel).getSiArray(), 0.0);
+            assertArrayEquals(SparseMatrixMath.multiply(sa, dx, sequential).getSiArray(),
+                    SparseMatrixMath.multiply(sa, dx, parallel).getSiArray(), 0.0);
+            assertArrayEquals(MatrixMath.multiply(a, b, 60, 50, 40), SparseMatrixMath.multiply(sa, sb, parallel).getSiArray(),
+                    EPS);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test that the product of two float grids is calculated on the float arrays and has float storage.
+     */
+    @Test
+    @DisplayName("float x float gives a float grid")
+    public void testFloatProduct()
+    {
+        float[] a = {1.1f, -2.0f, 0.3f, 4.0f, 0.5f, -6.0f};
+        float[] b = {0.7f, 8.0f, -9.0f, 1.0f, 2.5f, 0.1f};
+        DataGridSi<?> product = SparseMatrixMath.multiply(new DenseFloatDataSi(a, 2, 3), new DenseFloatDataSi(b, 3, 2));
+        assertTrue(product instanceof DenseFloatDataSi);
+        assertArrayEquals(MatrixMath.multiply(a, b, 2, 3, 2), product.unsafeFloatSiArray(), 0.0f);
+
+        // float x double is calculated in double
+        double[] bd = {0.7f, 8.0f, -9.0f, 1.0f, 2.5f, 0.1f};
+        DataGridSi<?> mixed = SparseMatrixMath.multiply(new DenseFloatDataSi(a, 2, 3), new DenseDoubleDataSi(bd, 3, 2));
+        assertTrue(mixed instanceof DenseDoubleDataSi);
+        assertArrayEquals(product.getSiArray(), mixed.getSiArray(), 1E-5);
+    }
+
+}